@@ -0,0 +1,87 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.avatar;
+
+import com.google.gwt.dom.client.CanvasElement;
+import com.google.gwt.dom.client.Document;
+import gwt.material.design.addins.client.avatar.identicon.CanvasIdenticonRenderer;
+import gwt.material.design.addins.client.avatar.identicon.Identicon;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Process-wide cache of the rendered identicons keyed by hash and size, so an identicon
+ * shared by many {@link MaterialAvatar} is only rendered once. The least recently used
+ * identicons are evicted once {@link #getMaxSize()} is reached.
+ */
+public final class IdenticonCache {
+
+    private static int maxSize = 512;
+
+    private static final Map<String, CanvasElement> CACHE = new LinkedHashMap<String, CanvasElement>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CanvasElement> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    private IdenticonCache() {}
+
+    /**
+     * Get the rendered identicon of the given hash and size, rendering it on a cache miss.
+     */
+    public static CanvasElement get(String hash, int size) {
+        String key = hash + ":" + size;
+        CanvasElement canvas = CACHE.get(key);
+        if (canvas == null) {
+            canvas = Document.get().createCanvasElement();
+            canvas.setWidth(size);
+            canvas.setHeight(size);
+            Identicon.render(new CanvasIdenticonRenderer(canvas.getContext2d(), size, size), hash, 0, 0, size,
+                Identicon.DEFAULT_PADDING);
+            CACHE.put(key, canvas);
+        }
+        return canvas;
+    }
+
+    public static boolean contains(String hash, int size) {
+        return CACHE.containsKey(hash + ":" + size);
+    }
+
+    public static int size() {
+        return CACHE.size();
+    }
+
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    public static int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Set the maximum number of identicons kept in the cache.
+     */
+    public static void setMaxSize(int maxSize) {
+        IdenticonCache.maxSize = maxSize;
+    }
+}
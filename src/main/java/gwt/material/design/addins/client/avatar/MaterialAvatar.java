@@ -19,9 +19,12 @@
  */
 package gwt.material.design.addins.client.avatar;
 
+import com.google.gwt.canvas.dom.client.Context2d;
+import com.google.gwt.dom.client.CanvasElement;
 import com.google.gwt.dom.client.Document;
 import gwt.material.design.addins.client.MaterialAddins;
-import gwt.material.design.addins.client.avatar.js.JsAvatar;
+import gwt.material.design.addins.client.base.ResizeService;
+import gwt.material.design.addins.client.avatar.identicon.Md5;
 import gwt.material.design.client.MaterialDesignBase;
 import gwt.material.design.client.base.AbstractValueWidget;
 import gwt.material.design.client.base.JsLoader;
@@ -55,19 +58,30 @@ import gwt.material.design.client.base.JsLoader;
 //@formatter:on
 public class MaterialAvatar extends AbstractValueWidget<String> implements JsLoader {
 
-    static {
-        if (MaterialAddins.isDebug()) {
-            MaterialDesignBase.injectDebugJs(MaterialAvatarDebugClientBundle.INSTANCE.jdenticonDebugJs());
-            MaterialDesignBase.injectDebugJs(MaterialAvatarDebugClientBundle.INSTANCE.md5DebugJs());
-        } else {
-            MaterialDesignBase.injectJs(MaterialAvatarClientBundle.INSTANCE.jdenticonJs());
-            MaterialDesignBase.injectJs(MaterialAvatarClientBundle.INSTANCE.md5Js());
+    private static boolean resourcesLoaded = false;
+
+    /**
+     * Inject the jdenticon and md5 scripts. The avatar itself is rendered in Java, so this is
+     * only needed to use {@link gwt.material.design.addins.client.avatar.js.JsAvatar} directly.
+     */
+    public static void loadResources() {
+        if (!resourcesLoaded) {
+            if (MaterialAddins.isDebug()) {
+                MaterialDesignBase.injectDebugJs(MaterialAvatarDebugClientBundle.INSTANCE.jdenticonDebugJs());
+                MaterialDesignBase.injectDebugJs(MaterialAvatarDebugClientBundle.INSTANCE.md5DebugJs());
+            } else {
+                MaterialDesignBase.injectJs(MaterialAvatarClientBundle.INSTANCE.jdenticonJs());
+                MaterialDesignBase.injectJs(MaterialAvatarClientBundle.INSTANCE.md5Js());
+            }
+            resourcesLoaded = true;
         }
     }
 
     private String value;
     public MaterialAvatar() {
         super(Document.get().createCanvasElement());
+
+        ResizeService.subscribe(this, (width, height) -> load());
     }
 
     public MaterialAvatar(String name) {
@@ -82,9 +96,22 @@ public class MaterialAvatar extends AbstractValueWidget<String> implements JsLoa
         load();
     }
 
+    /**
+     * Draw the identicon of this avatar only, the identicon is taken from the {@link IdenticonCache}.
+     */
     @Override
     public void load() {
-        JsAvatar.jdenticon();
+        String hash = getElement().getAttribute("data-jdenticon-hash");
+        int width = getDimension("width", getElement().getClientWidth());
+        int height = getDimension("height", getElement().getClientHeight());
+        int size = Math.min(width, height);
+        if (hash == null || hash.isEmpty() || size <= 0) {
+            return;
+        }
+
+        Context2d context = getElement().<CanvasElement>cast().getContext2d();
+        context.clearRect(0, 0, width, height);
+        context.drawImage(IdenticonCache.get(hash, size), (width - size) / 2, (height - size) / 2);
     }
 
     @Override
@@ -124,6 +151,9 @@ public class MaterialAvatar extends AbstractValueWidget<String> implements JsLoa
     public void setValue(String value, boolean fireEvents) {
         super.setValue(value, fireEvents);
         getElement().setAttribute("data-jdenticon-hash", generateHashCode(value));
+        if (isAttached()) {
+            load();
+        }
     }
 
     @Override
@@ -143,13 +173,16 @@ public class MaterialAvatar extends AbstractValueWidget<String> implements JsLoa
 
     @Override
     public int getWidth() {
-        String width = getElement().getAttribute("width");
-        return width != null ? Integer.parseInt(width) : 0;
+        return getDimension("width", 0);
     }
 
     public int getHeight() {
-        String height = getElement().getAttribute("height");
-        return height != null ? Integer.parseInt(height) : 0;
+        return getDimension("height", 0);
+    }
+
+    protected int getDimension(String attribute, int defaultValue) {
+        String value = getElement().getAttribute(attribute);
+        return value != null && !value.isEmpty() ? Integer.parseInt(value) : defaultValue;
     }
 
     /**
@@ -168,6 +201,6 @@ public class MaterialAvatar extends AbstractValueWidget<String> implements JsLoa
      */
     protected String generateHashCode(String value) {
         this.value = value;
-        return JsAvatar.md5(value);
+        return Md5.hex(value);
     }
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.avatar.identicon;
+
+import com.google.gwt.canvas.dom.client.Context2d;
+
+/**
+ * Renders an identicon to a canvas context. The identicon is a square of the smallest canvas
+ * dimension, centered in the canvas the same way jdenticon does.
+ */
+public class CanvasIdenticonRenderer implements IdenticonRenderer {
+
+    private final Context2d context;
+    private final int size;
+    private final int offsetX;
+    private final int offsetY;
+
+    public CanvasIdenticonRenderer(Context2d context, int width, int height) {
+        this.context = context;
+        this.size = Math.min(width, height);
+        this.offsetX = (width - size) / 2;
+        this.offsetY = (height - size) / 2;
+        context.clearRect(0, 0, width, height);
+    }
+
+    @Override
+    public void beginShape(String color) {
+        context.setFillStyle(color);
+        context.beginPath();
+    }
+
+    @Override
+    public void endShape() {
+        context.fill();
+    }
+
+    @Override
+    public void addPolygon(double[] points) {
+        context.moveTo(offsetX + points[0], offsetY + points[1]);
+        for (int i = 2; i < points.length; i += 2) {
+            context.lineTo(offsetX + points[i], offsetY + points[i + 1]);
+        }
+        context.closePath();
+    }
+
+    @Override
+    public void addCircle(double x, double y, double diameter, boolean counterClockwise) {
+        double radius = diameter / 2;
+        context.arc(offsetX + x + radius, offsetY + y + radius, radius, 0, Math.PI * 2, counterClockwise);
+        context.closePath();
+    }
+
+    /**
+     * The size to render the identicon at, i.e the smallest canvas dimension.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    public int getOffsetX() {
+        return offsetX;
+    }
+
+    public int getOffsetY() {
+        return offsetY;
+    }
+}
@@ -0,0 +1,364 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.avatar.identicon;
+
+/**
+ * Pure Java port of the Jdenticon 1.3.2 icon generator, producing the same geometry and colors
+ * as the script with its default configuration. It does not depend on any browser API, so the
+ * identicons can also be computed on the server, i.e with {@link #toSvg(String, int)}.
+ *
+ * @see <a href="https://github.com/dmester/jdenticon">Jdenticon 1.3.2</a>
+ */
+public final class Identicon {
+
+    public static final double DEFAULT_PADDING = 0.08;
+
+    private static final double SATURATION = 0.5;
+    private static final double[] COLOR_LIGHTNESS = {0.4, 0.8};
+    private static final double[] GRAYSCALE_LIGHTNESS = {0.3, 0.9};
+    private static final double[] CORRECTORS = {0.55, 0.5, 0.5, 0.46, 0.6, 0.55, 0.55};
+
+    private static final int[][] SIDES = {{1, 0}, {2, 0}, {2, 3}, {1, 3}, {0, 1}, {3, 1}, {3, 2}, {0, 2}};
+    private static final int[][] CORNERS = {{0, 0}, {3, 0}, {3, 3}, {0, 3}};
+    private static final int[][] CENTER = {{1, 1}, {2, 1}, {2, 2}, {1, 2}};
+
+    private static final int CENTER_SHAPES = 14;
+    private static final int OUTER_SHAPES = 4;
+
+    private Identicon() {}
+
+    /**
+     * Render the identicon of the given hash to an SVG string with the default padding.
+     */
+    public static String toSvg(String hash, int size) {
+        return toSvg(hash, size, DEFAULT_PADDING);
+    }
+
+    /**
+     * Render the identicon of the given hash to an SVG string.
+     */
+    public static String toSvg(String hash, int size, double padding) {
+        SvgIdenticonRenderer renderer = new SvgIdenticonRenderer(size, size);
+        render(renderer, hash, 0, 0, size, padding);
+        return renderer.toSvg(false);
+    }
+
+    /**
+     * Render the identicon of the given hash to the renderer.
+     *
+     * @param hash    an hexadecimal hash of at least 11 characters, i.e an {@link Md5#hex(String)} digest
+     * @param padding the padding in percent of the size
+     */
+    public static void render(IdenticonRenderer renderer, String hash, double x, double y, int size, double padding) {
+        int paddingPx = (int) (size * padding);
+        size -= paddingPx * 2;
+
+        if (size < 30) {
+            throw new IllegalArgumentException("Identicons smaller than 30 pixels are not supported.");
+        }
+        if (!isValidHash(hash)) {
+            throw new IllegalArgumentException("Invalid identicon hash: " + hash);
+        }
+
+        int cell = size / 4;
+        x += (int) (paddingPx + size / 2.0 - cell * 2);
+        y += (int) (paddingPx + size / 2.0 - cell * 2);
+
+        double hue = Integer.parseInt(hash.substring(hash.length() - 7), 16) / (double) 0xfffffff;
+        String[] availableColors = {
+            hsl(0, 0, lightness(GRAYSCALE_LIGHTNESS, 0)),
+            correctedHsl(hue, SATURATION, lightness(COLOR_LIGHTNESS, 0.5)),
+            hsl(0, 0, lightness(GRAYSCALE_LIGHTNESS, 1)),
+            correctedHsl(hue, SATURATION, lightness(COLOR_LIGHTNESS, 1)),
+            correctedHsl(hue, SATURATION, lightness(COLOR_LIGHTNESS, 0))
+        };
+
+        int[] selectedColors = new int[3];
+        for (int i = 0; i < 3; i++) {
+            int index = digit(hash, 8 + i) % availableColors.length;
+            // Disallow the dark gray and dark color combo, then the light gray and light color combo
+            if (isDuplicate(selectedColors, i, index, 0, 4) || isDuplicate(selectedColors, i, index, 2, 3)) {
+                index = 1;
+            }
+            selectedColors[i] = index;
+        }
+
+        Graphics graphics = new Graphics(renderer);
+        renderShape(graphics, availableColors[selectedColors[0]], false, hash, 2, 3, SIDES, x, y, cell);
+        renderShape(graphics, availableColors[selectedColors[1]], false, hash, 4, 5, CORNERS, x, y, cell);
+        renderShape(graphics, availableColors[selectedColors[2]], true, hash, 1, 0, CENTER, x, y, cell);
+    }
+
+    public static boolean isValidHash(String hash) {
+        if (hash == null || hash.length() < 11) {
+            return false;
+        }
+        for (int i = 0; i < hash.length(); i++) {
+            if (Character.digit(hash.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void renderShape(Graphics graphics, String color, boolean center, String hash, int index,
+                                    int rotationIndex, int[][] positions, double x, double y, int cell) {
+        int rotation = rotationIndex > 0 ? digit(hash, rotationIndex) : 0;
+        int shape = digit(hash, index) % (center ? CENTER_SHAPES : OUTER_SHAPES);
+
+        graphics.renderer.beginShape(color);
+        for (int i = 0; i < positions.length; i++) {
+            graphics.setTransform(x + positions[i][0] * cell, y + positions[i][1] * cell, cell, rotation++ % 4);
+            if (center) {
+                centerShape(graphics, shape, cell, i);
+            } else {
+                outerShape(graphics, shape, cell);
+            }
+        }
+        graphics.renderer.endShape();
+    }
+
+    private static void centerShape(Graphics g, int shape, double cell, int index) {
+        switch (shape) {
+            case 0: {
+                double k = cell * 0.42;
+                g.addPolygon(new double[]{0, 0, cell, 0, cell, cell - k * 2, cell - k, cell, 0, cell}, false);
+                break;
+            }
+            case 1: {
+                int w = (int) (cell * 0.5);
+                int h = (int) (cell * 0.8);
+                g.addTriangle(cell - w, 0, w, h, 2, false);
+                break;
+            }
+            case 2: {
+                int s = (int) (cell / 3);
+                g.addRectangle(s, s, cell - s, cell - s, false);
+                break;
+            }
+            case 3: {
+                int inner = (int) (cell * 0.1);
+                int outer = (int) (cell * 0.25);
+                g.addRectangle(outer, outer, cell - inner - outer, cell - inner - outer, false);
+                break;
+            }
+            case 4: {
+                int m = (int) (cell * 0.15);
+                int s = (int) (cell * 0.5);
+                g.addCircle(cell - s - m, cell - s - m, s, false);
+                break;
+            }
+            case 5: {
+                double inner = cell * 0.1;
+                double outer = inner * 4;
+                g.addRectangle(0, 0, cell, cell, false);
+                g.addPolygon(new double[]{outer, outer, cell - inner, outer, outer + (cell - outer - inner) / 2, cell - inner}, true);
+                break;
+            }
+            case 6:
+                g.addPolygon(new double[]{0, 0, cell, 0, cell, cell * 0.7, cell * 0.4, cell * 0.4, cell * 0.7, cell, 0, cell}, false);
+                break;
+            case 7:
+            case 11:
+                g.addTriangle(cell / 2, cell / 2, cell / 2, cell / 2, 3, false);
+                break;
+            case 8:
+                g.addRectangle(0, 0, cell, cell / 2, false);
+                g.addRectangle(0, cell / 2, cell / 2, cell / 2, false);
+                g.addTriangle(cell / 2, cell / 2, cell / 2, cell / 2, 1, false);
+                break;
+            case 9: {
+                int inner = (int) (cell * 0.14);
+                int outer = (int) (cell * 0.35);
+                g.addRectangle(0, 0, cell, cell, false);
+                g.addRectangle(outer, outer, cell - outer - inner, cell - outer - inner, true);
+                break;
+            }
+            case 10: {
+                double inner = cell * 0.12;
+                double outer = inner * 3;
+                g.addRectangle(0, 0, cell, cell, false);
+                g.addCircle(outer, outer, cell - inner - outer, true);
+                break;
+            }
+            case 12: {
+                double m = cell * 0.25;
+                g.addRectangle(0, 0, cell, cell, false);
+                g.addRhombus(m, m, cell - m, cell - m, true);
+                break;
+            }
+            default:
+                if (index == 0) {
+                    g.addCircle(cell * 0.4, cell * 0.4, cell * 1.2, false);
+                }
+                break;
+        }
+    }
+
+    private static void outerShape(Graphics g, int shape, double cell) {
+        switch (shape) {
+            case 0:
+                g.addTriangle(0, 0, cell, cell, 0, false);
+                break;
+            case 1:
+                g.addTriangle(0, cell / 2, cell, cell / 2, 0, false);
+                break;
+            case 2:
+                g.addRhombus(0, 0, cell, cell, false);
+                break;
+            default: {
+                double m = cell / 6;
+                g.addCircle(m, m, cell - 2 * m, false);
+                break;
+            }
+        }
+    }
+
+    private static boolean isDuplicate(int[] selected, int count, int index, int first, int second) {
+        if (index != first && index != second) {
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            if (selected[i] == first || selected[i] == second) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int digit(String hash, int index) {
+        return Character.digit(hash.charAt(index), 16);
+    }
+
+    private static double lightness(double[] range, double value) {
+        value = range[0] + value * (range[1] - range[0]);
+        return value < 0 ? 0 : value > 1 ? 1 : value;
+    }
+
+    private static String decToHex(double value) {
+        int v = (int) value;
+        return v < 0 ? "00" : v < 16 ? "0" + Integer.toHexString(v) : v < 256 ? Integer.toHexString(v) : "ff";
+    }
+
+    private static String hueToRgb(double m1, double m2, double h) {
+        h = h < 0 ? h + 6 : h > 6 ? h - 6 : h;
+        return decToHex(255 * (h < 1 ? m1 + (m2 - m1) * h : h < 3 ? m2 : h < 4 ? m1 + (m2 - m1) * (4 - h) : m1));
+    }
+
+    private static String hsl(double h, double s, double l) {
+        if (s == 0) {
+            String partialHex = decToHex(l * 255);
+            return "#" + partialHex + partialHex + partialHex;
+        }
+        double m2 = l <= 0.5 ? l * (s + 1) : l + s - l * s;
+        double m1 = l * 2 - m2;
+        return "#" + hueToRgb(m1, m2, h * 6 + 2) + hueToRgb(m1, m2, h * 6) + hueToRgb(m1, m2, h * 6 - 2);
+    }
+
+    private static String correctedHsl(double h, double s, double l) {
+        double corrector = CORRECTORS[(int) (h * 6 + 0.5)];
+        l = l < 0.5 ? l * corrector * 2 : corrector + (l - 0.5) * (1 - corrector) * 2;
+        return hsl(h, s, l);
+    }
+
+    /**
+     * Translates and rotates the shapes of a cell before passing them to the renderer.
+     */
+    private static class Graphics {
+
+        private final IdenticonRenderer renderer;
+        private double x;
+        private double y;
+        private double size;
+        private int rotation;
+
+        Graphics(IdenticonRenderer renderer) {
+            this.renderer = renderer;
+        }
+
+        void setTransform(double x, double y, double size, int rotation) {
+            this.x = x;
+            this.y = y;
+            this.size = size;
+            this.rotation = rotation;
+        }
+
+        double transformX(double px, double py, double w, double h) {
+            switch (rotation) {
+                case 1:
+                    return x + size - py - h;
+                case 2:
+                    return x + size - px - w;
+                case 3:
+                    return x + py;
+                default:
+                    return x + px;
+            }
+        }
+
+        double transformY(double px, double py, double w, double h) {
+            switch (rotation) {
+                case 1:
+                    return y + px;
+                case 2:
+                    return y + size - py - h;
+                case 3:
+                    return y + size - px - w;
+                default:
+                    return y + py;
+            }
+        }
+
+        void addPolygon(double[] points, boolean invert) {
+            double[] transformed = new double[points.length];
+            for (int i = 0; i < points.length; i += 2) {
+                int source = invert ? points.length - 2 - i : i;
+                transformed[i] = transformX(points[source], points[source + 1], 0, 0);
+                transformed[i + 1] = transformY(points[source], points[source + 1], 0, 0);
+            }
+            renderer.addPolygon(transformed);
+        }
+
+        void addCircle(double px, double py, double diameter, boolean invert) {
+            renderer.addCircle(transformX(px, py, diameter, diameter), transformY(px, py, diameter, diameter), diameter, invert);
+        }
+
+        void addRectangle(double px, double py, double w, double h, boolean invert) {
+            addPolygon(new double[]{px, py, px + w, py, px + w, py + h, px, py + h}, invert);
+        }
+
+        void addTriangle(double px, double py, double w, double h, int r, boolean invert) {
+            double[] corners = {px + w, py, px + w, py + h, px, py + h, px, py};
+            double[] points = new double[6];
+            int removed = (r % 4) * 2;
+            for (int i = 0, j = 0; i < corners.length; i += 2) {
+                if (i != removed) {
+                    points[j++] = corners[i];
+                    points[j++] = corners[i + 1];
+                }
+            }
+            addPolygon(points, invert);
+        }
+
+        void addRhombus(double px, double py, double w, double h, boolean invert) {
+            addPolygon(new double[]{px + w / 2, py, px + w, py + h / 2, px + w / 2, py + h, px, py + h / 2}, invert);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.avatar.identicon;
+
+/**
+ * Receives the shapes of an identicon computed by {@link Identicon}.
+ */
+public interface IdenticonRenderer {
+
+    /**
+     * Begin a new shape of the given fill color on format #xxxxxx.
+     */
+    void beginShape(String color);
+
+    /**
+     * End the current shape.
+     */
+    void endShape();
+
+    /**
+     * Add a polygon to the current shape, the points are on the format [x0, y0, x1, y1, ..., xn, yn].
+     */
+    void addPolygon(double[] points);
+
+    /**
+     * Add a circle to the current shape, a counter clockwise circle results in a hole.
+     *
+     * @param x the x-coordinate of the upper left corner of the circle bounding box
+     * @param y the y-coordinate of the upper left corner of the circle bounding box
+     */
+    void addCircle(double x, double y, double diameter, boolean counterClockwise);
+}
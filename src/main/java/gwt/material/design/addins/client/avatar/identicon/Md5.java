@@ -0,0 +1,152 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.avatar.identicon;
+
+/**
+ * Pure Java MD5 digest of UTF-8 encoded strings, producing the same hex output as the
+ * js-md5 library. It does not depend on any browser API so it can also be used on the server.
+ */
+public final class Md5 {
+
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
+    private static final int[] SHIFTS = {
+        7, 12, 17, 22, 7, 12, 17, 22, 7, 12, 17, 22, 7, 12, 17, 22,
+        5, 9, 14, 20, 5, 9, 14, 20, 5, 9, 14, 20, 5, 9, 14, 20,
+        4, 11, 16, 23, 4, 11, 16, 23, 4, 11, 16, 23, 4, 11, 16, 23,
+        6, 10, 15, 21, 6, 10, 15, 21, 6, 10, 15, 21, 6, 10, 15, 21
+    };
+
+    private static final int[] CONSTANTS = new int[64];
+
+    static {
+        for (int i = 0; i < 64; i++) {
+            CONSTANTS[i] = (int) (long) Math.floor(Math.abs(Math.sin(i + 1)) * 4294967296.0);
+        }
+    }
+
+    private Md5() {}
+
+    /**
+     * Get the lower case hex digest of the UTF-8 bytes of the given value.
+     */
+    public static String hex(String value) {
+        byte[] digest = digest(utf8(value != null ? value : ""));
+        char[] hex = new char[32];
+        for (int i = 0; i < 16; i++) {
+            hex[i * 2] = HEX_CHARS[(digest[i] >> 4) & 0xf];
+            hex[i * 2 + 1] = HEX_CHARS[digest[i] & 0xf];
+        }
+        return new String(hex);
+    }
+
+    /**
+     * Get the 16 bytes digest of the given bytes.
+     */
+    public static byte[] digest(byte[] message) {
+        int blocks = ((message.length + 8) >>> 6) + 1;
+        int[] words = new int[blocks * 16];
+        for (int i = 0; i < message.length; i++) {
+            words[i >>> 2] |= (message[i] & 0xff) << ((i % 4) * 8);
+        }
+        words[message.length >>> 2] |= 0x80 << ((message.length % 4) * 8);
+        long bits = (long) message.length * 8;
+        words[words.length - 2] = (int) bits;
+        words[words.length - 1] = (int) (bits >>> 32);
+
+        int a0 = 0x67452301;
+        int b0 = 0xefcdab89;
+        int c0 = 0x98badcfe;
+        int d0 = 0x10325476;
+
+        for (int block = 0; block < words.length; block += 16) {
+            int a = a0;
+            int b = b0;
+            int c = c0;
+            int d = d0;
+            for (int i = 0; i < 64; i++) {
+                int f;
+                int g;
+                if (i < 16) {
+                    f = (b & c) | (~b & d);
+                    g = i;
+                } else if (i < 32) {
+                    f = (d & b) | (~d & c);
+                    g = (5 * i + 1) % 16;
+                } else if (i < 48) {
+                    f = b ^ c ^ d;
+                    g = (3 * i + 5) % 16;
+                } else {
+                    f = c ^ (b | ~d);
+                    g = (7 * i) % 16;
+                }
+                int temp = d;
+                d = c;
+                c = b;
+                b = b + Integer.rotateLeft(a + f + CONSTANTS[i] + words[block + g], SHIFTS[i]);
+                a = temp;
+            }
+            a0 += a;
+            b0 += b;
+            c0 += c;
+            d0 += d;
+        }
+
+        byte[] digest = new byte[16];
+        int[] state = {a0, b0, c0, d0};
+        for (int i = 0; i < 16; i++) {
+            digest[i] = (byte) (state[i >>> 2] >>> ((i % 4) * 8));
+        }
+        return digest;
+    }
+
+    protected static byte[] utf8(String value) {
+        byte[] bytes = new byte[value.length() * 3];
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            int code = value.charAt(i);
+            if (code >= 0xd800 && code < 0xdc00 && i + 1 < value.length()) {
+                int low = value.charAt(i + 1);
+                if (low >= 0xdc00 && low < 0xe000) {
+                    code = 0x10000 + ((code - 0xd800) << 10) + (low - 0xdc00);
+                    i++;
+                }
+            }
+            if (code < 0x80) {
+                bytes[length++] = (byte) code;
+            } else if (code < 0x800) {
+                bytes[length++] = (byte) (0xc0 | (code >> 6));
+                bytes[length++] = (byte) (0x80 | (code & 0x3f));
+            } else if (code < 0x10000) {
+                bytes[length++] = (byte) (0xe0 | (code >> 12));
+                bytes[length++] = (byte) (0x80 | ((code >> 6) & 0x3f));
+                bytes[length++] = (byte) (0x80 | (code & 0x3f));
+            } else {
+                bytes[length++] = (byte) (0xf0 | (code >> 18));
+                bytes[length++] = (byte) (0x80 | ((code >> 12) & 0x3f));
+                bytes[length++] = (byte) (0x80 | ((code >> 6) & 0x3f));
+                bytes[length++] = (byte) (0x80 | (code & 0x3f));
+            }
+        }
+        byte[] result = new byte[length];
+        System.arraycopy(bytes, 0, result, 0, length);
+        return result;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.avatar.identicon;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Renders an identicon to an SVG string, grouping the shapes in one path per color.
+ */
+public class SvgIdenticonRenderer implements IdenticonRenderer {
+
+    private final int width;
+    private final int height;
+    private final Map<String, StringBuilder> paths = new LinkedHashMap<>();
+    private StringBuilder path;
+
+    public SvgIdenticonRenderer(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    @Override
+    public void beginShape(String color) {
+        path = paths.get(color);
+        if (path == null) {
+            path = new StringBuilder();
+            paths.put(color, path);
+        }
+    }
+
+    @Override
+    public void endShape() {}
+
+    @Override
+    public void addPolygon(double[] points) {
+        path.append('M').append(format(points[0])).append(' ').append(format(points[1]));
+        for (int i = 2; i < points.length; i += 2) {
+            path.append('L').append(format(points[i])).append(' ').append(format(points[i + 1]));
+        }
+        path.append('Z');
+    }
+
+    @Override
+    public void addCircle(double x, double y, double diameter, boolean counterClockwise) {
+        int sweepFlag = counterClockwise ? 0 : 1;
+        String radius = format(diameter / 2);
+        path.append('M').append(format(x)).append(' ').append(format(y + diameter / 2))
+            .append('a').append(radius).append(',').append(radius).append(" 0 1,").append(sweepFlag)
+            .append(' ').append(format(diameter)).append(",0")
+            .append('a').append(radius).append(',').append(radius).append(" 0 1,").append(sweepFlag)
+            .append(' ').append(format(-diameter)).append(",0");
+    }
+
+    /**
+     * Get the rendered identicon.
+     *
+     * @param fragment if true only the paths are returned, without the svg container element
+     */
+    public String toSvg(boolean fragment) {
+        StringBuilder svg = new StringBuilder();
+        if (!fragment) {
+            svg.append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"").append(width)
+                .append("\" height=\"").append(height).append("\" viewBox=\"0 0 ").append(width).append(' ')
+                .append(height).append("\" preserveAspectRatio=\"xMidYMid meet\">");
+        }
+        for (Map.Entry<String, StringBuilder> entry : paths.entrySet()) {
+            svg.append("<path fill=\"").append(entry.getKey()).append("\" d=\"").append(entry.getValue()).append("\"/>");
+        }
+        if (!fragment) {
+            svg.append("</svg>");
+        }
+        return svg.toString();
+    }
+
+    protected static String format(double value) {
+        return value == (long) value ? String.valueOf((long) value) : String.valueOf(value);
+    }
+}
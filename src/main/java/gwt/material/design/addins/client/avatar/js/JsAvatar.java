@@ -19,6 +19,7 @@
  */
 package gwt.material.design.addins.client.avatar.js;
 
+import com.google.gwt.canvas.dom.client.Context2d;
 import gwt.material.design.jquery.client.api.JQueryElement;
 import jsinterop.annotations.JsMethod;
 import jsinterop.annotations.JsPackage;
@@ -38,4 +39,10 @@ public class JsAvatar extends JQueryElement {
     @JsMethod(namespace = JsPackage.GLOBAL)
     public static native String md5(String value);
 
+    @JsMethod(namespace = "jdenticon")
+    public static native void drawIcon(Context2d context, String hash, int size);
+
+    @JsMethod(namespace = "jdenticon")
+    public static native String toSvg(String hash, int size);
+
 }
@@ -0,0 +1,129 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.base;
+
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.dom.client.Element;
+
+/**
+ * An animation driven by the shared {@link FrameScheduler}, similar to GWT's
+ * {@link com.google.gwt.animation.client.Animation}. {@link #onUpdate(double)} is only called
+ * while the element is visible, the last update and {@link #onComplete()} always happen once
+ * the duration has elapsed.
+ */
+public abstract class FrameAnimation {
+
+    private Element element;
+    private double duration;
+    private double startTime;
+    private double pausedProgress = -1;
+    private boolean running;
+
+    /**
+     * Run the animation for the duration in milliseconds, cancelling it first if it is running.
+     */
+    public void run(double duration, Element element) {
+        cancel();
+        this.element = element;
+        this.duration = duration;
+        startTime = Duration.currentTimeMillis();
+        pausedProgress = -1;
+        running = true;
+        onStart();
+
+        if (duration <= 0 || FrameScheduler.isReducedMotion()) {
+            complete();
+        } else {
+            FrameScheduler.add(this);
+        }
+    }
+
+    /**
+     * Immediately cancel the animation, without completing it.
+     */
+    public void cancel() {
+        if (running) {
+            running = false;
+            FrameScheduler.remove(this);
+            onCancel();
+        }
+    }
+
+    /**
+     * Pause the animation, {@link #resume()} continues from the same progress.
+     */
+    public void pause() {
+        if (running && !isPaused()) {
+            pausedProgress = getProgress(Duration.currentTimeMillis());
+            FrameScheduler.remove(this);
+        }
+    }
+
+    public void resume() {
+        if (running && isPaused()) {
+            startTime = Duration.currentTimeMillis() - pausedProgress * duration;
+            pausedProgress = -1;
+            FrameScheduler.add(this);
+        }
+    }
+
+    public boolean isPaused() {
+        return pausedProgress >= 0;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public Element getElement() {
+        return element;
+    }
+
+    void frame(double now, boolean visible) {
+        double progress = getProgress(now);
+        if (progress >= 1) {
+            complete();
+        } else if (visible) {
+            onUpdate(progress);
+        }
+    }
+
+    protected double getProgress(double now) {
+        return Math.max(0, Math.min(1, (now - startTime) / duration));
+    }
+
+    protected void complete() {
+        running = false;
+        FrameScheduler.remove(this);
+        onUpdate(1);
+        onComplete();
+    }
+
+    protected void onStart() {}
+
+    /**
+     * Draw the animation at the given progress between 0 and 1.
+     */
+    protected abstract void onUpdate(double progress);
+
+    protected void onComplete() {}
+
+    protected void onCancel() {}
+}
@@ -0,0 +1,109 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.base;
+
+import com.google.gwt.animation.client.AnimationScheduler;
+import com.google.gwt.core.client.Duration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * App-wide animation loop shared by the addins. All the running {@link FrameAnimation}s are driven
+ * from a single requestAnimationFrame callback, and animations of elements that are offscreen or
+ * hidden, as reported by the {@link VisibilityService}, are not drawn until they are visible again
+ * or complete. In reduced motion mode, which follows the prefers-reduced-motion media query by
+ * default, animations complete instantly.
+ */
+public final class FrameScheduler {
+
+    private static final List<FrameAnimation> animations = new ArrayList<>();
+    private static final List<FrameAnimation> frameAnimations = new ArrayList<>();
+    private static final Map<FrameAnimation, VisibilityService.Registration> registrations = new HashMap<>();
+    private static AnimationScheduler.AnimationHandle frame;
+    private static Boolean reducedMotion;
+
+    private FrameScheduler() {}
+
+    static void add(FrameAnimation animation) {
+        animations.add(animation);
+        if (animation.getElement() != null && !registrations.containsKey(animation)) {
+            registrations.put(animation, VisibilityService.observe(animation.getElement(), visible -> {}));
+        }
+        if (frame == null) {
+            frame = AnimationScheduler.get().requestAnimationFrame(timestamp -> onFrame());
+        }
+    }
+
+    static void remove(FrameAnimation animation) {
+        if (animations.remove(animation)) {
+            VisibilityService.Registration registration = registrations.remove(animation);
+            if (registration != null) {
+                registration.removeHandler();
+            }
+        }
+        if (animations.isEmpty() && frame != null) {
+            frame.cancel();
+            frame = null;
+        }
+    }
+
+    static void onFrame() {
+        frame = null;
+        double now = Duration.currentTimeMillis();
+        frameAnimations.addAll(animations);
+        for (FrameAnimation animation : frameAnimations) {
+            VisibilityService.Registration registration = registrations.get(animation);
+            animation.frame(now, registration == null || registration.isVisible());
+        }
+        frameAnimations.clear();
+        if (!animations.isEmpty() && frame == null) {
+            frame = AnimationScheduler.get().requestAnimationFrame(timestamp -> onFrame());
+        }
+    }
+
+    /**
+     * Returns the number of running animations.
+     */
+    public static int getAnimationCount() {
+        return animations.size();
+    }
+
+    public static boolean isReducedMotion() {
+        if (reducedMotion == null) {
+            reducedMotion = prefersReducedMotion();
+        }
+        return reducedMotion;
+    }
+
+    /**
+     * Complete every animation instantly, i.e for large dashboards. Defaults to the
+     * prefers-reduced-motion preference of the user.
+     */
+    public static void setReducedMotion(boolean reducedMotion) {
+        FrameScheduler.reducedMotion = reducedMotion;
+    }
+
+    static native boolean prefersReducedMotion() /*-{
+        return !!($wnd.matchMedia && $wnd.matchMedia('(prefers-reduced-motion: reduce)').matches);
+    }-*/;
+}
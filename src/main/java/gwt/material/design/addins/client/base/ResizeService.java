@@ -0,0 +1,206 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.base;
+
+import com.google.gwt.animation.client.AnimationScheduler;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.Window;
+import com.google.gwt.user.client.ui.Widget;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * App-wide element resize notifications shared by the addins. A single ResizeObserver (or a
+ * single window resize handler where it is not available) watches every subscribed widget, the
+ * notifications are coalesced into one animation frame where all the sizes are read before any
+ * handler is called, and handlers are only called when the size of their widget actually changed.
+ * Widgets are only observed while attached, a widget may have several subscriptions.
+ */
+public final class ResizeService {
+
+    public interface ResizeHandler {
+        void onResize(int width, int height);
+    }
+
+    private static final Map<Element, List<Subscription>> subscriptions = new HashMap<>();
+    private static final List<Subscription> pending = new ArrayList<>();
+    private static AnimationScheduler.AnimationHandle frame;
+    private static Object observer;
+    private static HandlerRegistration windowRegistration;
+
+    private ResizeService() {}
+
+    /**
+     * Call the handler whenever the size of the widget changes while it is attached. Subscribe once,
+     * typically in the constructor, the widget is observed and released on every attach and detach.
+     */
+    public static HandlerRegistration subscribe(Widget widget, ResizeHandler handler) {
+        Subscription subscription = new Subscription(widget.getElement(), handler);
+        HandlerRegistration attachRegistration = widget.addAttachHandler(event -> {
+            if (event.isAttached()) {
+                start(subscription);
+            } else {
+                stop(subscription);
+            }
+        });
+        if (widget.isAttached()) {
+            start(subscription);
+        }
+        return () -> {
+            attachRegistration.removeHandler();
+            stop(subscription);
+        };
+    }
+
+    /**
+     * Call the handler whenever the size of the element changes, until the returned registration is
+     * removed. This is meant for elements which are not widgets, i.e the scrolling container of a widget.
+     */
+    public static HandlerRegistration subscribe(Element element, ResizeHandler handler) {
+        Subscription subscription = new Subscription(element, handler);
+        start(subscription);
+        return () -> stop(subscription);
+    }
+
+    static void start(Subscription subscription) {
+        subscription.width = subscription.element.getOffsetWidth();
+        subscription.height = subscription.element.getOffsetHeight();
+        List<Subscription> elementSubscriptions = subscriptions.get(subscription.element);
+        if (elementSubscriptions == null) {
+            elementSubscriptions = new ArrayList<>();
+            subscriptions.put(subscription.element, elementSubscriptions);
+        }
+        if (elementSubscriptions.contains(subscription)) {
+            return;
+        }
+        elementSubscriptions.add(subscription);
+        if (observer == null && windowRegistration == null) {
+            observer = createObserver();
+            if (observer == null) {
+                windowRegistration = Window.addResizeHandler(event -> {
+                    for (List<Subscription> list : subscriptions.values()) {
+                        for (Subscription windowSubscription : list) {
+                            if (!pending.contains(windowSubscription)) {
+                                pending.add(windowSubscription);
+                            }
+                        }
+                    }
+                    requestFrame();
+                });
+            }
+        }
+        if (observer != null && elementSubscriptions.size() == 1) {
+            observe(observer, subscription.element);
+        }
+    }
+
+    static void stop(Subscription subscription) {
+        List<Subscription> elementSubscriptions = subscriptions.get(subscription.element);
+        if (elementSubscriptions != null && elementSubscriptions.remove(subscription) && elementSubscriptions.isEmpty()) {
+            subscriptions.remove(subscription.element);
+            if (observer != null) {
+                unobserve(observer, subscription.element);
+            }
+        }
+        pending.remove(subscription);
+    }
+
+    static void onObserved(Element element) {
+        List<Subscription> elementSubscriptions = subscriptions.get(element);
+        if (elementSubscriptions != null) {
+            for (Subscription subscription : elementSubscriptions) {
+                if (!pending.contains(subscription)) {
+                    pending.add(subscription);
+                }
+            }
+            requestFrame();
+        }
+    }
+
+    /**
+     * Get the number of subscriptions of the element which are currently observed.
+     */
+    static int getSubscriptionCount(Element element) {
+        List<Subscription> elementSubscriptions = subscriptions.get(element);
+        return elementSubscriptions != null ? elementSubscriptions.size() : 0;
+    }
+
+    static void requestFrame() {
+        if (frame == null) {
+            frame = AnimationScheduler.get().requestAnimationFrame(timestamp -> {
+                frame = null;
+                flush();
+            });
+        }
+    }
+
+    static void flush() {
+        List<Subscription> changed = new ArrayList<>();
+        for (Subscription subscription : pending) {
+            int width = subscription.element.getOffsetWidth();
+            int height = subscription.element.getOffsetHeight();
+            if (width != subscription.width || height != subscription.height) {
+                subscription.width = width;
+                subscription.height = height;
+                changed.add(subscription);
+            }
+        }
+        pending.clear();
+        for (Subscription subscription : changed) {
+            subscription.handler.onResize(subscription.width, subscription.height);
+        }
+    }
+
+    protected static native Object createObserver() /*-{
+        if (!$wnd.ResizeObserver) {
+            return null;
+        }
+        return new $wnd.ResizeObserver($entry(function (entries) {
+            for (var i = 0; i < entries.length; i++) {
+                @gwt.material.design.addins.client.base.ResizeService::onObserved(*)(entries[i].target);
+            }
+        }));
+    }-*/;
+
+    protected static native void observe(Object observer, Element element) /*-{
+        observer.observe(element);
+    }-*/;
+
+    protected static native void unobserve(Object observer, Element element) /*-{
+        observer.unobserve(element);
+    }-*/;
+
+    static class Subscription {
+
+        final Element element;
+        final ResizeHandler handler;
+        int width;
+        int height;
+
+        Subscription(Element element, ResizeHandler handler) {
+            this.element = element;
+            this.handler = handler;
+        }
+    }
+}
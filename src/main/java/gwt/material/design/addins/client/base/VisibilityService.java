@@ -0,0 +1,182 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.base;
+
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.event.shared.HandlerRegistration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * App-wide viewport visibility notifications shared by the addins. A single IntersectionObserver
+ * per root margin watches every observed element, the subscriptions are kept in Java so nothing is
+ * stored on the window or on the elements. Where IntersectionObserver is not available the elements
+ * are reported visible once.
+ */
+public final class VisibilityService {
+
+    public static final String DEFAULT_ROOT_MARGIN = "0px";
+
+    public interface VisibilityHandler {
+        void onVisibilityChange(boolean visible);
+    }
+
+    private static final Map<String, Object> observers = new HashMap<>();
+    private static final Map<Element, List<Registration>> registrations = new HashMap<>();
+    private static Boolean supported;
+
+    private VisibilityService() {}
+
+    /**
+     * Call the handler with the visibility of the element in the viewport, once observed and on
+     * every change, until the registration is removed.
+     */
+    public static Registration observe(Element element, VisibilityHandler handler) {
+        return observe(element, DEFAULT_ROOT_MARGIN, handler);
+    }
+
+    /**
+     * Call the handler with the visibility of the element in the viewport grown by the root margin,
+     * i.e "200px", once observed and on every change, until the registration is removed.
+     */
+    public static Registration observe(Element element, String rootMargin, VisibilityHandler handler) {
+        Registration registration = new Registration(element, rootMargin, handler);
+        List<Registration> elementRegistrations = registrations.get(element);
+        if (elementRegistrations == null) {
+            elementRegistrations = new ArrayList<>();
+            registrations.put(element, elementRegistrations);
+        }
+        boolean observed = isObserved(elementRegistrations, rootMargin);
+        elementRegistrations.add(registration);
+
+        if (!isSupported()) {
+            handler.onVisibilityChange(true);
+        } else if (!observed) {
+            Object observer = observers.get(rootMargin);
+            if (observer == null) {
+                observer = createObserver(rootMargin);
+                observers.put(rootMargin, observer);
+            }
+            observe(observer, element);
+        }
+        return registration;
+    }
+
+    static void remove(Registration registration) {
+        List<Registration> elementRegistrations = registrations.get(registration.element);
+        if (elementRegistrations == null || !elementRegistrations.remove(registration)) {
+            return;
+        }
+        if (elementRegistrations.isEmpty()) {
+            registrations.remove(registration.element);
+        }
+        if (isSupported() && !isObserved(elementRegistrations, registration.rootMargin)) {
+            unobserve(observers.get(registration.rootMargin), registration.element);
+        }
+    }
+
+    static boolean isObserved(List<Registration> elementRegistrations, String rootMargin) {
+        for (Registration registration : elementRegistrations) {
+            if (registration.rootMargin.equals(rootMargin)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static void onObserved(String rootMargin, Element element, boolean visible) {
+        List<Registration> elementRegistrations = registrations.get(element);
+        if (elementRegistrations == null) {
+            return;
+        }
+        // Handlers may remove their registration
+        for (Registration registration : new ArrayList<>(elementRegistrations)) {
+            if (registration.rootMargin.equals(rootMargin) && elementRegistrations.contains(registration)) {
+                registration.visible = visible;
+                registration.handler.onVisibilityChange(visible);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of elements currently observed.
+     */
+    public static int getObservedCount() {
+        return registrations.size();
+    }
+
+    public static boolean isSupported() {
+        if (supported == null) {
+            supported = hasIntersectionObserver();
+        }
+        return supported;
+    }
+
+    static native boolean hasIntersectionObserver() /*-{
+        return !!$wnd.IntersectionObserver;
+    }-*/;
+
+    protected static native Object createObserver(String rootMargin) /*-{
+        return new $wnd.IntersectionObserver($entry(function (entries) {
+            for (var i = 0; i < entries.length; i++) {
+                var entry = entries[i];
+                @gwt.material.design.addins.client.base.VisibilityService::onObserved(*)(rootMargin, entry.target,
+                    entry.isIntersecting || entry.intersectionRatio > 0);
+            }
+        }), {rootMargin: rootMargin});
+    }-*/;
+
+    protected static native void observe(Object observer, Element element) /*-{
+        observer.observe(element);
+    }-*/;
+
+    protected static native void unobserve(Object observer, Element element) /*-{
+        observer.unobserve(element);
+    }-*/;
+
+    /**
+     * The observation of an element, it is considered visible until the observer tells otherwise.
+     */
+    public static final class Registration implements HandlerRegistration {
+
+        private final Element element;
+        private final String rootMargin;
+        private final VisibilityHandler handler;
+        private boolean visible = true;
+
+        Registration(Element element, String rootMargin, VisibilityHandler handler) {
+            this.element = element;
+            this.rootMargin = rootMargin;
+            this.handler = handler;
+        }
+
+        public boolean isVisible() {
+            return visible;
+        }
+
+        @Override
+        public void removeHandler() {
+            remove(this);
+        }
+    }
+}
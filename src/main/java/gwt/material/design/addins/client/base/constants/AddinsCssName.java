@@ -44,6 +44,8 @@ public interface AddinsCssName {
     String PV = "pv";
     String ZDROP_INFO = "zdrop-info";
     String PREVIEW_ICON = "preview-icon";
+    String DZ_ERROR = "dz-error";
+    String DZ_COMPLETE = "dz-complete";
     String DZ_ERROR_MESSAGE = "dz-error-message";
     String ERROR_MESSAGE = "error-message";
     String DZ_REMOVE = "dz-remove";
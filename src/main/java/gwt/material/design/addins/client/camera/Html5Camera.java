@@ -23,8 +23,11 @@ import com.google.gwt.core.client.GWT;
 import com.google.gwt.dom.client.Document;
 import com.google.gwt.dom.client.Element;
 import com.google.gwt.event.logical.shared.ValueChangeEvent;
+import gwt.material.design.addins.client.base.js.Blob;
+import gwt.material.design.addins.client.camera.constants.CameraCaptureMode;
 import gwt.material.design.client.base.AbstractValueWidget;
 import gwt.material.design.client.base.MaterialWidget;
+import gwt.material.design.jquery.client.api.Functions;
 import gwt.material.design.jscore.client.api.file.File;
 import gwt.material.design.jscore.client.api.file.FileReader;
 
@@ -34,6 +37,12 @@ public class Html5Camera extends AbstractValueWidget<String> {
 
 
     private String imageUrl;
+    private Blob blob;
+    private CameraCaptureMode captureMode = CameraCaptureMode.DATA_URL;
+    private int maxWidth;
+    private int maxHeight;
+    private String outputType = "image/jpeg";
+    private double outputQuality = 0.92;
     private MaterialWidget imageFileInput = new MaterialWidget(Document.get().createFileInputElement());
 
     public Html5Camera() {
@@ -52,13 +61,25 @@ public class Html5Camera extends AbstractValueWidget<String> {
 
 
         $(imageFileInput.getElement()).on("change", e -> {
-            captureToDataURL();
+            if (captureMode == CameraCaptureMode.OBJECT_URL) {
+                captureToObjectURL();
+            } else {
+                captureToDataURL();
+            }
             return true;
         });
 
         imageFileInput.setVisible(false);
     }
 
+    @Override
+    protected void onUnload() {
+        super.onUnload();
+
+        $(imageFileInput.getElement()).off("change");
+        revokeObjectURL();
+    }
+
     public void load() {
         $(imageFileInput.getElement()).click();
     }
@@ -80,10 +101,192 @@ public class Html5Camera extends AbstractValueWidget<String> {
         }
     }
 
+    /**
+     * Exposes the captured file as a {@link Blob} behind an object URL, downscaled first when a maximum
+     * size is set. The image is never read into a base64 string.
+     */
+    protected void captureToObjectURL() {
+        Blob file = toBlob(imageFileInput.getElement());
+        if (file == null) {
+            GWT.log("Please provide a file before reading the file.", new NullPointerException());
+            return;
+        }
+
+        if (maxWidth > 0 || maxHeight > 0) {
+            downscale(file, maxWidth, maxHeight, outputType, outputQuality, this::setBlob);
+        } else {
+            setBlob(file);
+        }
+    }
+
+    protected void setBlob(Blob blob) {
+        revokeObjectURL();
+        this.blob = blob;
+        imageUrl = createObjectURL(blob);
+        ValueChangeEvent.fire(this, imageUrl);
+    }
+
+    /**
+     * Returns the captured image of the {@link CameraCaptureMode#OBJECT_URL} mode.
+     */
+    public Blob getBlob() {
+        return blob;
+    }
+
+    /**
+     * Converts the captured image to a data URL, only use it when a string is explicitly needed
+     * since the whole image is encoded in memory.
+     */
+    public void toDataURL(Functions.Func1<String> callback) {
+        if (blob != null) {
+            readAsDataURL(blob, callback);
+        } else {
+            callback.call(imageUrl);
+        }
+    }
+
+    /**
+     * Releases the captured image and its object URL.
+     */
+    @Override
+    public void reset() {
+        super.reset();
+
+        revokeObjectURL();
+        imageUrl = null;
+    }
+
+    protected void revokeObjectURL() {
+        if (blob != null) {
+            revokeObjectURL(imageUrl);
+            blob = null;
+        }
+    }
+
+    public CameraCaptureMode getCaptureMode() {
+        return captureMode;
+    }
+
+    public void setCaptureMode(CameraCaptureMode captureMode) {
+        this.captureMode = captureMode;
+    }
+
+    /**
+     * Downscales the captured image of the {@link CameraCaptureMode#OBJECT_URL} mode to fit the given size,
+     * use 0 for no limit. Decoding and encoding are done off the main thread where ImageBitmap and
+     * OffscreenCanvas are supported.
+     */
+    public void setMaxSize(int maxWidth, int maxHeight) {
+        this.maxWidth = maxWidth;
+        this.maxHeight = maxHeight;
+    }
+
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    public int getMaxHeight() {
+        return maxHeight;
+    }
+
+    /**
+     * Set the type and quality of downscaled images, "image/jpeg" at 0.92 by default.
+     */
+    public void setOutput(String outputType, double outputQuality) {
+        this.outputType = outputType;
+        this.outputQuality = outputQuality;
+    }
+
+    public String getOutputType() {
+        return outputType;
+    }
+
+    public double getOutputQuality() {
+        return outputQuality;
+    }
+
     protected native File toFile(Element inputElement) /*-{
         return $wnd.jQuery(inputElement).prop('files')[0];
     }-*/;
 
+    protected native Blob toBlob(Element inputElement) /*-{
+        return $wnd.jQuery(inputElement).prop('files')[0] || null;
+    }-*/;
+
+    protected native String createObjectURL(Blob blob) /*-{
+        return $wnd.URL.createObjectURL(blob);
+    }-*/;
+
+    protected native void revokeObjectURL(String url) /*-{
+        $wnd.URL.revokeObjectURL(url);
+    }-*/;
+
+    protected static native void readAsDataURL(Blob blob, Functions.Func1<String> callback) /*-{
+        var reader = new $wnd.FileReader();
+        reader.onload = $entry(function () {
+            callback(reader.result);
+        });
+        reader.readAsDataURL(blob);
+    }-*/;
+
+    protected static native void downscale(Blob blob, int maxWidth, int maxHeight, String type, double quality,
+                                           Functions.Func1<Blob> callback) /*-{
+        var fit = function (width, height) {
+            var scale = 1;
+            if (maxWidth > 0 && width > maxWidth) {
+                scale = maxWidth / width;
+            }
+            if (maxHeight > 0 && height * scale > maxHeight) {
+                scale = maxHeight / height;
+            }
+            return {width: Math.round(width * scale), height: Math.round(height * scale), scaled: scale < 1};
+        };
+        var done = $entry(function (result) {
+            callback(result);
+        });
+
+        if ($wnd.createImageBitmap && $wnd.OffscreenCanvas) {
+            $wnd.createImageBitmap(blob).then(function (bitmap) {
+                var size = fit(bitmap.width, bitmap.height);
+                if (!size.scaled) {
+                    bitmap.close();
+                    done(blob);
+                    return;
+                }
+                var canvas = new $wnd.OffscreenCanvas(size.width, size.height);
+                canvas.getContext("2d").drawImage(bitmap, 0, 0, size.width, size.height);
+                bitmap.close();
+                return canvas.convertToBlob({type: type, quality: quality}).then(done);
+            })["catch"](function () {
+                done(blob);
+            });
+            return;
+        }
+
+        var url = $wnd.URL.createObjectURL(blob);
+        var image = new $wnd.Image();
+        image.onload = function () {
+            $wnd.URL.revokeObjectURL(url);
+            var size = fit(image.naturalWidth, image.naturalHeight);
+            if (!size.scaled) {
+                done(blob);
+                return;
+            }
+            var canvas = $doc.createElement("canvas");
+            canvas.width = size.width;
+            canvas.height = size.height;
+            canvas.getContext("2d").drawImage(image, 0, 0, size.width, size.height);
+            canvas.toBlob(function (result) {
+                done(result || blob);
+            }, type, quality);
+        };
+        image.onerror = function () {
+            $wnd.URL.revokeObjectURL(url);
+            done(blob);
+        };
+        image.src = url;
+    }-*/;
+
     @Override
     public String getValue() {
         return imageUrl;
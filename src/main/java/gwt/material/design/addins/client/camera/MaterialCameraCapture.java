@@ -20,11 +20,14 @@ package gwt.material.design.addins.client.camera;
  * #L%
  */
 
-import com.google.gwt.canvas.client.Canvas;
+import com.google.gwt.animation.client.AnimationScheduler;
 import com.google.gwt.canvas.dom.client.Context2d;
 import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.dom.client.*;
 import com.google.gwt.event.shared.HandlerRegistration;
+import gwt.material.design.addins.client.base.js.Blob;
+import gwt.material.design.addins.client.camera.base.CameraFrameHandler;
 import gwt.material.design.addins.client.camera.base.HasCameraActions;
 import gwt.material.design.addins.client.camera.base.HasCameraCaptureHandlers;
 import gwt.material.design.addins.client.camera.constants.CameraFacingMode;
@@ -33,6 +36,7 @@ import gwt.material.design.addins.client.camera.events.CameraCaptureEvent.Captur
 import gwt.material.design.addins.client.camera.events.CameraCaptureHandler;
 import gwt.material.design.client.base.JsLoader;
 import gwt.material.design.client.base.MaterialWidget;
+import gwt.material.design.jquery.client.api.Functions;
 import gwt.material.design.jscore.client.api.Navigator;
 import gwt.material.design.jscore.client.api.media.*;
 
@@ -107,6 +111,14 @@ public class MaterialCameraCapture extends MaterialWidget implements JsLoader, H
     private MediaStream mediaStream;
     private MaterialWidget video = new MaterialWidget(Document.get().createVideoElement());
     private MaterialWidget overlayPanel = new MaterialWidget(Document.get().createDivElement());
+    private CanvasElement captureCanvas;
+    private int captureMaxWidth;
+    private int captureMaxHeight;
+    private AnimationScheduler.AnimationHandle captureFrame;
+    private boolean frameInFlight;
+    private int captureSession;
+    private double lastFrameTime;
+    private int droppedFrames;
 
     public MaterialCameraCapture() {
         super(Document.get().createDivElement(), "camera-wrapper");
@@ -143,6 +155,7 @@ public class MaterialCameraCapture extends MaterialWidget implements JsLoader, H
 
     @Override
     public void unload() {
+        stopContinuousCapture();
         stop();
     }
 
@@ -189,7 +202,118 @@ public class MaterialCameraCapture extends MaterialWidget implements JsLoader, H
 
     @Override
     public String captureToDataURL(String mimeType) {
-        return nativeCaptureToDataURL(Canvas.createIfSupported().getCanvasElement(), video.getElement(), mimeType);
+        return nativeCaptureToDataURL(getCaptureCanvas(), video.getElement(), mimeType);
+    }
+
+    /**
+     * Captures the current frame of the video to a binary {@link Blob}, which is about 25% smaller than
+     * a data URL and can be uploaded as is.
+     *
+     * @param mimeType The type of the output image, such as "image/png" or "image/jpeg".
+     * @param quality  The quality between 0 and 1 of lossy types such as "image/jpeg" or "image/webp".
+     */
+    public void captureToBlob(String mimeType, double quality, Functions.Func1<Blob> callback) {
+        toBlob(drawFrame(getCaptureCanvas(), video.getElement()), mimeType, quality, callback);
+    }
+
+    /**
+     * Captures the current frame of the video to an ImageBitmap, ready to be drawn or transferred to a
+     * worker without any encoding. Calls back with null when ImageBitmap is not supported.
+     */
+    public void captureToImageBitmap(Functions.Func1<JavaScriptObject> callback) {
+        toImageBitmap(drawFrame(getCaptureCanvas(), video.getElement()), callback);
+    }
+
+    /**
+     * Continuously capture frames to {@link Blob}s at the target frame rate. A frame is dropped while the
+     * previous one is still being encoded or consumed by the handler. Frames encoded after the capture
+     * was stopped or restarted are dropped.
+     */
+    public void startContinuousCapture(int fps, String mimeType, double quality, CameraFrameHandler handler) {
+        stopContinuousCapture();
+        int session = captureSession;
+        double interval = 1000.0 / Math.max(1, fps);
+        droppedFrames = 0;
+        lastFrameTime = 0;
+        AnimationScheduler.AnimationCallback[] tick = new AnimationScheduler.AnimationCallback[1];
+        tick[0] = timestamp -> {
+            captureFrame = AnimationScheduler.get().requestAnimationFrame(tick[0]);
+            if (timestamp - lastFrameTime < interval) {
+                return;
+            }
+            if (frameInFlight) {
+                droppedFrames++;
+                return;
+            }
+            lastFrameTime = timestamp;
+            frameInFlight = true;
+            captureToBlob(mimeType, quality, blob -> {
+                if (session != captureSession) {
+                    return;
+                }
+                if (blob == null) {
+                    frameInFlight = false;
+                    return;
+                }
+                handler.onFrame(blob, () -> {
+                    if (session == captureSession) {
+                        frameInFlight = false;
+                    }
+                });
+            });
+        };
+        captureFrame = AnimationScheduler.get().requestAnimationFrame(tick[0]);
+    }
+
+    /**
+     * Stops the continuous capture started by {@link #startContinuousCapture(int, String, double, CameraFrameHandler)}.
+     */
+    public void stopContinuousCapture() {
+        // Every stop starts a new session, the frames still encoding belong to the previous one
+        captureSession++;
+        if (captureFrame != null) {
+            captureFrame.cancel();
+            captureFrame = null;
+        }
+        frameInFlight = false;
+    }
+
+    public boolean isContinuousCapture() {
+        return captureFrame != null;
+    }
+
+    /**
+     * Returns the number of frames dropped by the current continuous capture.
+     */
+    public int getDroppedFrames() {
+        return droppedFrames;
+    }
+
+    /**
+     * Sets the maximum size of the captured images, the frames are downscaled to fit while keeping the
+     * aspect ratio of the video. Use 0 to capture at the video resolution, which is the default.
+     */
+    public void setCaptureSize(int maxWidth, int maxHeight) {
+        this.captureMaxWidth = maxWidth;
+        this.captureMaxHeight = maxHeight;
+    }
+
+    public int getCaptureMaxWidth() {
+        return captureMaxWidth;
+    }
+
+    public int getCaptureMaxHeight() {
+        return captureMaxHeight;
+    }
+
+    /**
+     * Returns the canvas reused by every capture of this widget.
+     */
+    protected CanvasElement getCaptureCanvas() {
+        if (captureCanvas == null) {
+            captureCanvas = Document.get().createCanvasElement();
+        }
+        return captureCanvas;
     }
 
     /**
@@ -264,20 +388,67 @@ public class MaterialCameraCapture extends MaterialWidget implements JsLoader, H
      * Native call to capture the frame of the video stream.
      */
     protected String nativeCaptureToDataURL(CanvasElement canvas, Element element, String mimeType) {
+        return drawFrame(canvas, element).toDataUrl(mimeType);
+    }
+
+    /**
+     * Draws the current frame of the video on the canvas, downscaled to the capture size if any.
+     * The canvas is only resized when the frame size changes.
+     */
+    protected CanvasElement drawFrame(CanvasElement canvas, Element element) {
         VideoElement videoElement = (VideoElement) element;
         int width = videoElement.getVideoWidth();
         int height = videoElement.getVideoHeight();
-        if (Double.isNaN(width) || Double.isNaN(height)) {
+        if (width <= 0 || height <= 0) {
             width = videoElement.getClientWidth();
             height = videoElement.getClientHeight();
         }
-        canvas.setWidth(width);
-        canvas.setHeight(height);
+        double scale = 1;
+        if (captureMaxWidth > 0 && width > captureMaxWidth) {
+            scale = (double) captureMaxWidth / width;
+        }
+        if (captureMaxHeight > 0 && height * scale > captureMaxHeight) {
+            scale = (double) captureMaxHeight / height;
+        }
+        width = (int) Math.round(width * scale);
+        height = (int) Math.round(height * scale);
+        if (canvas.getWidth() != width || canvas.getHeight() != height) {
+            canvas.setWidth(width);
+            canvas.setHeight(height);
+        }
         Context2d context = canvas.getContext2d();
         context.drawImage(videoElement, 0, 0, width, height);
-        return canvas.toDataUrl(mimeType);
+        return canvas;
     }
 
+    protected static native void toBlob(CanvasElement canvas, String mimeType, double quality, Functions.Func1<Blob> callback) /*-{
+        if (canvas.toBlob) {
+            canvas.toBlob($entry(function (blob) {
+                callback(blob);
+            }), mimeType, quality);
+            return;
+        }
+        var data = canvas.toDataURL(mimeType, quality);
+        var binary = $wnd.atob(data.substring(data.indexOf(",") + 1));
+        var bytes = new $wnd.Uint8Array(binary.length);
+        for (var i = 0; i < binary.length; i++) {
+            bytes[i] = binary.charCodeAt(i);
+        }
+        callback(new $wnd.Blob([bytes], {type: mimeType}));
+    }-*/;
+
+    protected static native void toImageBitmap(CanvasElement canvas, Functions.Func1<JavaScriptObject> callback) /*-{
+        if (!$wnd.createImageBitmap) {
+            callback(null);
+            return;
+        }
+        $wnd.createImageBitmap(canvas).then($entry(function (bitmap) {
+            callback(bitmap);
+        }), $entry(function () {
+            callback(null);
+        }));
+    }-*/;
+
     /**
      * Tests if the browser supports the Streams API. This should be called before creating any
      * MaterialCameraCapture widgets to avoid errors on the browser.
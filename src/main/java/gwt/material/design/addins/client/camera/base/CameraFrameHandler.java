@@ -0,0 +1,36 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.camera.base;
+
+import gwt.material.design.addins.client.base.js.Blob;
+import gwt.material.design.jquery.client.api.Functions;
+
+/**
+ * Receives the frames of a continuous capture of a
+ * {@link gwt.material.design.addins.client.camera.MaterialCameraCapture}.
+ */
+public interface CameraFrameHandler {
+
+    /**
+     * Called with every captured frame. The next frames are dropped until done is called,
+     * so a slow consumer never queues up frames.
+     */
+    void onFrame(Blob frame, Functions.Func done);
+}
@@ -0,0 +1,37 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.camera.constants;
+
+/**
+ * How the captured image of an {@link gwt.material.design.addins.client.camera.Html5Camera} is exposed.
+ */
+public enum CameraCaptureMode {
+
+    /**
+     * The value is a base64 data URL of the whole image (default).
+     */
+    DATA_URL,
+
+    /**
+     * The value is a managed object URL of the captured {@link gwt.material.design.addins.client.base.js.Blob},
+     * revoked once it is replaced, reset or the camera is unloaded.
+     */
+    OBJECT_URL
+}
@@ -2,7 +2,7 @@
  * #%L
  * GwtMaterial
  * %%
- * Copyright (C) 2015 - 2016 GwtMaterialDesign
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
  * %%
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,21 +17,19 @@
  * limitations under the License.
  * #L%
  */
-package gwt.material.design.addins.client.countup;
+package gwt.material.design.addins.client.carousel;
 
-import com.google.gwt.core.client.GWT;
-import com.google.gwt.resources.client.ClientBundle;
-import com.google.gwt.resources.client.TextResource;
+import com.google.gwt.user.client.ui.Widget;
 
 /**
- * Client Bundle for CountUp component
- *
- * @author kevzlou7979
+ * Creates the slides of a virtual {@link MaterialCarousel}, see
+ * {@link MaterialCarousel#setVirtualSlides(int, CarouselSlideRenderer)}.
  */
-interface MaterialCountUpClientBundle extends ClientBundle {
+public interface CarouselSlideRenderer {
 
-    MaterialCountUpClientBundle INSTANCE = GWT.create(MaterialCountUpClientBundle.class);
-
-    @Source("resources/js/countup.min.js")
-    TextResource countUpJs();
+    /**
+     * Create the slide at the given index, it is called again whenever the slide enters the
+     * window of mounted slides.
+     */
+    Widget renderSlide(int index);
 }
@@ -22,6 +22,7 @@ package gwt.material.design.addins.client.carousel;
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
 import com.google.gwt.event.logical.shared.ValueChangeEvent;
 import com.google.gwt.event.logical.shared.ValueChangeHandler;
 import com.google.gwt.event.shared.HandlerRegistration;
@@ -32,6 +33,7 @@ import gwt.material.design.addins.client.MaterialAddins;
 import gwt.material.design.addins.client.base.constants.AddinsCssName;
 import gwt.material.design.addins.client.carousel.constants.CarouselType;
 import gwt.material.design.addins.client.carousel.events.*;
+import gwt.material.design.addins.client.carousel.js.JsCarousel;
 import gwt.material.design.addins.client.carousel.js.JsCarouselOptions;
 import gwt.material.design.addins.client.carousel.ui.NextArrow;
 import gwt.material.design.addins.client.carousel.ui.PreviousArrow;
@@ -44,6 +46,7 @@ import gwt.material.design.client.base.mixin.ToggleStyleMixin;
 import gwt.material.design.client.constants.CssName;
 import gwt.material.design.client.ui.*;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static gwt.material.design.addins.client.carousel.js.JsCarousel.$;
@@ -86,6 +89,12 @@ public class MaterialCarousel extends MaterialWidget implements JsLoader, HasTyp
     static int TABLET_SETTINGS = 0;
     static int MOBILE_SETTINGS = 1;
 
+    /**
+     * Attribute holding the source of a lazy slide image until it is near the current slide, distinct
+     * from the data-lazy attribute of slick's own lazyLoad option.
+     */
+    public static final String LAZY_IMAGE_ATTRIBUTE = "data-lazy-src";
+
     static {
         if (MaterialAddins.isDebug()) {
             MaterialDesignBase.injectCss(MaterialCarouselDebugClientBundle.INSTANCE.customCssDebug());
@@ -108,6 +117,15 @@ public class MaterialCarousel extends MaterialWidget implements JsLoader, HasTyp
 
     private CssTypeMixin<CarouselType, MaterialCarousel> typeMixin;
     private List<String> values;
+    private boolean lazyImages;
+    private int lazyImageRange = 1;
+    private JsCarousel carousel;
+    private CarouselSlideRenderer slideRenderer;
+    private int virtualCount;
+    private int virtualWindow = 2;
+    private int windowStart;
+    private List<Widget> mountedSlides = new ArrayList<>();
+    private boolean shifting;
 
     public MaterialCarousel() {
         super(Document.get().createDivElement(), AddinsCssName.MATERIAL_CAROUSEL);
@@ -128,23 +146,45 @@ public class MaterialCarousel extends MaterialWidget implements JsLoader, HasTyp
         super.add(wrapper);
 
         $(getElement()).on(CarouselEvents.AFTER_CHANGE, (e, slick, currentSlide) -> {
-            AfterChangeEvent.fire(this, Integer.parseInt(currentSlide.toString()));
+            if (!shifting) {
+                int current = windowStart + Integer.parseInt(currentSlide.toString());
+                AfterChangeEvent.fire(this, current);
+                if (isVirtual()) {
+                    // Slick is still animating while afterChange is triggered
+                    Scheduler.get().scheduleDeferred(() -> shiftWindow(getCurrentSlideIndex()));
+                }
+            }
             return true;
         });
 
         $(getElement()).on(CarouselEvents.BEFORE_CHANGE, (e, slick, currentSlide, nextSlide) -> {
-            BeforeChangeEvent.fire(this, Integer.parseInt(currentSlide.toString()), Integer.parseInt(nextSlide.toString()));
+            loadLazyImages(Integer.parseInt(nextSlide.toString()));
+            if (!shifting) {
+                BeforeChangeEvent.fire(this, windowStart + Integer.parseInt(currentSlide.toString()),
+                    windowStart + Integer.parseInt(nextSlide.toString()));
+            }
             e.stopPropagation();
             return true;
         });
 
-        $(getElement()).on(CarouselEvents.INIT, (e) -> {
-            InitEvent.fire(this);
+        $(getElement()).on(CarouselEvents.INIT, (e, slick) -> {
+            // The carousel starts on its initial slide
+            loadLazyImages(getCurrentSlide(slick));
+            if (!shifting) {
+                InitEvent.fire(this);
+            }
+            return true;
+        });
+
+        $(getElement()).on(CarouselEvents.RE_INIT, (e) -> {
+            loadLazyImages(getCurrentSlideIndex() - windowStart);
             return true;
         });
 
         $(getElement()).on(CarouselEvents.DESTROY, (e) -> {
-            DestroyEvent.fire(this);
+            if (!shifting) {
+                DestroyEvent.fire(this);
+            }
             return true;
         });
 
@@ -165,8 +205,14 @@ public class MaterialCarousel extends MaterialWidget implements JsLoader, HasTyp
         if (previousArrow != null) {
             options.prevArrow = "#" + previousArrow.getId();
         }
-        
-        $(container.getElement()).slick(options);
+
+        if (isVirtual()) {
+            // Slide indexes are offset by the window, slick must not clone or paginate it
+            options.infinite = false;
+            options.dots = false;
+        }
+
+        getCarousel().slick(options);
     }
 
     @Override
@@ -181,6 +227,7 @@ public class MaterialCarousel extends MaterialWidget implements JsLoader, HasTyp
         $(getElement()).off(CarouselEvents.AFTER_CHANGE);
         $(getElement()).off(CarouselEvents.BEFORE_CHANGE);
         $(getElement()).off(CarouselEvents.INIT);
+        $(getElement()).off(CarouselEvents.RE_INIT);
         $(getElement()).off(CarouselEvents.DESTROY);
         $(getElement()).off(CarouselEvents.SWIPE);
 
@@ -197,18 +244,41 @@ public class MaterialCarousel extends MaterialWidget implements JsLoader, HasTyp
         command("unslick");
     }
 
+    /**
+     * Add a slide, in virtual mode the slides are created by the renderer and only
+     * {@link MaterialCarouselFixedItem fixed items} can be added.
+     */
     @Override
     public void add(Widget child) {
         if (child instanceof MaterialCarouselFixedItem) {
             wrapper.add(child);
+        } else if (isVirtual()) {
+            throw new IllegalStateException("The slides of a virtual carousel are created by its renderer, " +
+                "see setVirtualSlides(int, CarouselSlideRenderer)");
         } else {
             container.add(child);
             command("slickAdd", child.getElement());
         }
     }
 
+    /**
+     * Remove the slide at the given index, in virtual mode the index is the index of the whole set and
+     * the renderer must no longer render the removed slide.
+     */
     @Override
     public boolean remove(int index) {
+        if (isVirtual()) {
+            if (index < 0 || index >= virtualCount) {
+                return false;
+            }
+            int current = container.isAttached() ? getCurrentSlideIndex() : windowStart;
+            if (index < current) {
+                current--;
+            }
+            virtualCount--;
+            remountWindow(Math.max(0, Math.min(current, virtualCount - 1)));
+            return true;
+        }
         command("slickRemove", index);
         return true;
     }
@@ -222,8 +292,9 @@ public class MaterialCarousel extends MaterialWidget implements JsLoader, HasTyp
      * Returns the current slide index
      */
     public int getCurrentSlideIndex() {
-        if (command("slickCurrentSlide").toString() != null) {
-            return Integer.parseInt(command("slickCurrentSlide").toString());
+        Object current = command("slickCurrentSlide");
+        if (current != null && current.toString() != null) {
+            return windowStart + Integer.parseInt(current.toString());
         }
         return -1;
     }
@@ -232,14 +303,25 @@ public class MaterialCarousel extends MaterialWidget implements JsLoader, HasTyp
      * Navigates to a slide by index with animate as second parameter
      */
     public void goToSlide(int index, boolean noAnimation) {
-        command("slickGoTo", index, noAnimation);
+        if (isVirtual() && (index < windowStart || index >= windowStart + mountedSlides.size())) {
+            if (container.isAttached()) {
+                // Slick only sees the new window, report the jump in the indexes of the whole set
+                BeforeChangeEvent.fire(this, getCurrentSlideIndex(), index);
+                remountWindow(index);
+                AfterChangeEvent.fire(this, index);
+            } else {
+                remountWindow(index);
+            }
+        } else {
+            command("slickGoTo", index - windowStart, noAnimation);
+        }
     }
 
     /**
      * Navigates to a slide by index with animation
      */
     public void goToSlide(int index) {
-        command("slickGoTo", index, false);
+        goToSlide(index, false);
     }
 
     /**
@@ -274,11 +356,155 @@ public class MaterialCarousel extends MaterialWidget implements JsLoader, HasTyp
         if (container == null || !container.isAttached()) {
             GWT.log("Your carousel container is not yet initialized", new IllegalStateException());
         } else {
-            return $("#" + container.getId()).slick(action, params);
+            switch (params.length) {
+                case 0:
+                    return getCarousel().slick(action);
+                case 1:
+                    return getCarousel().slick(action, params[0]);
+                case 2:
+                    return getCarousel().slick(action, params[0], params[1]);
+                case 3:
+                    return getCarousel().slick(action, params[0], params[1], params[2]);
+                default:
+                    throw new IllegalArgumentException("The slick methods take at most 3 parameters, " + action
+                        + " was given " + params.length);
+            }
         }
         return null;
     }
 
+    /**
+     * Returns the jQuery handle of the slick container, resolved once.
+     */
+    protected JsCarousel getCarousel() {
+        if (carousel == null) {
+            carousel = $(container.getElement());
+        }
+        return carousel;
+    }
+
+    /**
+     * Virtual mode for large slide sets, only a window of slides around the current slide is mounted in
+     * the DOM and in slick, the slides are created by the renderer as they enter the window. Slide
+     * indexes of the events and navigation methods are the indexes of the whole set. Infinite sliding
+     * and dots are not supported in virtual mode.
+     */
+    public void setVirtualSlides(int count, CarouselSlideRenderer slideRenderer) {
+        this.virtualCount = count;
+        this.slideRenderer = slideRenderer;
+        remountWindow(0);
+    }
+
+    public boolean isVirtual() {
+        return slideRenderer != null;
+    }
+
+    public int getVirtualCount() {
+        return virtualCount;
+    }
+
+    public int getVirtualWindow() {
+        return virtualWindow;
+    }
+
+    /**
+     * Number of slides mounted on each side of the current slide in virtual mode (Default : 2)
+     */
+    public void setVirtualWindow(int virtualWindow) {
+        this.virtualWindow = Math.max(1, virtualWindow);
+    }
+
+    /**
+     * Returns the index of the first mounted slide.
+     */
+    public int getWindowStart() {
+        return windowStart;
+    }
+
+    protected int getWindowStart(int current) {
+        int size = Math.max(getSlidesToShow(), 1) + 2 * virtualWindow;
+        return Math.max(0, Math.min(current - virtualWindow, virtualCount - size));
+    }
+
+    protected int getWindowEnd(int start) {
+        return Math.min(virtualCount, start + Math.max(getSlidesToShow(), 1) + 2 * virtualWindow);
+    }
+
+    /**
+     * Mount the window of the given slide, slick is initialized once for the whole window. The destroy
+     * and init events of the remount are not reported.
+     */
+    protected void remountWindow(int current) {
+        boolean initialized = container.isAttached();
+        shifting = true;
+        if (initialized) {
+            destroy();
+        }
+
+        container.clear();
+        mountedSlides.clear();
+        windowStart = getWindowStart(current);
+        int end = getWindowEnd(windowStart);
+        for (int i = windowStart; i < end; i++) {
+            Widget slide = slideRenderer.renderSlide(i);
+            mountedSlides.add(slide);
+            container.add(slide);
+        }
+
+        if (initialized) {
+            load();
+            command("slickGoTo", current - windowStart, true);
+        }
+        shifting = false;
+    }
+
+    /**
+     * Move the window of mounted slides to the current slide, the slides leaving the window are
+     * removed and the ones entering it are added to slick.
+     */
+    protected void shiftWindow(int current) {
+        if (!isVirtual() || current < 0 || !container.isAttached()) {
+            return;
+        }
+        int start = getWindowStart(current);
+        int end = getWindowEnd(start);
+        int mountedEnd = windowStart + mountedSlides.size();
+        if (start == windowStart && end == mountedEnd) {
+            return;
+        }
+        if (start >= mountedEnd || end <= windowStart) {
+            remountWindow(current);
+            return;
+        }
+
+        shifting = true;
+        while (windowStart < start) {
+            mountedSlides.remove(0).removeFromParent();
+            windowStart++;
+        }
+        while (windowStart + mountedSlides.size() > end) {
+            mountedSlides.remove(mountedSlides.size() - 1).removeFromParent();
+        }
+        command("reinit");
+
+        for (int i = windowStart - 1; i >= start; i--) {
+            Widget slide = slideRenderer.renderSlide(i);
+            mountedSlides.add(0, slide);
+            container.add(slide);
+            command("slickAdd", slide.getElement(), 0, true);
+        }
+        windowStart = start;
+        for (int i = windowStart + mountedSlides.size(); i < end; i++) {
+            Widget slide = slideRenderer.renderSlide(i);
+            mountedSlides.add(slide);
+            container.add(slide);
+            command("slickAdd", slide.getElement());
+        }
+
+        command("slickGoTo", current - windowStart, true);
+        shifting = false;
+    }
+
     /**
      * Set the image slider to fullscreen view.
      */
@@ -555,21 +781,111 @@ public class MaterialCarousel extends MaterialWidget implements JsLoader, HasTyp
     public void setValue(List<String> values, boolean fireEvent) {
         this.values = values;
 
-        container.clear();
-        for (String value : values) {
-            MaterialImage image = new MaterialImage(value);
-            container.add(image);
+        // Rebuild the slides while unslicked, the carousel is initialized once for all of them
+        boolean initialized = container.isAttached();
+        if (initialized) {
+            destroy();
+        }
 
-            if (isAttached()) {
-                reload();
+        container.clear();
+        if (values != null) {
+            for (String value : values) {
+                container.add(createImage(value));
             }
         }
 
+        if (initialized) {
+            load();
+        }
+
         if (fireEvent) {
             ValueChangeEvent.fire(this, values);
         }
     }
 
+    /**
+     * Create the slide image of a value. When lazy loading, the source is only set once the
+     * slide is within the lazy load range of the current slide.
+     */
+    protected MaterialImage createImage(String url) {
+        MaterialImage image = new MaterialImage();
+        if (lazyImages) {
+            image.getElement().setAttribute(LAZY_IMAGE_ATTRIBUTE, url);
+        } else {
+            image.setUrl(url);
+        }
+        return image;
+    }
+
+    /**
+     * Load the lazy images of the slides within the lazy load range of the given slide, including
+     * the slides cloned by an infinite carousel.
+     */
+    protected void loadLazyImages(int currentSlide) {
+        if (lazyImages && container.isAttached() && currentSlide >= 0) {
+            loadLazyImages(container.getElement(), currentSlide,
+                lazyImageRange + Math.max(1, getSlidesToShow()), isInfinite(), LAZY_IMAGE_ATTRIBUTE);
+        }
+    }
+
+    /**
+     * Returns the current slide of the slick instance passed to its events.
+     */
+    protected static native int getCurrentSlide(Object slick) /*-{
+        return slick && slick.currentSlide ? slick.currentSlide : 0;
+    }-*/;
+
+    protected static native void loadLazyImages(Element container, int current, int range, boolean infinite,
+                                                 String attribute) /*-{
+        var slides = container.querySelectorAll('.slick-slide');
+        var count = container.querySelectorAll('.slick-slide:not(.slick-cloned)').length;
+        if (count === 0) {
+            return;
+        }
+        for (var i = 0; i < slides.length; i++) {
+            var index = parseInt(slides[i].getAttribute('data-slick-index'), 10);
+            var distance = Math.abs(index - current);
+            if (infinite) {
+                distance = (((index - current) % count) + count) % count;
+                distance = Math.min(distance, count - distance);
+            }
+            if (distance > range) {
+                continue;
+            }
+            var images = slides[i].querySelectorAll('img[' + attribute + ']');
+            for (var j = 0; j < images.length; j++) {
+                images[j].setAttribute('src', images[j].getAttribute(attribute));
+                images[j].removeAttribute(attribute);
+            }
+        }
+    }-*/;
+
+    public boolean isLazyImages() {
+        return lazyImages;
+    }
+
+    /**
+     * Only load the images of the slides near the current slide, applies to the slides created by
+     * {@link #setValue(List)} (Default : false). Unlike slick's lazyLoad option, which only loads the
+     * visible slides ("ondemand") or every image in sequence ("progressive"), the images of
+     * {@link #setLazyImageRange(int) a range} of slides around the visible ones are preloaded, so they
+     * are ready before they slide in.
+     */
+    public void setLazyImages(boolean lazyImages) {
+        this.lazyImages = lazyImages;
+    }
+
+    public int getLazyImageRange() {
+        return lazyImageRange;
+    }
+
+    /**
+     * Number of slides before and after the visible slides that get their image loaded (Default : 1)
+     */
+    public void setLazyImageRange(int lazyImageRange) {
+        this.lazyImageRange = lazyImageRange;
+    }
+
     @Override
     public HandlerRegistration addValueChangeHandler(ValueChangeHandler<List<String>> valueChangeHandler) {
         return addHandler(valueChangeHandler, ValueChangeEvent.getType());
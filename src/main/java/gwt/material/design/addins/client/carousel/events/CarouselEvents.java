@@ -24,6 +24,7 @@ public interface CarouselEvents {
     String AFTER_CHANGE = "afterChange";
     String BEFORE_CHANGE = "beforeChange";
     String INIT = "init";
+    String RE_INIT = "reInit";
     String DESTROY = "destroy";
     String SWIPE = "swipe";
 }
@@ -57,4 +57,7 @@ public class JsCarousel extends JQueryElement {
 
     @JsMethod
     public native JavaScriptObject slick(Object action, Object param1, Object param2);
+
+    @JsMethod
+    public native JavaScriptObject slick(Object action, Object param1, Object param2, Object param3);
 }
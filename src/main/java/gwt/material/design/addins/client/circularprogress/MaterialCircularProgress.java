@@ -19,9 +19,12 @@
  */
 package gwt.material.design.addins.client.circularprogress;
 
+import com.google.gwt.core.client.Duration;
 import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
 import gwt.material.design.addins.client.MaterialAddins;
+import gwt.material.design.addins.client.base.FrameAnimation;
 import gwt.material.design.addins.client.base.constants.AddinsCssName;
 import gwt.material.design.addins.client.circularprogress.events.*;
 import gwt.material.design.addins.client.circularprogress.js.JsCircularProgressOptions;
@@ -83,9 +86,39 @@ public class MaterialCircularProgress extends AbstractValueWidget<Double> implem
     private ToggleStyleMixin<MaterialWidget> responsiveMixin;
     private JsCircularProgressOptions options = JsCircularProgressOptions.create();
     private FontSizeMixin<MaterialWidget> fontSizeMixin;
+    private int animationDuration = 1200;
+    private int progressEventInterval;
+    private double frameValue;
+    private double animationStartValue;
+    private double lastProgressEvent;
+
+    private final FrameAnimation animation = new FrameAnimation() {
+        @Override
+        protected void onStart() {
+            lastProgressEvent = 0;
+            StartEvent.fire(MaterialCircularProgress.this, getValue());
+        }
+
+        @Override
+        protected void onUpdate(double progress) {
+            double eased = progress < 0.5 ? 4 * progress * progress * progress
+                : 1 + 4 * (progress - 1) * (progress - 1) * (progress - 1);
+            double value = animationStartValue + (getValue() - animationStartValue) * eased;
+            drawFrame(value);
+            fireProgressEvent(progress, value);
+        }
+
+        @Override
+        protected void onComplete() {
+            CompleteEvent.fire(MaterialCircularProgress.this, getValue());
+        }
+    };
 
     public MaterialCircularProgress() {
         super(Document.get().createDivElement(), AddinsCssName.CIRCULAR_PROGRESS);
+
+        // The arc is animated by the shared frame scheduler instead of the plugin
+        options.animation = false;
     }
 
     @Override
@@ -96,27 +129,17 @@ public class MaterialCircularProgress extends AbstractValueWidget<Double> implem
         label.setSize(getSize(), isResponsive());
         add(label);
 
-
-        $(getElement()).on(CircularProgressEvents.PROGRESS, (e, progress, step) -> {
-            ProgressEvent.fire(this, (double) progress, (double) step);
-            return true;
-        });
-        $(getElement()).on(CircularProgressEvents.START, (e, param1) -> {
-            StartEvent.fire(this, getValue());
-            return true;
-        });
-
-        $(getElement()).on(CircularProgressEvents.COMPLETED, (e, param1) -> {
-            CompleteEvent.fire(this, getValue());
-            return true;
-        });
-
         load();
     }
 
     @Override
     public void load() {
-        Scheduler.get().scheduleDeferred(() -> $(getElement()).circleProgress(options));
+        Scheduler.get().scheduleDeferred(() -> {
+            $(getElement()).circleProgress(options);
+            frameValue = 0;
+            drawFrame(frameValue);
+            animate();
+        });
     }
 
     @Override
@@ -128,9 +151,7 @@ public class MaterialCircularProgress extends AbstractValueWidget<Double> implem
 
     @Override
     public void unload() {
-        $(getElement()).off(CircularProgressEvents.START);
-        $(getElement()).off(CircularProgressEvents.PROGRESS);
-        $(getElement()).off(CircularProgressEvents.COMPLETED);
+        animation.cancel();
     }
 
     @Override
@@ -150,6 +171,61 @@ public class MaterialCircularProgress extends AbstractValueWidget<Double> implem
         $(getElement()).circleProgress("redraw");
     }
 
+    /**
+     * Animate the arc from the currently drawn value to the value.
+     */
+    protected void animate() {
+        animationStartValue = frameValue;
+        animation.run(animationDuration, getElement());
+    }
+
+    protected void drawFrame(double value) {
+        frameValue = value;
+        drawFrame(getElement(), value);
+    }
+
+    protected void fireProgressEvent(double progress, double value) {
+        if (getHandlerCount(ProgressEvent.TYPE) == 0) {
+            return;
+        }
+        double now = Duration.currentTimeMillis();
+        if (progress >= 1 || progressEventInterval <= 0 || now - lastProgressEvent >= progressEventInterval) {
+            lastProgressEvent = now;
+            ProgressEvent.fire(this, progress, value);
+        }
+    }
+
+    protected static native void drawFrame(Element element, double value) /*-{
+        var instance = $wnd.jQuery.data(element, 'circle-progress');
+        if (instance) {
+            instance.value = value;
+            instance.drawFrame(value);
+        }
+    }-*/;
+
+    public int getAnimationDuration() {
+        return animationDuration;
+    }
+
+    /**
+     * Duration of the arc animation in milliseconds (Default : 1200)
+     */
+    public void setAnimationDuration(int animationDuration) {
+        this.animationDuration = animationDuration;
+    }
+
+    public int getProgressEventInterval() {
+        return progressEventInterval;
+    }
+
+    /**
+     * Minimum interval in milliseconds between two {@link ProgressEvent}s of an animation, the last
+     * progress is always fired (Default : 0, fired on every frame)
+     */
+    public void setProgressEventInterval(int progressEventInterval) {
+        this.progressEventInterval = progressEventInterval;
+    }
+
     @Override
     public Double getValue() {
         return options.value;
@@ -164,10 +240,9 @@ public class MaterialCircularProgress extends AbstractValueWidget<Double> implem
     public void setValue(Double value, boolean fireEvents) {
         super.setValue(value, fireEvents);
 
-        if (!isAttached()) {
-            options.value = value;
-        } else {
-            $(getElement()).circleProgress("value", value);
+        options.value = value;
+        if (isAttached()) {
+            animate();
         }
     }
 
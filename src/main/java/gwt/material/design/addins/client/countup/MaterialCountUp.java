@@ -20,10 +20,8 @@
 package gwt.material.design.addins.client.countup;
 
 import com.google.gwt.dom.client.Document;
-import gwt.material.design.addins.client.MaterialAddins;
-import gwt.material.design.addins.client.countup.js.CountUp;
+import gwt.material.design.addins.client.base.FrameAnimation;
 import gwt.material.design.addins.client.countup.js.JsCountUpOptions;
-import gwt.material.design.client.MaterialDesignBase;
 import gwt.material.design.client.base.AbstractValueWidget;
 import gwt.material.design.jquery.client.api.Functions;
 
@@ -57,39 +55,52 @@ import gwt.material.design.jquery.client.api.Functions;
  *
  * @author kevzlou7979
  * @see <a href="http://gwtmaterialdesign.github.io/gwt-material-demo/#countup">Material CountUp</a>
- * @see <a href="https://github.com/inorganik/countUp.js">CountUpJs 1.9.0</a>
  */
 //@formatter:on
 public class MaterialCountUp extends AbstractValueWidget<Double> {
 
-    static {
-        if (MaterialAddins.isDebug()) {
-            MaterialDesignBase.injectDebugJs(MaterialCountUpDebugClientBundle.INSTANCE.countUpJsDebug());
-        } else {
-            MaterialDesignBase.injectJs(MaterialCountUpClientBundle.INSTANCE.countUpJs());
+    private JsCountUpOptions options = JsCountUpOptions.create();
+    private double frameValue;
+    private double animationStart;
+    private double animationEnd;
+
+    private final FrameAnimation animation = new FrameAnimation() {
+        @Override
+        protected void onUpdate(double progress) {
+            printValue(getFrameValue(progress));
         }
-    }
-
-    private CountUp countUp;
 
-
-    private JsCountUpOptions options = JsCountUpOptions.create();
+        @Override
+        protected void onComplete() {
+            if (getCallback() != null) {
+                getCallback().call();
+            }
+        }
+    };
 
     public MaterialCountUp() {
         super(Document.get().createLabelElement());
     }
 
+    /**
+     * Count from the start value to the end value. All the count ups of the app are animated by the
+     * shared {@link gwt.material.design.addins.client.base.FrameScheduler}.
+     */
     public void start() {
-        countUp = new CountUp(getElement(), getStartValue(), getEndValue(), getDecimals(), getDuration(), options);
-        countUp.start(getCallback());
+        animationStart = getStartValue();
+        animationEnd = getEndValue();
+        printValue(animationStart);
+        animation.run(getDuration() * 1000, getElement());
     }
 
     /**
      * Toggle pause/resume
      */
     public void pauseResume() {
-        if (countUp != null) {
-            countUp.pauseResume();
+        if (animation.isPaused()) {
+            animation.resume();
+        } else {
+            animation.pause();
         }
     }
 
@@ -99,11 +110,72 @@ public class MaterialCountUp extends AbstractValueWidget<Double> {
     public void reset() {
         super.reset();
 
-        if (countUp != null) {
-            countUp.reset();
+        animation.cancel();
+        printValue(getStartValue());
+    }
+
+    /**
+     * Returns the value of the animation at the given progress, eased out exponentially
+     * and rounded to the decimals.
+     */
+    protected double getFrameValue(double progress) {
+        double value = animationEnd;
+        if (progress < 1) {
+            value = animationStart + (animationEnd - animationStart) * (-Math.pow(2, -10 * progress) + 1) * 1024 / 1023;
+            value = animationStart > animationEnd ? Math.max(value, animationEnd) : Math.min(value, animationEnd);
         }
+        double dec = Math.pow(10, Math.max(0, getDecimals()));
+        return Math.round(value * dec) / dec;
     }
 
+    protected void printValue(double value) {
+        frameValue = value;
+        String text = formatNumber(value);
+        if (!text.equals(getElement().getInnerText())) {
+            getElement().setInnerText(text);
+        }
+    }
+
+    /**
+     * Format the value with the decimals, separator, decimal symbol, prefix and suffix.
+     */
+    public String formatNumber(double value) {
+        String number = toFixed(value, (int) Math.max(0, getDecimals()));
+        int dot = number.indexOf('.');
+        String integer = dot >= 0 ? number.substring(0, dot) : number;
+        String fraction = dot >= 0 ? getDecimal() + number.substring(dot + 1) : "";
+
+        String separator = getSeparator();
+        if (separator != null && !separator.isEmpty()) {
+            int digits = integer.startsWith("-") ? 1 : 0;
+            StringBuilder grouped = new StringBuilder(integer);
+            for (int i = integer.length() - 3; i > digits; i -= 3) {
+                grouped.insert(i, separator);
+            }
+            integer = grouped.toString();
+        }
+        return nonNull(getPrefix()) + integer + fraction + nonNull(getSuffix());
+    }
+
+    /**
+     * Returns the currently displayed value.
+     */
+    public double getFrameValue() {
+        return frameValue;
+    }
+
+    public boolean isCounting() {
+        return animation.isRunning();
+    }
+
+    private static String nonNull(String value) {
+        return value != null ? value : "";
+    }
+
+    private static native String toFixed(double value, int decimals) /*-{
+        return value.toFixed(decimals);
+    }-*/;
+
     public double getStartValue() {
         return options.startValue;
     }
@@ -22,13 +22,19 @@ package gwt.material.design.addins.client.cropper;
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.event.shared.HandlerRegistration;
 import gwt.material.design.addins.client.MaterialAddins;
+import gwt.material.design.addins.client.base.js.Blob;
+import gwt.material.design.addins.client.cropper.constants.Format;
 import gwt.material.design.addins.client.cropper.constants.Shape;
+import gwt.material.design.addins.client.cropper.constants.Size;
 import gwt.material.design.addins.client.cropper.constants.Type;
 import gwt.material.design.addins.client.cropper.events.CropEvent;
 import gwt.material.design.addins.client.cropper.events.HasCropEvents;
+import gwt.material.design.addins.client.cropper.js.CropWorker;
+import gwt.material.design.addins.client.cropper.js.JsCropData;
 import gwt.material.design.addins.client.cropper.js.JsCropper;
 import gwt.material.design.addins.client.cropper.js.JsCropperDimension;
 import gwt.material.design.addins.client.cropper.js.JsCropperOptions;
+import gwt.material.design.addins.client.cropper.js.JsCropperResultOptions;
 import gwt.material.design.client.MaterialDesignBase;
 import gwt.material.design.client.base.JsLoader;
 import gwt.material.design.client.ui.MaterialImage;
@@ -75,6 +81,13 @@ public class MaterialImageCropper extends MaterialImage implements JsLoader, Has
 
     private JsCropperOptions options = JsCropperOptions.create();
     private JsCropper cropper;
+    private String boundUrl;
+    private Size resultSize = Size.VIEWPORT;
+    private Format resultFormat = Format.PNG;
+    private double resultQuality = 1;
+    private int maxResultWidth;
+    private int maxResultHeight;
+    private boolean useWorker = true;
 
     /**
      * Get the options of the cropper
@@ -121,6 +134,7 @@ public class MaterialImageCropper extends MaterialImage implements JsLoader, Has
      * Destroy the cropper instance and remove it from the DOM
      */
     public void destroy() {
+        boundUrl = null;
         if (cropper != null) {
             cropper.croppie("destroy");
         } else {
@@ -138,6 +152,10 @@ public class MaterialImageCropper extends MaterialImage implements JsLoader, Has
      * Cropped the image with given URL and result type
      */
     public void crop(String url, Type type) {
+        if (url != null && url.equals(boundUrl)) {
+            crop(type);
+            return;
+        }
         setUrl(url);
         bind(url, () -> crop(type));
     }
@@ -149,7 +167,9 @@ public class MaterialImageCropper extends MaterialImage implements JsLoader, Has
      * @param callback - Callback when the Promise has been resolved.
      */
     public void bind(String url, Functions.Func callback) {
+        boundUrl = null;
         cropper.croppie("bind", url).then((result, object) -> {
+            boundUrl = url;
             callback.call();
             return true;
         });
@@ -186,12 +206,157 @@ public class MaterialImageCropper extends MaterialImage implements JsLoader, Has
      * the Result Cropped Data.
      */
     public void crop(Type type) {
-        cropper.croppie("result", type.getName()).then((result) -> {
+        if (type == Type.BLOB) {
+            cropToBlob(blob -> CropEvent.fire(this, blob));
+            return;
+        }
+        cropper.croppie("result", getResultOptions(type)).then((result) -> {
             CropEvent.fire(this, result.toString());
             return true;
         });
     }
 
+    /**
+     * Crop the image to a {@link Blob} of the result format, sized by the result size and capped to the
+     * maximum result size. Where supported the image is decoded and resampled in a Web Worker, the decoded
+     * image is kept so cropping the same bound URL again is cheap.
+     */
+    public void cropToBlob(Functions.Func1<Blob> callback) {
+        JsCropData data = boundUrl != null && useWorker && CropWorker.isSupported()
+            ? CropWorker.getCropData(getElement()) : null;
+
+        if (data == null || data.orientation > 1 || data.points.length < 4) {
+            cropWithCroppie(callback);
+            return;
+        }
+
+        double cropWidth = data.points[2] - data.points[0];
+        double cropHeight = data.points[3] - data.points[1];
+        if (cropWidth <= 0 || cropHeight <= 0) {
+            cropWithCroppie(callback);
+            return;
+        }
+
+        double width = cropWidth;
+        double height = cropHeight;
+        if (resultSize == Size.VIEWPORT && getViewPort() != null && getViewPort().width > 0) {
+            width = getViewPort().width;
+            height = width * cropHeight / cropWidth;
+        }
+        double scale = getResultScale(width, height);
+        CropWorker.crop(boundUrl, data, (int) Math.max(1, Math.round(width * scale)),
+            (int) Math.max(1, Math.round(height * scale)), getShape() == Shape.CIRCLE,
+            "image/" + resultFormat.getName(), resultQuality, callback, () -> cropWithCroppie(callback));
+    }
+
+    protected void cropWithCroppie(Functions.Func1<Blob> callback) {
+        cropper.croppie("result", getResultOptions(Type.BLOB)).then((result) -> {
+            callback.call((Blob) result);
+            return true;
+        });
+    }
+
+    protected JsCropperResultOptions getResultOptions(Type type) {
+        JsCropperResultOptions options = JsCropperResultOptions.create(type.getName(), resultFormat.getName(), resultQuality);
+        options.size = resultSize.getName();
+        if (maxResultWidth > 0 || maxResultHeight > 0) {
+            double width = 0;
+            double height = 0;
+            if (resultSize == Size.VIEWPORT && getViewPort() != null) {
+                width = getViewPort().width;
+                height = getViewPort().height;
+            } else if (resultSize == Size.ORIGINAL && cropper != null) {
+                // The original result is the crop rectangle in image pixels
+                JsCropData data = CropWorker.getCropData(getElement());
+                if (data.points.length >= 4) {
+                    width = data.points[2] - data.points[0];
+                    height = data.points[3] - data.points[1];
+                }
+            }
+            double scale = getResultScale(width, height);
+            if (width > 0 && height > 0 && scale < 1) {
+                JsCropperDimension size = new JsCropperDimension();
+                size.width = (int) Math.max(1, Math.round(width * scale));
+                size.height = (int) Math.max(1, Math.round(height * scale));
+                options.size = size;
+            }
+        }
+        return options;
+    }
+
+    protected double getResultScale(double width, double height) {
+        double scale = 1;
+        if (maxResultWidth > 0 && width > maxResultWidth) {
+            scale = maxResultWidth / width;
+        }
+        if (maxResultHeight > 0 && height * scale > maxResultHeight) {
+            scale = maxResultHeight / height;
+        }
+        return scale;
+    }
+
+    public Size getResultSize() {
+        return resultSize;
+    }
+
+    /**
+     * The size of the cropped image, {@link Size#VIEWPORT} by default or {@link Size#ORIGINAL} for the
+     * resolution of the source image.
+     */
+    public void setResultSize(Size resultSize) {
+        this.resultSize = resultSize;
+    }
+
+    public Format getResultFormat() {
+        return resultFormat;
+    }
+
+    /**
+     * The image format of the cropped image, {@link Format#PNG} by default.
+     */
+    public void setResultFormat(Format resultFormat) {
+        this.resultFormat = resultFormat;
+    }
+
+    public double getResultQuality() {
+        return resultQuality;
+    }
+
+    /**
+     * The quality between 0 and 1 of the {@link Format#JPEG} and {@link Format#WEBP} formats.
+     */
+    public void setResultQuality(double resultQuality) {
+        this.resultQuality = resultQuality;
+    }
+
+    /**
+     * Caps the size of the cropped image, use 0 for no limit. The image is downscaled to fit while keeping
+     * its aspect ratio.
+     */
+    public void setMaxResultSize(int maxResultWidth, int maxResultHeight) {
+        this.maxResultWidth = maxResultWidth;
+        this.maxResultHeight = maxResultHeight;
+    }
+
+    public int getMaxResultWidth() {
+        return maxResultWidth;
+    }
+
+    public int getMaxResultHeight() {
+        return maxResultHeight;
+    }
+
+    public boolean isUseWorker() {
+        return useWorker;
+    }
+
+    /**
+     * Crop {@link Type#BLOB} results in a Web Worker where supported, enabled by default.
+     */
+    public void setUseWorker(boolean useWorker) {
+        this.useWorker = useWorker;
+    }
+
     public JsCropperDimension getBoundary() {
         return options.boundary;
     }
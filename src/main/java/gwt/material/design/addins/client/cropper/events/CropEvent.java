@@ -22,10 +22,12 @@ package gwt.material.design.addins.client.cropper.events;
 import com.google.gwt.event.shared.EventHandler;
 import com.google.gwt.event.shared.GwtEvent;
 import com.google.gwt.event.shared.HasHandlers;
+import gwt.material.design.addins.client.base.js.Blob;
 
 public class CropEvent extends GwtEvent<CropEvent.CropHandler> {
 
     private String result;
+    private Blob blob;
 
     public interface CropHandler extends EventHandler {
         void onCrop(CropEvent event);
@@ -37,10 +39,18 @@ public class CropEvent extends GwtEvent<CropEvent.CropHandler> {
         this.result = result;
     }
 
+    public CropEvent(Blob blob) {
+        this.blob = blob;
+    }
+
     public static void fire(HasHandlers source, String result) {
         source.fireEvent(new CropEvent(result));
     }
 
+    public static void fire(HasHandlers source, Blob blob) {
+        source.fireEvent(new CropEvent(blob));
+    }
+
     @Override
     public Type<CropEvent.CropHandler> getAssociatedType() {
         return TYPE;
@@ -58,4 +68,12 @@ public class CropEvent extends GwtEvent<CropEvent.CropHandler> {
     public void setResult(String result) {
         this.result = result;
     }
+
+    /**
+     * The cropped image of a {@link gwt.material.design.addins.client.cropper.constants.Type#BLOB} crop,
+     * the result is null in that case.
+     */
+    public Blob getBlob() {
+        return blob;
+    }
 }
\ No newline at end of file
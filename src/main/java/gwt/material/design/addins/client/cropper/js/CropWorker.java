@@ -0,0 +1,122 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.cropper.js;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.dom.client.Element;
+import gwt.material.design.addins.client.base.js.Blob;
+import gwt.material.design.jquery.client.api.Functions;
+
+/**
+ * Crops images to a {@link Blob} in a shared Web Worker using OffscreenCanvas, so decoding and
+ * resampling large photos never block the UI. The worker keeps the decoded images of the last
+ * bound URLs, repeated crops of the same image are not decoded again.
+ */
+public final class CropWorker {
+
+    private static final String SOURCE =
+        "var cache = {}, order = [], MAX = 4;" +
+        "function decode(url) {" +
+        "  if (cache[url]) { order.splice(order.indexOf(url), 1); order.push(url); return cache[url]; }" +
+        "  var bitmap = fetch(url).then(function (r) { if (!r.ok) { throw new Error(r.status); } return r.blob(); })" +
+        "    .then(function (b) { return createImageBitmap(b); });" +
+        "  cache[url] = bitmap; order.push(url);" +
+        "  bitmap['catch'](function () { if (cache[url] === bitmap) { delete cache[url]; order.splice(order.indexOf(url), 1); } });" +
+        "  while (order.length > MAX) { var old = order.shift(); cache[old].then(function (b) { b.close(); }, function () {}); delete cache[old]; }" +
+        "  return bitmap;" +
+        "}" +
+        "onmessage = function (e) {" +
+        "  var d = e.data, p = d.points;" +
+        "  decode(d.url).then(function (bitmap) {" +
+        "    var canvas = new OffscreenCanvas(d.width, d.height), ctx = canvas.getContext('2d');" +
+        "    ctx.imageSmoothingQuality = 'high';" +
+        "    if (d.circle) { ctx.beginPath(); ctx.arc(d.width / 2, d.height / 2, d.width / 2, 0, 2 * Math.PI); ctx.closePath(); ctx.clip(); }" +
+        "    ctx.drawImage(bitmap, p[0], p[1], p[2] - p[0], p[3] - p[1], 0, 0, d.width, d.height);" +
+        "    return canvas.convertToBlob({type: d.type, quality: d.quality});" +
+        "  }).then(function (blob) { postMessage({id: d.id, blob: blob}); }," +
+        "    function (error) { postMessage({id: d.id, error: String(error)}); });" +
+        "};";
+
+    private static JavaScriptObject state;
+
+    private CropWorker() {}
+
+    /**
+     * Returns true if the browser can crop in a worker.
+     */
+    public static native boolean isSupported() /*-{
+        return !!($wnd.Worker && $wnd.OffscreenCanvas && $wnd.createImageBitmap && $wnd.fetch && $wnd.Blob && $wnd.URL);
+    }-*/;
+
+    /**
+     * Returns the crop of the cropper bound to the element, with numeric points. The points are empty
+     * while no image is bound.
+     */
+    public static native JsCropData getCropData(Element element) /*-{
+        var data = $wnd.jQuery(element).croppie('get');
+        var points = [];
+        for (var i = 0; data.points && i < data.points.length; i++) {
+            points.push(Number(data.points[i]));
+        }
+        return {points: points, zoom: data.zoom, orientation: data.orientation || 1};
+    }-*/;
+
+    /**
+     * Crop the points of the image at the url to a Blob of the given size. The failure callback is called
+     * when the image can not be loaded from the worker, i.e. cross origin images.
+     */
+    public static void crop(String url, JsCropData data, int width, int height, boolean circle, String type,
+                            double quality, Functions.Func1<Blob> callback, Functions.Func failure) {
+        post(SOURCE, url, data.points, width, height, circle, type, quality, callback, failure);
+    }
+
+    private static native void post(String source, String url, double[] points, int width, int height, boolean circle,
+                                    String type, double quality, Functions.Func1<Blob> callback,
+                                    Functions.Func failure) /*-{
+        var state = @gwt.material.design.addins.client.cropper.js.CropWorker::state;
+        if (!state) {
+            var workerUrl = $wnd.URL.createObjectURL(new $wnd.Blob([source], {type: 'application/javascript'}));
+            state = @gwt.material.design.addins.client.cropper.js.CropWorker::state = {worker: new $wnd.Worker(workerUrl), nextId: 0, pending: {}};
+            state.worker.onmessage = $entry(function (e) {
+                var request = state.pending[e.data.id];
+                delete state.pending[e.data.id];
+                if (request) {
+                    if (e.data.blob) {
+                        request.callback(e.data.blob);
+                    } else {
+                        request.failure();
+                    }
+                }
+            });
+        }
+        var id = state.nextId++;
+        state.pending[id] = {callback: callback, failure: failure};
+        state.worker.postMessage({
+            id: id,
+            url: new $wnd.URL(url, $doc.baseURI).href,
+            points: points,
+            width: width,
+            height: height,
+            circle: circle,
+            type: type,
+            quality: quality
+        });
+    }-*/;
+}
@@ -2,7 +2,7 @@
  * #%L
  * GwtMaterial
  * %%
- * Copyright (C) 2015 - 2016 GwtMaterialDesign
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
  * %%
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,30 +17,30 @@
  * limitations under the License.
  * #L%
  */
-package gwt.material.design.addins.client.countup.js;
+package gwt.material.design.addins.client.cropper.js;
 
-import com.google.gwt.dom.client.Element;
-import gwt.material.design.jquery.client.api.Functions;
 import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsProperty;
 import jsinterop.annotations.JsType;
 
 /**
- * JSInterop utils for CountUp component
- *
- * @author kevzlou7979
+ * The current crop of the cropper, see {@link CropWorker#getCropData(com.google.gwt.dom.client.Element)}.
  */
-@JsType(isNative = true, namespace = JsPackage.GLOBAL)
-public class CountUp {
+@JsType(isNative = true, name = "Object", namespace = JsPackage.GLOBAL)
+public class JsCropData {
 
-    public CountUp(Element target, double startVal, double endVal) {
-    }
+    /**
+     * The crop rectangle in image pixels, [left, top, right, bottom].
+     */
+    @JsProperty
+    public double[] points;
 
-    public CountUp(Element target, double startVal, double endVal, double decimals, double duration, JsCountUpOptions options) {
-    }
+    @JsProperty
+    public double zoom;
 
-    public native void start(Functions.Func callback);
-
-    public native void pauseResume();
-
-    public native void reset();
+    /**
+     * The EXIF orientation applied to the image, 1 when not rotated.
+     */
+    @JsProperty
+    public int orientation;
 }
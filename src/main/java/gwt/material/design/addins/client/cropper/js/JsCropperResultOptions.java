@@ -0,0 +1,68 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.cropper.js;
+
+import jsinterop.annotations.JsOverlay;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+
+/**
+ * Options of the Croppie result call.
+ */
+@JsType(isNative = true, name = "Object", namespace = JsPackage.GLOBAL)
+public class JsCropperResultOptions {
+
+    private JsCropperResultOptions() {}
+
+    @JsOverlay
+    public static final JsCropperResultOptions create(String type, String format, double quality) {
+        JsCropperResultOptions options = new JsCropperResultOptions();
+        options.type = type;
+        options.format = format;
+        options.quality = quality;
+        options.size = "viewport";
+        return options;
+    }
+
+    /**
+     * The type of result, "base64", "html", "blob", "canvas" or "rawcanvas".
+     */
+    @JsProperty
+    public String type;
+
+    /**
+     * Either "viewport", "original" or a {@link JsCropperDimension} of the result.
+     */
+    @JsProperty
+    public Object size;
+
+    /**
+     * The image format, "png", "jpeg" or "webp".
+     */
+    @JsProperty
+    public String format;
+
+    /**
+     * The image quality between 0 and 1.
+     */
+    @JsProperty
+    public double quality;
+}
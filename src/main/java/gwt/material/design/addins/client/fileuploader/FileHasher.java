@@ -0,0 +1,108 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.fileuploader;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import gwt.material.design.addins.client.fileuploader.js.File;
+import gwt.material.design.jquery.client.api.Functions;
+
+/**
+ * Computes the SHA-256 digest of the files added to a {@link MaterialFileUploader}.
+ * <p>
+ * The hashing runs in a single Web Worker shared by all uploaders, which reads the file in
+ * slices of {@link #getChunkSize()} bytes so multi-GB files are never buffered as a whole.
+ * When workers are not available the digest is reported as {@code null}.
+ */
+public class FileHasher {
+
+    private static JavaScriptObject worker;
+    private static boolean workerCreated;
+
+    private int chunkSize = 4 * 1024 * 1024;
+
+    /**
+     * Will compute the hex encoded digest of what will be sent for the provided file,
+     * i.e its processed blob if an {@link gwt.material.design.addins.client.fileuploader.base.ImagePreprocessor}
+     * has downscaled it.
+     */
+    public void hash(File file, Functions.Func1<String> callback) {
+        JavaScriptObject hasherWorker = getWorker();
+        if (hasherWorker != null) {
+            post(hasherWorker, file.processedBlob != null ? file.processedBlob : file, chunkSize, callback);
+        } else {
+            callback.call(null);
+        }
+    }
+
+    protected static JavaScriptObject getWorker() {
+        if (!workerCreated) {
+            workerCreated = true;
+            worker = createWorker(MaterialFileUploaderClientBundle.INSTANCE.fileHasherJs().getText());
+        }
+        return worker;
+    }
+
+    protected static native JavaScriptObject createWorker(String source) /*-{
+        if (!$wnd.Worker || !$wnd.Blob || !$wnd.URL) {
+            return null;
+        }
+        try {
+            var url = $wnd.URL.createObjectURL(new $wnd.Blob([source], {type: "application/javascript"}));
+            var worker = new $wnd.Worker(url);
+            worker.callbacks = {};
+            worker.nextId = 0;
+            worker.onmessage = $entry(function (event) {
+                var callback = worker.callbacks[event.data.id];
+                delete worker.callbacks[event.data.id];
+                if (callback) {
+                    callback(event.data.digest || null);
+                }
+            });
+            worker.onerror = $entry(function () {
+                var callbacks = worker.callbacks;
+                worker.callbacks = {};
+                for (var id in callbacks) {
+                    callbacks[id](null);
+                }
+            });
+            return worker;
+        } catch (e) {
+            return null;
+        }
+    }-*/;
+
+    protected static native void post(JavaScriptObject worker, Object blob, int chunkSize,
+                                       Functions.Func1<String> callback) /*-{
+        var id = worker.nextId++;
+        worker.callbacks[id] = callback;
+        worker.postMessage({id: id, blob: blob, chunkSize: chunkSize});
+    }-*/;
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Set the size in bytes of the slices read by the worker, default 4MB.
+     */
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+}
@@ -22,12 +22,13 @@ package gwt.material.design.addins.client.fileuploader;
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.dom.client.Document;
 import com.google.gwt.dom.client.Element;
-import com.google.gwt.dom.client.Style;
 import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.user.client.DOM;
 import gwt.material.design.addins.client.MaterialAddins;
 import gwt.material.design.addins.client.base.constants.AddinsCssName;
 import gwt.material.design.addins.client.fileuploader.base.HasFileUpload;
+import gwt.material.design.addins.client.fileuploader.base.ImagePreprocessor;
+import gwt.material.design.addins.client.fileuploader.base.PreSendHandler;
 import gwt.material.design.addins.client.fileuploader.base.UploadFile;
 import gwt.material.design.addins.client.fileuploader.base.UploadResponse;
 import gwt.material.design.addins.client.fileuploader.constants.FileMethod;
@@ -44,6 +45,7 @@ import gwt.material.design.client.constants.CssName;
 import gwt.material.design.client.constants.Display;
 import gwt.material.design.client.events.*;
 import gwt.material.design.client.ui.MaterialToast;
+import gwt.material.design.jquery.client.api.Functions;
 import gwt.material.design.jquery.client.api.JQueryElement;
 
 import java.util.Date;
@@ -89,10 +91,17 @@ public class MaterialFileUploader extends MaterialWidget implements JsLoader, Ha
 
     private boolean preview = true;
     private boolean enabled = true;
+    private boolean virtualPreview;
 
     private int totalFiles = 0;
     private Object globalResponse;
     private Dropzone uploader;
+    private ImagePreprocessor imagePreprocessor;
+    private UploadQueue uploadQueue;
+    private VirtualPreviewList virtualPreviewList;
+    private FileHasher fileHasher;
+    private PreSendHandler preSendHandler;
+    private UploadProgressPipeline progressPipeline = new UploadProgressPipeline(this);
     private MaterialUploadPreview uploadPreview = new MaterialUploadPreview();
     private JsFileUploaderOptions options = new JsFileUploaderOptions();
 
@@ -163,6 +172,14 @@ public class MaterialFileUploader extends MaterialWidget implements JsLoader, Ha
 
     @Override
     public void unload() {
+        progressPipeline.clear();
+        if (uploadQueue != null) {
+            uploadQueue.detach();
+        }
+        if (virtualPreviewList != null) {
+            virtualPreviewList.detach();
+            virtualPreviewList = null;
+        }
         if (uploader != null) {
             uploader.destroy();
         }
@@ -185,7 +202,30 @@ public class MaterialFileUploader extends MaterialWidget implements JsLoader, Ha
         String previewTemplate = previewNode.parent().html();
         options.previewTemplate = previewTemplate;
         options.previewsContainer = "#" + previews;
+        // Progress bars are written by the progress pipeline once per animation frame
+        options.uploadprogress = () -> {};
+        if (virtualPreview) {
+            virtualPreviewList = new VirtualPreviewList(uploadPreview, previewTemplate);
+            virtualPreviewList.configure(options);
+        }
+        if (imagePreprocessor != null || uploadQueue != null || fileHasher != null || preSendHandler != null) {
+            options.accept = this::acceptFile;
+        }
+        if (uploadQueue != null) {
+            // The upload queue decides when each accepted file is sent
+            options.autoQueue = false;
+            options.autoProcessQueue = false;
+        }
         uploader = new Dropzone(e, options);
+        if (imagePreprocessor != null) {
+            imagePreprocessor.attach(uploader);
+        }
+        if (uploadQueue != null) {
+            uploadQueue.attach(this, uploader);
+        }
+        if (virtualPreviewList != null) {
+            virtualPreviewList.attach(uploader);
+        }
 
         uploader.on(FileUploaderEvents.DROP, event -> {
             fireDropEvent();
@@ -229,22 +269,17 @@ public class MaterialFileUploader extends MaterialWidget implements JsLoader, Ha
         uploader.on(FileUploaderEvents.ADDED_FILE, file -> {
             AddedFileEvent.fire(this, convertUploadFile(file));
             totalFiles++;
-
-            if (isPreview()) {
-                $(uploadedFiles).html("Uploaded files " + totalFiles);
-                getUploadPreview().getUploadHeader().getProgress().setPercent(0);
-                getUploadPreview().setVisibility(Style.Visibility.VISIBLE);
-            }
+            progressPipeline.updateFileCount(totalFiles, true);
         });
 
         uploader.on(FileUploaderEvents.REMOVED_FILE, file -> {
+            progressPipeline.release(file);
+            if (uploadQueue != null) {
+                uploadQueue.remove(file);
+            }
             RemovedFileEvent.fire(this, convertUploadFile(file));
             totalFiles -= 1;
-            $(uploadedFiles).html("Uploaded files " + totalFiles);
-
-            if (totalFiles == 0 && isPreview()) {
-                getUploadPreview().setVisibility(Style.Visibility.HIDDEN);
-            }
+            progressPipeline.updateFileCount(totalFiles, false);
         });
 
         uploader.on("error", (file, response) -> {
@@ -256,6 +291,10 @@ public class MaterialFileUploader extends MaterialWidget implements JsLoader, Ha
                 statusText = file.xhr.statusText;
             }
 
+            if (uploadQueue != null && uploadQueue.retry(file, code)) {
+                return;
+            }
+
             String body = "";
 
             if (response instanceof String) {
@@ -285,38 +324,42 @@ public class MaterialFileUploader extends MaterialWidget implements JsLoader, Ha
         });
 
         uploader.on(FileUploaderEvents.TOTAL_UPLOAD_PROGRESS, (progress, file, response) -> {
-            TotalUploadProgressEvent.fire(this, progress);
-            if (isPreview()) {
-                getUploadPreview().getUploadHeader().getProgress().setPercent(progress);
-            }
+            progressPipeline.updateTotal(progress);
         });
 
-        uploader.on(FileUploaderEvents.UPLOAD_PROGRESS, (progress, file, response) -> {
-            CurrentUploadProgressEvent.fire(this, progress);
-            if ($this != null) {
-                $this.find(".progress .determinate").css("width", progress + "%");
+        uploader.on(FileUploaderEvents.UPLOAD_PROGRESS, (file, progress) -> {
+            progressPipeline.updateFile(file, (Double) progress);
+            if (uploadQueue != null) {
+                uploadQueue.progress();
             }
         });
 
         uploader.on(FileUploaderEvents.SENDING, file -> {
-            SendingEvent.fire(this, convertUploadFile(file),
-                    new UploadResponse(file.xhr.status, file.xhr.statusText));
+            SendingEvent.fire(this, convertUploadFile(file), createResponse(file, null));
         });
 
         uploader.on(FileUploaderEvents.SUCCESS, (file, response) -> {
             globalResponse = response;
             String message = getResponseMessage(response);
-            SuccessEvent.fire(this, convertUploadFile(file),
-                    new UploadResponse(file.xhr.status, file.xhr.statusText, message));
+            SuccessEvent.fire(this, convertUploadFile(file), createResponse(file, message));
         });
 
         uploader.on(FileUploaderEvents.COMPLETE, file -> {
+            if (uploadQueue != null) {
+                if (uploadQueue.isRetrying(file)) {
+                    clearError(file);
+                    return;
+                }
+                uploadQueue.complete(file);
+            }
             String message = getResponseMessage(globalResponse);
-            CompleteEvent.fire(this, convertUploadFile(file),
-                    new UploadResponse(file.xhr.status, file.xhr.statusText, message));
+            CompleteEvent.fire(this, convertUploadFile(file), createResponse(file, message));
         });
 
         uploader.on(FileUploaderEvents.CANCELED, file -> {
+            if (uploadQueue != null) {
+                uploadQueue.remove(file);
+            }
             CanceledEvent.fire(this, convertUploadFile(file));
         });
 
@@ -330,6 +373,96 @@ public class MaterialFileUploader extends MaterialWidget implements JsLoader, Ha
         });
     }
 
+    /**
+     * Runs the optional preprocessing, hashing and pre-send stages of a file before handing it
+     * to the upload queue.
+     */
+    protected void acceptFile(File file, Functions.Func1<String> done) {
+        Functions.Func1<String> accepted = error -> {
+            done.call(error);
+            if (error == null && uploadQueue != null) {
+                uploadQueue.offer(file);
+            }
+        };
+
+        Functions.Func1<String> hashed = digest -> {
+            file.digest = digest;
+            if (preSendHandler == null) {
+                accepted.call(null);
+                return;
+            }
+            preSendHandler.onPreSend(convertUploadFile(file), new PreSendHandler.Callback() {
+                @Override
+                public void send() {
+                    accepted.call(null);
+                }
+
+                @Override
+                public void skip() {
+                    skipFile(file, done);
+                }
+
+                @Override
+                public void reject(String message) {
+                    accepted.call(message);
+                }
+            });
+        };
+
+        Functions.Func1<String> processed = error -> {
+            if (error != null) {
+                accepted.call(error);
+            } else if (fileHasher != null) {
+                fileHasher.hash(file, hashed);
+            } else {
+                hashed.call(null);
+            }
+        };
+
+        if (imagePreprocessor != null) {
+            imagePreprocessor.process(file, processed);
+        } else {
+            processed.call(null);
+        }
+    }
+
+    /**
+     * Will report the provided file as uploaded without sending it. The file is accepted first so dropzone
+     * updates its own state, i.e the max files reached class, then it is finished as a successful upload.
+     */
+    protected void skipFile(File file, Functions.Func1<String> done) {
+        done.call(null);
+        if (uploadQueue != null) {
+            uploadQueue.skip(file);
+        }
+        finishFile(file);
+    }
+
+    /**
+     * Will report the provided file to dropzone as successfully uploaded, firing its success and complete events.
+     */
+    protected void finishFile(File file) {
+        uploader.finished(new File[]{file}, "", null);
+    }
+
+    /**
+     * Will remove the error state dropzone set on the preview of a file scheduled for a retry.
+     */
+    protected void clearError(File file) {
+        if (file.previewElement != null) {
+            JQueryElement preview = $(file.previewElement);
+            preview.removeClass(AddinsCssName.DZ_ERROR + " " + AddinsCssName.DZ_COMPLETE);
+            preview.find("[data-dz-errormessage]").text("");
+        }
+    }
+
+    protected UploadResponse createResponse(File file, String message) {
+        if (file.xhr != null) {
+            return new UploadResponse(file.xhr.status, file.xhr.statusText, message);
+        }
+        return new UploadResponse(0, "", message);
+    }
+
     private String getResponseMessage(Object response) {
         String message = null;
         if (response != null) {
@@ -371,7 +504,11 @@ public class MaterialFileUploader extends MaterialWidget implements JsLoader, Ha
         if (file.lastModifiedDate != null && !file.lastModifiedDate.isEmpty()) {
             lastModifiedDate = new Date(file.lastModifiedDate);
         }
-        return new UploadFile(file.name, lastModifiedDate, Double.parseDouble(file.size), file.type);
+        double size = Double.parseDouble(file.size);
+        double sentSize = file.processedBlob != null ? file.processedBlob.size : size;
+        UploadFile uploadFile = new UploadFile(file.name, lastModifiedDate, size, file.type, sentSize);
+        uploadFile.setDigest(file.digest);
+        return uploadFile;
     }
 
     /**
@@ -523,6 +660,92 @@ public class MaterialFileUploader extends MaterialWidget implements JsLoader, Ha
         this.preview = preview;
     }
 
+    public boolean isVirtualPreview() {
+        return virtualPreview;
+    }
+
+    /**
+     * Set whether the preview collection only renders the rows visible in its viewport, with lazily
+     * generated thumbnails. Recommended when thousands of files may be added at once,
+     * must be set before the uploader is attached.
+     */
+    public void setVirtualPreview(boolean virtualPreview) {
+        this.virtualPreview = virtualPreview;
+    }
+
+    /**
+     * Get the virtualized preview list, only available while attached with {@link #setVirtualPreview(boolean)} enabled.
+     */
+    public VirtualPreviewList getVirtualPreviewList() {
+        return virtualPreviewList;
+    }
+
+    public ImagePreprocessor getImagePreprocessor() {
+        return imagePreprocessor;
+    }
+
+    /**
+     * Set an {@link ImagePreprocessor} that will downscale and re-encode images before they
+     * are queued for upload, must be set before the uploader is attached.
+     */
+    public void setImagePreprocessor(ImagePreprocessor imagePreprocessor) {
+        this.imagePreprocessor = imagePreprocessor;
+    }
+
+    public UploadQueue getUploadQueue() {
+        return uploadQueue;
+    }
+
+    /**
+     * Set an {@link UploadQueue} that controls the number of parallel uploads, their order and
+     * retries. When set, the autoQueue and autoProcessQueue options are managed by the queue,
+     * must be set before the uploader is attached.
+     */
+    public void setUploadQueue(UploadQueue uploadQueue) {
+        this.uploadQueue = uploadQueue;
+    }
+
+    public FileHasher getFileHasher() {
+        return fileHasher;
+    }
+
+    /**
+     * Set a {@link FileHasher} that computes the SHA-256 digest of every added file in a Web Worker,
+     * available through {@link UploadFile#getDigest()}, must be set before the uploader is attached.
+     */
+    public void setFileHasher(FileHasher fileHasher) {
+        this.fileHasher = fileHasher;
+    }
+
+    public PreSendHandler getPreSendHandler() {
+        return preSendHandler;
+    }
+
+    /**
+     * Set a {@link PreSendHandler} that decides whether each accepted file is sent, skipped
+     * (e.g. when the server already has its digest) or rejected, must be set before the uploader is attached.
+     */
+    public void setPreSendHandler(PreSendHandler preSendHandler) {
+        this.preSendHandler = preSendHandler;
+    }
+
+    public int getProgressEventInterval() {
+        return progressPipeline.getEventInterval();
+    }
+
+    /**
+     * Set the minimum interval (in milliseconds) between the fired {@link CurrentUploadProgressEvent}
+     * and {@link TotalUploadProgressEvent}. Progress bars are always updated once per animation frame,
+     * default 0.
+     */
+    public void setProgressEventInterval(int progressEventInterval) {
+        progressPipeline.setEventInterval(progressEventInterval);
+    }
+
+    public UploadProgressPipeline getProgressPipeline() {
+        return progressPipeline;
+    }
+
     public void reset() {
         uploader.removeAllFiles();
     }
@@ -707,6 +930,17 @@ public class MaterialFileUploader extends MaterialWidget implements JsLoader, Ha
         }, CurrentUploadProgressEvent.TYPE);
     }
 
+    /**
+     * Called whenever the state of the {@link UploadQueue} changes, and periodically while uploading.
+     */
+    public HandlerRegistration addUploadQueueHandler(UploadQueueEvent.UploadQueueHandler handler) {
+        return addHandler(event -> {
+            if (isEnabled()) {
+                handler.onUploadQueue(event);
+            }
+        }, UploadQueueEvent.TYPE);
+    }
+
     @Override
     public HandlerRegistration addSendingHandler(final SendingEvent.SendingHandler<UploadFile> handler) {
         return addHandler(new SendingEvent.SendingHandler<UploadFile>() {
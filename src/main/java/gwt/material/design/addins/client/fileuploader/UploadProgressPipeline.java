@@ -0,0 +1,244 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.fileuploader;
+
+import com.google.gwt.animation.client.AnimationScheduler;
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.Style;
+import com.google.gwt.user.client.Timer;
+import gwt.material.design.addins.client.fileuploader.events.CurrentUploadProgressEvent;
+import gwt.material.design.addins.client.fileuploader.events.TotalUploadProgressEvent;
+import gwt.material.design.addins.client.fileuploader.js.File;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static gwt.material.design.jquery.client.api.JQuery.$;
+
+/**
+ * Coalesces the upload progress callbacks of dropzone so that the progress bars and the file
+ * counter are written at most once per animation frame, keeping only the latest value of every file.
+ * The {@link CurrentUploadProgressEvent} and {@link TotalUploadProgressEvent} are fired
+ * from the same frame, no more often than the configured {@link #setEventInterval(int) event interval}.
+ * <p>
+ * Browsers pause animation frames while the tab is hidden, so the updates of a hidden tab are flushed
+ * on a {@link #HIDDEN_FLUSH_DELAY} timer instead and the progress events keep flowing.
+ */
+public class UploadProgressPipeline {
+
+    /**
+     * The delay in milliseconds between the flushes while the document is hidden.
+     */
+    public static final int HIDDEN_FLUSH_DELAY = 250;
+
+    private final MaterialFileUploader uploader;
+    private final Map<File, Double> pendingFiles = new LinkedHashMap<>();
+    private final Map<File, Double> pendingFileEvents = new LinkedHashMap<>();
+    private final Map<File, Element> progressElements = new HashMap<>();
+    private Integer pendingFileCount;
+    private boolean pendingFileAdded;
+    private Double pendingTotal;
+    private Double pendingTotalEvent;
+    private int eventInterval;
+    private double lastEventTime;
+    private AnimationScheduler.AnimationHandle frame;
+    private Timer timer;
+
+    public UploadProgressPipeline(MaterialFileUploader uploader) {
+        this.uploader = uploader;
+    }
+
+    /**
+     * Will record the latest upload progress (0-100) of the provided file.
+     */
+    public void updateFile(File file, double progress) {
+        pendingFiles.put(file, progress);
+        pendingFileEvents.put(file, progress);
+        requestFrame();
+    }
+
+    /**
+     * Will record the latest total upload progress (0-100) of all files.
+     */
+    public void updateTotal(double progress) {
+        pendingTotal = progress;
+        pendingTotalEvent = progress;
+        requestFrame();
+    }
+
+    /**
+     * Will record the latest number of files of the uploader, {@code added} tells whether
+     * a file was added since the last frame.
+     */
+    public void updateFileCount(int count, boolean added) {
+        pendingFileCount = count;
+        pendingFileAdded |= added;
+        requestFrame();
+    }
+
+    /**
+     * Will forget the cached progress element of the provided file.
+     */
+    public void release(File file) {
+        pendingFiles.remove(file);
+        pendingFileEvents.remove(file);
+        progressElements.remove(file);
+    }
+
+    /**
+     * Will cancel any pending frame and clear all the cached values.
+     */
+    public void clear() {
+        if (frame != null) {
+            frame.cancel();
+            frame = null;
+        }
+        if (timer != null) {
+            timer.cancel();
+            timer = null;
+        }
+        pendingFiles.clear();
+        pendingFileEvents.clear();
+        progressElements.clear();
+        pendingFileCount = null;
+        pendingFileAdded = false;
+        pendingTotal = null;
+        pendingTotalEvent = null;
+    }
+
+    protected void requestFrame() {
+        if (isDocumentHidden()) {
+            // A pending frame would only run once the tab is visible again
+            if (frame != null) {
+                frame.cancel();
+                frame = null;
+            }
+            if (timer == null) {
+                timer = new Timer() {
+                    @Override
+                    public void run() {
+                        timer = null;
+                        flush();
+                    }
+                };
+                timer.schedule(HIDDEN_FLUSH_DELAY);
+            }
+        } else if (frame == null && timer == null) {
+            frame = AnimationScheduler.get().requestAnimationFrame(timestamp -> {
+                frame = null;
+                flush();
+            });
+        }
+    }
+
+    protected native boolean isDocumentHidden() /*-{
+        return !!$doc.hidden;
+    }-*/;
+
+    protected void flush() {
+        for (Map.Entry<File, Double> entry : pendingFiles.entrySet()) {
+            Element element = getProgressElement(entry.getKey());
+            if (element != null) {
+                writeProgress(element, entry.getValue());
+            }
+        }
+        pendingFiles.clear();
+
+        if (pendingFileCount != null) {
+            MaterialUploadPreview preview = uploader.getUploadPreview();
+            preview.getUploadHeader().getUploadedFiles().getElement().setInnerHTML("Uploaded files " + pendingFileCount);
+            if (uploader.isPreview()) {
+                if (pendingFileAdded) {
+                    preview.getUploadHeader().getProgress().setPercent(0);
+                    preview.setVisibility(Style.Visibility.VISIBLE);
+                } else if (pendingFileCount == 0) {
+                    preview.setVisibility(Style.Visibility.HIDDEN);
+                }
+            }
+            pendingFileCount = null;
+            pendingFileAdded = false;
+        }
+
+        if (pendingTotal != null) {
+            if (uploader.isPreview()) {
+                uploader.getUploadPreview().getUploadHeader().getProgress().setPercent(pendingTotal);
+            }
+            pendingTotal = null;
+        }
+
+        double now = Duration.currentTimeMillis();
+        if (now - lastEventTime >= eventInterval) {
+            lastEventTime = now;
+            for (Double progress : pendingFileEvents.values()) {
+                CurrentUploadProgressEvent.fire(uploader, progress);
+            }
+            pendingFileEvents.clear();
+
+            if (pendingTotalEvent != null) {
+                TotalUploadProgressEvent.fire(uploader, pendingTotalEvent);
+                pendingTotalEvent = null;
+            }
+        } else if (!pendingFileEvents.isEmpty() || pendingTotalEvent != null) {
+            // Keep the trailing values so the final progress is never lost
+            requestFrame();
+        }
+    }
+
+    protected void writeProgress(Element element, double progress) {
+        element.getStyle().setProperty("width", progress + "%");
+    }
+
+    /**
+     * Returns the progress element of the file's current preview, or null if the file has no
+     * preview, i.e it is scrolled out of a virtual preview list. The cached element is dropped
+     * once its preview row was recycled for another file.
+     */
+    protected Element getProgressElement(File file) {
+        Element preview = file.previewElement;
+        if (preview == null) {
+            progressElements.remove(file);
+            return null;
+        }
+        Element element = progressElements.get(file);
+        if (element == null || !preview.isOrHasChild(element)) {
+            element = $(preview).find("[data-dz-uploadprogress]").asElement();
+            if (element != null) {
+                progressElements.put(file, element);
+            } else {
+                progressElements.remove(file);
+            }
+        }
+        return element;
+    }
+
+    public int getEventInterval() {
+        return eventInterval;
+    }
+
+    /**
+     * Set the minimum interval (in milliseconds) between fired progress events, default 0 which
+     * fires at most once per animation frame.
+     */
+    public void setEventInterval(int eventInterval) {
+        this.eventInterval = eventInterval;
+    }
+}
@@ -0,0 +1,391 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.fileuploader;
+
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.user.client.Timer;
+import gwt.material.design.addins.client.fileuploader.base.UploadFile;
+import gwt.material.design.addins.client.fileuploader.base.UploadQueueMetrics;
+import gwt.material.design.addins.client.fileuploader.constants.UploadPriority;
+import gwt.material.design.addins.client.fileuploader.events.UploadQueueEvent;
+import gwt.material.design.addins.client.fileuploader.js.Dropzone;
+import gwt.material.design.addins.client.fileuploader.js.File;
+
+import java.util.*;
+
+//@formatter:off
+
+/**
+ * Java side upload scheduler for {@link MaterialFileUploader}. Once attached it takes over the
+ * dropzone queue: accepted files are kept in a priority queue and at most {@link #getMaxInFlight()}
+ * of them are sent at the same time. Files failing with a 5xx status are retried with an
+ * exponential backoff and the state of the queue is reported through {@link UploadQueueEvent}.
+ * <p>
+ * <h3>Usage:</h3>
+ * <pre>
+ * {@code
+ * UploadQueue queue = new UploadQueue(4, UploadPriority.SMALLEST_FIRST);
+ * uploader.setUploadQueue(queue);
+ * uploader.addUploadQueueHandler(event -> status.setText(event.getMetrics().getPending() + " pending"));
+ * }
+ * </pre>
+ */
+//@formatter:on
+public class UploadQueue {
+
+    private static final String STATUS_QUEUED = "queued";
+    private static final String STATUS_SUCCESS = "success";
+
+    private int maxInFlight = 2;
+    private int maxRetries = 3;
+    private int retryDelay = 1000;
+    private int maxRetryDelay = 30000;
+    private int metricsInterval = 500;
+    private boolean paused;
+    private UploadPriority priority = UploadPriority.FIFO;
+    private Comparator<UploadFile> comparator;
+
+    private int sequence;
+    private int completed;
+    private int failed;
+    private int skipped;
+    private double completedBytes;
+    private double sessionStart;
+    private double lastMetricsTime;
+    private PriorityQueue<Entry> pending = new PriorityQueue<>(11, createComparator());
+    private Map<File, Entry> inFlight = new LinkedHashMap<>();
+    private Map<File, Entry> retrying = new HashMap<>();
+    private MaterialFileUploader uploader;
+    private Dropzone dropzone;
+
+    public UploadQueue() {
+    }
+
+    public UploadQueue(int maxInFlight, UploadPriority priority) {
+        setMaxInFlight(maxInFlight);
+        setPriority(priority);
+    }
+
+    /**
+     * Will bind this queue to the uploader and its dropzone instance.
+     */
+    protected void attach(MaterialFileUploader uploader, Dropzone dropzone) {
+        this.uploader = uploader;
+        this.dropzone = dropzone;
+    }
+
+    /**
+     * Will cancel all pending retries and forget every queued file.
+     */
+    protected void detach() {
+        for (Entry entry : retrying.values()) {
+            entry.timer.cancel();
+        }
+        pending.clear();
+        inFlight.clear();
+        retrying.clear();
+        uploader = null;
+        dropzone = null;
+    }
+
+    /**
+     * Will add an accepted file to the queue.
+     */
+    public void offer(File file) {
+        if (uploader == null) {
+            return;
+        }
+        UploadFile uploadFile = uploader.convertUploadFile(file);
+        pending.add(new Entry(file, uploadFile, sequence++));
+        dispatch();
+        fireMetrics(true);
+    }
+
+    /**
+     * Called when an accepted file was reported as uploaded without being sent.
+     */
+    public void skip(File file) {
+        skipped++;
+        fireMetrics(true);
+    }
+
+    /**
+     * Will stop sending pending files, uploads already in flight are completed.
+     */
+    public void pause() {
+        paused = true;
+        fireMetrics(true);
+    }
+
+    /**
+     * Will continue sending the pending files.
+     */
+    public void resume() {
+        paused = false;
+        dispatch();
+        fireMetrics(true);
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Called when the upload of the provided file failed. Returns true if it was scheduled for a retry.
+     */
+    public boolean retry(File file, int status) {
+        Entry entry = inFlight.get(file);
+        if (entry == null || status < 500 || entry.attempts >= maxRetries) {
+            return false;
+        }
+
+        inFlight.remove(file);
+        entry.attempts++;
+        int delay = getBackoffDelay(entry.attempts);
+        entry.timer = new Timer() {
+            @Override
+            public void run() {
+                retrying.remove(file);
+                pending.add(entry);
+                dispatch();
+                fireMetrics(true);
+            }
+        };
+        retrying.put(file, entry);
+        entry.timer.schedule(delay);
+
+        dispatch();
+        fireMetrics(true);
+        return true;
+    }
+
+    public boolean isRetrying(File file) {
+        return retrying.containsKey(file);
+    }
+
+    /**
+     * Get the backoff delay (in milliseconds) before the given retry attempt, starting at 1.
+     */
+    public int getBackoffDelay(int attempt) {
+        return (int) Math.min(maxRetryDelay, retryDelay * Math.pow(2, attempt - 1));
+    }
+
+    /**
+     * Called when the upload of the provided file has finished, either successfully or not.
+     */
+    public void complete(File file) {
+        Entry entry = inFlight.remove(file);
+        if (entry != null) {
+            if (STATUS_SUCCESS.equals(file.status)) {
+                completed++;
+                completedBytes += entry.uploadFile.getSentSize();
+            } else {
+                failed++;
+            }
+            dispatch();
+            fireMetrics(true);
+        }
+    }
+
+    /**
+     * Called when the provided file was canceled or removed from the uploader.
+     */
+    public void remove(File file) {
+        boolean removed = pending.removeIf(entry -> entry.file == file);
+        removed |= inFlight.remove(file) != null;
+        Entry retry = retrying.remove(file);
+        if (retry != null) {
+            retry.timer.cancel();
+            removed = true;
+        }
+        if (removed) {
+            dispatch();
+            fireMetrics(true);
+        }
+    }
+
+    /**
+     * Called whenever the upload progress of an in flight file changes.
+     */
+    public void progress() {
+        fireMetrics(false);
+    }
+
+    protected void dispatch() {
+        while (!paused && uploader != null && inFlight.size() < maxInFlight && !pending.isEmpty()) {
+            if (inFlight.isEmpty() && retrying.isEmpty()) {
+                sessionStart = Duration.currentTimeMillis();
+                completedBytes = 0;
+            }
+            Entry entry = pending.poll();
+            inFlight.put(entry.file, entry);
+            entry.file.status = STATUS_QUEUED;
+            send(entry.file);
+        }
+    }
+
+    /**
+     * Will hand the provided file to dropzone for upload.
+     */
+    protected void send(File file) {
+        dropzone.processFile(file);
+    }
+
+    protected void fireMetrics(boolean force) {
+        if (uploader == null) {
+            return;
+        }
+        double now = Duration.currentTimeMillis();
+        if (force || now - lastMetricsTime >= metricsInterval) {
+            lastMetricsTime = now;
+            UploadQueueEvent.fire(uploader, getMetrics());
+        }
+    }
+
+    /**
+     * Get a snapshot of the current state of the queue.
+     */
+    public UploadQueueMetrics getMetrics() {
+        double bytes = completedBytes;
+        for (Entry entry : inFlight.values()) {
+            if (entry.file.upload != null) {
+                bytes += entry.file.upload.bytesSent;
+            }
+        }
+        double elapsed = sessionStart > 0 ? (Duration.currentTimeMillis() - sessionStart) / 1000 : 0;
+        return new UploadQueueMetrics(pending.size(), inFlight.size(), completed, failed, skipped, retrying.size(),
+                paused, elapsed > 0 ? bytes / elapsed : 0);
+    }
+
+    protected Comparator<Entry> createComparator() {
+        Comparator<Entry> order;
+        if (comparator != null) {
+            order = (a, b) -> comparator.compare(a.uploadFile, b.uploadFile);
+        } else if (priority == UploadPriority.SMALLEST_FIRST) {
+            order = Comparator.comparingDouble(entry -> entry.uploadFile.getSentSize());
+        } else if (priority == UploadPriority.LARGEST_FIRST) {
+            order = Comparator.comparingDouble(entry -> -entry.uploadFile.getSentSize());
+        } else {
+            order = (a, b) -> 0;
+        }
+        return order.thenComparingInt(entry -> entry.sequence);
+    }
+
+    protected void reorder() {
+        PriorityQueue<Entry> reordered = new PriorityQueue<>(11, createComparator());
+        reordered.addAll(pending);
+        pending = reordered;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Set the maximum number of files sent at the same time, default 2.
+     */
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = Math.max(1, maxInFlight);
+        dispatch();
+    }
+
+    public UploadPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Set the order in which pending files are sent, default {@link UploadPriority#FIFO}.
+     */
+    public void setPriority(UploadPriority priority) {
+        this.priority = priority;
+        reorder();
+    }
+
+    public Comparator<UploadFile> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Set a custom order of the pending files, this takes precedence over {@link #setPriority(UploadPriority)}.
+     */
+    public void setComparator(Comparator<UploadFile> comparator) {
+        this.comparator = comparator;
+        reorder();
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * Set how many times a file failing with a 5xx status is retried, default 3.
+     */
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    public int getRetryDelay() {
+        return retryDelay;
+    }
+
+    /**
+     * Set the delay (in milliseconds) before the first retry, doubled on every attempt, default 1000.
+     */
+    public void setRetryDelay(int retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+
+    public int getMaxRetryDelay() {
+        return maxRetryDelay;
+    }
+
+    /**
+     * Set the maximum delay (in milliseconds) between two retries, default 30000.
+     */
+    public void setMaxRetryDelay(int maxRetryDelay) {
+        this.maxRetryDelay = maxRetryDelay;
+    }
+
+    public int getMetricsInterval() {
+        return metricsInterval;
+    }
+
+    /**
+     * Set the minimum interval (in milliseconds) between two {@link UploadQueueEvent} fired
+     * because of upload progress, default 500. State changes are always reported.
+     */
+    public void setMetricsInterval(int metricsInterval) {
+        this.metricsInterval = metricsInterval;
+    }
+
+    protected static class Entry {
+        private final File file;
+        private final UploadFile uploadFile;
+        private final int sequence;
+        private int attempts;
+        private Timer timer;
+
+        Entry(File file, UploadFile uploadFile, int sequence) {
+            this.file = file;
+            this.uploadFile = uploadFile;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,414 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.fileuploader;
+
+import com.google.gwt.animation.client.AnimationScheduler;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import gwt.material.design.addins.client.fileuploader.js.Dropzone;
+import gwt.material.design.addins.client.fileuploader.js.File;
+import gwt.material.design.addins.client.fileuploader.js.JsFileUploaderOptions;
+import gwt.material.design.jquery.client.api.Functions;
+
+import java.util.*;
+
+import static gwt.material.design.jquery.client.api.JQuery.$;
+
+/**
+ * Virtualized rendering of the {@link MaterialUploadCollection} previews. Instead of letting dropzone
+ * clone the preview template for every added file, only the rows intersecting the scroll viewport
+ * (plus {@link #getOverscan() overscan}) are rendered, recycling a small pool of row elements.
+ * Thumbnails are generated lazily for the rendered rows only, with at most
+ * {@link #getThumbnailPoolSize()} of them being created at the same time.
+ */
+public class VirtualPreviewList {
+
+    private static final int DEFAULT_ROW_HEIGHT = 72;
+
+    private final Element container;
+    private final Element template;
+    private final Element topSpacer = Document.get().createLIElement();
+    private final Element bottomSpacer = Document.get().createLIElement();
+    private final List<File> files = new ArrayList<>();
+    private final Map<File, Row> boundRows = new HashMap<>();
+    private final List<Row> freeRows = new ArrayList<>();
+    private final LinkedList<File> thumbnailQueue = new LinkedList<>();
+    private final Set<File> thumbnailRequested = new HashSet<>();
+    private int thumbnailsInFlight;
+    private int renderPass;
+    private int rowHeight;
+    private int overscan = 4;
+    private int thumbnailPoolSize = 2;
+    private Dropzone dropzone;
+    private AnimationScheduler.AnimationHandle frame;
+
+    public VirtualPreviewList(Element container, String previewTemplate) {
+        this.container = container;
+        this.template = $(previewTemplate.trim()).asElement();
+    }
+
+    /**
+     * Will take over the preview rendering callbacks of dropzone, must be called before it is created.
+     */
+    protected void configure(JsFileUploaderOptions options) {
+        options.createImageThumbnails = false;
+        options.addedfile = this::add;
+        options.removedfile = this::remove;
+        options.thumbnail = (file, dataUrl) -> {
+            file.thumbnail = dataUrl;
+            refresh(file);
+        };
+        options.error = (file, message) -> {
+            file.errorMessage = message instanceof String ? (String) message : null;
+            refresh(file);
+        };
+        options.processing = this::refresh;
+        options.success = this::refresh;
+        options.complete = this::refresh;
+    }
+
+    protected void attach(Dropzone dropzone) {
+        this.dropzone = dropzone;
+        container.appendChild(topSpacer);
+        container.appendChild(bottomSpacer);
+        $(container).on("scroll", e -> {
+            requestFrame();
+            return true;
+        });
+    }
+
+    protected void detach() {
+        $(container).off("scroll");
+        if (frame != null) {
+            frame.cancel();
+            frame = null;
+        }
+        for (Row row : boundRows.values()) {
+            unbind(row);
+            freeRows.add(row);
+        }
+        boundRows.clear();
+        for (Row row : freeRows) {
+            row.element.removeFromParent();
+        }
+        freeRows.clear();
+        topSpacer.removeFromParent();
+        bottomSpacer.removeFromParent();
+        files.clear();
+        thumbnailQueue.clear();
+        thumbnailRequested.clear();
+        thumbnailsInFlight = 0;
+        dropzone = null;
+    }
+
+    public void add(File file) {
+        files.add(file);
+        requestFrame();
+    }
+
+    public void remove(File file) {
+        files.remove(file);
+        thumbnailQueue.remove(file);
+        Row row = boundRows.remove(file);
+        if (row != null) {
+            unbind(row);
+            freeRows.add(row);
+        }
+        requestFrame();
+    }
+
+    /**
+     * Will re-render the row of the provided file if it is currently visible.
+     */
+    public void refresh(File file) {
+        Row row = boundRows.get(file);
+        if (row != null) {
+            bind(row, file);
+        }
+    }
+
+    protected void requestFrame() {
+        if (frame == null) {
+            frame = AnimationScheduler.get().requestAnimationFrame(timestamp -> {
+                frame = null;
+                render();
+            });
+        }
+    }
+
+    protected void render() {
+        int height = getRowHeight();
+        int scrollTop = getScrollTop();
+        int viewport = Math.max(getViewportHeight(), height * 8);
+        int first = Math.max(0, scrollTop / height - overscan);
+        int last = Math.min(files.size(), (scrollTop + viewport) / height + 1 + overscan);
+
+        // Mark the rows of the window, then release the ones which scrolled out of it
+        renderPass++;
+        for (int i = first; i < last; i++) {
+            Row row = boundRows.get(files.get(i));
+            if (row != null) {
+                row.renderPass = renderPass;
+            }
+        }
+        Iterator<Map.Entry<File, Row>> iterator = boundRows.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<File, Row> entry = iterator.next();
+            if (entry.getValue().renderPass != renderPass) {
+                unbind(entry.getValue());
+                freeRows.add(entry.getValue());
+                iterator.remove();
+            }
+        }
+
+        // Bind and order the rows of the current window
+        topSpacer.getStyle().setProperty("height", (first * height) + "px");
+        for (int i = first; i < last; i++) {
+            File file = files.get(i);
+            Row row = boundRows.get(file);
+            if (row == null) {
+                row = obtainRow();
+                row.renderPass = renderPass;
+                boundRows.put(file, row);
+                bind(row, file);
+                requestThumbnail(file);
+            }
+            container.insertBefore(row.element, bottomSpacer);
+        }
+        bottomSpacer.getStyle().setProperty("height", ((files.size() - last) * height) + "px");
+
+        for (Row row : freeRows) {
+            row.element.removeFromParent();
+        }
+        pumpThumbnails();
+    }
+
+    protected int getScrollTop() {
+        return container.getScrollTop();
+    }
+
+    protected int getViewportHeight() {
+        return container.getClientHeight();
+    }
+
+    protected Row obtainRow() {
+        if (!freeRows.isEmpty()) {
+            return freeRows.remove(freeRows.size() - 1);
+        }
+        Row row = new Row(template.cloneNode(true).cast());
+        $(row.remove).on("click", e -> {
+            if (row.file != null && dropzone != null) {
+                dropzone.removeFile(row.file);
+            }
+            return false;
+        });
+        return row;
+    }
+
+    protected void bind(Row row, File file) {
+        row.file = file;
+        file.previewElement = row.element;
+        if (row.name != null) {
+            row.name.setInnerText(file.name);
+        }
+        if (row.size != null && dropzone != null) {
+            row.size.setInnerHTML(dropzone.filesize(Double.parseDouble(file.size)));
+        }
+        if (row.progress != null) {
+            row.progress.getStyle().setProperty("width", (file.upload != null ? file.upload.progress : 0) + "%");
+        }
+        if (row.errorMessage != null) {
+            row.errorMessage.setInnerText(file.errorMessage != null ? file.errorMessage : "");
+        }
+        if (row.thumbnail != null && file.thumbnail != null) {
+            row.thumbnail.setAttribute("alt", file.name);
+            row.thumbnail.setAttribute("src", file.thumbnail);
+        }
+
+        String status = file.status != null ? file.status : "";
+        setStyleName(row.element, "dz-image-preview", file.thumbnail != null);
+        setStyleName(row.element, "dz-processing", !status.equals("added") && !status.equals("queued") && !status.isEmpty());
+        setStyleName(row.element, "dz-success", status.equals("success"));
+        setStyleName(row.element, "dz-error", status.equals("error") || status.equals("canceled"));
+        setStyleName(row.element, "dz-complete", status.equals("success") || status.equals("error") || status.equals("canceled"));
+    }
+
+    protected void unbind(Row row) {
+        if (row.file != null && row.file.previewElement == row.element) {
+            row.file.previewElement = null;
+        }
+        row.file = null;
+    }
+
+    protected void setStyleName(Element element, String styleName, boolean add) {
+        if (add) {
+            element.addClassName(styleName);
+        } else {
+            element.removeClassName(styleName);
+        }
+    }
+
+    protected void requestThumbnail(File file) {
+        if (file.thumbnail == null && file.type != null && file.type.startsWith("image/")
+                && !thumbnailRequested.contains(file)) {
+            thumbnailRequested.add(file);
+            thumbnailQueue.add(file);
+        }
+    }
+
+    protected void pumpThumbnails() {
+        while (dropzone != null && thumbnailsInFlight < thumbnailPoolSize && !thumbnailQueue.isEmpty()) {
+            File file = thumbnailQueue.poll();
+            if (!boundRows.containsKey(file)) {
+                // Scrolled away before its turn, will be requested again once visible
+                thumbnailRequested.remove(file);
+                continue;
+            }
+            thumbnailsInFlight++;
+            boolean[] done = {false};
+            createThumbnail(dropzone, file, () -> {
+                // Called once whether the thumbnail was created or the file could not be read
+                if (!done[0]) {
+                    done[0] = true;
+                    thumbnailsInFlight = Math.max(0, thumbnailsInFlight - 1);
+                    pumpThumbnails();
+                }
+            });
+        }
+    }
+
+    /**
+     * Same as dropzone's <code>createThumbnail</code>, which never calls back when the file can't be
+     * read, except the callback is also called on failure so the pool slot is released.
+     */
+    protected native void createThumbnail(Dropzone dropzone, File file, Functions.Func callback) /*-{
+        var done = $entry(function () {
+            callback();
+        });
+        var reader = new FileReader();
+        reader.onload = function () {
+            if (file.type === "image/svg+xml") {
+                dropzone.emit("thumbnail", file, reader.result);
+                done();
+            } else {
+                // Calls back from the image error handler too
+                dropzone.createThumbnailFromUrl(file, reader.result, done);
+            }
+        };
+        reader.onerror = done;
+        reader.onabort = done;
+        try {
+            reader.readAsDataURL(file);
+        } catch (e) {
+            done();
+        }
+    }-*/;
+
+    /**
+     * Get the number of thumbnails currently being created.
+     */
+    public int getThumbnailsInFlight() {
+        return thumbnailsInFlight;
+    }
+
+    /**
+     * Get the number of files in the list, whether rendered or not.
+     */
+    public int getFileCount() {
+        return files.size();
+    }
+
+    /**
+     * Get the number of currently rendered rows.
+     */
+    public int getRenderedCount() {
+        return boundRows.size();
+    }
+
+    public int getRowHeight() {
+        if (rowHeight <= 0) {
+            for (Row row : boundRows.values()) {
+                if (row.element.getOffsetHeight() > 0) {
+                    return row.element.getOffsetHeight();
+                }
+            }
+            return DEFAULT_ROW_HEIGHT;
+        }
+        return rowHeight;
+    }
+
+    /**
+     * Set the fixed height (in pixels) of a preview row, by default it is measured from the first rendered row.
+     */
+    public void setRowHeight(int rowHeight) {
+        this.rowHeight = rowHeight;
+        requestFrame();
+    }
+
+    public int getOverscan() {
+        return overscan;
+    }
+
+    /**
+     * Set the number of extra rows rendered above and below the viewport, default 4.
+     */
+    public void setOverscan(int overscan) {
+        this.overscan = overscan;
+        requestFrame();
+    }
+
+    public int getThumbnailPoolSize() {
+        return thumbnailPoolSize;
+    }
+
+    /**
+     * Set the maximum number of thumbnails generated at the same time, default 2.
+     */
+    public void setThumbnailPoolSize(int thumbnailPoolSize) {
+        this.thumbnailPoolSize = Math.max(1, thumbnailPoolSize);
+    }
+
+    protected static class Row {
+        private final Element element;
+        private final Element name;
+        private final Element size;
+        private final Element progress;
+        private final Element errorMessage;
+        private final Element thumbnail;
+        private final Element remove;
+        private File file;
+        private int renderPass;
+
+        Row(Element element) {
+            this.element = element;
+            this.element.removeAttribute("id");
+            this.name = find("[data-dz-name]");
+            this.size = find("[data-dz-size]");
+            this.progress = find("[data-dz-uploadprogress]");
+            this.errorMessage = find("[data-dz-errormessage]");
+            this.thumbnail = find("[data-dz-thumbnail]");
+            this.remove = find("[data-dz-remove]");
+        }
+
+        protected Element find(String selector) {
+            return $(element).find(selector).asElement();
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.fileuploader.base;
+
+import gwt.material.design.addins.client.fileuploader.js.Dropzone;
+import gwt.material.design.addins.client.fileuploader.js.File;
+import gwt.material.design.jquery.client.api.Functions;
+
+//@formatter:off
+
+/**
+ * Optional preprocessing stage of {@link gwt.material.design.addins.client.fileuploader.MaterialFileUploader}
+ * that downscales and re-encodes image files before they are queued for upload.
+ * <p>
+ * Decoding is done through <code>createImageBitmap</code> and the drawing through an
+ * <code>OffscreenCanvas</code> whenever the browser provides them, otherwise it falls back to an
+ * <code>&lt;img&gt;</code> element and a regular canvas. Files which are not raster images, or which
+ * would not get smaller, are uploaded untouched.
+ * <p>
+ * Unless a {@link #setMimeType(String) mime type} is set, PNG and WebP images keep their type so their
+ * transparency is preserved, the other images are re-encoded to JPEG.
+ * <p>
+ * <h3>Usage:</h3>
+ * <pre>
+ * {@code
+ * uploader.setImagePreprocessor(new ImagePreprocessor(1600, 1600));
+ * }
+ * </pre>
+ */
+//@formatter:on
+public class ImagePreprocessor {
+
+    private int maxWidth;
+    private int maxHeight;
+    private double quality = 0.85;
+    private String mimeType;
+
+    public ImagePreprocessor() {
+        this(1600, 1600);
+    }
+
+    public ImagePreprocessor(int maxWidth, int maxHeight) {
+        this.maxWidth = maxWidth;
+        this.maxHeight = maxHeight;
+    }
+
+    public ImagePreprocessor(int maxWidth, int maxHeight, String mimeType, double quality) {
+        this(maxWidth, maxHeight);
+        this.mimeType = mimeType;
+        this.quality = quality;
+    }
+
+    /**
+     * Will resize and re-encode the provided file, storing the result as the file's processed blob.
+     * The {@code done} callback is always called, either with no argument or with an error message.
+     */
+    public void process(File file, Functions.Func1<String> done) {
+        process(file, maxWidth, maxHeight, getTargetType(file.type), quality, done);
+    }
+
+    /**
+     * Get the mime type the image of the provided type is re-encoded to.
+     */
+    public String getTargetType(String type) {
+        if (mimeType != null) {
+            return mimeType;
+        }
+        // Keep the alpha channel of the formats supporting transparency
+        return "image/png".equals(type) || "image/webp".equals(type) ? type : "image/jpeg";
+    }
+
+    /**
+     * Will make sure the processed blob (if any) is sent in place of the original file, with the
+     * file name extension matching the type of the processed blob.
+     */
+    public native void attach(Dropzone dropzone) /*-{
+        dropzone.on("sending", function (file, xhr, formData) {
+            var blob = file.processedBlob;
+            if (blob && formData) {
+                var append = formData.append;
+                formData.append = function (name, value, filename) {
+                    if (value !== file) {
+                        return append.apply(formData, arguments);
+                    }
+                    var rename = @gwt.material.design.addins.client.fileuploader.base.ImagePreprocessor::renameFile(*);
+                    return append.call(formData, name, blob, rename(filename || file.name, file.type, blob.type));
+                };
+            }
+        });
+    }-*/;
+
+    /**
+     * Replace the extension of the file name when the image was re-encoded to another type,
+     * i.e "photo.bmp" re-encoded to "image/jpeg" gives "photo.jpg".
+     */
+    public static String renameFile(String name, String type, String targetType) {
+        if (name == null || targetType == null || targetType.equals(type) || !targetType.startsWith("image/")) {
+            return name;
+        }
+        String extension = targetType.substring("image/".length());
+        if (extension.equals("jpeg")) {
+            extension = "jpg";
+        }
+        int dot = name.lastIndexOf('.');
+        return (dot > 0 ? name.substring(0, dot) : name) + "." + extension;
+    }
+
+    protected native void process(File file, int maxWidth, int maxHeight, String mimeType, double quality,
+                                  Functions.Func1<String> done) /*-{
+        var canEncode = $wnd.OffscreenCanvas || ($wnd.HTMLCanvasElement && $wnd.HTMLCanvasElement.prototype.toBlob);
+        if (!canEncode || !/^image\/(jpeg|png|webp|bmp)$/.test(file.type)) {
+            done();
+            return;
+        }
+
+        var finish = function (blob) {
+            if (blob && blob.size < file.size) {
+                file.processedBlob = blob;
+            }
+            done();
+        };
+
+        var resize = function (source, width, height, release) {
+            var scale = Math.min(1, maxWidth / width, maxHeight / height);
+            if (scale === 1 && file.type === mimeType) {
+                release();
+                done();
+                return;
+            }
+            var targetWidth = Math.max(1, Math.round(width * scale));
+            var targetHeight = Math.max(1, Math.round(height * scale));
+            if ($wnd.OffscreenCanvas && $wnd.OffscreenCanvas.prototype.convertToBlob) {
+                var offscreen = new $wnd.OffscreenCanvas(targetWidth, targetHeight);
+                offscreen.getContext("2d").drawImage(source, 0, 0, targetWidth, targetHeight);
+                release();
+                offscreen.convertToBlob({type: mimeType, quality: quality}).then(finish, function () {
+                    done();
+                });
+            } else {
+                var canvas = $doc.createElement("canvas");
+                canvas.width = targetWidth;
+                canvas.height = targetHeight;
+                canvas.getContext("2d").drawImage(source, 0, 0, targetWidth, targetHeight);
+                release();
+                canvas.toBlob(finish, mimeType, quality);
+            }
+        };
+
+        var decodeWithImage = function () {
+            var url = $wnd.URL.createObjectURL(file);
+            var img = new $wnd.Image();
+            img.onload = function () {
+                resize(img, img.naturalWidth, img.naturalHeight, function () {
+                    $wnd.URL.revokeObjectURL(url);
+                });
+            };
+            img.onerror = function () {
+                $wnd.URL.revokeObjectURL(url);
+                done();
+            };
+            img.src = url;
+        };
+
+        if ($wnd.createImageBitmap) {
+            $wnd.createImageBitmap(file).then(function (bitmap) {
+                resize(bitmap, bitmap.width, bitmap.height, function () {
+                    if (bitmap.close) {
+                        bitmap.close();
+                    }
+                });
+            }, decodeWithImage);
+        } else {
+            decodeWithImage();
+        }
+    }-*/;
+
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    /**
+     * Set the maximum width (in pixels) of the uploaded image, default 1600.
+     */
+    public void setMaxWidth(int maxWidth) {
+        this.maxWidth = maxWidth;
+    }
+
+    public int getMaxHeight() {
+        return maxHeight;
+    }
+
+    /**
+     * Set the maximum height (in pixels) of the uploaded image, default 1600.
+     */
+    public void setMaxHeight(int maxHeight) {
+        this.maxHeight = maxHeight;
+    }
+
+    public double getQuality() {
+        return quality;
+    }
+
+    /**
+     * Set the encoder quality between 0 and 1, default 0.85.
+     */
+    public void setQuality(double quality) {
+        this.quality = quality;
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    /**
+     * Set the mime type of the re-encoded image e.g image/webp, by default PNG and WebP images keep
+     * their type and the other images are re-encoded to image/jpeg.
+     */
+    public void setMimeType(String mimeType) {
+        this.mimeType = mimeType;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.fileuploader.base;
+
+/**
+ * Called once a file was accepted (and hashed, if a {@link gwt.material.design.addins.client.fileuploader.FileHasher}
+ * is set) but before it is queued for upload. This is the place to ask the server whether it already
+ * has a file with the same {@link UploadFile#getDigest() digest}.
+ * <p>
+ * Exactly one of the {@link Callback} methods must be called for every file.
+ */
+public interface PreSendHandler {
+
+    void onPreSend(UploadFile file, Callback callback);
+
+    interface Callback {
+
+        /**
+         * Upload the file as usual.
+         */
+        void send();
+
+        /**
+         * Don't upload the file and report it as successfully uploaded.
+         */
+        void skip();
+
+        /**
+         * Don't upload the file and report it as rejected with the provided message.
+         */
+        void reject(String message);
+    }
+}
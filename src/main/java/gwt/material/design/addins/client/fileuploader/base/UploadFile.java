@@ -32,6 +32,9 @@ public class UploadFile implements Serializable {
     private Date lastModified;
     private double fileSize;
     private String type;
+    private double originalSize;
+    private double sentSize;
+    private String digest;
 
     public UploadFile() {
     }
@@ -41,6 +44,13 @@ public class UploadFile implements Serializable {
         this.lastModified = lastModified;
         this.fileSize = fileSize;
         this.type = type;
+        this.originalSize = fileSize;
+        this.sentSize = fileSize;
+    }
+
+    public UploadFile(String name, Date lastModified, double fileSize, String type, double sentSize) {
+        this(name, lastModified, fileSize, type);
+        this.sentSize = sentSize;
     }
 
     public String getName() {
@@ -75,4 +85,39 @@ public class UploadFile implements Serializable {
     public void setType(String type) {
         this.type = type;
     }
+
+    /**
+     * Get the size in bytes of the file as it was selected by the user.
+     */
+    public double getOriginalSize() {
+        return originalSize;
+    }
+
+    public void setOriginalSize(double originalSize) {
+        this.originalSize = originalSize;
+    }
+
+    /**
+     * Get the size in bytes of what will be (or was) sent to the server, this will be lower than
+     * {@link #getOriginalSize()} when the file was downscaled by an {@link ImagePreprocessor}.
+     */
+    public double getSentSize() {
+        return sentSize;
+    }
+
+    public void setSentSize(double sentSize) {
+        this.sentSize = sentSize;
+    }
+
+    /**
+     * Get the hex encoded SHA-256 digest of the sent content, only available when the
+     * uploader has a {@link gwt.material.design.addins.client.fileuploader.FileHasher}.
+     */
+    public String getDigest() {
+        return digest;
+    }
+
+    public void setDigest(String digest) {
+        this.digest = digest;
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.fileuploader.base;
+
+import java.io.Serializable;
+
+/**
+ * A snapshot of the state of an {@link gwt.material.design.addins.client.fileuploader.UploadQueue}
+ */
+public class UploadQueueMetrics implements Serializable {
+
+    private int pending;
+    private int inFlight;
+    private int completed;
+    private int failed;
+    private int skipped;
+    private int retrying;
+    private boolean paused;
+    private double bytesPerSecond;
+
+    public UploadQueueMetrics() {
+    }
+
+    public UploadQueueMetrics(int pending, int inFlight, int completed, int failed, int skipped, int retrying,
+                              boolean paused, double bytesPerSecond) {
+        this.pending = pending;
+        this.inFlight = inFlight;
+        this.completed = completed;
+        this.failed = failed;
+        this.skipped = skipped;
+        this.retrying = retrying;
+        this.paused = paused;
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    /**
+     * Get the number of files waiting to be sent.
+     */
+    public int getPending() {
+        return pending;
+    }
+
+    /**
+     * Get the number of files currently being sent.
+     */
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Get the number of files sent successfully.
+     */
+    public int getCompleted() {
+        return completed;
+    }
+
+    /**
+     * Get the number of files that failed after all their retries.
+     */
+    public int getFailed() {
+        return failed;
+    }
+
+    /**
+     * Get the number of files reported as uploaded without being sent, see
+     * {@link gwt.material.design.addins.client.fileuploader.base.PreSendHandler.Callback#skip()}.
+     */
+    public int getSkipped() {
+        return skipped;
+    }
+
+    /**
+     * Get the number of files waiting for their retry backoff to elapse.
+     */
+    public int getRetrying() {
+        return retrying;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Get the average upload throughput in bytes per second since the queue became active.
+     */
+    public double getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.fileuploader.constants;
+
+/**
+ * The order in which an {@link gwt.material.design.addins.client.fileuploader.UploadQueue}
+ * sends its pending files.
+ */
+public enum UploadPriority {
+    /**
+     * Files are sent in the order they were added.
+     */
+    FIFO,
+    /**
+     * The smallest files are sent first for a faster feedback.
+     */
+    SMALLEST_FIRST,
+    /**
+     * The largest files are sent first.
+     */
+    LARGEST_FIRST
+}
@@ -0,0 +1,58 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.fileuploader.events;
+
+import com.google.gwt.event.shared.EventHandler;
+import com.google.gwt.event.shared.GwtEvent;
+import com.google.gwt.event.shared.HasHandlers;
+import gwt.material.design.addins.client.fileuploader.base.UploadQueueMetrics;
+
+public class UploadQueueEvent extends GwtEvent<UploadQueueEvent.UploadQueueHandler> {
+
+    public interface UploadQueueHandler extends EventHandler {
+        void onUploadQueue(UploadQueueEvent event);
+    }
+
+    public static final Type<UploadQueueHandler> TYPE = new Type<>();
+
+    private final UploadQueueMetrics metrics;
+
+    public UploadQueueEvent(UploadQueueMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public static void fire(HasHandlers source, UploadQueueMetrics metrics) {
+        source.fireEvent(new UploadQueueEvent(metrics));
+    }
+
+    public UploadQueueMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public Type<UploadQueueHandler> getAssociatedType() {
+        return TYPE;
+    }
+
+    @Override
+    protected void dispatch(UploadQueueHandler handler) {
+        handler.onUploadQueue(this);
+    }
+}
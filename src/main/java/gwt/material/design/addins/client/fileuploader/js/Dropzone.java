@@ -22,6 +22,7 @@ package gwt.material.design.addins.client.fileuploader.js;
 import com.google.gwt.dom.client.Element;
 import gwt.material.design.jquery.client.api.Functions;
 import gwt.material.design.jquery.client.api.JQueryElement;
+import jsinterop.annotations.JsMethod;
 import jsinterop.annotations.JsPackage;
 import jsinterop.annotations.JsType;
 
@@ -50,5 +51,21 @@ public class Dropzone extends JQueryElement {
 
     public native void enqueueFile(File file);
 
+    public native void processFile(File file);
+
+    /**
+     * Mark the files as successfully uploaded, emitting the success and complete events.
+     */
+    @JsMethod(name = "_finished")
+    public native void finished(File[] files, Object responseText, Object e);
+
+    public native void emit(String event, Object... args);
+
+    public native void removeFile(File file);
+
+    public native void createThumbnail(File file, Functions.Func callback);
+
+    public native String filesize(double size);
+
     public native void destroy();
 }
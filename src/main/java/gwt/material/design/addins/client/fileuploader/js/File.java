@@ -20,6 +20,7 @@
 package gwt.material.design.addins.client.fileuploader.js;
 
 import com.google.gwt.dom.client.Element;
+import gwt.material.design.addins.client.base.js.Blob;
 import jsinterop.annotations.JsPackage;
 import jsinterop.annotations.JsProperty;
 import jsinterop.annotations.JsType;
@@ -44,4 +45,25 @@ public class File {
 
     @JsProperty
     public Element previewElement;
+
+    @JsProperty
+    public Blob processedBlob;
+
+    @JsProperty
+    public Upload upload;
+
+    @JsProperty
+    public String status;
+
+    @JsProperty
+    public boolean accepted;
+
+    @JsProperty
+    public String digest;
+
+    @JsProperty
+    public String thumbnail;
+
+    @JsProperty
+    public String errorMessage;
 }
@@ -21,6 +21,7 @@ package gwt.material.design.addins.client.fileuploader.js;
  */
 
 
+import gwt.material.design.jquery.client.api.Functions;
 import jsinterop.annotations.JsPackage;
 import jsinterop.annotations.JsProperty;
 import jsinterop.annotations.JsType;
@@ -93,4 +94,34 @@ public class JsFileUploaderOptions {
 
     @JsProperty
     public String dictMaxFilesExceeded;
+
+    @JsProperty
+    public Functions.Func2<File, Functions.Func1<String>> accept;
+
+    @JsProperty
+    public Functions.Func uploadprogress;
+
+    @JsProperty
+    public boolean createImageThumbnails;
+
+    @JsProperty
+    public Functions.Func1<File> addedfile;
+
+    @JsProperty
+    public Functions.Func1<File> removedfile;
+
+    @JsProperty
+    public Functions.Func2<File, String> thumbnail;
+
+    @JsProperty
+    public Functions.Func2<File, Object> error;
+
+    @JsProperty
+    public Functions.Func1<File> processing;
+
+    @JsProperty
+    public Functions.Func1<File> success;
+
+    @JsProperty
+    public Functions.Func1<File> complete;
 }
\ No newline at end of file
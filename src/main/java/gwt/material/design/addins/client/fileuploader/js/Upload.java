@@ -2,7 +2,7 @@
  * #%L
  * GwtMaterial
  * %%
- * Copyright (C) 2015 - 2016 GwtMaterialDesign
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
  * %%
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,21 +17,24 @@
  * limitations under the License.
  * #L%
  */
-package gwt.material.design.addins.client.countup;
+package gwt.material.design.addins.client.fileuploader.js;
 
-import com.google.gwt.core.client.GWT;
-import com.google.gwt.resources.client.ClientBundle;
-import com.google.gwt.resources.client.TextResource;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
 
 /**
- * Client Bundle for CountUp component
- *
- * @author kevzlou7979
+ * The upload state dropzone keeps on every file
  */
-interface MaterialCountUpDebugClientBundle extends ClientBundle {
+@JsType(isNative = true, name = "Object", namespace = JsPackage.GLOBAL)
+public class Upload {
 
-    MaterialCountUpDebugClientBundle INSTANCE = GWT.create(MaterialCountUpDebugClientBundle.class);
+    @JsProperty
+    public double progress;
 
-    @Source("resources/js/countup.js")
-    TextResource countUpJsDebug();
+    @JsProperty
+    public double total;
+
+    @JsProperty
+    public double bytesSent;
 }
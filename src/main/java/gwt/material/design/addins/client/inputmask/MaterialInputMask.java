@@ -24,14 +24,14 @@ import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.user.client.ui.TextBox;
 import com.google.gwt.user.client.ui.ValueBoxBase;
 import gwt.material.design.addins.client.MaterialAddins;
+import gwt.material.design.addins.client.inputmask.base.MaskPattern;
 import gwt.material.design.addins.client.inputmask.events.*;
-import gwt.material.design.addins.client.inputmask.js.JsInputMaskOptions;
 import gwt.material.design.client.MaterialDesignBase;
 import gwt.material.design.client.base.JsLoader;
 import gwt.material.design.client.constants.InputType;
 import gwt.material.design.client.ui.MaterialValueBox;
 
-import static gwt.material.design.addins.client.inputmask.js.JsInputMask.$;
+import static gwt.material.design.jquery.client.api.JQuery.$;
 
 //@formatter:off
 
@@ -59,26 +59,44 @@ import static gwt.material.design.addins.client.inputmask.js.JsInputMask.$;
  * @author kevzlou7979
  * @see <a href="http://gwtmaterialdesign.github.io/gwt-material-demo/snapshot/#inputFields">Material Input Fields</a>
  * @see <a href="https://igorescobar.github.io/jQuery-Mask-Plugin/docs.html">jQuery-Mask-Plugin 1.14.10</a>
+ * @see MaskPattern
  */
 //@formatter:on
 public class MaterialInputMask<T> extends MaterialValueBox<T>
         implements JsLoader, HasInputMaskHandlers {
 
-    static {
-        if (MaterialAddins.isDebug()) {
-            MaterialDesignBase.injectDebugJs(MaterialInputMaskDebugClientBundle.INSTANCE.inputMaskDebugJs());
-        } else {
-            MaterialDesignBase.injectJs(MaterialInputMaskClientBundle.INSTANCE.inputMaskJs());
-        }
-    }
+    /**
+     * Shared by all the fields, the masks are applied synchronously on the ui thread.
+     */
+    private static final StringBuilder BUFFER = new StringBuilder();
 
     private String mask;
-    private JsInputMaskOptions options = new JsInputMaskOptions();
+    private MaskPattern pattern;
+    private boolean reverse;
+    private boolean clearIfNotMatch;
+    private boolean selectOnFocus;
+    private String lastValue;
 
     public MaterialInputMask() {
         setup((ValueBoxBase<T>) new TextBox());
     }
 
+    /**
+     * Inject the jQuery Mask Plugin for code still masking through
+     * {@link gwt.material.design.addins.client.inputmask.js.JsInputMask}, the fields no longer
+     * need it.
+     *
+     * @deprecated the fields are masked by {@link MaskPattern}, the plugin will be removed in the next release.
+     */
+    @Deprecated
+    public static void loadMaskPlugin() {
+        if (MaterialAddins.isDebug()) {
+            MaterialDesignBase.injectDebugJs(MaterialInputMaskDebugClientBundle.INSTANCE.inputMaskDebugJs());
+        } else {
+            MaterialDesignBase.injectJs(MaterialInputMaskClientBundle.INSTANCE.inputMaskJs());
+        }
+    }
+
     public void setup(ValueBoxBase<T> tValueBox) {
         valueBoxBase = tValueBox;
         add(valueBoxBase);
@@ -105,11 +123,112 @@ public class MaterialInputMask<T> extends MaterialValueBox<T>
      * Mask the input field with given mask value.
      */
     public void load(String mask) {
-        options.onComplete = object -> CompleteEvent.fire(this, object);
-        options.onKeyPress = object -> KeyPressEvent.fire(this, object);
-        options.onChange = object -> ChangeEvent.fire(this, object);
-        options.onInvalid = (object, event, function, error) -> InvalidEvent.fire(this, object, error[0]);
-        $(valueBoxBase.getElement()).mask(mask, options);
+        pattern = MaskPattern.compile(mask);
+        if (!pattern.isRecursive()) {
+            valueBoxBase.getElement().setAttribute("maxlength", String.valueOf(pattern.length()));
+        }
+
+        $(valueBoxBase.getElement()).off(".mask");
+        $(valueBoxBase.getElement()).on("input.mask", e -> {
+            applyMask(true);
+            return true;
+        });
+        $(valueBoxBase.getElement()).on("focus.mask", e -> {
+            if (selectOnFocus) {
+                valueBoxBase.selectAll();
+            }
+            return true;
+        });
+        $(valueBoxBase.getElement()).on("blur.mask", e -> {
+            if (clearIfNotMatch && pattern != null && !pattern.matches(valueBoxBase.getText())) {
+                valueBoxBase.setText("");
+            }
+            return true;
+        });
+
+        lastValue = valueBoxBase.getText();
+        if (!lastValue.isEmpty()) {
+            applyMask(false);
+        }
+    }
+
+    /**
+     * Apply the mask to the text of the field, keeping the cursor after the same characters.
+     * The text is only replaced if the mask changed it.
+     */
+    protected void applyMask(boolean fireEvents) {
+        String text = valueBoxBase.getText();
+        BUFFER.setLength(0);
+        int invalid = pattern.apply(text, reverse, false, BUFFER);
+
+        String value = text;
+        if (!contentEquals(BUFFER, text)) {
+            value = BUFFER.toString();
+            int cursor = valueBoxBase.getCursorPos();
+            valueBoxBase.setText(value);
+            valueBoxBase.setCursorPos(getCursorPos(text, value, cursor));
+        }
+
+        if (fireEvents) {
+            if (!value.equals(lastValue)) {
+                ChangeEvent.fire(this, value);
+                KeyPressEvent.fire(this, value);
+            }
+            if (value.length() == pattern.length()) {
+                CompleteEvent.fire(this, value);
+            }
+            if (invalid != -1) {
+                InvalidEvent.fire(this, value, String.valueOf(text.charAt(invalid)));
+            }
+        }
+        lastValue = value;
+    }
+
+    /**
+     * Returns the position in the masked value that has as many letters and digits before it
+     * as there were in the text before the cursor, or after it for reverse masks.
+     */
+    protected int getCursorPos(String text, String value, int cursor) {
+        if (cursor >= text.length()) {
+            return value.length();
+        }
+        if (reverse) {
+            int count = countSignificant(text, cursor, text.length());
+            int pos = value.length();
+            while (pos > 0 && countSignificant(value, pos, value.length()) < count) {
+                pos--;
+            }
+            return pos;
+        }
+        int count = countSignificant(text, 0, cursor);
+        int pos = 0;
+        while (pos < value.length() && countSignificant(value, 0, pos) < count) {
+            pos++;
+        }
+        return pos;
+    }
+
+    protected static int countSignificant(String text, int start, int end) {
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if ((c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    protected static boolean contentEquals(StringBuilder buffer, String text) {
+        if (buffer.length() != text.length()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (buffer.charAt(i) != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -121,7 +240,12 @@ public class MaterialInputMask<T> extends MaterialValueBox<T>
 
     @Override
     public void unload() {
-        $(valueBoxBase.getElement()).unmask();
+        $(valueBoxBase.getElement()).off(".mask");
+        if (pattern != null) {
+            valueBoxBase.getElement().removeAttribute("maxlength");
+            valueBoxBase.setText(getCleanValue());
+            pattern = null;
+        }
     }
 
     @Override
@@ -142,43 +266,49 @@ public class MaterialInputMask<T> extends MaterialValueBox<T>
     }
 
     public boolean isReverse() {
-        return options.reverse;
+        return reverse;
     }
 
     /**
      * The mask will be placed from the right to the left if reverse is true (Default : false)
      */
     public void setReverse(boolean reverse) {
-        options.reverse = reverse;
+        this.reverse = reverse;
     }
 
     public boolean isClearIfNotMatch() {
-        return options.clearIfNotMatch;
+        return clearIfNotMatch;
     }
 
     /**
      * The textfield will automatically clears whenever the value is not match with the mask provided. (Default : false)
      */
     public void setClearIfNotMatch(boolean clearIfNotMatch) {
-        options.clearIfNotMatch = clearIfNotMatch;
+        this.clearIfNotMatch = clearIfNotMatch;
     }
 
     public boolean isSelectOnFocus() {
-        return options.selectOnFocus;
+        return selectOnFocus;
     }
 
     /**
      * Set whether you want to set on focus on your mask for easy selection.
      */
     public void setSelectOnFocus(boolean selectOnFocus) {
-        options.selectOnFocus = selectOnFocus;
+        this.selectOnFocus = selectOnFocus;
     }
 
     /**
      * Gets the value of the field without the mask.
      */
     public String getCleanValue() {
-        return $(valueBoxBase.getElement()).cleanVal();
+        String text = valueBoxBase.getText();
+        if (pattern == null) {
+            return text;
+        }
+        BUFFER.setLength(0);
+        pattern.apply(text, reverse, true, BUFFER);
+        return BUFFER.toString();
     }
 
     @Override
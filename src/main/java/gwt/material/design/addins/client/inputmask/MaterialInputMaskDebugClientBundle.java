@@ -27,7 +27,11 @@ import com.google.gwt.resources.client.TextResource;
  * Client Bundle for Input Mask component
  *
  * @author kevzlou7979
+ * @deprecated {@link MaterialInputMask} masks with {@link gwt.material.design.addins.client.inputmask.base.MaskPattern}
+ * and no longer injects the jQuery Mask Plugin, see {@link MaterialInputMask#loadMaskPlugin()}. Will be removed in the
+ * next release.
  */
+@Deprecated
 public interface MaterialInputMaskDebugClientBundle extends ClientBundle {
 
     MaterialInputMaskDebugClientBundle INSTANCE = GWT.create(MaterialInputMaskDebugClientBundle.class);
@@ -0,0 +1,255 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.inputmask.base;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A mask compiled into a token program. The tokens are the ones of the jQuery Mask Plugin:
+ * <ul>
+ * <li>0 - a digit</li>
+ * <li>9 - an optional digit</li>
+ * <li># - a recursive digit</li>
+ * <li>A - a letter or a digit</li>
+ * <li>S - a letter</li>
+ * </ul>
+ * Any other character of the mask is a literal. Patterns are immutable and shared by every
+ * field that uses the same mask, see {@link #compile(String)}.
+ */
+public class MaskPattern {
+
+    static final byte LITERAL = 0;
+    static final byte DIGIT = 1;
+    static final byte OPTIONAL_DIGIT = 2;
+    static final byte RECURSIVE_DIGIT = 3;
+    static final byte ALPHANUMERIC = 4;
+    static final byte LETTER = 5;
+
+    private static final Map<String, MaskPattern> CACHE = new HashMap<>();
+
+    private final String mask;
+    private final char[] chars;
+    private final byte[] kinds;
+    private final boolean recursive;
+    private final int groupStart;
+    private final int groupEnd;
+
+    /**
+     * Returns the compiled pattern of a mask, compiling it only the first time it is requested.
+     */
+    public static MaskPattern compile(String mask) {
+        MaskPattern pattern = CACHE.get(mask);
+        if (pattern == null) {
+            pattern = new MaskPattern(mask);
+            CACHE.put(mask, pattern);
+        }
+        return pattern;
+    }
+
+    protected MaskPattern(String mask) {
+        this.mask = mask;
+        chars = mask.toCharArray();
+        kinds = new byte[chars.length];
+
+        int first = -1;
+        int last = -1;
+        for (int i = 0; i < chars.length; i++) {
+            kinds[i] = getKind(chars[i]);
+            if (kinds[i] == RECURSIVE_DIGIT) {
+                if (first == -1) {
+                    first = i;
+                }
+                last = i;
+            }
+        }
+        recursive = first != -1;
+        groupStart = first;
+        groupEnd = last + 1;
+    }
+
+    protected static byte getKind(char c) {
+        switch (c) {
+            case '0':
+                return DIGIT;
+            case '9':
+                return OPTIONAL_DIGIT;
+            case '#':
+                return RECURSIVE_DIGIT;
+            case 'A':
+                return ALPHANUMERIC;
+            case 'S':
+                return LETTER;
+            default:
+                return LITERAL;
+        }
+    }
+
+    protected static boolean accepts(byte kind, char c) {
+        boolean digit = c >= '0' && c <= '9';
+        switch (kind) {
+            case DIGIT:
+            case OPTIONAL_DIGIT:
+            case RECURSIVE_DIGIT:
+                return digit;
+            case ALPHANUMERIC:
+                return digit || isLetter(c);
+            case LETTER:
+                return isLetter(c);
+            default:
+                return false;
+        }
+    }
+
+    protected static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    public String getMask() {
+        return mask;
+    }
+
+    public int length() {
+        return chars.length;
+    }
+
+    /**
+     * Returns true if the mask has a recursive token, so the masked value has no maximum length.
+     */
+    public boolean isRecursive() {
+        return recursive;
+    }
+
+    /**
+     * Returns the masked value, or the value without the mask characters if skipMaskChars is true.
+     */
+    public String format(String value, boolean reverse, boolean skipMaskChars) {
+        StringBuilder out = new StringBuilder(Math.max(chars.length, value.length()));
+        apply(value, reverse, skipMaskChars, out);
+        return out.toString();
+    }
+
+    /**
+     * Append the masked value to the given buffer, so callers masking many values can reuse it.
+     * Masks from right to left if reverse is true, like the percentage or currency masks.
+     *
+     * @return the index of the first character of the value that does not match its token, or -1
+     */
+    public int apply(CharSequence value, boolean reverse, boolean skipMaskChars, StringBuilder out) {
+        int start = out.length();
+        int maskLength = chars.length;
+        int valueLength = value.length();
+        int offset = reverse ? -1 : 1;
+        int lastMaskChar = reverse ? 0 : maskLength - 1;
+        int m = reverse ? maskLength - 1 : 0;
+        int v = reverse ? valueLength - 1 : 0;
+        int resetPos = -1;
+        int invalid = -1;
+        char lastLiteral = 0;
+        boolean skippedLiteral = false;
+
+        while (reverse ? (m > -1 && v > -1) : (m < maskLength && v < valueLength)) {
+            byte kind = kinds[m];
+            char c = value.charAt(v);
+
+            if (kind != LITERAL) {
+                if (accepts(kind, c)) {
+                    out.append(c);
+                    if (kind == RECURSIVE_DIGIT) {
+                        if (resetPos == -1) {
+                            resetPos = m;
+                        } else if (m == lastMaskChar && m != resetPos) {
+                            m = resetPos - offset;
+                        }
+                        if (lastMaskChar == resetPos) {
+                            m -= offset;
+                        }
+                    }
+                    m += offset;
+                } else if (skippedLiteral && c == lastLiteral) {
+                    // The literal was typed after we inserted it, consume it only once
+                    skippedLiteral = false;
+                } else if (kind == OPTIONAL_DIGIT) {
+                    m += offset;
+                    v -= offset;
+                } else if (invalid == -1) {
+                    invalid = v;
+                }
+                v += offset;
+            } else {
+                if (!skipMaskChars) {
+                    out.append(chars[m]);
+                }
+                if (c == chars[m]) {
+                    v += offset;
+                } else {
+                    lastLiteral = chars[m];
+                    skippedLiteral = true;
+                }
+                m += offset;
+            }
+        }
+
+        if (reverse) {
+            for (int i = start, j = out.length() - 1; i < j; i++, j--) {
+                char c = out.charAt(i);
+                out.setCharAt(i, out.charAt(j));
+                out.setCharAt(j, c);
+            }
+        }
+
+        if (maskLength == valueLength + 1 && kinds[lastMaskChar] == LITERAL) {
+            out.append(chars[lastMaskChar]);
+        }
+        return invalid;
+    }
+
+    /**
+     * Returns true if the value contains a match of the whole mask, optional tokens apart.
+     * This is the check of the clearIfNotMatch option.
+     */
+    public boolean matches(CharSequence value) {
+        for (int i = 0; i <= value.length(); i++) {
+            if (matchAt(value, i, 0)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected boolean matchAt(CharSequence value, int v, int m) {
+        if (m == chars.length) {
+            return true;
+        }
+        if (m == groupStart && matchAt(value, v, groupEnd)) {
+            // The recursive part of the mask is optional
+            return true;
+        }
+
+        byte kind = kinds[m];
+        boolean accepted = v < value.length() && (kind == LITERAL
+                ? value.charAt(v) == chars[m] : accepts(kind, value.charAt(v)));
+
+        if (accepted && matchAt(value, v + 1, m + 1)) {
+            return true;
+        }
+        return kind == OPTIONAL_DIGIT && matchAt(value, v, m + 1);
+    }
+}
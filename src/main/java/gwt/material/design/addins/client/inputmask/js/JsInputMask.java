@@ -29,7 +29,12 @@ import jsinterop.annotations.JsType;
  * JSInterop utils for input load component
  *
  * @author kevzlou7979
+ * @deprecated {@link gwt.material.design.addins.client.inputmask.MaterialInputMask} masks with
+ * {@link gwt.material.design.addins.client.inputmask.base.MaskPattern}, the jQuery Mask Plugin must be injected with
+ * {@link gwt.material.design.addins.client.inputmask.MaterialInputMask#loadMaskPlugin()}. Will be removed in the next
+ * release.
  */
+@Deprecated
 @JsType(isNative = true)
 public class JsInputMask extends JQueryElement {
 
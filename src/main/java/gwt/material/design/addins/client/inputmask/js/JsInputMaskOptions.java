@@ -30,7 +30,12 @@ import jsinterop.annotations.JsType;
  * Options for input load component
  *
  * @author kevzlou7979
+ * @deprecated {@link gwt.material.design.addins.client.inputmask.MaterialInputMask} masks with
+ * {@link gwt.material.design.addins.client.inputmask.base.MaskPattern}, the jQuery Mask Plugin must be injected with
+ * {@link gwt.material.design.addins.client.inputmask.MaterialInputMask#loadMaskPlugin()}. Will be removed in the next
+ * release.
  */
+@Deprecated
 @JsType(isNative = true, name = "Object", namespace = JsPackage.GLOBAL)
 public class JsInputMaskOptions {
 
@@ -0,0 +1,115 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.livestamp;
+
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.Timer;
+import gwt.material.design.addins.client.base.VisibilityService;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Single scheduler shared by all the attached {@link MaterialLiveStamp}s. Only the stamps in the
+ * viewport, as reported by the {@link VisibilityService}, are updated, each one when its text is
+ * due to change. One timer is pending at most, set to the earliest update of the visible stamps.
+ */
+final class LiveStampTicker {
+
+    private static final Set<MaterialLiveStamp> visible = new LinkedHashSet<>();
+    private static final Map<MaterialLiveStamp, HandlerRegistration> registrations = new HashMap<>();
+    private static double scheduledAt = Double.MAX_VALUE;
+    private static final Timer timer = new Timer() {
+        @Override
+        public void run() {
+            scheduledAt = Double.MAX_VALUE;
+            tick();
+        }
+    };
+
+    private LiveStampTicker() {}
+
+    static void register(MaterialLiveStamp stamp) {
+        unregister(stamp);
+        registrations.put(stamp, VisibilityService.observe(stamp.getElement(), isVisible -> setVisible(stamp, isVisible)));
+    }
+
+    static void unregister(MaterialLiveStamp stamp) {
+        HandlerRegistration registration = registrations.remove(stamp);
+        if (registration != null) {
+            registration.removeHandler();
+        }
+        visible.remove(stamp);
+        if (visible.isEmpty()) {
+            timer.cancel();
+            scheduledAt = Double.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Reschedule the timer after the next update of a stamp changed.
+     */
+    static void schedule(MaterialLiveStamp stamp) {
+        if (visible.contains(stamp)) {
+            schedule(stamp.getNextUpdate());
+        }
+    }
+
+    static void setVisible(MaterialLiveStamp stamp, boolean isVisible) {
+        if (isVisible) {
+            if (visible.add(stamp)) {
+                double now = Duration.currentTimeMillis();
+                if (stamp.getNextUpdate() <= now) {
+                    stamp.update(now);
+                }
+                schedule(stamp.getNextUpdate());
+            }
+        } else {
+            visible.remove(stamp);
+        }
+    }
+
+    static void tick() {
+        double now = Duration.currentTimeMillis();
+        double next = Double.MAX_VALUE;
+        for (MaterialLiveStamp stamp : visible) {
+            if (stamp.getNextUpdate() <= now) {
+                stamp.update(now);
+            }
+            next = Math.min(next, stamp.getNextUpdate());
+        }
+        schedule(next);
+    }
+
+    static void schedule(double time) {
+        if (time == Double.MAX_VALUE || time >= scheduledAt) {
+            return;
+        }
+        scheduledAt = time;
+        timer.schedule((int) Math.max(1, time - Duration.currentTimeMillis()));
+    }
+
+    static boolean isVisible(MaterialLiveStamp stamp) {
+        return visible.contains(stamp);
+    }
+}
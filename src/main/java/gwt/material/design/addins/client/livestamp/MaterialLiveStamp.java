@@ -19,11 +19,9 @@
  */
 package gwt.material.design.addins.client.livestamp;
 
+import com.google.gwt.core.client.Duration;
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.dom.client.Document;
-import com.google.gwt.dom.client.Element;
-import gwt.material.design.addins.client.MaterialAddins;
-import gwt.material.design.client.MaterialDesignBase;
 import gwt.material.design.client.base.AbstractValueWidget;
 import gwt.material.design.client.base.JsLoader;
 
@@ -52,21 +50,13 @@ import java.util.Date;
  *
  * @author kevzlou7979
  * @see <a href="http://gwtmaterialdesign.github.io/gwt-material-demo/#livestamp">Material Live Stamp</a>
- * @see <a href="https://github.com/mattbradley/livestampjs">LiveStamp 1.1.2</a>
  */
 public class MaterialLiveStamp extends AbstractValueWidget<Date> implements JsLoader {
 
     private Date date = new Date();
-
-    static {
-        if (MaterialAddins.isDebug()) {
-            MaterialDesignBase.injectDebugJs(MaterialLiveStampDebugClientBundle.INSTANCE.momentDebugJs());
-            MaterialDesignBase.injectDebugJs(MaterialLiveStampDebugClientBundle.INSTANCE.liveStampDebugJs());
-        } else {
-            MaterialDesignBase.injectJs(MaterialLiveStampClientBundle.INSTANCE.momentJs());
-            MaterialDesignBase.injectJs(MaterialLiveStampClientBundle.INSTANCE.liveStampJs());
-        }
-    }
+    private RelativeTimeFormat format = RelativeTimeFormat.get();
+    private String text;
+    private double nextUpdate;
 
     public MaterialLiveStamp() {
         super(Document.get().createSpanElement());
@@ -79,10 +69,18 @@ public class MaterialLiveStamp extends AbstractValueWidget<Date> implements JsLo
         load();
     }
 
+    @Override
+    protected void onUnload() {
+        super.onUnload();
+
+        unload();
+    }
+
     @Override
     public void load() {
         if (date != null) {
-            setValue(date);
+            update(Duration.currentTimeMillis());
+            LiveStampTicker.register(this);
         } else {
             GWT.log("You must specify the date value.", new IllegalStateException());
         }
@@ -90,7 +88,7 @@ public class MaterialLiveStamp extends AbstractValueWidget<Date> implements JsLo
 
     @Override
     public void unload() {
-        getElement().removeAttribute("data-livestamp");
+        LiveStampTicker.unregister(this);
     }
 
     @Override
@@ -99,11 +97,53 @@ public class MaterialLiveStamp extends AbstractValueWidget<Date> implements JsLo
         load();
     }
 
+    /**
+     * Update the relative time text and compute when it is due to change.
+     */
+    protected void update(double now) {
+        if (date == null) {
+            nextUpdate = Double.MAX_VALUE;
+            return;
+        }
+        String newText = format.format(date.getTime(), now);
+        if (!newText.equals(text)) {
+            text = newText;
+            getElement().setInnerText(text);
+        }
+        nextUpdate = now + format.getUpdateInterval(date.getTime(), now);
+    }
+
+    protected double getNextUpdate() {
+        return nextUpdate;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public RelativeTimeFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Set the format of the relative time, extend {@link RelativeTimeFormat} to translate it.
+     */
+    public void setFormat(RelativeTimeFormat format) {
+        this.format = format;
+        text = null;
+        if (isAttached()) {
+            update(Duration.currentTimeMillis());
+        }
+    }
+
     @Override
     public void setValue(Date date, boolean fireEvents) {
         this.date = date;
 
-        getElement().setAttribute("data-livestamp", date.toString());
+        if (isAttached()) {
+            update(Duration.currentTimeMillis());
+            LiveStampTicker.schedule(this);
+        }
 
         super.setValue(date, fireEvents);
     }
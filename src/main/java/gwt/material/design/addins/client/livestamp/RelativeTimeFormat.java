@@ -0,0 +1,103 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.livestamp;
+
+/**
+ * Formats the distance between two instants as a relative time, i.e "5 minutes ago" or
+ * "in a day". The rounding and thresholds are the ones of moment.js fromNow(), except that
+ * months are counted with their average length instead of calendar months.
+ */
+public class RelativeTimeFormat {
+
+    public static final long SECOND = 1000;
+    public static final long MINUTE = 60 * SECOND;
+    public static final long HOUR = 60 * MINUTE;
+    public static final long DAY = 24 * HOUR;
+
+    private static final RelativeTimeFormat INSTANCE = new RelativeTimeFormat();
+
+    public static RelativeTimeFormat get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Format the time relative to now, both in milliseconds.
+     */
+    public String format(double time, double now) {
+        double delta = time - now;
+        String distance = formatDistance(Math.abs(delta));
+        return delta > 0 ? formatFuture(distance) : formatPast(distance);
+    }
+
+    /**
+     * Returns the delay after which the text of a time at the given distance from now should be
+     * updated: every second for the first minute, every minute for the first day and then hourly.
+     */
+    public long getUpdateInterval(double time, double now) {
+        double distance = Math.abs(time - now);
+        if (distance < MINUTE) {
+            return SECOND;
+        } else if (distance < DAY) {
+            return MINUTE;
+        }
+        return HOUR;
+    }
+
+    protected String formatDistance(double millis) {
+        double days = millis / DAY;
+        long seconds = Math.round(millis / SECOND);
+        long minutes = Math.round(millis / MINUTE);
+        long hours = Math.round(millis / HOUR);
+        long roundedDays = Math.round(days);
+        long months = Math.round(days * 4800 / 146097);
+        long years = Math.round(days * 400 / 146097);
+
+        if (seconds < 45) {
+            return "a few seconds";
+        } else if (minutes <= 1) {
+            return "a minute";
+        } else if (minutes < 45) {
+            return minutes + " minutes";
+        } else if (hours <= 1) {
+            return "an hour";
+        } else if (hours < 22) {
+            return hours + " hours";
+        } else if (roundedDays <= 1) {
+            return "a day";
+        } else if (roundedDays < 26) {
+            return roundedDays + " days";
+        } else if (months <= 1) {
+            return "a month";
+        } else if (months < 11) {
+            return months + " months";
+        } else if (years <= 1) {
+            return "a year";
+        }
+        return years + " years";
+    }
+
+    protected String formatPast(String distance) {
+        return distance + " ago";
+    }
+
+    protected String formatFuture(String distance) {
+        return "in " + distance;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.masonry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Column packing layout used by {@link MaterialMasonry} with the
+ * {@link gwt.material.design.addins.client.masonry.constants.MasonryEngine#COLUMN} engine.
+ * Every item is placed on top of the shortest column, so appending items only places the
+ * new ones and never moves the items that are already laid out.
+ */
+public class MasonryColumnLayout {
+
+    /**
+     * The computed position of a single item.
+     */
+    public static class Slot {
+
+        private final int column;
+        private final double left;
+        private final double top;
+        private final double width;
+        private final double height;
+
+        public Slot(int column, double left, double top, double width, double height) {
+            this.column = column;
+            this.left = left;
+            this.top = top;
+            this.width = width;
+            this.height = height;
+        }
+
+        public int getColumn() {
+            return column;
+        }
+
+        public double getLeft() {
+            return left;
+        }
+
+        public double getTop() {
+            return top;
+        }
+
+        public double getWidth() {
+            return width;
+        }
+
+        public double getHeight() {
+            return height;
+        }
+
+        public double getBottom() {
+            return top + height;
+        }
+    }
+
+    private double columnWidth = 240;
+    private double gutter;
+    private boolean originLeft = true;
+    private double containerWidth = -1;
+    private int columns = 1;
+    private double itemWidth;
+    private double[] heights = new double[1];
+    private final List<Slot> slots = new ArrayList<>();
+    private final List<List<Integer>> columnSlots = new ArrayList<>();
+
+    /**
+     * Clear every placed item and compute the columns fitting in the given container width.
+     */
+    public void reset(double containerWidth) {
+        this.containerWidth = containerWidth;
+        columns = Math.max(1, (int) ((containerWidth + gutter) / (columnWidth + gutter)));
+        itemWidth = Math.max(0, (containerWidth - gutter * (columns - 1)) / columns);
+        heights = new double[columns];
+        slots.clear();
+        columnSlots.clear();
+        for (int i = 0; i < columns; i++) {
+            columnSlots.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Place an item of the given height on the shortest column.
+     */
+    public Slot place(double height) {
+        int column = 0;
+        for (int i = 1; i < columns; i++) {
+            if (heights[i] < heights[column]) {
+                column = i;
+            }
+        }
+
+        double left = column * (itemWidth + gutter);
+        if (!originLeft) {
+            left = containerWidth - left - itemWidth;
+        }
+
+        Slot slot = new Slot(column, left, heights[column], itemWidth, height);
+        heights[column] = slot.getBottom() + gutter;
+        if (column < columnSlots.size()) {
+            columnSlots.get(column).add(slots.size());
+        }
+        slots.add(slot);
+        return slot;
+    }
+
+    /**
+     * Collect the index of every slot intersecting the vertical range between top and bottom. Slots are
+     * stacked in order within a column, so each column is binary searched for its first visible slot.
+     */
+    public void findSlots(double top, double bottom, Collection<Integer> result) {
+        for (List<Integer> column : columnSlots) {
+            int low = 0;
+            int high = column.size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (slots.get(column.get(middle)).getBottom() < top) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            for (int i = low; i < column.size(); i++) {
+                int index = column.get(i);
+                if (slots.get(index).getTop() > bottom) {
+                    break;
+                }
+                result.add(index);
+            }
+        }
+    }
+
+    /**
+     * Get the height of an item of the given aspect ratio (width / height) at the current column width.
+     */
+    public double getHeightFor(double aspectRatio) {
+        return aspectRatio > 0 ? itemWidth / aspectRatio : 0;
+    }
+
+    /**
+     * Get the height of the tallest column.
+     */
+    public double getHeight() {
+        double height = 0;
+        for (double columnHeight : heights) {
+            height = Math.max(height, columnHeight);
+        }
+        return slots.isEmpty() ? 0 : height - gutter;
+    }
+
+    public List<Slot> getSlots() {
+        return Collections.unmodifiableList(slots);
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public double getItemWidth() {
+        return itemWidth;
+    }
+
+    public double getContainerWidth() {
+        return containerWidth;
+    }
+
+    public double getColumnWidth() {
+        return columnWidth;
+    }
+
+    /**
+     * Set the minimum width of a column in pixels, the columns are stretched to fill the container.
+     */
+    public void setColumnWidth(double columnWidth) {
+        this.columnWidth = columnWidth;
+    }
+
+    public double getGutter() {
+        return gutter;
+    }
+
+    /**
+     * Set the horizontal and vertical space between items in pixels.
+     */
+    public void setGutter(double gutter) {
+        this.gutter = gutter;
+    }
+
+    public boolean isOriginLeft() {
+        return originLeft;
+    }
+
+    public void setOriginLeft(boolean originLeft) {
+        this.originLeft = originLeft;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.masonry;
+
+import com.google.gwt.user.client.ui.Widget;
+
+/**
+ * Creates and binds the recyclable tiles of a {@link MaterialVirtualMasonry}.
+ */
+public interface MasonryTileRenderer<T> {
+
+    /**
+     * Create a new empty tile, it will be bound to many items during its life.
+     */
+    Widget createTile();
+
+    /**
+     * Bind the tile to the given item, this is the place to set the image sources as it is
+     * only called for the tiles intersecting the viewport.
+     */
+    void renderTile(Widget tile, T item);
+
+    /**
+     * Unbind the tile from its item before it is recycled, i.e clear its image sources.
+     */
+    void releaseTile(Widget tile);
+
+    /**
+     * Get the height of the tile of the given item when rendered at the given width.
+     */
+    double getHeight(T item, double width);
+}
@@ -19,12 +19,17 @@
  */
 package gwt.material.design.addins.client.masonry;
 
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.RunAsyncCallback;
 import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Style;
 import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.user.client.ui.IsWidget;
 import com.google.gwt.user.client.ui.Widget;
 import gwt.material.design.addins.client.MaterialAddins;
+import gwt.material.design.addins.client.base.ResizeService;
 import gwt.material.design.addins.client.base.constants.AddinsCssName;
+import gwt.material.design.addins.client.masonry.constants.MasonryEngine;
 import gwt.material.design.addins.client.masonry.events.HasMasonryHandler;
 import gwt.material.design.addins.client.masonry.events.LayoutCompleteEvent;
 import gwt.material.design.addins.client.masonry.events.MasonryEvents;
@@ -38,6 +43,10 @@ import gwt.material.design.client.base.MaterialWidget;
 import gwt.material.design.client.constants.CssName;
 import gwt.material.design.client.ui.MaterialRow;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import static gwt.material.design.addins.client.masonry.js.JsMasonry.$;
 
 //@formatter:off
@@ -72,20 +81,53 @@ import static gwt.material.design.addins.client.masonry.js.JsMasonry.$;
 //@formatter:on
 public class MaterialMasonry extends MaterialRow implements JsLoader, HasDurationTransition, HasMasonryHandler {
 
-    static {
-        if (MaterialAddins.isDebug()) {
-            MaterialDesignBase.injectDebugJs(MaterialMasonryDebugClientBundle.INSTANCE.masonryJsDebug());
-            MaterialDesignBase.injectDebugJs(MaterialMasonryDebugClientBundle.INSTANCE.imageLoadedJsDebug());
-        } else {
-            MaterialDesignBase.injectJs(MaterialMasonryClientBundle.INSTANCE.masonryJs());
-            MaterialDesignBase.injectJs(MaterialMasonryClientBundle.INSTANCE.imageLoadedJs());
+    public static final String ASPECT_RATIO_ATTRIBUTE = "data-aspect-ratio";
+
+    private static boolean resourcesLoaded = false;
+
+    /**
+     * Load the masonry and imagesLoaded plugins, which are behind a split point so only the
+     * {@link MasonryEngine#PLUGIN} engine downloads them.
+     */
+    static void loadResources(Runnable callback) {
+        if (resourcesLoaded) {
+            callback.run();
+            return;
         }
+        GWT.runAsync(MaterialMasonry.class, new RunAsyncCallback() {
+            @Override
+            public void onFailure(Throwable reason) {
+                GWT.log("Unable to load the masonry plugins", reason);
+            }
+
+            @Override
+            public void onSuccess() {
+                if (!resourcesLoaded) {
+                    if (MaterialAddins.isDebug()) {
+                        MaterialDesignBase.injectDebugJs(MaterialMasonryDebugClientBundle.INSTANCE.masonryJsDebug());
+                        MaterialDesignBase.injectDebugJs(MaterialMasonryDebugClientBundle.INSTANCE.imageLoadedJsDebug());
+                    } else {
+                        MaterialDesignBase.injectJs(MaterialMasonryClientBundle.INSTANCE.masonryJs());
+                        MaterialDesignBase.injectJs(MaterialMasonryClientBundle.INSTANCE.imageLoadedJs());
+                    }
+                    resourcesLoaded = true;
+                }
+                callback.run();
+            }
+        });
     }
 
     private MaterialWidget sizerDiv = new MaterialWidget(Document.get().createDivElement());
     private JsMasonryOptions options = JsMasonryOptions.create();
     private JsMasonry masonryElement;
     private Widget target;
+    private boolean initialized;
+    private int batchDepth;
+    private boolean batchDirty;
+    private MasonryEngine engine = MasonryEngine.PLUGIN;
+    private MasonryColumnLayout columnLayout = new MasonryColumnLayout();
+    private List<Widget> placedItems = new ArrayList<>();
+    private boolean columnLayoutInvalid = true;
 
     public MaterialMasonry() {
         super(Document.get().createDivElement(), AddinsCssName.MASONRY, CssName.ROW);
@@ -93,6 +135,13 @@ public class MaterialMasonry extends MaterialRow implements JsLoader, HasDuratio
         sizerDiv.setWidth("8.3333%");
         sizerDiv.setStyleName(AddinsCssName.COL_SIZER);
         add(sizerDiv);
+
+        // Resizes are coalesced into one frame, only a new width needs a relayout of the columns
+        ResizeService.subscribe(this, (width, height) -> {
+            if (engine == MasonryEngine.COLUMN && getElement().getClientWidth() != columnLayout.getContainerWidth()) {
+                reload();
+            }
+        });
     }
 
     @Override
@@ -101,6 +150,10 @@ public class MaterialMasonry extends MaterialRow implements JsLoader, HasDuratio
 
         load();
 
+        if (engine == MasonryEngine.COLUMN) {
+            return;
+        }
+
         masonryElement.on(MasonryEvents.REMOVE_COMPLETE, (e, param1) -> {
             RemoveCompleteEvent.fire(this, target);
             return true;
@@ -114,8 +167,28 @@ public class MaterialMasonry extends MaterialRow implements JsLoader, HasDuratio
 
     @Override
     public void load() {
-        masonryElement = $(getElement());
-        masonryElement.imagesLoaded(() -> masonryElement.masonry(options));
+        if (engine == MasonryEngine.COLUMN) {
+            getElement().getStyle().setPosition(Style.Position.RELATIVE);
+            sizerDiv.setVisible(false);
+            columnLayoutInvalid = true;
+            initialized = true;
+            layout();
+            return;
+        }
+
+        JsMasonry element = $(getElement());
+        masonryElement = element;
+        // Ignore the callbacks of a load which was unloaded since
+        loadResources(() -> {
+            if (masonryElement == element) {
+                element.imagesLoaded(() -> {
+                    if (masonryElement == element) {
+                        element.masonry(options);
+                        initialized = true;
+                    }
+                });
+            }
+        });
     }
 
     @Override
@@ -127,21 +200,85 @@ public class MaterialMasonry extends MaterialRow implements JsLoader, HasDuratio
 
     @Override
     public void unload() {
-        if (masonryElement != null) {
-            masonryElement.masonry("destroy");
+        placedItems.clear();
+        if (engine == MasonryEngine.COLUMN) {
+            initialized = false;
+        } else if (masonryElement != null) {
+            if (initialized) {
+                initialized = false;
+                masonryElement.masonry("destroy");
+            }
             masonryElement.off(MasonryEvents.REMOVE_COMPLETE);
             masonryElement.off(MasonryEvents.LAYOUT_COMPLETE);
+            masonryElement = null;
         }
     }
 
+    /**
+     * Reload the items and layout the masonry, while inside a {@link #batch(Runnable)} this
+     * is deferred until the batch closes.
+     */
     @Override
     public void reload() {
-        if (masonryElement != null) {
-            layout();
-            reloadItems();
+        if (initialized || masonryElement != null) {
+            if (batchDepth > 0) {
+                batchDirty = true;
+            } else {
+                reloadItems();
+                layout();
+            }
+        }
+    }
+
+    /**
+     * Run the provided mutations with the layout suspended, the items are reloaded and laid out
+     * exactly once when the outermost batch closes.
+     */
+    public void batch(Runnable mutations) {
+        batchDepth++;
+        try {
+            mutations.run();
+        } finally {
+            batchDepth--;
+            if (batchDepth == 0 && batchDirty) {
+                batchDirty = false;
+                reload();
+            }
         }
     }
 
+    /**
+     * Add all the provided widgets with a single layout.
+     */
+    public void addAll(Collection<? extends Widget> children) {
+        batch(() -> {
+            for (Widget child : children) {
+                add(child);
+            }
+        });
+    }
+
+    /**
+     * Remove all the provided widgets with a single layout.
+     */
+    public void removeAll(Collection<? extends Widget> children) {
+        batch(() -> {
+            for (Widget child : children) {
+                masonryRemove(child);
+            }
+        });
+    }
+
+    /**
+     * Replace all the items with the provided widgets with a single layout.
+     */
+    public void replaceAll(Collection<? extends Widget> children) {
+        batch(() -> {
+            clear();
+            addAll(children);
+        });
+    }
+
     @Override
     public boolean remove(Widget w) {
         return remove((IsWidget) w);
@@ -171,12 +308,13 @@ public class MaterialMasonry extends MaterialRow implements JsLoader, HasDuratio
 
     @Override
     public void clear() {
-        for (Widget w : getChildrenList()) {
-            if (w != sizerDiv) {
-                masonryRemove(w);
+        batch(() -> {
+            for (Widget w : new ArrayList<>(getChildrenList())) {
+                if (w != sizerDiv) {
+                    masonryRemove(w);
+                }
             }
-        }
-        reload();
+        });
     }
 
     @Override
@@ -207,14 +345,152 @@ public class MaterialMasonry extends MaterialRow implements JsLoader, HasDuratio
      * Reload all items inside the masonry
      */
     protected void reloadItems() {
-        masonryElement.masonry(options).masonry("reloadItems");
+        if (initialized && engine == MasonryEngine.PLUGIN) {
+            masonryElement.masonry("reloadItems");
+        }
     }
 
     /**
      * Layout remaining item elements
      */
     protected void layout() {
-        masonryElement.masonry(options).masonry("layout");
+        if (initialized) {
+            if (engine == MasonryEngine.COLUMN) {
+                layoutColumns();
+            } else {
+                masonryElement.masonry("option", options);
+                masonryElement.masonry("layout");
+            }
+        }
+    }
+
+    /**
+     * Position the items on the {@link MasonryColumnLayout}. When items were only appended since the
+     * last layout and the width did not change, only the new items are placed. Every item without a
+     * declared aspect ratio is measured in a single read pass and all the positions are then applied
+     * with transforms in a single write pass.
+     */
+    protected void layoutColumns() {
+        List<Widget> items = getItems();
+        double width = getElement().getClientWidth();
+        int start = placedItems.size();
+
+        if (columnLayoutInvalid || width != columnLayout.getContainerWidth() || start > items.size()
+                || !items.subList(0, start).equals(placedItems)) {
+            columnLayout.setGutter(options.gutter);
+            columnLayout.setOriginLeft(options.originLeft);
+            columnLayout.reset(width);
+            placedItems.clear();
+            columnLayoutInvalid = false;
+            start = 0;
+        }
+
+        List<Widget> added = items.subList(start, items.size());
+        double[] heights = new double[added.size()];
+        boolean measure = false;
+        for (int i = 0; i < heights.length; i++) {
+            heights[i] = columnLayout.getHeightFor(getAspectRatio(added.get(i)));
+            if (heights[i] <= 0) {
+                Style style = added.get(i).getElement().getStyle();
+                style.setPosition(Style.Position.ABSOLUTE);
+                style.setWidth(columnLayout.getItemWidth(), Style.Unit.PX);
+                measure = true;
+            }
+        }
+
+        if (measure) {
+            for (int i = 0; i < heights.length; i++) {
+                if (heights[i] <= 0) {
+                    heights[i] = added.get(i).getElement().getOffsetHeight();
+                }
+            }
+        }
+
+        for (int i = 0; i < heights.length; i++) {
+            Widget item = added.get(i);
+            MasonryColumnLayout.Slot slot = columnLayout.place(heights[i]);
+            Style style = item.getElement().getStyle();
+            style.setPosition(Style.Position.ABSOLUTE);
+            style.setLeft(0, Style.Unit.PX);
+            style.setTop(0, Style.Unit.PX);
+            style.setWidth(slot.getWidth(), Style.Unit.PX);
+            if (getAspectRatio(item) > 0) {
+                style.setHeight(slot.getHeight(), Style.Unit.PX);
+            }
+            style.setProperty("transform", "translate(" + slot.getLeft() + "px, " + slot.getTop() + "px)");
+            if (options.transitionDuration != null) {
+                style.setProperty("transition", "transform " + options.transitionDuration);
+            }
+        }
+        placedItems.addAll(added);
+
+        getElement().getStyle().setHeight(columnLayout.getHeight(), Style.Unit.PX);
+        LayoutCompleteEvent.fire(this);
+    }
+
+    /**
+     * Get the masonry items, excluding the column sizer.
+     */
+    public List<Widget> getItems() {
+        List<Widget> items = new ArrayList<>();
+        for (Widget child : getChildrenList()) {
+            if (child != sizerDiv) {
+                items.add(child);
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Declare the aspect ratio (width / height) of an item, so the {@link MasonryEngine#COLUMN} engine
+     * can place it without waiting for its content to load.
+     */
+    public static void setAspectRatio(Widget item, double aspectRatio) {
+        item.getElement().setAttribute(ASPECT_RATIO_ATTRIBUTE, String.valueOf(aspectRatio));
+    }
+
+    /**
+     * Get the declared aspect ratio of an item or 0 if none was declared.
+     */
+    public static double getAspectRatio(Widget item) {
+        String aspectRatio = item.getElement().getAttribute(ASPECT_RATIO_ATTRIBUTE);
+        if (aspectRatio == null || aspectRatio.isEmpty()) {
+            return 0;
+        }
+        try {
+            return Double.parseDouble(aspectRatio);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    public MasonryEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Set the engine used to position the items, this must be set before the masonry is attached.
+     * The {@link MasonryEngine#COLUMN} engine doesn't wait for images, so their items should declare
+     * an aspect ratio through {@link #setAspectRatio(Widget, double)}.
+     */
+    public void setEngine(MasonryEngine engine) {
+        this.engine = engine;
+    }
+
+    public double getColumnWidth() {
+        return columnLayout.getColumnWidth();
+    }
+
+    /**
+     * Set the minimum column width in pixels used by the {@link MasonryEngine#COLUMN} engine.
+     */
+    public void setColumnWidth(double columnWidth) {
+        columnLayout.setColumnWidth(columnWidth);
+        columnLayoutInvalid = true;
+    }
+
+    public MasonryColumnLayout getColumnLayout() {
+        return columnLayout;
     }
 
     /**
@@ -260,6 +536,7 @@ public class MaterialMasonry extends MaterialRow implements JsLoader, HasDuratio
      */
     public void setOriginLeft(boolean originLeft) {
         options.originLeft = originLeft;
+        columnLayoutInvalid = true;
     }
 
     /**
@@ -289,6 +566,7 @@ public class MaterialMasonry extends MaterialRow implements JsLoader, HasDuratio
      */
     public void setGutter(int gutter) {
         options.gutter = gutter;
+        columnLayoutInvalid = true;
     }
 
     public int getGutter() {
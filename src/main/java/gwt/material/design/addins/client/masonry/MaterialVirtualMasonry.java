@@ -0,0 +1,352 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.masonry;
+
+import com.google.gwt.animation.client.AnimationScheduler;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.Style;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.DOM;
+import com.google.gwt.user.client.Window;
+import com.google.gwt.user.client.ui.Widget;
+import gwt.material.design.addins.client.base.ResizeService;
+import gwt.material.design.addins.client.base.constants.AddinsCssName;
+import gwt.material.design.addins.client.masonry.events.LayoutCompleteEvent;
+import gwt.material.design.client.base.MaterialWidget;
+
+import java.util.*;
+
+import static gwt.material.design.jquery.client.api.JQuery.$;
+
+//@formatter:off
+
+/**
+ * Windowed masonry board for large collections. The positions of every item are computed with a
+ * {@link MasonryColumnLayout}, but only the tiles intersecting the viewport of the nearest scrolling
+ * container, or of the window, (plus {@link #getOverscan() overscan}) are attached, recycling the tiles created by a
+ * {@link MasonryTileRenderer}. The DOM size and memory stays flat no matter how many items are added.
+ * <p>
+ * <h3>Java Usage:</h3>
+ * <pre>
+ * {@code
+ * MaterialVirtualMasonry<Card> board = new MaterialVirtualMasonry<>(new CardRenderer());
+ * board.setItems(cards);
+ * }
+ * </pre>
+ */
+//@formatter:on
+public class MaterialVirtualMasonry<T> extends MaterialWidget {
+
+    private final MasonryTileRenderer<T> renderer;
+    private final MasonryColumnLayout layout = new MasonryColumnLayout();
+    private final List<T> items = new ArrayList<>();
+    private final Map<Integer, Widget> attachedTiles = new HashMap<>();
+    private final LinkedList<Widget> freeTiles = new LinkedList<>();
+    private final Set<Integer> visible = new HashSet<>();
+    private int overscan = 600;
+    private int maxFreeTiles = 16;
+    private String transitionDuration;
+    private AnimationScheduler.AnimationHandle frame;
+    private Element scrollParent;
+    private HandlerRegistration scrollParentResize;
+    private final String scrollNamespace = "scroll." + DOM.createUniqueId();
+
+    public MaterialVirtualMasonry(MasonryTileRenderer<T> renderer) {
+        super(Document.get().createDivElement(), AddinsCssName.MASONRY);
+        this.renderer = renderer;
+        getElement().getStyle().setPosition(Style.Position.RELATIVE);
+
+        // Resizes are coalesced into one frame, only a new width needs to place the items again
+        ResizeService.subscribe(this, (width, height) -> {
+            if (getElement().getClientWidth() != layout.getContainerWidth()) {
+                relayout();
+            } else {
+                requestFrame();
+            }
+        });
+    }
+
+    @Override
+    protected void onLoad() {
+        super.onLoad();
+
+        scrollParent = findScrollParent(getElement());
+        if (scrollParent != null) {
+            $(scrollParent).on(scrollNamespace, e -> {
+                requestFrame();
+                return true;
+            });
+            scrollParentResize = ResizeService.subscribe(scrollParent, (width, height) -> requestFrame());
+        } else {
+            // The viewport is the window itself
+            registerHandler(Window.addWindowScrollHandler(event -> requestFrame()));
+            registerHandler(Window.addResizeHandler(event -> requestFrame()));
+        }
+        relayout();
+    }
+
+    @Override
+    protected void onUnload() {
+        super.onUnload();
+
+        if (scrollParent != null) {
+            $(scrollParent).off(scrollNamespace);
+            scrollParentResize.removeHandler();
+            scrollParentResize = null;
+            scrollParent = null;
+        }
+        if (frame != null) {
+            frame.cancel();
+            frame = null;
+        }
+    }
+
+    /**
+     * Replace every item of the board.
+     */
+    public void setItems(Collection<? extends T> items) {
+        this.items.clear();
+        this.items.addAll(items);
+        for (Integer index : new ArrayList<>(attachedTiles.keySet())) {
+            recycle(index);
+        }
+        relayout();
+    }
+
+    /**
+     * Append the items to the board, only the new items are placed.
+     */
+    public void addItems(Collection<? extends T> items) {
+        int start = this.items.size();
+        this.items.addAll(items);
+        if (isAttached() && layout.size() == start && getElement().getClientWidth() == layout.getContainerWidth()) {
+            place(start);
+        } else {
+            relayout();
+        }
+    }
+
+    public List<T> getItems() {
+        return Collections.unmodifiableList(items);
+    }
+
+    /**
+     * Compute the position of every item and re-render the visible window.
+     */
+    public void relayout() {
+        if (!isAttached()) {
+            return;
+        }
+        layout.reset(getElement().getClientWidth());
+        for (Widget tile : attachedTiles.values()) {
+            tile.getElement().getStyle().setWidth(layout.getItemWidth(), Style.Unit.PX);
+        }
+        place(0);
+    }
+
+    protected void place(int start) {
+        for (int i = start; i < items.size(); i++) {
+            layout.place(renderer.getHeight(items.get(i), layout.getItemWidth()));
+        }
+        getElement().getStyle().setHeight(layout.getHeight(), Style.Unit.PX);
+        LayoutCompleteEvent.fire(this);
+        requestFrame();
+    }
+
+    protected void requestFrame() {
+        if (frame == null) {
+            frame = AnimationScheduler.get().requestAnimationFrame(timestamp -> {
+                frame = null;
+                render();
+            });
+        }
+    }
+
+    /**
+     * Attach the tiles of the items intersecting the viewport and recycle the others.
+     */
+    protected void render() {
+        if (!isAttached()) {
+            return;
+        }
+        double top;
+        double height;
+        if (scrollParent != null) {
+            top = scrollParent.getAbsoluteTop() - getElement().getAbsoluteTop();
+            height = scrollParent.getClientHeight();
+        } else {
+            top = Window.getScrollTop() - getElement().getAbsoluteTop();
+            height = Window.getClientHeight();
+        }
+        render(top - overscan, top + height + overscan);
+    }
+
+    /**
+     * Attach the tiles of the items intersecting the vertical range, relative to the top of the
+     * board, and recycle the others.
+     */
+    protected void render(double top, double bottom) {
+        visible.clear();
+        layout.findSlots(top, bottom, visible);
+
+        for (Integer index : new ArrayList<>(attachedTiles.keySet())) {
+            Widget tile = attachedTiles.get(index);
+            if (!visible.contains(index)) {
+                recycle(index);
+            } else {
+                position(tile, index);
+            }
+        }
+
+        for (Integer index : visible) {
+            if (!attachedTiles.containsKey(index)) {
+                Widget tile = freeTiles.poll();
+                if (tile == null) {
+                    tile = renderer.createTile();
+                    tile.getElement().getStyle().setPosition(Style.Position.ABSOLUTE);
+                    tile.getElement().getStyle().setLeft(0, Style.Unit.PX);
+                    tile.getElement().getStyle().setTop(0, Style.Unit.PX);
+                    add(tile);
+                }
+                renderer.renderTile(tile, items.get(index));
+                position(tile, index);
+                tile.setVisible(true);
+                attachedTiles.put(index, tile);
+            }
+        }
+    }
+
+    protected void position(Widget tile, int index) {
+        MasonryColumnLayout.Slot slot = layout.getSlots().get(index);
+        Style style = tile.getElement().getStyle();
+        style.setWidth(slot.getWidth(), Style.Unit.PX);
+        style.setHeight(slot.getHeight(), Style.Unit.PX);
+        style.setProperty("transform", "translate(" + slot.getLeft() + "px, " + slot.getTop() + "px)");
+        if (transitionDuration != null) {
+            style.setProperty("transition", "transform " + transitionDuration);
+        }
+    }
+
+    protected void recycle(int index) {
+        Widget tile = attachedTiles.remove(index);
+        if (tile != null) {
+            renderer.releaseTile(tile);
+            if (freeTiles.size() < maxFreeTiles) {
+                tile.setVisible(false);
+                freeTiles.add(tile);
+            } else {
+                tile.removeFromParent();
+            }
+        }
+    }
+
+    /**
+     * Returns the nearest ancestor scrolling its overflow, or null if the board scrolls with the window.
+     */
+    protected static native Element findScrollParent(Element element) /*-{
+        var node = element.parentElement;
+        while (node && node !== $doc.body && node !== $doc.documentElement) {
+            var style = $wnd.getComputedStyle(node);
+            if (/(auto|scroll|overlay)/.test(style.overflowY + ' ' + style.overflow)) {
+                return node;
+            }
+            node = node.parentElement;
+        }
+        return null;
+    }-*/;
+
+    public Element getScrollParent() {
+        return scrollParent;
+    }
+
+    /**
+     * Get the number of tiles currently bound to an item.
+     */
+    public int getRenderedCount() {
+        return attachedTiles.size();
+    }
+
+    public MasonryColumnLayout getColumnLayout() {
+        return layout;
+    }
+
+    public double getColumnWidth() {
+        return layout.getColumnWidth();
+    }
+
+    /**
+     * Set the minimum column width in pixels, the columns are stretched to fill the board.
+     */
+    public void setColumnWidth(double columnWidth) {
+        layout.setColumnWidth(columnWidth);
+        relayout();
+    }
+
+    public int getGutter() {
+        return (int) layout.getGutter();
+    }
+
+    /**
+     * Set the space in pixels between the tiles.
+     */
+    public void setGutter(int gutter) {
+        layout.setGutter(gutter);
+        relayout();
+    }
+
+    public int getOverscan() {
+        return overscan;
+    }
+
+    /**
+     * Set the extra pixels above and below the viewport in which tiles are kept rendered.
+     */
+    public void setOverscan(int overscan) {
+        this.overscan = overscan;
+        requestFrame();
+    }
+
+    public int getMaxFreeTiles() {
+        return maxFreeTiles;
+    }
+
+    /**
+     * Set the maximum number of hidden tiles kept for recycling, the others are removed.
+     */
+    public void setMaxFreeTiles(int maxFreeTiles) {
+        this.maxFreeTiles = maxFreeTiles;
+    }
+
+    public String getTransitionDuration() {
+        return transitionDuration;
+    }
+
+    /**
+     * Set the CSS duration of the tile transform transition, i.e "400ms".
+     */
+    public void setTransitionDuration(String transitionDuration) {
+        this.transitionDuration = transitionDuration;
+    }
+
+    public HandlerRegistration addLayoutCompleteHandler(LayoutCompleteEvent.LayoutCompleteHandler handler) {
+        return addHandler(handler, LayoutCompleteEvent.TYPE);
+    }
+}
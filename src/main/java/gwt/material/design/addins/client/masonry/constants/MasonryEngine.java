@@ -0,0 +1,35 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.masonry.constants;
+
+/**
+ * The engine used by {@link gwt.material.design.addins.client.masonry.MaterialMasonry} to position its items.
+ */
+public enum MasonryEngine {
+    /**
+     * Items are positioned by the Masonry jQuery plugin once all images are loaded.
+     */
+    PLUGIN,
+    /**
+     * Items are positioned in Java on fixed width columns using their declared aspect ratios,
+     * without waiting for images and without loading the Masonry and imagesLoaded plugins.
+     */
+    COLUMN
+}
@@ -60,4 +60,7 @@ public class JsMasonry extends JQueryElement {
 
     @JsMethod
     public native JsMasonry masonry(String action, String selector);
+
+    @JsMethod
+    public native JsMasonry masonry(String action, JsMasonryOptions options);
 }
@@ -19,6 +19,7 @@
  */
 package gwt.material.design.addins.client.popupmenu;
 
+import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.dom.client.Element;
 import com.google.gwt.event.logical.shared.*;
@@ -32,6 +33,9 @@ import gwt.material.design.client.constants.CssName;
 import gwt.material.design.client.ui.html.UnorderedList;
 import gwt.material.design.jquery.client.api.JQueryElement;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static gwt.material.design.jquery.client.api.JQuery.$;
 
 /**
@@ -51,6 +55,9 @@ public class MaterialPopupMenu extends UnorderedList implements JsLoader, HasSel
         }
     }
 
+    private static final List<MaterialPopupMenu> openMenus = new ArrayList<>();
+    private static JavaScriptObject scrollListener;
+
     private int popupX;
     private int popupY;
     private String id;
@@ -71,12 +78,7 @@ public class MaterialPopupMenu extends UnorderedList implements JsLoader, HasSel
     @Override
     public void load() {
         $(this).attr("tabindex", "0");
-        $(this).on("blur", e -> {
-            close();
-            return true;
-        });
-
-        $("*").on("scroll." + id, e -> {
+        $(this).on("blur." + id, e -> {
             close();
             return true;
         });
@@ -95,11 +97,8 @@ public class MaterialPopupMenu extends UnorderedList implements JsLoader, HasSel
 
     @Override
     public void unload() {
-        $(".popup-menu li").off("mouseleave");
-        $(".popup-menu li").off("click");
-        $(".popup-menu li").off("mouseover");
         $(this).off("." + id);
-        $("*").off("." + id);
+        removeOpenMenu(this);
     }
 
     @Override
@@ -110,16 +109,17 @@ public class MaterialPopupMenu extends UnorderedList implements JsLoader, HasSel
 
 
     private void initializeSelectionEvent() {
-        // Initialization of Selection event
-        $(".popup-menu li").on("click", e -> {
+        // The item events are delegated to the menu, so items added later are handled too
+        $(this).on("click." + id, "li", e -> {
             e.stopPropagation();
             SelectionEvent.fire(MaterialPopupMenu.this, $(e.getCurrentTarget()).asElement());
+            removeOpenMenu(this);
             $(this).hide();
             return true;
         });
 
         // Check if the dropdown is not visible anymore into it's container either left / bottom side
-        $(".popup-menu li").on("mouseover", (e, param1) -> {
+        $(this).on("mouseover." + id, "li", e -> {
             JQueryElement item = $(e.getCurrentTarget()).find("a");
             if (item.attr("data-activates") != null) {
                 JQueryElement dp = $("#" + item.attr("data-activates"));
@@ -143,7 +143,7 @@ public class MaterialPopupMenu extends UnorderedList implements JsLoader, HasSel
             return true;
         });
 
-        $(".popup-menu li").on("mouseleave", (e, param) -> {
+        $(this).on("mouseleave." + id, "li", e -> {
             JQueryElement item = $(e.getCurrentTarget()).find("a");
             if (item.attr("data-activates") != null) {
                 JQueryElement dp = $("#" + item.attr("data-activates"));
@@ -174,6 +174,7 @@ public class MaterialPopupMenu extends UnorderedList implements JsLoader, HasSel
     }
 
     public void open() {
+        addOpenMenu(this);
         setVisible(true);
         Scheduler.get().scheduleDeferred(() -> setFocus(true));
 
@@ -185,6 +186,7 @@ public class MaterialPopupMenu extends UnorderedList implements JsLoader, HasSel
     }
 
     public void close() {
+        removeOpenMenu(this);
         setVisible(false);
         CloseEvent.fire(this, this);
     }
@@ -221,6 +223,45 @@ public class MaterialPopupMenu extends UnorderedList implements JsLoader, HasSel
         }, OpenEvent.getType());
     }
 
+    /**
+     * A scroll anywhere in the document closes the open menus. A single capturing listener is
+     * registered on the document while at least one menu is open.
+     */
+    protected static void addOpenMenu(MaterialPopupMenu menu) {
+        if (!openMenus.contains(menu)) {
+            openMenus.add(menu);
+        }
+        if (scrollListener == null) {
+            scrollListener = addScrollListener();
+        }
+    }
+
+    protected static void removeOpenMenu(MaterialPopupMenu menu) {
+        openMenus.remove(menu);
+        if (openMenus.isEmpty() && scrollListener != null) {
+            removeScrollListener(scrollListener);
+            scrollListener = null;
+        }
+    }
+
+    protected static void closeOpenMenus() {
+        for (MaterialPopupMenu menu : new ArrayList<>(openMenus)) {
+            menu.close();
+        }
+    }
+
+    private static native JavaScriptObject addScrollListener() /*-{
+        var listener = $entry(function () {
+            @gwt.material.design.addins.client.popupmenu.MaterialPopupMenu::closeOpenMenus()();
+        });
+        $doc.addEventListener('scroll', listener, true);
+        return listener;
+    }-*/;
+
+    private static native void removeScrollListener(JavaScriptObject listener) /*-{
+        $doc.removeEventListener('scroll', listener, true);
+    }-*/;
+
     public int getPopupX() {
         return popupX;
     }
@@ -19,6 +19,7 @@
  */
 package gwt.material.design.addins.client.richeditor;
 
+import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.dom.client.Document;
 import com.google.gwt.dom.client.Element;
 import com.google.gwt.event.dom.client.BlurEvent;
@@ -29,15 +30,21 @@ import com.google.gwt.event.logical.shared.HasValueChangeHandlers;
 import com.google.gwt.event.logical.shared.ValueChangeEvent;
 import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.safehtml.shared.SafeHtmlUtils;
+import com.google.gwt.user.client.Timer;
 import com.google.gwt.user.client.ui.HasHTML;
 import gwt.material.design.addins.client.MaterialAddins;
 import gwt.material.design.addins.client.base.constants.AddinsCssName;
+import gwt.material.design.addins.client.richeditor.base.DeltaTracker;
+import gwt.material.design.addins.client.richeditor.base.HasDirtyHandlers;
 import gwt.material.design.addins.client.richeditor.base.HasPasteHandlers;
 import gwt.material.design.addins.client.richeditor.base.ToolBarManager;
+import gwt.material.design.addins.client.richeditor.base.constants.ChangeEventMode;
 import gwt.material.design.addins.client.richeditor.base.constants.RichEditorEvents;
 import gwt.material.design.addins.client.richeditor.base.constants.ToolbarButton;
+import gwt.material.design.addins.client.richeditor.events.DirtyEvent;
 import gwt.material.design.addins.client.richeditor.events.PasteEvent;
 import gwt.material.design.addins.client.richeditor.js.JsRichEditor;
+import gwt.material.design.addins.client.richeditor.js.JsRichEditorDelta;
 import gwt.material.design.addins.client.richeditor.js.JsRichEditorOptions;
 import gwt.material.design.client.MaterialDesignBase;
 import gwt.material.design.client.base.AbstractValueWidget;
@@ -73,7 +80,7 @@ import static gwt.material.design.addins.client.richeditor.js.JsRichEditor.$;
  * @see <a href="https://github.com/Cerealkillerway/materialNote">1.2.1</a>
  */
 //@formatter:on
-public class MaterialRichEditor extends AbstractValueWidget<String> implements JsLoader, HasValueChangeHandlers<String>, HasPasteHandlers, HasPlaceholder, HasHTML  {
+public class MaterialRichEditor extends AbstractValueWidget<String> implements JsLoader, HasValueChangeHandlers<String>, HasPasteHandlers, HasDirtyHandlers, HasPlaceholder, HasHTML  {
 
     static {
         if (MaterialAddins.isDebug()) {
@@ -92,6 +99,19 @@ public class MaterialRichEditor extends AbstractValueWidget<String> implements J
     private JsRichEditorOptions options = JsRichEditorOptions.create();
 
     private HandlerRegistration handlerRegistration;
+    private ChangeEventMode changeEventMode = ChangeEventMode.IMMEDIATE;
+    private int changeDelay = 300;
+    private String cachedHtml;
+    private boolean deltaTracking;
+    private DeltaTracker deltaTracker = new DeltaTracker();
+    private boolean dirty;
+    private JavaScriptObject changeObserver;
+    private final Timer changeTimer = new Timer() {
+        @Override
+        public void run() {
+            fireValueChange();
+        }
+    };
 
     public MaterialRichEditor() {
         super(Document.get().createDivElement(), AddinsCssName.EDITOR);
@@ -128,6 +148,7 @@ public class MaterialRichEditor extends AbstractValueWidget<String> implements J
 
         // Events
         jsRichEditor.on(RichEditorEvents.MATERIALNOTE_BLUR, event -> {
+            flushValueChange();
             fireEvent(new BlurEvent() {});
             return true;
         });
@@ -136,21 +157,27 @@ public class MaterialRichEditor extends AbstractValueWidget<String> implements J
             return true;
         });
         jsRichEditor.on(RichEditorEvents.MATERIALNOTE_KEYUP, event -> {
-            fireEvent(new KeyUpEvent() {});
+            if (getHandlerCount(KeyUpEvent.getType()) > 0) {
+                fireEvent(new KeyUpEvent() {});
+            }
             return true;
         });
         jsRichEditor.on(RichEditorEvents.MATERIALNOTE_KEYDOWN, event -> {
-            fireEvent(new KeyDownEvent() {});
+            if (getHandlerCount(KeyDownEvent.getType()) > 0) {
+                fireEvent(new KeyDownEvent() {});
+            }
             return true;
         });
         jsRichEditor.on(RichEditorEvents.MATERIALNOTE_PASTE, event -> {
             fireEvent(new PasteEvent() {});
             return true;
         });
-        jsRichEditor.on(RichEditorEvents.MATERIALNOTE_CHANGE, event -> {
-            ValueChangeEvent.fire(MaterialRichEditor.this, getHTMLCode(getElement()));
-            return true;
-        });
+        // The materialnote change event serializes the whole document, so we observe the edits ourselves
+        changeObserver = observeChanges(getEditable());
+
+        if (deltaTracking) {
+            deltaTracker.start(getEditable());
+        }
 
         checkContainer();
     }
@@ -164,13 +191,19 @@ public class MaterialRichEditor extends AbstractValueWidget<String> implements J
 
     @Override
     public void unload() {
+        flushValueChange();
+        deltaTracker.stop();
+
         JsRichEditor jsRichEditor = $(getElement());
         jsRichEditor.off(RichEditorEvents.MATERIALNOTE_BLUR);
         jsRichEditor.off(RichEditorEvents.MATERIALNOTE_FOCUS);
         jsRichEditor.off(RichEditorEvents.MATERIALNOTE_KEYUP);
         jsRichEditor.off(RichEditorEvents.MATERIALNOTE_KEYDOWN);
         jsRichEditor.off(RichEditorEvents.MATERIALNOTE_PASTE);
-        jsRichEditor.off(RichEditorEvents.MATERIALNOTE_CHANGE);
+        if (changeObserver != null) {
+            disconnect(changeObserver);
+            changeObserver = null;
+        }
         jsRichEditor.destroy();
     }
 
@@ -180,6 +213,191 @@ public class MaterialRichEditor extends AbstractValueWidget<String> implements J
         load();
     }
 
+    /**
+     * Called on every edit, the cached HTML is invalidated and the document is only serialized
+     * when a value change event is fired to a handler or the value is read.
+     */
+    protected void onChange() {
+        cachedHtml = null;
+        if (!dirty) {
+            dirty = true;
+            DirtyEvent.fire(this);
+        }
+
+        switch (changeEventMode) {
+            case IMMEDIATE:
+                fireValueChange();
+                break;
+            case DEBOUNCED:
+                changeTimer.schedule(changeDelay);
+                break;
+            default:
+                break;
+        }
+    }
+
+    protected void fireValueChange() {
+        changeTimer.cancel();
+        if (getHandlerCount(ValueChangeEvent.getType()) > 0) {
+            dirty = false;
+            ValueChangeEvent.fire(this, getHTML());
+        }
+    }
+
+    /**
+     * Observe the edits of the editable element without serializing it. Mutations of the
+     * editable element attributes are made by the editor itself and ignored. Falls back to the
+     * input event if MutationObserver is not supported.
+     */
+    protected native JavaScriptObject observeChanges(Element editable) /*-{
+        var self = this;
+        var onChange = $entry(function () {
+            self.@gwt.material.design.addins.client.richeditor.MaterialRichEditor::onChange()();
+        });
+        if (!$wnd.MutationObserver) {
+            editable.addEventListener('input', onChange);
+            return {editable: editable, listener: onChange};
+        }
+        var observer = new $wnd.MutationObserver(function (records) {
+            for (var i = 0; i < records.length; i++) {
+                if (records[i].type !== 'attributes' || records[i].target !== editable) {
+                    onChange();
+                    return;
+                }
+            }
+        });
+        observer.observe(editable, {childList: true, subtree: true, characterData: true, attributes: true});
+        return {observer: observer};
+    }-*/;
+
+    /**
+     * Drop the pending mutations, i.e the ones of a value set programmatically.
+     */
+    protected native void discardChanges(JavaScriptObject changeObserver) /*-{
+        if (changeObserver.observer) {
+            changeObserver.observer.takeRecords();
+        }
+    }-*/;
+
+    protected native void disconnect(JavaScriptObject changeObserver) /*-{
+        if (changeObserver.observer) {
+            changeObserver.observer.disconnect();
+        } else {
+            changeObserver.editable.removeEventListener('input', changeObserver.listener);
+        }
+    }-*/;
+
+    /**
+     * Fire the pending value change event of the {@link ChangeEventMode#DEBOUNCED} mode, if any.
+     */
+    public void flushValueChange() {
+        if (changeTimer.isRunning()) {
+            fireValueChange();
+        }
+    }
+
+    /**
+     * Returns true if the editor was edited since the last value change event delivered to a
+     * handler, the last value set or the last call to {@link #markClean()}.
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Mark the editor as clean, i.e after saving its value. The next edit fires a {@link DirtyEvent}.
+     */
+    public void markClean() {
+        dirty = false;
+    }
+
+    public ChangeEventMode getChangeEventMode() {
+        return changeEventMode;
+    }
+
+    /**
+     * Set when value change events are fired, see {@link ChangeEventMode} (Default : IMMEDIATE)
+     */
+    public void setChangeEventMode(ChangeEventMode changeEventMode) {
+        this.changeEventMode = changeEventMode;
+        if (changeEventMode != ChangeEventMode.DEBOUNCED) {
+            changeTimer.cancel();
+        }
+    }
+
+    public boolean isDeltaTracking() {
+        return deltaTracking;
+    }
+
+    /**
+     * Track the changes of the document blocks so autosave and sync can send only what changed,
+     * see {@link #takeDelta()} and {@link #applyDelta(JsRichEditorDelta)}. Setting the value
+     * of the editor is a checkpoint.
+     */
+    public void setDeltaTracking(boolean deltaTracking) {
+        this.deltaTracking = deltaTracking;
+        if (!deltaTracking) {
+            deltaTracker.stop();
+        } else if (isAttached() && !deltaTracker.isStarted()) {
+            deltaTracker.start(getEditable());
+        }
+    }
+
+    /**
+     * Returns the changes of the document since the last checkpoint, or null if there are none.
+     */
+    public JsRichEditorDelta getDelta() {
+        return deltaTracker.getDelta();
+    }
+
+    /**
+     * Returns the changes of the document since the last checkpoint and make the current document
+     * the new checkpoint.
+     */
+    public JsRichEditorDelta takeDelta() {
+        JsRichEditorDelta delta = deltaTracker.getDelta();
+        deltaTracker.checkpoint();
+        return delta;
+    }
+
+    /**
+     * Make the current document the checkpoint of the next delta.
+     */
+    public void checkpoint() {
+        deltaTracker.checkpoint();
+    }
+
+    /**
+     * Apply a delta computed by another editor from the same checkpoint, i.e a collaborator.
+     * Local changes made since the checkpoint are kept, see {@link DeltaTracker#apply(JsRichEditorDelta)}.
+     */
+    public void applyDelta(JsRichEditorDelta delta) {
+        cachedHtml = null;
+        deltaTracker.apply(delta);
+        if (changeObserver != null) {
+            discardChanges(changeObserver);
+        }
+    }
+
+    protected Element getEditable() {
+        return getEditable(getElement());
+    }
+
+    protected native Element getEditable(Element e) /*-{
+        return $wnd.jQuery(e).next('.note-editor').find('.note-editable')[0] || e;
+    }-*/;
+
+    public int getChangeDelay() {
+        return changeDelay;
+    }
+
+    /**
+     * Idle time in milliseconds after the last edit before a debounced value change event is fired (Default : 300)
+     */
+    public void setChangeDelay(int changeDelay) {
+        this.changeDelay = changeDelay;
+    }
+
     public ToolbarButton[] getStyleOptions() {
         return manager.getStyleOptions();
     }
@@ -283,6 +501,7 @@ public class MaterialRichEditor extends AbstractValueWidget<String> implements J
      * Insert custom text inside the note zone.
      */
     protected void insertText(Element e, String text) {
+        cachedHtml = null;
         $(e).materialnote("insertText", SafeHtmlUtils.fromString(text).asString());
     }
 
@@ -297,6 +516,7 @@ public class MaterialRichEditor extends AbstractValueWidget<String> implements J
      * Insert custom HTML inside the note zone.
      */
     protected void pasteHTML(Element e, String html) {
+        cachedHtml = null;
         $(e).materialnote("pasteHTML", html);
     }
 
@@ -304,6 +524,8 @@ public class MaterialRichEditor extends AbstractValueWidget<String> implements J
      * Reset the Rich Editor component
      */
     public void reset() {
+        cachedHtml = null;
+        dirty = false;
         $(getElement()).materialnote("reset");
     }
 
@@ -353,14 +575,26 @@ public class MaterialRichEditor extends AbstractValueWidget<String> implements J
         return height;
     }
 
+    /**
+     * Returns the HTML of the document, it is serialized once after each edit and cached.
+     */
     @Override
     public String getHTML() {
-        return getHTMLCode(getElement());
+        if (cachedHtml == null || !isAttached()) {
+            String html = getHTMLCode(getElement());
+            if (!isAttached()) {
+                return html;
+            }
+            cachedHtml = html;
+        }
+        return cachedHtml;
     }
 
     @Override
     public void setHTML(final String html) {
         this.html = html;
+        cachedHtml = null;
+        dirty = false;
 
         if (handlerRegistration != null) {
             handlerRegistration.removeHandler();
@@ -389,7 +623,12 @@ public class MaterialRichEditor extends AbstractValueWidget<String> implements J
     }
 
     protected void setHTMLCode(Element e, String html) {
+        cachedHtml = null;
         $(e).code(html);
+        deltaTracker.checkpoint();
+        if (changeObserver != null) {
+            discardChanges(changeObserver);
+        }
     }
 
     @Override
@@ -406,4 +645,9 @@ public class MaterialRichEditor extends AbstractValueWidget<String> implements J
     public HandlerRegistration addPasteHandler(final PasteEvent.PasteHandler handler) {
         return addHandler(handler, PasteEvent.TYPE);
     }
+
+    @Override
+    public HandlerRegistration addDirtyHandler(final DirtyEvent.DirtyHandler handler) {
+        return addHandler(handler, DirtyEvent.TYPE);
+    }
 }
\ No newline at end of file
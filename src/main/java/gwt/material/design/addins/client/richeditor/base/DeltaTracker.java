@@ -0,0 +1,247 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.richeditor.base;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.dom.client.Element;
+import gwt.material.design.addins.client.richeditor.js.JsRichEditorDelta;
+
+/**
+ * Tracks the changes of the top level blocks of an editable element with a MutationObserver. The
+ * observer only marks the blocks touched by the mutations, the delta is computed on demand by
+ * matching the current blocks against the blocks at the last checkpoint, so only the inserted and
+ * edited blocks are serialized. Without MutationObserver the blocks are compared with their HTML
+ * at the checkpoint instead.
+ */
+public class DeltaTracker {
+
+    private JavaScriptObject state;
+
+    /**
+     * Start tracking the element, its current content is the first checkpoint.
+     */
+    public void start(Element root) {
+        stop();
+        state = createState(root);
+    }
+
+    public void stop() {
+        if (state != null) {
+            disconnect(state);
+            state = null;
+        }
+    }
+
+    public boolean isStarted() {
+        return state != null;
+    }
+
+    /**
+     * Returns the changes since the last checkpoint, or null if there are none.
+     */
+    public JsRichEditorDelta getDelta() {
+        return state != null ? getDelta(state) : null;
+    }
+
+    /**
+     * Make the current content the new checkpoint.
+     */
+    public void checkpoint() {
+        if (state != null) {
+            checkpoint(state);
+        }
+    }
+
+    /**
+     * Apply a delta computed against the same checkpoint. The operations address the blocks of
+     * the checkpoint, not the current ones, so local changes made since the checkpoint are kept
+     * and still reported: blocks inserted locally stay in place, but a checkpoint block deleted or
+     * replaced by the delta loses its local edits. The applied blocks are part of the checkpoint.
+     *
+     * @throws IllegalArgumentException if the delta was computed from another checkpoint
+     */
+    public void apply(JsRichEditorDelta delta) {
+        if (state != null && delta != null && !apply(state, delta)) {
+            throw new IllegalArgumentException("The delta was computed from another checkpoint");
+        }
+    }
+
+    protected static native JavaScriptObject createState(Element root) /*-{
+        var state = {root: root, base: [], generation: 0, observer: null};
+        if ($wnd.MutationObserver) {
+            state.observer = new $wnd.MutationObserver(function (records) {
+                @gwt.material.design.addins.client.richeditor.base.DeltaTracker::mark(*)(state, records);
+            });
+            state.observer.observe(root, {childList: true, subtree: true, characterData: true, attributes: true});
+        }
+        @gwt.material.design.addins.client.richeditor.base.DeltaTracker::checkpoint(*)(state);
+        return state;
+    }-*/;
+
+    protected static native void disconnect(JavaScriptObject state) /*-{
+        if (state.observer) {
+            state.observer.disconnect();
+        }
+    }-*/;
+
+    /**
+     * Mark the top level blocks containing the targets of the mutation records.
+     */
+    protected static native void mark(JavaScriptObject state, JavaScriptObject records) /*-{
+        for (var i = 0; i < records.length; i++) {
+            var node = records[i].target;
+            while (node && node.parentNode !== state.root) {
+                node = node.parentNode;
+            }
+            if (node) {
+                node.__deltaGeneration = state.generation;
+            }
+        }
+    }-*/;
+
+    protected static native void checkpoint(JavaScriptObject state) /*-{
+        if (state.observer) {
+            state.observer.takeRecords();
+        }
+        state.generation++;
+        state.base = Array.prototype.slice.call(state.root.childNodes);
+        if (!state.observer) {
+            // Without MutationObserver the blocks are compared with their checkpoint HTML
+            state.baseHtml = state.base.map(@gwt.material.design.addins.client.richeditor.base.DeltaTracker::serialize(*));
+        }
+    }-*/;
+
+    protected static native JsRichEditorDelta getDelta(JavaScriptObject state) /*-{
+        if (state.observer) {
+            @gwt.material.design.addins.client.richeditor.base.DeltaTracker::mark(*)(state, state.observer.takeRecords());
+        }
+
+        var base = state.base;
+        var current = Array.prototype.slice.call(state.root.childNodes);
+        var baseIndex = null;
+        if ($wnd.Map) {
+            baseIndex = new $wnd.Map();
+            for (var b = 0; b < base.length; b++) {
+                baseIndex.set(base[b], b);
+            }
+        }
+        // Browsers without MutationObserver have no Map either, the blocks are looked up in the array
+        var indexOf = function (node) {
+            if (!baseIndex) {
+                return base.indexOf(node);
+            }
+            return baseIndex.has(node) ? baseIndex.get(node) : -1;
+        };
+        var isClean = function (node) {
+            var index = indexOf(node);
+            if (index < 0) {
+                return false;
+            }
+            if (!state.observer) {
+                return @gwt.material.design.addins.client.richeditor.base.DeltaTracker::serialize(*)(node)
+                    === state.baseHtml[index];
+            }
+            return node.__deltaGeneration !== state.generation;
+        };
+
+        var ops = [];
+        var i = 0, j = 0;
+        while (i < base.length || j < current.length) {
+            if (i < base.length && j < current.length && base[i] === current[j] && isClean(current[j])) {
+                i++;
+                j++;
+                continue;
+            }
+            // Resync on the next clean block that comes after the base position
+            var k = j;
+            while (k < current.length && !(isClean(current[k]) && indexOf(current[k]) >= i)) {
+                k++;
+            }
+            var nextBase = k < current.length ? indexOf(current[k]) : base.length;
+            var blocks = [];
+            for (var n = j; n < k; n++) {
+                blocks.push(@gwt.material.design.addins.client.richeditor.base.DeltaTracker::serialize(*)(current[n]));
+            }
+            ops.push({index: j, deleteCount: nextBase - i, blocks: blocks});
+            i = nextBase;
+            j = k;
+        }
+        return ops.length > 0 ? {baseLength: base.length, length: current.length, ops: ops} : null;
+    }-*/;
+
+    protected static native boolean apply(JavaScriptObject state, JsRichEditorDelta delta) /*-{
+        var root = state.root;
+        var base = state.base;
+        if (delta.baseLength !== base.length) {
+            return false;
+        }
+        if (state.observer) {
+            @gwt.material.design.addins.client.richeditor.base.DeltaTracker::mark(*)(state, state.observer.takeRecords());
+        }
+        for (var o = 0; o < delta.ops.length; o++) {
+            var op = delta.ops[o];
+            var end = op.index + op.deleteCount;
+            // Insert before the next checkpoint block still in the document, after the local insertions
+            var before = null;
+            for (var a = end; a < base.length && !before; a++) {
+                if (base[a].parentNode === root) {
+                    before = base[a];
+                }
+            }
+            for (var d = op.index; d < end && d < base.length; d++) {
+                if (base[d].parentNode === root) {
+                    root.removeChild(base[d]);
+                }
+            }
+            // Each block is parsed on its own, adjacent text blocks would be merged into one node
+            var nodes = [];
+            for (var b = 0; b < op.blocks.length; b++) {
+                var template = $doc.createElement('div');
+                template.innerHTML = op.blocks[b];
+                nodes.push(template.firstChild || $doc.createTextNode(''));
+            }
+            for (var n = 0; n < nodes.length; n++) {
+                root.insertBefore(nodes[n], before);
+            }
+            Array.prototype.splice.apply(base, [op.index, op.deleteCount].concat(nodes));
+            if (!state.observer) {
+                Array.prototype.splice.apply(state.baseHtml, [op.index, op.deleteCount].concat(
+                    nodes.map(@gwt.material.design.addins.client.richeditor.base.DeltaTracker::serialize(*))));
+            }
+        }
+        // The applied blocks are clean, only the records of the local changes were kept
+        if (state.observer) {
+            state.observer.takeRecords();
+        }
+        return true;
+    }-*/;
+
+    protected static native String serialize(JavaScriptObject node) /*-{
+        if (node.nodeType === 1) {
+            return node.outerHTML;
+        }
+        if (node.nodeType === 3) {
+            var span = $doc.createElement('span');
+            span.textContent = node.nodeValue;
+            return span.innerHTML;
+        }
+        return '';
+    }-*/;
+}
@@ -0,0 +1,42 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.richeditor.base.constants;
+
+/**
+ * When the {@link gwt.material.design.addins.client.richeditor.MaterialRichEditor} fires its value
+ * change events, the document is only serialized when an event is fired to a handler.
+ */
+public enum ChangeEventMode {
+
+    /**
+     * Fire a value change event on every edit (default).
+     */
+    IMMEDIATE,
+
+    /**
+     * Fire a value change event once the user stopped editing for the change delay, or on blur.
+     */
+    DEBOUNCED,
+
+    /**
+     * Never fire value change events, only dirty events. The value is serialized when read.
+     */
+    ON_DEMAND
+}
@@ -0,0 +1,47 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.richeditor.js;
+
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+
+/**
+ * The changes of the rich editor document since a checkpoint, plain JSON that can be sent to
+ * the server with {@code JSON.stringify}.
+ */
+@JsType(isNative = true, name = "Object", namespace = JsPackage.GLOBAL)
+public class JsRichEditorDelta {
+
+    /**
+     * Number of top level blocks of the document at the checkpoint.
+     */
+    @JsProperty
+    public int baseLength;
+
+    /**
+     * Number of top level blocks of the document once the operations are applied.
+     */
+    @JsProperty
+    public int length;
+
+    @JsProperty
+    public JsRichEditorOp[] ops;
+}
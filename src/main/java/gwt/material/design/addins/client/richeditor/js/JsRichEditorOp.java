@@ -0,0 +1,50 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.richeditor.js;
+
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+
+/**
+ * A splice of the top level blocks of the rich editor document. Applied in order, the index
+ * is the position in the document once the previous operations of the delta are applied.
+ */
+@JsType(isNative = true, name = "Object", namespace = JsPackage.GLOBAL)
+public class JsRichEditorOp {
+
+    /**
+     * Index of the first block to replace.
+     */
+    @JsProperty
+    public int index;
+
+    /**
+     * Number of blocks removed at the index.
+     */
+    @JsProperty
+    public int deleteCount;
+
+    /**
+     * HTML of the blocks inserted at the index.
+     */
+    @JsProperty
+    public String[] blocks;
+}
@@ -21,22 +21,30 @@ package gwt.material.design.addins.client.signature;
 
 import com.google.gwt.dom.client.CanvasElement;
 import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Style;
 import com.google.gwt.event.logical.shared.ValueChangeEvent;
 import com.google.gwt.event.shared.HandlerRegistration;
 import gwt.material.design.addins.client.MaterialAddins;
+import gwt.material.design.addins.client.base.ResizeService;
 import gwt.material.design.addins.client.base.constants.AddinsCssName;
+import gwt.material.design.addins.client.signature.base.SignatureCodec;
+import gwt.material.design.addins.client.signature.base.SignaturePoint;
+import gwt.material.design.addins.client.signature.base.SignatureStroke;
 import gwt.material.design.addins.client.signature.events.HasSignatureHandlers;
+import gwt.material.design.addins.client.signature.events.SignatureChangeEvent;
 import gwt.material.design.addins.client.signature.events.SignatureClearEvent;
 import gwt.material.design.addins.client.signature.events.SignatureEndEvent;
 import gwt.material.design.addins.client.signature.events.SignatureStartEvent;
 import gwt.material.design.addins.client.signature.js.JsSignaturePadOptions;
+import gwt.material.design.addins.client.signature.js.JsSignaturePoint;
 import gwt.material.design.addins.client.signature.js.SignaturePad;
 import gwt.material.design.client.MaterialDesignBase;
 import gwt.material.design.client.base.AbstractValueWidget;
 import gwt.material.design.client.base.JsLoader;
-import gwt.material.design.client.base.viewport.ViewPort;
-import gwt.material.design.client.base.viewport.WidthBoundary;
-import gwt.material.design.client.js.Window;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 //@formatter:off
 
@@ -69,10 +77,18 @@ public class MaterialSignaturePad extends AbstractValueWidget<String> implements
 
     public MaterialSignaturePad() {
         super(Document.get().createCanvasElement(), AddinsCssName.SIGNATURE_PAD);
+
+        ResizeService.subscribe(this, (width, height) -> {
+            if (!isCanvasSized()) {
+                applyResize();
+            }
+        });
     }
 
     private SignaturePad signaturePad;
     private JsSignaturePadOptions options = JsSignaturePadOptions.create();
+    private List<SignatureStroke> strokes = new ArrayList<>();
+    private String dataUrl;
 
     @Override
     protected void onLoad() {
@@ -86,22 +102,43 @@ public class MaterialSignaturePad extends AbstractValueWidget<String> implements
      * <b>Handling high DPI screens</b>
      * <p>
      * To correctly handle canvas on low and high DPI screens one has to take devicePixelRatio into account and scale
-     * the canvas accordingly. </p>
+     * the canvas accordingly. Later size changes are applied through the {@link ResizeService}.</p>
      *
      * @see <a href="https://github.com/szimek/signature_pad#handling-high-dpi-screens">More info</a>
      */
     protected void resizeCanvas() {
         applyResize();
-        ViewPort.when(new WidthBoundary(0, 5120)).then(param1 -> applyResize());
     }
 
+    /**
+     * Size the canvas bitmap to the CSS box of the pad. A canvas without CSS size takes the size of its
+     * bitmap, so its box is then kept to the measured size instead of growing with the bitmap.
+     */
     protected void applyResize() {
         CanvasElement element = getElement().cast();
         double ratio = getRatio();
-        element.setWidth((int) (getOffsetWidth() * ratio));
-        element.setHeight((int) (getOffsetHeight() * ratio));
+        int width = getOffsetWidth();
+        int height = getOffsetHeight();
+        element.setWidth((int) (width * ratio));
+        element.setHeight((int) (height * ratio));
+        if (getOffsetWidth() != width || getOffsetHeight() != height) {
+            element.getStyle().setWidth(width, Style.Unit.PX);
+            element.getStyle().setHeight(height, Style.Unit.PX);
+        }
         element.getContext2d().scale(ratio, ratio);
         getSignaturePad().clear();
+        strokes.clear();
+        dataUrl = null;
+    }
+
+    /**
+     * Whether the canvas bitmap already matches the CSS box of the pad.
+     */
+    protected boolean isCanvasSized() {
+        CanvasElement element = getElement().cast();
+        double ratio = getRatio();
+        return element.getWidth() == (int) (getOffsetWidth() * ratio)
+            && element.getHeight() == (int) (getOffsetHeight() * ratio);
     }
 
     @Override
@@ -146,19 +183,115 @@ public class MaterialSignaturePad extends AbstractValueWidget<String> implements
     @Override
     public void fromDataUrl(String url) {
         getSignaturePad().fromDataURL(url);
+        strokes.clear();
+        dataUrl = url;
     }
 
+    /**
+     * Get the PNG data url of the signature, it is only encoded once per change.
+     */
     @Override
     public String toDataUrl() {
-        return getSignaturePad().toDataURL();
+        if (dataUrl == null) {
+            dataUrl = getSignaturePad().toDataURL();
+        }
+        return dataUrl;
+    }
+
+    /**
+     * Whether the signature changed since its data url was last encoded.
+     */
+    public boolean isDirty() {
+        return dataUrl == null;
+    }
+
+    /**
+     * Get the strokes drawn on the pad since it was last cleared.
+     */
+    public List<SignatureStroke> getStrokes() {
+        return Collections.unmodifiableList(strokes);
+    }
+
+    /**
+     * Replace the signature by redrawing the provided strokes.
+     */
+    public void setStrokes(List<SignatureStroke> strokes) {
+        JsSignaturePoint[][] pointGroups = new JsSignaturePoint[strokes.size()][];
+        for (int i = 0; i < strokes.size(); i++) {
+            List<SignaturePoint> points = strokes.get(i).getPoints();
+            pointGroups[i] = new JsSignaturePoint[points.size()];
+            for (int j = 0; j < points.size(); j++) {
+                SignaturePoint point = points.get(j);
+                pointGroups[i][j] = JsSignaturePoint.create(point.getX(), point.getY(), point.getTime(), strokes.get(i).getColor());
+            }
+        }
+        getSignaturePad().fromData(pointGroups);
+        this.strokes = new ArrayList<>(strokes);
+        dataUrl = null;
+    }
+
+    /**
+     * Get the strokes with the compact {@link SignatureCodec} encoding, for storage and replay.
+     */
+    public String getEncodedStrokes() {
+        return SignatureCodec.encode(strokes);
+    }
+
+    /**
+     * Replace the signature by the strokes of a {@link #getEncodedStrokes()} value.
+     */
+    public void setEncodedStrokes(String encoded) {
+        setStrokes(SignatureCodec.decode(encoded));
+    }
+
+    /**
+     * Get the SVG data url of the signature, rendered by signature_pad with the same variable width
+     * curves as the canvas.
+     */
+    public String toSvgDataUrl() {
+        return getSignaturePad().toDataURL("image/svg+xml");
+    }
+
+    /**
+     * Get the SVG document of the signature, see {@link #toSvgDataUrl()}.
+     */
+    public String toSvg() {
+        String url = toSvgDataUrl();
+        return decodeBase64(url.substring(url.indexOf(',') + 1));
+    }
+
+    protected static native String decodeBase64(String value) /*-{
+        return $wnd.atob(value);
+    }-*/;
+
+    /**
+     * Keep the Java stroke model in sync with the last stroke drawn on the pad.
+     */
+    protected void updateStrokes() {
+        JsSignaturePoint[][] pointGroups = getSignaturePad().toData();
+        if (pointGroups != null && pointGroups.length > 0) {
+            JsSignaturePoint[] group = pointGroups[pointGroups.length - 1];
+            if (group.length > 0) {
+                SignatureStroke stroke = new SignatureStroke(group[0].color);
+                for (JsSignaturePoint point : group) {
+                    stroke.addPoint(point.x, point.y, point.time);
+                }
+                strokes.add(stroke);
+            }
+        }
     }
 
     public SignaturePad getSignaturePad() {
         if (signaturePad == null) {
             options.onBegin = () -> SignatureStartEvent.fire(this);
             options.onEnd = () -> {
+                updateStrokes();
+                dataUrl = null;
                 SignatureEndEvent.fire(this);
-                ValueChangeEvent.fire(this, getSignaturePad().toDataURL());
+                SignatureChangeEvent.fire(this);
+                if (getHandlerCount(ValueChangeEvent.getType()) > 0) {
+                    ValueChangeEvent.fire(this, getValue());
+                }
             };
             signaturePad = new SignaturePad(getElement(), options);
         }
@@ -272,9 +405,14 @@ public class MaterialSignaturePad extends AbstractValueWidget<String> implements
         return addHandler(handler, SignatureEndEvent.TYPE);
     }
 
+    @Override
+    public HandlerRegistration addSignatureChangeHandler(SignatureChangeEvent.SignatureChangeHandler handler) {
+        return addHandler(handler, SignatureChangeEvent.TYPE);
+    }
+
     @Override
     public String getValue() {
-        return getSignaturePad().toDataURL();
+        return toDataUrl();
     }
 
     @Override
@@ -0,0 +1,222 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.signature.base;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact encoding of the signature strokes for storage and replay.
+ * <p>
+ * Coordinates are quantized to a tenth of a pixel and times to milliseconds, then every point
+ * is stored as zigzag varint deltas from the previous one. The colors are stored once in a
+ * table. The bytes are returned as an URL safe base64 string without padding, which is usually
+ * a few hundred bytes for a whole signature instead of the hundreds of KB of a PNG data url.
+ */
+public final class SignatureCodec {
+
+    private static final int VERSION = 1;
+    private static final double PRECISION = 10;
+    private static final char[] ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+
+    private SignatureCodec() {}
+
+    public static String encode(List<SignatureStroke> strokes) {
+        Writer writer = new Writer();
+        writer.write(VERSION);
+
+        List<String> colors = new ArrayList<>();
+        for (SignatureStroke stroke : strokes) {
+            if (!colors.contains(stroke.getColor())) {
+                colors.add(stroke.getColor());
+            }
+        }
+        writer.write(colors.size());
+        for (String color : colors) {
+            String value = color != null ? color : "";
+            writer.write(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                writer.write(value.charAt(i));
+            }
+        }
+
+        long x = 0;
+        long y = 0;
+        long time = 0;
+        writer.write(strokes.size());
+        for (SignatureStroke stroke : strokes) {
+            writer.write(colors.indexOf(stroke.getColor()));
+            writer.write(stroke.getPoints().size());
+            for (SignaturePoint point : stroke.getPoints()) {
+                long px = Math.round(point.getX() * PRECISION);
+                long py = Math.round(point.getY() * PRECISION);
+                long pt = Math.round(point.getTime());
+                writer.writeSigned(px - x);
+                writer.writeSigned(py - y);
+                writer.writeSigned(pt - time);
+                x = px;
+                y = py;
+                time = pt;
+            }
+        }
+        return writer.toBase64();
+    }
+
+    public static List<SignatureStroke> decode(String encoded) {
+        Reader reader = new Reader(encoded);
+        int version = (int) reader.read();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported signature encoding version: " + version);
+        }
+
+        List<String> colors = new ArrayList<>();
+        long colorCount = reader.read();
+        for (int i = 0; i < colorCount; i++) {
+            int length = (int) reader.read();
+            StringBuilder color = new StringBuilder(length);
+            for (int j = 0; j < length; j++) {
+                color.append((char) reader.read());
+            }
+            colors.add(color.toString());
+        }
+
+        List<SignatureStroke> strokes = new ArrayList<>();
+        long x = 0;
+        long y = 0;
+        long time = 0;
+        long strokeCount = reader.read();
+        for (int i = 0; i < strokeCount; i++) {
+            SignatureStroke stroke = new SignatureStroke(colors.get((int) reader.read()));
+            long pointCount = reader.read();
+            for (int j = 0; j < pointCount; j++) {
+                x += reader.readSigned();
+                y += reader.readSigned();
+                time += reader.readSigned();
+                stroke.addPoint(x / PRECISION, y / PRECISION, time);
+            }
+            strokes.add(stroke);
+        }
+        return strokes;
+    }
+
+    private static class Writer {
+
+        private byte[] bytes = new byte[256];
+        private int length;
+
+        void write(long value) {
+            while ((value & ~0x7FL) != 0) {
+                append((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            append((int) value);
+        }
+
+        void writeSigned(long value) {
+            write((value << 1) ^ (value >> 63));
+        }
+
+        void append(int value) {
+            if (length == bytes.length) {
+                byte[] grown = new byte[bytes.length * 2];
+                System.arraycopy(bytes, 0, grown, 0, length);
+                bytes = grown;
+            }
+            bytes[length++] = (byte) value;
+        }
+
+        String toBase64() {
+            StringBuilder result = new StringBuilder((length * 4 + 2) / 3);
+            for (int i = 0; i < length; i += 3) {
+                int chunk = (bytes[i] & 0xff) << 16;
+                if (i + 1 < length) {
+                    chunk |= (bytes[i + 1] & 0xff) << 8;
+                }
+                if (i + 2 < length) {
+                    chunk |= bytes[i + 2] & 0xff;
+                }
+                result.append(ALPHABET[(chunk >> 18) & 0x3f]).append(ALPHABET[(chunk >> 12) & 0x3f]);
+                if (i + 1 < length) {
+                    result.append(ALPHABET[(chunk >> 6) & 0x3f]);
+                }
+                if (i + 2 < length) {
+                    result.append(ALPHABET[chunk & 0x3f]);
+                }
+            }
+            return result.toString();
+        }
+    }
+
+    private static class Reader {
+
+        private final String encoded;
+        private int position;
+        private int buffer;
+        private int bits;
+
+        Reader(String encoded) {
+            this.encoded = encoded;
+        }
+
+        int readByte() {
+            while (bits < 8) {
+                if (position >= encoded.length()) {
+                    throw new IllegalArgumentException("Truncated signature encoding");
+                }
+                buffer = (buffer << 6) | indexOf(encoded.charAt(position++));
+                bits += 6;
+            }
+            bits -= 8;
+            return (buffer >> bits) & 0xff;
+        }
+
+        long read() {
+            long value = 0;
+            int shift = 0;
+            int current;
+            do {
+                current = readByte();
+                value |= (long) (current & 0x7F) << shift;
+                shift += 7;
+            } while ((current & 0x80) != 0);
+            return value;
+        }
+
+        long readSigned() {
+            long value = read();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        static int indexOf(char c) {
+            if (c >= 'A' && c <= 'Z') {
+                return c - 'A';
+            } else if (c >= 'a' && c <= 'z') {
+                return c - 'a' + 26;
+            } else if (c >= '0' && c <= '9') {
+                return c - '0' + 52;
+            } else if (c == '-') {
+                return 62;
+            } else if (c == '_') {
+                return 63;
+            }
+            throw new IllegalArgumentException("Invalid signature encoding character: " + c);
+        }
+    }
+}
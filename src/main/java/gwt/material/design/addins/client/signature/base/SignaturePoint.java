@@ -0,0 +1,51 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.signature.base;
+
+/**
+ * A point of a {@link SignatureStroke}, in CSS pixels relative to the pad.
+ */
+public class SignaturePoint {
+
+    private final double x;
+    private final double y;
+    private final double time;
+
+    public SignaturePoint(double x, double y, double time) {
+        this.x = x;
+        this.y = y;
+        this.time = time;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Get the time in milliseconds when the point was drawn.
+     */
+    public double getTime() {
+        return time;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.signature.base;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A single pen stroke of a signature, from the pen down to the pen lift.
+ */
+public class SignatureStroke {
+
+    private final String color;
+    private final List<SignaturePoint> points = new ArrayList<>();
+
+    public SignatureStroke(String color) {
+        this.color = color;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public List<SignaturePoint> getPoints() {
+        return points;
+    }
+
+    public SignatureStroke addPoint(double x, double y, double time) {
+        points.add(new SignaturePoint(x, y, time));
+        return this;
+    }
+}
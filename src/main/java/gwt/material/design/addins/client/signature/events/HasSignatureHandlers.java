@@ -40,4 +40,9 @@ public interface HasSignatureHandlers {
      * Fired once signature drawing was ended.
      */
     HandlerRegistration addSignatureEndHandler(SignatureEndEvent.SignatureEndHandler handler);
+
+    /**
+     * Fired once signature has changed, without encoding its value.
+     */
+    HandlerRegistration addSignatureChangeHandler(SignatureChangeEvent.SignatureChangeHandler handler);
 }
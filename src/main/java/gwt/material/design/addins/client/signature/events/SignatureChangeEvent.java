@@ -0,0 +1,54 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.signature.events;
+
+import com.google.gwt.event.shared.EventHandler;
+import com.google.gwt.event.shared.GwtEvent;
+import com.google.gwt.event.shared.HasHandlers;
+
+/**
+ * Fired once the signature has changed. It carries no value, so the signature is only encoded
+ * when a handler asks for it through {@link gwt.material.design.addins.client.signature.MaterialSignaturePad#getValue()}.
+ */
+public class SignatureChangeEvent extends GwtEvent<SignatureChangeEvent.SignatureChangeHandler> {
+
+    public interface SignatureChangeHandler extends EventHandler {
+        void onSignatureChange(SignatureChangeEvent event);
+    }
+
+    public static final Type<SignatureChangeHandler> TYPE = new Type<>();
+
+    public SignatureChangeEvent() {
+    }
+
+    public static void fire(HasHandlers source) {
+        source.fireEvent(new SignatureChangeEvent());
+    }
+
+    @Override
+    public Type<SignatureChangeHandler> getAssociatedType() {
+        return TYPE;
+    }
+
+    @Override
+    protected void dispatch(SignatureChangeHandler handler) {
+        handler.onSignatureChange(this);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.signature.js;
+
+import jsinterop.annotations.JsOverlay;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+
+/**
+ * A raw point of the {@link SignaturePad#toData()} point groups.
+ */
+@JsType(isNative = true, name = "Object", namespace = JsPackage.GLOBAL)
+public class JsSignaturePoint {
+
+    private JsSignaturePoint() {}
+
+    @JsOverlay
+    public static final JsSignaturePoint create(double x, double y, double time, String color) {
+        JsSignaturePoint point = new JsSignaturePoint();
+        point.x = x;
+        point.y = y;
+        point.time = time;
+        point.color = color;
+        return point;
+    }
+
+    @JsProperty
+    public double x;
+
+    @JsProperty
+    public double y;
+
+    @JsProperty
+    public double time;
+
+    @JsProperty
+    public String color;
+}
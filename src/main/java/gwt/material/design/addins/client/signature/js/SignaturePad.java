@@ -79,6 +79,12 @@ public class SignaturePad {
     @JsMethod
     public native void off();
 
+    @JsMethod
+    public native JsSignaturePoint[][] toData();
+
+    @JsMethod
+    public native void fromData(JsSignaturePoint[][] pointGroups);
+
     @JsMethod
     public native void on();
 }
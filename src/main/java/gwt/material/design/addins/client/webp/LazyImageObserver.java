@@ -0,0 +1,66 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.webp;
+
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.event.shared.HandlerRegistration;
+import gwt.material.design.addins.client.base.VisibilityService;
+import gwt.material.design.jquery.client.api.Functions;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Calls back once an element nears the viewport, through the shared {@link VisibilityService}.
+ * When IntersectionObserver is not available the callback is called immediately.
+ */
+public final class LazyImageObserver {
+
+    private static final Map<Element, HandlerRegistration> registrations = new HashMap<>();
+
+    private LazyImageObserver() {}
+
+    /**
+     * Call back once the element intersects the viewport grown by the root margin, i.e "200px".
+     */
+    public static void observe(Element element, String rootMargin, Functions.Func callback) {
+        unobserve(element);
+        if (!VisibilityService.isSupported()) {
+            callback.call();
+            return;
+        }
+        registrations.put(element, VisibilityService.observe(element, rootMargin, visible -> {
+            if (visible) {
+                unobserve(element);
+                callback.call();
+            }
+        }));
+    }
+
+    /**
+     * Stop observing the element, its callback will not be called.
+     */
+    public static void unobserve(Element element) {
+        HandlerRegistration registration = registrations.remove(element);
+        if (registration != null) {
+            registration.removeHandler();
+        }
+    }
+}
@@ -20,11 +20,7 @@
 package gwt.material.design.addins.client.webp;
 
 import com.google.gwt.core.client.GWT;
-import com.google.gwt.user.client.ui.Image;
-import gwt.material.design.client.base.mixin.AttributeMixin;
 import gwt.material.design.client.ui.MaterialImage;
-import gwt.material.design.client.ui.MaterialToast;
-import gwt.material.design.jquery.client.api.Functions;
 
 //@formatter:off
 
@@ -41,6 +37,11 @@ import gwt.material.design.jquery.client.api.Functions;
  *     or
  *
  *    <ma:webp.MaterialWebpImage url="/images/my-image.webp" fallbackExtension="png"/>
+ *
+ *     or lazy loaded with responsive sources
+ *
+ *    <ma:webp.MaterialWebpImage url="/images/my-image-{width}.webp" fallbackExtension="png" lazy="true"
+ *                               sourceWidths="320,640,1280" sizes="(max-width: 600px) 100vw, 50vw"/>
  *     }
  * </pre>
  *
@@ -49,24 +50,187 @@ import gwt.material.design.jquery.client.api.Functions;
 //@formatter:on
 public class MaterialWebpImage extends MaterialImage implements HasWebpFallback {
 
+    public static final String WIDTH_PLACEHOLDER = "{width}";
+
+    private String url;
     private String fallbackUrl;
     private String fallbackExtension;
+    private boolean lazy;
+    private boolean inView;
+    private String rootMargin = "200px";
+    private String placeholderUrl;
+    private int[] sourceWidths;
+    private String sizes;
 
     @Override
     protected void onLoad() {
         super.onLoad();
 
-        checkWebpSupport();
+        applyUrl();
     }
 
-    protected void setFallbackAttribute(String fallbackUrl) {
-        this.fallbackUrl = fallbackUrl;
+    @Override
+    protected void onUnload() {
+        super.onUnload();
+
+        LazyImageObserver.unobserve(getElement());
+    }
+
+    /**
+     * Set the WebP url, it is applied once the image is attached and the WebP support is known so
+     * only one of the WebP or fallback image is downloaded.
+     */
+    @Override
+    public void setUrl(String url) {
+        this.url = url;
+        if (fallbackExtension != null) {
+            extractFallbackExtension(fallbackExtension);
+        }
+        applyUrl();
+    }
+
+    @Override
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Apply the WebP or the fallback url according to the {@link WebpSupport}.
+     */
+    protected void applyUrl() {
+        if (url == null || !isAttached()) {
+            return;
+        }
+        if (lazy && !inView) {
+            if (placeholderUrl != null) {
+                super.setUrl(placeholderUrl);
+            }
+            LazyImageObserver.observe(getElement(), rootMargin, () -> {
+                inView = true;
+                applyUrl();
+            });
+            return;
+        }
+        Boolean supported = WebpSupport.isSupported();
+        if (supported != null) {
+            applySource(supported || fallbackUrl == null ? url : fallbackUrl);
+        } else {
+            checkWebpSupport();
+        }
+    }
+
+    /**
+     * Apply the source, with its srcset when {@link #setSourceWidths(String)} is provided.
+     */
+    protected void applySource(String source) {
+        if (sourceWidths != null && sourceWidths.length > 0) {
+            getElement().setAttribute("srcset", generateSrcset(source));
+            if (sizes != null) {
+                getElement().setAttribute("sizes", sizes);
+            }
+            source = source.replace(WIDTH_PLACEHOLDER, String.valueOf(sourceWidths[sourceWidths.length - 1]));
+        } else {
+            getElement().removeAttribute("srcset");
+            getElement().removeAttribute("sizes");
+        }
+        super.setUrl(source);
+    }
+
+    /**
+     * Generate the srcset of the source by replacing its {@link #WIDTH_PLACEHOLDER} with every source width,
+     * i.e "/images/photo-{width}.webp" gives "/images/photo-320.webp 320w, /images/photo-640.webp 640w".
+     */
+    public String generateSrcset(String source) {
+        StringBuilder srcset = new StringBuilder();
+        if (sourceWidths != null) {
+            for (int width : sourceWidths) {
+                if (srcset.length() > 0) {
+                    srcset.append(", ");
+                }
+                srcset.append(source.replace(WIDTH_PLACEHOLDER, String.valueOf(width))).append(' ').append(width).append('w');
+            }
+        }
+        return srcset.toString();
+    }
+
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * Defer the loading of the image until it nears the viewport by {@link #getRootMargin()}.
+     */
+    public void setLazy(boolean lazy) {
+        this.lazy = lazy;
+    }
+
+    public String getRootMargin() {
+        return rootMargin;
+    }
+
+    /**
+     * Set the margin around the viewport in which a lazy image starts loading, i.e "200px".
+     */
+    public void setRootMargin(String rootMargin) {
+        this.rootMargin = rootMargin;
+    }
+
+    public String getPlaceholderUrl() {
+        return placeholderUrl;
+    }
+
+    /**
+     * Set a low quality image displayed until a lazy image is loaded.
+     */
+    public void setPlaceholderUrl(String placeholderUrl) {
+        this.placeholderUrl = placeholderUrl;
+    }
+
+    public String getSourceWidths() {
+        if (sourceWidths == null) {
+            return null;
+        }
+        StringBuilder widths = new StringBuilder();
+        for (int width : sourceWidths) {
+            if (widths.length() > 0) {
+                widths.append(',');
+            }
+            widths.append(width);
+        }
+        return widths.toString();
+    }
+
+    /**
+     * Set the comma separated widths in ascending order used to generate the srcset from the
+     * {@link #WIDTH_PLACEHOLDER} of the url, i.e "320,640,1280".
+     */
+    public void setSourceWidths(String sourceWidths) {
+        if (sourceWidths == null || sourceWidths.trim().isEmpty()) {
+            this.sourceWidths = null;
+            return;
+        }
+        String[] values = sourceWidths.split(",");
+        this.sourceWidths = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            this.sourceWidths[i] = Integer.parseInt(values[i].trim());
+        }
+    }
+
+    public String getSizes() {
+        return sizes;
+    }
+
+    /**
+     * Set the sizes attribute of the generated srcset, i.e "(max-width: 600px) 100vw, 50vw".
+     */
+    public void setSizes(String sizes) {
+        this.sizes = sizes;
     }
 
     @Override
     public void setFallbackUrl(String fallbackUrl) {
         this.fallbackUrl = fallbackUrl;
-        setFallbackAttribute(fallbackUrl);
+        applyUrl();
     }
 
     @Override
@@ -74,14 +238,17 @@ public class MaterialWebpImage extends MaterialImage implements HasWebpFallback
         return fallbackUrl;
     }
 
+    /**
+     * Derive the fallback url from the url with the given extension, i.e "png" gives "/images/photo.png"
+     * for "/images/photo.webp". The url may be set before or after the extension.
+     */
     @Override
     public void setFallbackExtension(String fallbackExtension) {
         this.fallbackExtension = fallbackExtension;
         if (fallbackExtension != null) {
-            if (isAttached()) {
+            if (url != null) {
                 extractFallbackExtension(fallbackExtension);
-            } else {
-                registerHandler(addAttachHandler(attachEvent -> extractFallbackExtension(fallbackExtension)));
+                applyUrl();
             }
         } else {
             GWT.log("Fallback Extension must not be null", new NullPointerException());
@@ -89,13 +256,10 @@ public class MaterialWebpImage extends MaterialImage implements HasWebpFallback
     }
 
     protected void extractFallbackExtension(String fallbackExtension) {
-        if (getUrl() != null && !getUrl().isEmpty()) {
-            String fallbackUrl = getUrl();
-            if (fallbackUrl.indexOf(".") > 0) {
-                fallbackUrl = fallbackUrl.substring(0, fallbackUrl.lastIndexOf(".")) + "." + fallbackExtension;
-                setFallbackUrl(fallbackUrl);
+        if (url != null && !url.isEmpty()) {
+            if (url.indexOf(".") > 0) {
+                fallbackUrl = url.substring(0, url.lastIndexOf(".")) + "." + fallbackExtension;
             }
-            return;
         } else {
             GWT.log("Url must not be null or empty", new IllegalStateException());
         }
@@ -107,14 +271,6 @@ public class MaterialWebpImage extends MaterialImage implements HasWebpFallback
     }
 
     public void checkWebpSupport() {
-        Image image = new Image();
-        image.setUrl("data:image/webp;base64,UklGRjoAAABXRUJQVlA4IC4AAACyAgCdASoCAAIALmk0mk0iIiIiIgBoSygABc6WWgAA/veff/0PP8bA//LwYAAA");
-        image.addLoadHandler(loadEvent -> {
-            setUrl(getUrl());
-        });
-        image.addErrorHandler(errorEvent -> {
-            setUrl(getFallbackUrl());
-        });
-        add(image);
+        WebpSupport.check(supported -> applyUrl());
     }
 }
@@ -0,0 +1,144 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.webp;
+
+import gwt.material.design.jquery.client.api.Functions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * App-wide WebP support detection. The browser is probed once with a tiny WebP image, every
+ * caller awaits that single pending probe and the result is kept in the local storage, so the
+ * next page loads on the same browser don't need to probe again.
+ */
+public class WebpSupport {
+
+    protected static final String STORAGE_KEY = "gwt-material-webp-support";
+    protected static final String PROBE = "data:image/webp;base64,UklGRjoAAABXRUJQVlA4IC4AAACyAgCdASoCAAIALmk0mk0iIiIiIgBoSygABc6WWgAA/veff/0PP8bA//LwYAAA";
+
+    private static Boolean supported;
+    private static List<Functions.Func1<Boolean>> callbacks;
+    private static Functions.Func1<Functions.Func1<Boolean>> prober;
+
+    protected WebpSupport() {}
+
+    /**
+     * Get the detected support, or null if it is not known yet.
+     */
+    public static Boolean isSupported() {
+        if (supported == null) {
+            supported = readStorage(STORAGE_KEY);
+        }
+        return supported;
+    }
+
+    /**
+     * Call back with the WebP support, immediately when it is already known.
+     */
+    public static void check(Functions.Func1<Boolean> callback) {
+        Boolean result = isSupported();
+        if (result != null) {
+            callback.call(result);
+        } else if (callbacks != null) {
+            callbacks.add(callback);
+        } else {
+            callbacks = new ArrayList<>();
+            callbacks.add(callback);
+            if (prober != null) {
+                prober.call(WebpSupport::resolve);
+            } else {
+                probe(PROBE, WebpSupport::resolve);
+            }
+        }
+    }
+
+    /**
+     * Replace the image probe, i.e to resolve the support without loading an image. A null prober
+     * restores the default image probe.
+     */
+    protected static void setProber(Functions.Func1<Functions.Func1<Boolean>> prober) {
+        WebpSupport.prober = prober;
+    }
+
+    /**
+     * Whether a probe is pending, the next checks are queued until it resolves.
+     */
+    protected static boolean isProbing() {
+        return callbacks != null;
+    }
+
+    /**
+     * Forget the detected support of this page, the local storage is left as is.
+     */
+    protected static void reset() {
+        supported = null;
+        callbacks = null;
+    }
+
+    protected static void resolve(Boolean result) {
+        supported = result;
+        writeStorage(STORAGE_KEY, result);
+        List<Functions.Func1<Boolean>> pending = callbacks;
+        callbacks = null;
+        if (pending != null) {
+            for (Functions.Func1<Boolean> callback : pending) {
+                callback.call(result);
+            }
+        }
+    }
+
+    protected static native void probe(String source, Functions.Func1<Boolean> callback) /*-{
+        var image = new Image();
+        image.onload = $entry(function () {
+            callback(image.width > 0 && image.height > 0);
+        });
+        image.onerror = $entry(function () {
+            callback(false);
+        });
+        image.src = source;
+    }-*/;
+
+    /**
+     * The stored result is bound to the user agent, so it is detected again after a browser update.
+     */
+    protected static native Boolean readStorage(String key) /*-{
+        try {
+            var value = $wnd.localStorage.getItem(key);
+            if (value == null || value.lastIndexOf("|") < 0) {
+                return null;
+            }
+            var separator = value.lastIndexOf("|");
+            if (value.substring(0, separator) != $wnd.navigator.userAgent) {
+                return null;
+            }
+            return @java.lang.Boolean::valueOf(Z)(value.substring(separator + 1) == "true");
+        } catch (e) {
+            return null;
+        }
+    }-*/;
+
+    protected static native void writeStorage(String key, boolean value) /*-{
+        try {
+            $wnd.localStorage.setItem(key, $wnd.navigator.userAgent + "|" + value);
+        } catch (e) {
+        }
+    }-*/;
+}
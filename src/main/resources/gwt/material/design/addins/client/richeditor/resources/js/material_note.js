@@ -23,6 +23,29 @@
     }
 }(function($) {
 
+    /**
+     * Serializing the document is costly, so the change event is only triggered
+     * if it has a callback or a listener.
+     * @param {jQuery} $holder
+     * @param {Object} callbacks
+     * @return {Boolean}
+     */
+    var hasChangeListener = function($holder, callbacks) {
+        if (callbacks && callbacks.onChange) {
+            return true;
+        }
+        var events = $holder[0] && $._data($holder[0], 'events'),
+            handlers = events && events.materialnote;
+        if (handlers) {
+            for (var i = 0; i < handlers.length; i++) {
+                if (('.' + handlers[i].namespace + '.').indexOf('.change.') !== -1) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    };
+
     if (!Array.prototype.reduce) {
         /**
          * Array.prototype.reduce polyfill
@@ -3492,9 +3515,11 @@
 
         var triggerOnChange = function($editable) {
             var $holder = dom.makeLayoutInfo($editable).holder();
-            handler.bindCustomEvent(
-                $holder, $editable.data('callbacks'), 'change'
-            )($editable.html(), $editable);
+            if (hasChangeListener($holder, $editable.data('callbacks'))) {
+                handler.bindCustomEvent(
+                    $holder, $editable.data('callbacks'), 'change'
+                )($editable.html(), $editable);
+            }
         };
 
         /**
@@ -4962,7 +4987,7 @@
             $editable.height(options.height ? $codable.height() : 'auto');
             $editor.removeClass('codeview');
 
-            if (isChange) {
+            if (isChange && hasChangeListener($holder, $editable.data('callbacks'))) {
                 handler.bindCustomEvent(
                     $holder, $editable.data('callbacks'), 'change'
                 )($editable.html(), $editable);
@@ -5890,7 +5915,9 @@
             //  - TODO check IE version
             var changeEventName = agent.isMSIE ? 'DOMCharacterDataModified DOMSubtreeModified DOMNodeInserted' : 'input';
             $editable.on(changeEventName, function() {
-                bindCustomEvent($holder, callbacks, 'change')($editable.html(), $editable);
+                if (hasChangeListener($holder, callbacks)) {
+                    bindCustomEvent($holder, callbacks, 'change')($editable.html(), $editable);
+                }
             });
 
             if (!options.airMode) {
@@ -1 +1 @@
-!function(e){"function"==typeof define&&define.amd?define(["jquery"],e):e(window.jQuery)}(function(e){Array.prototype.reduce||(Array.prototype.reduce=function(e){var t,n=Object(this),i=n.length>>>0,o=0;if(2===arguments.length)t=arguments[1];else{for(;o<i&&!(o in n);)o++;if(o>=i)throw new TypeError("Reduce of empty array with no initial value");t=n[o++]}for(;o<i;o++)o in n&&(t=e(t,n[o],o,n));return t}),"function"!=typeof Array.prototype.filter&&(Array.prototype.filter=function(e){for(var t=Object(this),n=t.length>>>0,i=[],o=arguments.length>=2?arguments[1]:void 0,r=0;r<n;r++)if(r in t){var a=t[r];e.call(o,a,r,t)&&i.push(a)}return i});var t,n,i,o,r,a,s,l,d,c,u,f,h,p,v,g,m,b,k,y,C,x,w,T,N,L,P,S,I,M,R,E,H,A,D,F,B,U,z,O,j,_,q,W,K,V,Q,Z,J="function"==typeof define&&define.amd,Y=navigator.userAgent,G={isMac:navigator.appVersion.indexOf("Mac")>-1,isMSIE:/MSIE|Trident/i.test(Y),isFF:/firefox/i.test(Y),isWebkit:/webkit/i.test(Y),isSafari:/safari/i.test(Y),jqueryVersion:parseFloat(e.fn.jquery),isSupportAmd:J,hasCodeMirror:J?require.specified("CodeMirror"):!!window.CodeMirror,isFontInstalled:function(t){if("Roboto"===t)return!0;var n="Comic Sans MS"===t?"Courier New":"Comic Sans MS",i=e("<div>").css({position:"absolute",left:"-9999px",top:"-9999px",fontSize:"200px"}).text("mmmmmmmmmwwwwwww").appendTo(document.body),o=i.css("fontFamily",n).width(),r=i.css("fontFamily",t+","+n).width();return i.remove(),o!==r},isW3CRangeSupport:!!document.createRange},X=(t=0,{eq:function(e){return function(t){return e===t}},eq2:function(e,t){return e===t},peq2:function(e){return function(t,n){return t[e]===n[e]}},ok:function(){return!0},fail:function(){return!1},self:function(e){return e},not:function(e){return function(){return!e.apply(e,arguments)}},and:function(e,t){return function(n){return e(n)&&t(n)}},uniqueId:function(e){var n=++t+"";return e?e+n:n},rect2bnd:function(t){var n=e(document);return{top:t.top+n.scrollTop(),left:t.left+n.scrollLeft(),width:t.right-t.left,height:t.bottom-t.top}},invertObject:function(e){var t={};for(var n in e)e.hasOwnProperty(n)&&(t[e[n]]=n);return t},namespaceToCamel:function(e,t){return(t=t||"")+e.split(".").map(function(e){return e.substring(0,1).toUpperCase()+e.substring(1)}).join("")}}),$={head:n=function(e){return e[0]},last:i=function(e){return e[e.length-1]},initial:function(e){return e.slice(0,e.length-1)},tail:o=function(e){return e.slice(1)},prev:function(e,t){var n=e.indexOf(t);return-1===n?null:e[n-1]},next:function(e,t){var n=e.indexOf(t);return-1===n?null:e[n+1]},find:function(e,t){for(var n=0,i=e.length;n<i;n++){var o=e[n];if(t(o))return o}},contains:r=function(t,n){return-1!==e.inArray(n,t)},all:function(e,t){for(var n=0,i=e.length;n<i;n++)if(!t(e[n]))return!1;return!0},sum:function(e,t){return t=t||X.self,e.reduce(function(e,n){return e+t(n)},0)},from:function(e){for(var t=[],n=-1,i=e.length;++n<i;)t[n]=e[n];return t},clusterBy:function(e,t){return e.length?o(e).reduce(function(e,n){var o=i(e);return t(i(o),n)?o[o.length]=n:e[e.length]=[n],e},[[n(e)]]):[]},compact:function(e){for(var t=[],n=0,i=e.length;n<i;n++)e[n]&&t.push(e[n]);return t},unique:function(e){for(var t=[],n=0,i=e.length;n<i;n++)r(t,e[n])||t.push(e[n]);return t}},ee=String.fromCharCode(160),te=(a=function(t){return t&&e(t).hasClass("note-editable")},s=function(t){var n;if(t.hasClass("note-air-editor")){var i=$.last(t.attr("id").split("-"));return{editor:function(){return t},holder:function(){return t.data("holder")},editable:function(){return t},popover:(n=function(t){return function(){return e(t+i)}})("#note-popover-"),handle:n("#note-handle-"),dialog:n("#note-dialog-")}}return{editor:function(){return t},holder:function(){return t.data("holder")},dropzone:(n=function(e){return function(){return t.find(e)}})(".note-dropzone"),toolbar:n(".note-toolbar"),editable:n(".note-editable"),codable:n(".note-codable"),statusbar:n(".note-statusbar"),popover:n(".note-popover"),handle:n(".note-handle"),dialog:n(".note-dialog")}},d=function(e){return e&&3===e.nodeType},c=function(e){return e&&/^BR|^IMG|^HR/.test(e.nodeName.toUpperCase())},u=function(e){return!a(e)&&(e&&/^DIV|^P|^LI|^H[1-7]/.test(e.nodeName.toUpperCase()))},f=(l=function(e){return e=e.toUpperCase(),function(t){return t&&t.nodeName.toUpperCase()===e}})("LI"),h=l("TABLE"),p=function(e){return!(b(e)||v(e)||u(e)||h(e)||m(e))},v=function(e){return e&&/^UL|^OL/.test(e.nodeName.toUpperCase())},g=function(e){return e&&/^TD|^TH/.test(e.nodeName.toUpperCase())},m=l("BLOCKQUOTE"),b=function(e){return g(e)||m(e)||a(e)},k=l("A"),y=l("BODY"),C=G.isMSIE?"&nbsp;":"<br>",x=function(e){return d(e)?e.nodeValue.length:e.childNodes.length},w=function(e){var t=x(e);return 0===t||(!d(e)&&1===t&&e.innerHTML===C||!(!$.all(e.childNodes,d)||""!==e.innerHTML))},T=function(e){c(e)||x(e)||(e.innerHTML=C)},N=function(e,t){for(;e;){if(t(e))return e;if(a(e))break;e=e.parentNode}return null},L=function(e,t){t=t||X.fail;var n=[];return N(e,function(e){return a(e)||n.push(e),t(e)}),n},P=function(e,t){t=t||X.fail;for(var n=[];e&&!t(e);)n.push(e),e=e.nextSibling;return n},S=function(e,t){var n=t.nextSibling,i=t.parentNode;return n?i.insertBefore(e,n):i.appendChild(e),e},I=function(t,n){return e.each(n,function(e,n){t.appendChild(n)}),t},M=function(e){return 0===e.offset},R=function(e){return e.offset===x(e.node)},E=function(e){return M(e)||R(e)},H=function(e){for(var t=0;e=e.previousSibling;)t+=1;return t},A=function(e){return!!(e&&e.childNodes&&e.childNodes.length)},D=function(e,t){var n,i;if(0===e.offset){if(a(e.node))return null;n=e.node.parentNode,i=H(e.node)}else A(e.node)?(n=e.node.childNodes[e.offset-1],i=x(n)):(n=e.node,i=t?0:e.offset-1);return{node:n,offset:i}},F=function(e,t){var n,i;if(x(e.node)===e.offset){if(a(e.node))return null;n=e.node.parentNode,i=H(e.node)+1}else A(e.node)?(n=e.node.childNodes[e.offset],i=0):(n=e.node,i=t?x(e.node):e.offset+1);return{node:n,offset:i}},B=function(e,t){return e.node===t.node&&e.offset===t.offset},U=function(e,t){var n=t&&t.isSkipPaddingBlankHTML,i=t&&t.isNotSplitEdgePoint;if(E(e)&&(d(e.node)||i)){if(M(e))return e.node;if(R(e))return e.node.nextSibling}if(d(e.node))return e.node.splitText(e.offset);var o=e.node.childNodes[e.offset],r=S(e.node.cloneNode(!1),e.node);return I(r,P(o)),n||(T(e.node),T(r)),r},z=function(e,t,n){var i=L(t.node,X.eq(e));return i.length?1===i.length?U(t,n):i.reduce(function(e,i){return e===t.node&&(e=U(t,n)),U({node:i,offset:e?te.position(e):x(i)},n)}):null},O=function(e){return document.createElement(e)},j=function(e,t){if(e&&e.parentNode){if(e.removeNode)return e.removeNode(t);var n=e.parentNode;if(!t){var i,o,r=[];for(i=0,o=e.childNodes.length;i<o;i++)r.push(e.childNodes[i]);for(i=0,o=r.length;i<o;i++)n.insertBefore(r[i],e)}n.removeChild(e)}},_=l("TEXTAREA"),q=function(e,t){var n=_(e[0])?e.val():e.html();return t?n.replace(/[\n\r]/g,""):n},{NBSP_CHAR:ee,ZERO_WIDTH_NBSP_CHAR:"\ufeff",blank:C,emptyPara:"<p>"+C+"</p>",makePredByNodeName:l,isEditable:a,isControlSizing:function(t){return t&&e(t).hasClass("note-control-sizing")},buildLayoutInfo:s,makeLayoutInfo:function(t){var n,i=e(t).closest(".note-editor, .note-air-editor, .note-air-layout");return i.length?(n=i.is(".note-editor, .note-air-editor")?i:e("#note-editor-"+$.last(i.attr("id").split("-"))),s(n)):null},isText:d,isVoid:c,isPara:u,isPurePara:function(e){return u(e)&&!f(e)},isInline:p,isBlock:X.not(p),isBodyInline:function(e){return p(e)&&!N(e,u)},isBody:y,isParaInline:function(e){return p(e)&&!!N(e,u)},isList:v,isTable:h,isCell:g,isBlockquote:m,isBodyContainer:b,isAnchor:k,isDiv:l("DIV"),isLi:f,isBR:l("BR"),isSpan:l("SPAN"),isB:l("B"),isU:l("U"),isS:l("S"),isI:l("I"),isImg:l("IMG"),isTextarea:_,isEmpty:w,isEmptyAnchor:X.and(k,w),isClosestSibling:function(e,t){return e.nextSibling===t||e.previousSibling===t},withClosestSiblings:function(e,t){t=t||X.ok;var n=[];return e.previousSibling&&t(e.previousSibling)&&n.push(e.previousSibling),n.push(e),e.nextSibling&&t(e.nextSibling)&&n.push(e.nextSibling),n},nodeLength:x,isLeftEdgePoint:M,isRightEdgePoint:R,isEdgePoint:E,isLeftEdgeOf:function(e,t){for(;e&&e!==t;){if(0!==H(e))return!1;e=e.parentNode}return!0},isRightEdgeOf:function(e,t){for(;e&&e!==t;){if(H(e)!==x(e.parentNode)-1)return!1;e=e.parentNode}return!0},prevPoint:D,nextPoint:F,isSamePoint:B,isVisiblePoint:function(e){if(d(e.node)||!A(e.node)||w(e.node))return!0;var t=e.node.childNodes[e.offset-1],n=e.node.childNodes[e.offset];return!(t&&!c(t)||n&&!c(n))},prevPointUntil:function(e,t){for(;e;){if(t(e))return e;e=D(e)}return null},nextPointUntil:function(e,t){for(;e;){if(t(e))return e;e=F(e)}return null},isCharPoint:function(e){if(!d(e.node))return!1;var t=e.node.nodeValue.charAt(e.offset-1);return t&&" "!==t&&t!==ee},walkPoint:function(e,t,n,i){for(var o=e;o&&(n(o),!B(o,t));){var r=i&&e.node!==o.node&&t.node!==o.node;o=F(o,r)}},ancestor:N,singleChildAncestor:function(e,t){for(e=e.parentNode;e&&1===x(e);){if(t(e))return e;if(a(e))break;e=e.parentNode}return null},listAncestor:L,lastAncestor:function(e,t){var n=L(e);return $.last(n.filter(t))},listNext:P,listPrev:function(e,t){t=t||X.fail;for(var n=[];e&&!t(e);)n.push(e),e=e.previousSibling;return n},listDescendant:function(e,t){var n=[];return t=t||X.ok,function i(o){e!==o&&t(o)&&n.push(o);for(var r=0,a=o.childNodes.length;r<a;r++)i(o.childNodes[r])}(e),n},commonAncestor:function(t,n){for(var i=L(t),o=n;o;o=o.parentNode)if(e.inArray(o,i)>-1)return o;return null},wrap:function(t,n){var i=t.parentNode,o=e("<"+n+">")[0];return i.insertBefore(o,t),o.appendChild(t),o},insertAfter:S,appendChildNodes:I,position:H,hasChildren:A,makeOffsetPath:function(t,n){var i=L(n,X.eq(t));return e.map(i,H).reverse()},fromOffsetPath:function(e,t){for(var n=e,i=0,o=t.length;i<o;i++)n=n.childNodes.length<=t[i]?n.childNodes[n.childNodes.length-1]:n.childNodes[t[i]];return n},splitTree:z,splitPoint:function(e,t){var n,i,o=t?u:b,r=L(e.node,o),a=$.last(r)||e.node;o(a)?(n=r[r.length-2],i=a):i=(n=a).parentNode;var s=n&&z(n,e,{isSkipPaddingBlankHTML:t,isNotSplitEdgePoint:t});return s||i!==e.node||(s=e.node.childNodes[e.offset]),{rightNode:s,container:i}},create:O,createText:function(e){return document.createTextNode(e)},remove:j,removeWhile:function(e,t){for(;e&&!a(e)&&t(e);){var n=e.parentNode;j(e),e=n}},replace:function(e,t){if(e.nodeName.toUpperCase()===t.toUpperCase())return e;var n=O(t);return e.style.cssText&&(n.style.cssText=e.style.cssText),I(n,$.from(e.childNodes)),S(n,e),j(e),n},html:function(t,n){var i=q(t);return n&&(i=i.replace(/<(\/?)(\b(?!!)[^>\s]*)(.*?)(\s*\/?>)/g,function(e,t,n){n=n.toUpperCase();var i=/^DIV|^TD|^TH|^P|^LI|^H[1-7]/.test(n)&&!!t,o=/^BLOCKQUOTE|^TABLE|^TBODY|^TR|^HR|^UL|^OL/.test(n);return e+(i||o?"\n":"")}),i=e.trim(i)),i},value:q}),ne=(W=function(e,t){var n,i,o=e.parentElement(),r=document.body.createTextRange(),a=$.from(o.childNodes);for(n=0;n<a.length;n++)if(!te.isText(a[n])){if(r.moveToElementText(a[n]),r.compareEndPoints("StartToStart",e)>=0)break;i=a[n]}if(0!==n&&te.isText(a[n-1])){var s=document.body.createTextRange(),l=null;s.moveToElementText(i||o),s.collapse(!i),l=i?i.nextSibling:o.firstChild;var d=e.duplicate();d.setEndPoint("StartToStart",s);for(var c=d.text.replace(/[\r\n]/g,"").length;c>l.nodeValue.length&&l.nextSibling;)c-=l.nodeValue.length,l=l.nextSibling;l.nodeValue;t&&l.nextSibling&&te.isText(l.nextSibling)&&c===l.nodeValue.length&&(c-=l.nodeValue.length,l=l.nextSibling),o=l,n=c}return{cont:o,offset:n}},K=function(e){var t=function(e,n){var i,o;if(te.isText(e)){var r=te.listPrev(e,X.not(te.isText)),a=$.last(r).previousSibling;i=a||e.parentNode,n+=$.sum($.tail(r),te.nodeLength),o=!a}else{if(i=e.childNodes[n]||e,te.isText(i))return t(i,0);n=0,o=!1}return{node:i,collapseToStart:o,offset:n}},n=document.body.createTextRange(),i=t(e.node,e.offset);return n.moveToElementText(i.node),n.collapse(i.collapseToStart),n.moveStart("character",i.offset),n},V=function(t,n,i,o){this.sc=t,this.so=n,this.ec=i,this.eo=o;var r=function(){if(G.isW3CRangeSupport){var e=document.createRange();return e.setStart(t,n),e.setEnd(i,o),e}var r=K({node:t,offset:n});return r.setEndPoint("EndToEnd",K({node:i,offset:o})),r};this.getPoints=function(){return{sc:t,so:n,ec:i,eo:o}},this.getStartPoint=function(){return{node:t,offset:n}},this.getEndPoint=function(){return{node:i,offset:o}},this.select=function(){var e=r();if(G.isW3CRangeSupport){var t=document.getSelection();t.rangeCount>0&&t.removeAllRanges(),t.addRange(e)}else e.select();return this},this.normalize=function(){var e=function(e){return te.isVisiblePoint(e)||(e=te.isLeftEdgePoint(e)?te.nextPointUntil(e,te.isVisiblePoint):te.prevPointUntil(e,te.isVisiblePoint)),e},t=e(this.getStartPoint()),n=e(this.getEndPoint());return new V(t.node,t.offset,n.node,n.offset)},this.nodes=function(e,t){e=e||X.ok;var n=t&&t.includeAncestor,i=t&&t.fullyContains,o=this.getStartPoint(),r=this.getEndPoint(),a=[],s=[];return te.walkPoint(o,r,function(t){var o;te.isEditable(t.node)||(i?(te.isLeftEdgePoint(t)&&s.push(t.node),te.isRightEdgePoint(t)&&$.contains(s,t.node)&&(o=t.node)):o=n?te.ancestor(t.node,e):t.node,o&&e(o)&&a.push(o))},!0),$.unique(a)},this.commonAncestor=function(){return te.commonAncestor(t,i)},this.expand=function(e){var r=te.ancestor(t,e),a=te.ancestor(i,e);if(!r&&!a)return new V(t,n,i,o);var s=this.getPoints();return r&&(s.sc=r,s.so=0),a&&(s.ec=a,s.eo=te.nodeLength(a)),new V(s.sc,s.so,s.ec,s.eo)},this.collapse=function(e){return e?new V(t,n,t,n):new V(i,o,i,o)},this.splitText=function(){var e=t===i,r=this.getPoints();return te.isText(i)&&!te.isEdgePoint(this.getEndPoint())&&i.splitText(o),te.isText(t)&&!te.isEdgePoint(this.getStartPoint())&&(r.sc=t.splitText(n),r.so=0,e&&(r.ec=r.sc,r.eo=o-n)),new V(r.sc,r.so,r.ec,r.eo)},this.deleteContents=function(){if(this.isCollapsed())return this;var t=this.splitText(),n=t.nodes(null,{fullyContains:!0}),i=te.prevPointUntil(t.getStartPoint(),function(e){return!$.contains(n,e.node)}),o=[];return e.each(n,function(e,t){var n=t.parentNode;i.node!==n&&1===te.nodeLength(n)&&o.push(n),te.remove(t,!1)}),e.each(o,function(e,t){te.remove(t,!1)}),new V(i.node,i.offset,i.node,i.offset).normalize()};var a=function(e){return function(){var n=te.ancestor(t,e);return!!n&&n===te.ancestor(i,e)}};this.isOnEditable=a(te.isEditable),this.isOnList=a(te.isList),this.isOnAnchor=a(te.isAnchor),this.isOnCell=a(te.isCell),this.isLeftEdgeOf=function(e){if(!te.isLeftEdgePoint(this.getStartPoint()))return!1;var t=te.ancestor(this.sc,e);return t&&te.isLeftEdgeOf(this.sc,t)},this.isCollapsed=function(){return t===i&&n===o},this.wrapBodyInlineWithPara=function(){if(te.isBodyContainer(t)&&te.isEmpty(t))return t.innerHTML=te.emptyPara,new V(t.firstChild,0,t.firstChild,0);if(te.isParaInline(t)||te.isPara(t))return this.normalize();var e;if(te.isInline(t)){var i=te.listAncestor(t,X.not(te.isInline));e=$.last(i),te.isInline(e)||(e=i[i.length-2]||t.childNodes[n])}else e=t.childNodes[n>0?n-1:0];var o=te.listPrev(e,te.isParaInline).reverse();if((o=o.concat(te.listNext(e.nextSibling,te.isParaInline))).length){var r=te.wrap($.head(o),"p");te.appendChildNodes(r,$.tail(o))}return this.normalize()},this.insertNode=function(e){var t=this.wrapBodyInlineWithPara().deleteContents(),n=te.splitPoint(t.getStartPoint(),te.isInline(e));return n.rightNode?n.rightNode.parentNode.insertBefore(e,n.rightNode):n.container.appendChild(e),e},this.pasteHTML=function(t){var n=this,i=e("<div></div>").html(t)[0],o=$.from(i.childNodes);return this.wrapBodyInlineWithPara().deleteContents(),e.map(o.reverse(),function(e){return n.insertNode(e)}).reverse()},this.toString=function(){var e=r();return G.isW3CRangeSupport?e.toString():e.text},this.getWordRange=function(e){var t=this.getEndPoint();if(!te.isCharPoint(t))return this;var n=te.prevPointUntil(t,function(e){return!te.isCharPoint(e)});return e&&(t=te.nextPointUntil(t,function(e){return!te.isCharPoint(e)})),new V(n.node,n.offset,t.node,t.offset)},this.bookmark=function(e){return{s:{path:te.makeOffsetPath(e,t),offset:n},e:{path:te.makeOffsetPath(e,i),offset:o}}},this.paraBookmark=function(e){return{s:{path:$.tail(te.makeOffsetPath($.head(e),t)),offset:n},e:{path:$.tail(te.makeOffsetPath($.last(e),i)),offset:o}}},this.getClientRects=function(){return r().getClientRects()}},{create:function(e,t,n,i){if(arguments.length)2===arguments.length&&(n=e,i=t);else if(G.isW3CRangeSupport){var o=document.getSelection();if(!o||0===o.rangeCount)return null;if(te.isBody(o.anchorNode))return null;var r=o.getRangeAt(0);e=r.startContainer,t=r.startOffset,n=r.endContainer,i=r.endOffset}else{var a=document.selection.createRange(),s=a.duplicate();s.collapse(!1);var l=a;l.collapse(!0);var d=W(l,!0),c=W(s,!1);te.isText(d.node)&&te.isLeftEdgePoint(d)&&te.isTextNode(c.node)&&te.isRightEdgePoint(c)&&c.node.nextSibling===d.node&&(d=c),e=d.cont,t=d.offset,n=c.cont,i=c.offset}return new V(e,t,n,i)},createFromNode:function(e){var t=e,n=0,i=e,o=te.nodeLength(i);return te.isVoid(t)&&(n=te.listPrev(t).length-1,t=t.parentNode),te.isBR(i)?(o=te.listPrev(i).length-1,i=i.parentNode):te.isVoid(i)&&(o=te.listPrev(i).length,i=i.parentNode),this.create(t,n,i,o)},createFromNodeBefore:function(e){return this.createFromNode(e).collapse(!0)},createFromNodeAfter:function(e){return this.createFromNode(e).collapse()},createFromBookmark:function(e,t){var n=te.fromOffsetPath(e,t.s.path),i=t.s.offset,o=te.fromOffsetPath(e,t.e.path),r=t.e.offset;return new V(n,i,o,r)},createFromParaBookmark:function(e,t){var n=e.s.offset,i=e.e.offset,o=te.fromOffsetPath($.head(t),e.s.path),r=te.fromOffsetPath($.last(t),e.e.path);return new V(o,n,r,i)}}),ie={readFileAsDataURL:function(t){return e.Deferred(function(n){e.extend(new FileReader,{onload:function(e){var t=e.target.result;n.resolve(t)},onerror:function(){n.reject(this)}}).readAsDataURL(t)}).promise()},createImage:function(t,n){return e.Deferred(function(i){var o=e("<img>");o.one("load",function(){o.off("error abort"),i.resolve(o)}).one("error abort",function(){o.off("load").detach(),i.reject(o)}).css({display:"none"}).appendTo(document.body).attr({src:t,"data-filename":n})}).promise()}},oe=(Q={BACKSPACE:8,TAB:9,ENTER:13,SPACE:32,NUM0:48,NUM1:49,NUM2:50,NUM3:51,NUM4:52,NUM5:53,NUM6:54,NUM7:55,NUM8:56,B:66,E:69,I:73,J:74,K:75,L:76,R:82,S:83,U:85,Y:89,Z:90,SLASH:191,LEFTBRACKET:219,BACKSLASH:220,RIGHTBRACKET:221},{isEdit:function(e){return $.contains([8,9,13,32],e)},isMove:function(e){return $.contains([37,38,39,40],e)},nameFromCode:X.invertObject(Q),code:Q}),re=function(e){var t=[],n=-1,i=e[0],o=function(t){null!==t.contents&&e.html(t.contents),null!==t.bookmark&&ne.createFromBookmark(i,t.bookmark).select()};this.undo=function(){0<n&&o(t[--n])},this.redo=function(){t.length-1>n&&o(t[++n])},this.recordUndo=function(){var o;n++,t.length>n&&(t=t.slice(0,n)),t.push((o=ne.create(),{contents:e.html(),bookmark:o?o.bookmark(i):{s:{path:[],offset:0},e:{path:[],offset:0}}}))},this.recordUndo()},ae=function(){this.stylePara=function(t,n){e.each(t.nodes(te.isPara,{includeAncestor:!0}),function(t,i){e(i).css(n)})},this.styleNodes=function(t,n){t=t.splitText();var i=n&&n.nodeName||"SPAN",o=!(!n||!n.expandClosestSibling),r=!(!n||!n.onlyPartialContains);if(t.isCollapsed())return[t.insertNode(te.create(i))];var a=te.makePredByNodeName(i),s=e.map(t.nodes(te.isText,{fullyContains:!0}),function(e){return te.singleChildAncestor(e,a)||te.wrap(e,i)});if(o){if(r){var l=t.nodes();a=X.and(a,function(e){return $.contains(l,e)})}return e.map(s,function(t){var n=te.withClosestSiblings(t,a),i=$.head(n),o=$.tail(n);return e.each(o,function(e,t){te.appendChildNodes(i,t.childNodes),te.remove(t)}),$.head(n)})}return s},this.current=function(t,n){var i=function(t,n){if(G.jqueryVersion<1.9){var i={};return e.each(n,function(e,n){i[n]=t.css(n)}),i}return t.css.call(t,n)}(e(te.isText(t.sc)?t.sc.parentNode:t.sc),["font-family","font-size","text-align","list-style-type","line-height"])||{};if(i["font-size"]=parseInt(i["font-size"],10),i["font-bold"]=document.queryCommandState("bold")?"bold":"normal",i["font-italic"]=document.queryCommandState("italic")?"italic":"normal",i["font-underline"]=document.queryCommandState("underline")?"underline":"normal",i["font-strikethrough"]=document.queryCommandState("strikeThrough")?"strikethrough":"normal",i["font-superscript"]=document.queryCommandState("superscript")?"superscript":"normal",i["font-subscript"]=document.queryCommandState("subscript")?"subscript":"normal",t.isOnList()){var o=e.inArray(i["list-style-type"],["circle","disc","disc-leading-zero","square"])>-1;i["list-style"]=o?"unordered":"ordered"}else i["list-style"]="none";var r=te.ancestor(t.sc,te.isPara);if(r&&r.style["line-height"])i["line-height"]=r.style.lineHeight;else{var a=parseInt(i["line-height"],10)/parseInt(i["font-size"],10);i["line-height"]=a.toFixed(1)}return i.image=te.isImg(n)&&n,i.anchor=t.isOnAnchor()&&te.ancestor(t.sc,te.isAnchor),i.ancestors=te.listAncestor(t.sc,te.isEditable),i.range=t,i}},se=function(){this.insertOrderedList=function(){this.toggleList("OL")},this.insertUnorderedList=function(){this.toggleList("UL")},this.indent=function(){var t=this,n=ne.create().wrapBodyInlineWithPara(),i=n.nodes(te.isPara,{includeAncestor:!0}),o=$.clusterBy(i,X.peq2("parentNode"));e.each(o,function(n,i){var o=$.head(i);te.isLi(o)?t.wrapList(i,o.parentNode.nodeName):e.each(i,function(t,n){e(n).css("marginLeft",function(e,t){return(parseInt(t,10)||0)+25})})}),n.select()},this.outdent=function(){var t=this,n=ne.create().wrapBodyInlineWithPara(),i=n.nodes(te.isPara,{includeAncestor:!0}),o=$.clusterBy(i,X.peq2("parentNode"));e.each(o,function(n,i){var o=$.head(i);te.isLi(o)?t.releaseList([i]):e.each(i,function(t,n){e(n).css("marginLeft",function(e,t){return(t=parseInt(t,10)||0)>25?t-25:""})})}),n.select()},this.toggleList=function(t){var n=this,i=ne.create().wrapBodyInlineWithPara(),o=i.nodes(te.isPara,{includeAncestor:!0}),r=i.paraBookmark(o),a=$.clusterBy(o,X.peq2("parentNode"));if($.find(o,te.isPurePara)){var s=[];e.each(a,function(e,i){s=s.concat(n.wrapList(i,t))}),o=s}else{var l=i.nodes(te.isList,{includeAncestor:!0}).filter(function(n){return!e.nodeName(n,t)});l.length?e.each(l,function(e,n){te.replace(n,t)}):o=this.releaseList(a,!0)}ne.createFromParaBookmark(r,o).select()},this.wrapList=function(t,n){var i=$.head(t),o=$.last(t),r=te.isList(i.previousSibling)&&i.previousSibling,a=te.isList(o.nextSibling)&&o.nextSibling,s=r||te.insertAfter(te.create(n||"UL"),o);return t=e.map(t,function(e){return te.isPurePara(e)?te.replace(e,"LI"):e}),te.appendChildNodes(s,t),a&&(te.appendChildNodes(s,$.from(a.childNodes)),te.remove(a)),t},this.releaseList=function(t,n){var i=[];return e.each(t,function(t,o){var r=$.head(o),a=$.last(o),s=n?te.lastAncestor(r,te.isList):r.parentNode,l=s.childNodes.length>1?te.splitTree(s,{node:a.parentNode,offset:te.position(a)+1},{isSkipPaddingBlankHTML:!0}):null,d=te.splitTree(s,{node:r.parentNode,offset:te.position(r)},{isSkipPaddingBlankHTML:!0});o=n?te.listDescendant(d,te.isLi):$.from(d.childNodes).filter(te.isLi),!n&&te.isList(s.parentNode)||(o=e.map(o,function(e){return te.replace(e,"P")})),e.each($.from(o).reverse(),function(e,t){te.insertAfter(t,s)});var c=$.compact([s,d,l]);e.each(c,function(t,n){var i=[n].concat(te.listDescendant(n,te.isList));e.each(i.reverse(),function(e,t){te.nodeLength(t)||te.remove(t,!0)})}),i=i.concat(o)}),i}},le=function(){var t=new se;this.insertTab=function(e,t,n){var i=te.createText(new Array(n+1).join(te.NBSP_CHAR));(t=t.deleteContents()).insertNode(i,!0),(t=ne.create(i,n)).select()},this.insertParagraph=function(){var n=ne.create();n=(n=n.deleteContents()).wrapBodyInlineWithPara();var i,o=te.ancestor(n.sc,te.isPara);if(o){if(te.isEmpty(o)&&te.isLi(o))return void t.toggleList(o.parentNode.nodeName);i=te.splitTree(o,n.getStartPoint());var r=te.listDescendant(o,te.isEmptyAnchor);r=r.concat(te.listDescendant(i,te.isEmptyAnchor)),e.each(r,function(e,t){te.remove(t)})}else{var a=n.sc.childNodes[n.so];i=e(te.emptyPara)[0],a?n.sc.insertBefore(i,a):n.sc.appendChild(i)}ne.create(i,0).normalize().select()}},de=function(){this.tab=function(e,t){var n=te.ancestor(e.commonAncestor(),te.isCell),i=te.ancestor(n,te.isTable),o=te.listDescendant(i,te.isCell),r=$[t?"prev":"next"](o,n);r&&ne.create(r,0).select()},this.createTable=function(t){for(var n,i=[],o=[],r=t[0],a=t[1],s=t.slice(2,t.length),l=0;l<r;l++)i.push("<td>(item)</td>"),o.push("<th>header</th>");n=i.join(""),o=o.join("");for(var d,c=[],u=0;u<a;u++)c.push("<tr>"+n+"</tr>");return d=c.join(""),e('<table class="'+s.join(" ")+'"><thead><tr>'+o+"</tr></thead><tbody>"+d+"</tbody></table>")[0]}},ce=function(t){var n=new ae,i=new de,o=new le,r=new se;this.createRange=function(e){return this.focus(e),ne.create()},this.saveRange=function(e,t){this.focus(e),e.data("range",ne.create()),t&&ne.create().collapse().select()},this.saveNode=function(e){for(var t=[],n=0,i=e[0].childNodes.length;n<i;n++)t.push(e[0].childNodes[n]);e.data("childNodes",t)},this.restoreRange=function(e){var t=e.data("range");t&&(t.select(),this.focus(e))},this.restoreNode=function(e){e.html("");for(var t=e.data("childNodes"),n=0,i=t.length;n<i;n++)e[0].appendChild(t[n])},this.reset=function(e){e.html("")},this.html=function(e,t){e.html(t)},this.getHTML=function(e){return e.html()},this.currentStyle=function(e){var t=ne.create();return!!t&&(t.isOnEditable()&&n.current(t,e))};var a=function(e){var n=te.makeLayoutInfo(e).holder();t.bindCustomEvent(n,e.data("callbacks"),"before.command")(e.html(),e)},s=function(e){var n=te.makeLayoutInfo(e).holder();t.bindCustomEvent(n,e.data("callbacks"),"change")(e.html(),e)};this.undo=function(e){a(e),e.data("NoteHistory").undo(),s(e)},this.redo=function(e){a(e),e.data("NoteHistory").redo(),s(e)};for(var l=this,d=this.beforeCommand=function(e){a(e),l.focus(e)},c=this.afterCommand=function(e,t){e.data("NoteHistory").recordUndo(),t||s(e)},u=["bold","italic","underline","strikethrough","superscript","subscript","justifyLeft","justifyCenter","justifyRight","justifyFull","formatBlock","removeFormat","backColor","foreColor","fontName"],f=0,h=u.length;f<h;f++)this[u[f]]=function(e){return function(t,n){d(t),document.execCommand(e,!1,n),c(t,!0)}}(u[f]);this.insertHorizontalRule=function(){var t=e("<div />");t.addClass("divider"),ne.create().insertNode(t[0])},this.tab=function(e,t){var n=this.createRange(e);n.isCollapsed()&&n.isOnCell()?i.tab(n):(d(e),o.insertTab(e,n,t.tabsize),c(e))},this.untab=function(e){var t=this.createRange(e);t.isCollapsed()&&t.isOnCell()&&i.tab(t,!0)},this.insertParagraph=function(e){d(e),o.insertParagraph(e),c(e)},this.insertOrderedList=function(e){d(e),r.insertOrderedList(e),c(e)},this.insertUnorderedList=function(e){d(e),r.insertUnorderedList(e),c(e)},this.indent=function(e){d(e),r.indent(e),c(e)},this.outdent=function(e){d(e),r.outdent(e),c(e)},this.insertImage=function(e,n,i){ie.createImage(n,i).then(function(t){d(e),t.css({display:"",width:Math.min(e.width(),t.width())}),ne.create().insertNode(t[0]),ne.createFromNodeAfter(t[0]).select(),c(e)}).fail(function(){var n=te.makeLayoutInfo(e).holder();t.bindCustomEvent(n,e.data("callbacks"),"image.upload.error")()})},this.insertNode=function(e,t){d(e),ne.create().insertNode(t),ne.createFromNodeAfter(t).select(),c(e)},this.insertText=function(e,t){d(e);var n=ne.create().insertNode(te.createText(t));ne.create(n,te.nodeLength(n)).select(),c(e)},this.pasteHTML=function(e,t){d(e);var n=ne.create().pasteHTML(t);ne.createFromNodeAfter($.last(n)).select(),c(e)},this.formatBlock=function(e,t){d(e),t=G.isMSIE?"<"+t+">":t,document.execCommand("FormatBlock",!1,t),c(e)},this.formatPara=function(e){d(e),this.formatBlock(e,"P"),c(e)};for(f=1;f<=6;f++)this["formatH"+f]=function(e){return function(t){this.formatBlock(t,"H"+e)}}(f);this.fontSize=function(t,i){var o=ne.create();if(o.isCollapsed()){var r=n.styleNodes(o),a=$.head(r);e(r).css({"font-size":i+"px"}),a&&!te.nodeLength(a)&&(a.innerHTML=te.ZERO_WIDTH_NBSP_CHAR,ne.createFromNodeAfter(a.firstChild).select(),t.data("bogus",a))}else d(t),e(n.styleNodes(o)).css({"font-size":i+"px"}),c(t)},this.removeBogus=function(e){var t=e.data("bogus");if(t){var n=$.find($.from(t.childNodes),te.isText),i=n.nodeValue.indexOf(te.ZERO_WIDTH_NBSP_CHAR);-1!==i&&n.deleteData(i,1),te.isEmpty(t)&&te.remove(t),e.removeData("bogus")}},this.lineHeight=function(e,t){d(e),n.stylePara(ne.create(),{lineHeight:t}),c(e)},this.unlink=function(e){var t=this.createRange(e);if(t.isOnAnchor()){var n=te.ancestor(t.sc,te.isAnchor);(t=ne.createFromNode(n)).select(),d(e),document.execCommand("unlink"),c(e)}},this.createLink=function(t,i,o){var r=i.url,a=i.text,s=i.newWindow,l=i.range,u=l.toString()!==a;d(t),o.onCreateLink&&(r=o.onCreateLink(r));var f=[];if(u){var h=l.insertNode(e("<A>"+a+"</A>")[0]);f.push(h)}else f=n.styleNodes(l,{nodeName:"A",expandClosestSibling:!0,onlyPartialContains:!0});e.each(f,function(t,n){e(n).attr("href",r),s?e(n).attr("target","_blank"):e(n).removeAttr("target")});var p=ne.createFromNodeBefore($.head(f)).getStartPoint(),v=ne.createFromNodeAfter($.last(f)).getEndPoint();ne.create(p.node,p.offset,v.node,v.offset).select(),c(t)},this.getLinkInfo=function(t){this.focus(t);var n=ne.create().expand(te.isAnchor),i=e($.head(n.nodes(te.isAnchor)));return{range:n,text:n.toString(),isNewWindow:!!i.length&&"_blank"===i.attr("target"),url:i.length?i.attr("href"):""}},this.color=function(e,t){var n=JSON.parse(t),i=n.foreColor,o=n.backColor;d(e),i&&document.execCommand("foreColor",!1,i),o&&document.execCommand("backColor",!1,o),c(e)},this.insertTable=function(e,t){var n=t.split("x");d(e),ne.create().deleteContents().insertNode(i.createTable(n)),c(e)},this.floatMe=function(e,t,n){d(e),n.css("float",t),c(e)},this.imageShape=function(e,t,n){d(e),n.removeClass("img-rounded img-circle img-thumbnail img-bordered"),t&&n.addClass(t),c(e)},this.imageClass=function(e,t,n){d(e),t&&(n.hasClass(t)?n.removeClass(t):n.addClass(t)),c(e)},this.resize=function(e,t,n){d(e),n.css({width:100*t+"%",height:""}),c(e)},this.resizeTo=function(e,t,n){var i;if(n){var o=e.y/e.x,r=t.data("ratio");i={width:r>o?e.x:e.y/r,height:r>o?e.x*r:e.y}}else i={width:e.x,height:e.y};t.css(i)},this.removeMedia=function(n,i,o){d(n),o.detach(),t.bindCustomEvent(e(),n.data("callbacks"),"media.delete")(o,n),c(n)},this.focus=function(e){e.focus(),G.isFF&&!ne.create().isOnEditable()&&ne.createFromNode(e[0]).normalize().collapse().select()},this.isEmpty=function(e){return te.isEmpty(e[0])||te.emptyPara===e.html()}},ue=function(){this.update=function(t,n){var i=function(t,n){t.find(".dropdown-menu li").each(function(){var t=e(this).children("div");t.data("value")+""==n+""?t.children("i").removeClass("transparent"):t.children("i").addClass("transparent")})},o=function(e,n){t.find(e).toggleClass("active",n())};if(n.image){var r=e(n.image);o('.btn[data-event="imageClass"][data-value="img-rounded"]',function(){return r.hasClass("img-rounded")}),o('.btn[data-event="imageClass"][data-value="img-circle"]',function(){return r.hasClass("img-circle")}),o('.btn[data-event="imageClass"][data-value="img-thumbnail"]',function(){return r.hasClass("img-thumbnail")}),o('.btn[data-event="imageClass"][data-value="img-bordered"]',function(){return r.hasClass("img-bordered")}),o('.btn[data-event="imageShape"]:not([data-value])',function(){return!r.is(".img-rounded, .img-circle, .img-thumbnail, .img-bordered")});var a=r.css("float");o('.btn[data-event="floatMe"][data-value="left"]',function(){return"left"===a}),o('.btn[data-event="floatMe"][data-value="right"]',function(){return"right"===a}),o('.btn[data-event="floatMe"][data-value="none"]',function(){return"left"!==a&&"right"!==a});var s=r.attr("style");return o('.btn[data-event="resize"][data-value="1"]',function(){return!!/(^|\s)(max-)?width\s*:\s*100%/.test(s)}),o('.btn[data-event="resize"][data-value="0.5"]',function(){return!!/(^|\s)(max-)?width\s*:\s*50%/.test(s)}),void o('.btn[data-event="resize"][data-value="0.25"]',function(){return!!/(^|\s)(max-)?width\s*:\s*25%/.test(s)})}var l=t.find(".note-fontname[data-name=fontname]");if(l.length){var d=n["font-family"];if(d){for(var c=d.split(","),u=0,f=c.length;u<f&&(d=c[u].replace(/[\'\"]/g,"").replace(/\s+$/,"").replace(/^\s+/,""),!G.isFontInstalled(d));u++);l.find(".note-current-fontname").text(d),i(l,d)}}var h=t.find(".note-fontsize[data-name=fontsize]");h.find(".note-current-fontsize").text(n["font-size"]),i(h,parseFloat(n["font-size"])),i(t.find(".note-height[data-name=lineheight]"),parseFloat(n["line-height"])),o('.btn[data-event="bold"]',function(){return"bold"===n["font-bold"]}),o('.btn[data-event="italic"]',function(){return"italic"===n["font-italic"]}),o('.btn[data-event="underline"]',function(){return"underline"===n["font-underline"]}),o('.btn[data-event="strikethrough"]',function(){return"strikethrough"===n["font-strikethrough"]}),o('.btn[data-event="superscript"]',function(){return"superscript"===n["font-superscript"]}),o('.btn[data-event="subscript"]',function(){return"subscript"===n["font-subscript"]}),o('.btn[data-event="justifyLeft"]',function(){return"left"===n["text-align"]||"start"===n["text-align"]}),o('.btn[data-event="justifyCenter"]',function(){return"center"===n["text-align"]}),o('.btn[data-event="justifyRight"]',function(){return"right"===n["text-align"]}),o('.btn[data-event="justifyFull"]',function(){return"justify"===n["text-align"]}),o('.btn[data-event="insertUnorderedList"]',function(){return"unordered"===n["list-style"]}),o('.btn[data-event="insertOrderedList"]',function(){return"ordered"===n["list-style"]})},this.updateRecentColor=function(t,n,i){var o=e(t).closest(".note-color").find(".note-recent-color"),r=JSON.parse(o.attr("data-value")),a="backColor"===n?"background-color":"color";r[n]=i,o.attr("data-value",JSON.stringify(r)),o.css(a,i)}},fe=function(){var e=new ue;this.update=function(t,n){e.update(t,n)},this.updateRecentColor=function(t,n,i){e.updateRecentColor(t,n,i)},this.activate=function(e){e.find("button, .btn").not('.btn[data-event="codeview"]').removeClass("disabled")},this.deactivate=function(e){e.find("button, .btn").not('.btn[data-event="codeview"]').addClass("disabled")},this.updateFullscreen=function(e,t){e.find('.btn[data-event="fullscreen"]').toggleClass("active",t)},this.updateCodeview=function(e,t){e.find('.btn[data-event="codeview"]').toggleClass("active",t),t?this.deactivate(e):this.activate(e)},this.get=function(e,t){return te.makeLayoutInfo(e).toolbar().find("[data-name="+t+"]")},this.setButtonState=function(e,t,n){n=!1!==n,this.get(e,t).toggleClass("active",n)}},he=function(){var t=e(document);this.attach=function(e,t){t.disableResizeEditor||e.statusbar().on("mousedown",n)};var n=function(e){e.preventDefault(),e.stopPropagation();var n=te.makeLayoutInfo(e.target).editable(),i=n.offset().top-t.scrollTop(),o=te.makeLayoutInfo(e.currentTarget||e.target).editor().data("options");t.on("mousemove",function(e){var t=e.clientY-(i+24);t=o.minHeight>0?Math.max(t,o.minHeight):t,t=o.maxHeight>0?Math.min(t,o.maxHeight):t,n.height(t)}).one("mouseup",function(){t.off("mousemove")})}},pe=function(){var t=new ue,n=function(t,n){var i=e(t),o=n?i.offset():i.position(),r=i.outerHeight(!0);return{left:o.left,top:o.top+r}},i=function(e,t){e.css({display:"block",left:t.left,top:t.top})};this.update=function(o,r,a){t.update(o,r);var s=o.find(".note-link-popover");if(r.anchor){var l=s.find("a"),d=e(r.anchor).attr("href"),c=e(r.anchor).attr("target");l.attr("href",d).html(d),c?l.attr("target","_blank"):l.removeAttr("target"),i(s,n(r.anchor,a))}else s.hide();var u=o.find(".note-image-popover");r.image?i(u,n(r.image,a)):u.hide();var f=o.find(".note-air-popover");if(a&&!r.range.isCollapsed()){var h=$.last(r.range.getClientRects());if(h){var p=X.rect2bnd(h);i(f,{left:Math.max(p.left+p.width/2-20,0),top:p.top+p.height})}}else f.hide()},this.updateRecentColor=function(e,t,n){e.updateRecentColor(e,t,n)},this.hide=function(e){e.children().hide()}},ve=function(t){var n=e(document),i=function(i){if(te.isControlSizing(i.target)){i.preventDefault(),i.stopPropagation();var o=te.makeLayoutInfo(i.target),r=o.handle(),a=o.popover(),s=o.editable(),l=o.editor(),d=r.find(".note-control-selection").data("target"),c=e(d),u=c.offset(),f=n.scrollTop(),h=l.data("options").airMode;n.on("mousemove",function(e){t.invoke("editor.resizeTo",{x:e.clientX-u.left,y:e.clientY-(u.top-f)},c,!e.shiftKey),t.invoke("handle.update",r,{image:d},h),t.invoke("popover.update",a,{image:d},h)}).one("mouseup",function(){n.off("mousemove"),t.invoke("editor.afterCommand",s)}),c.data("ratio")||c.data("ratio",c.height()/c.width())}};this.attach=function(e){e.handle().on("mousedown",i)},this.update=function(t,n,i){var o=t.find(".note-control-selection");if(n.image){var r=e(n.image),a=i?r.offset():r.position(),s={w:r.outerWidth(!0),h:r.outerHeight(!0)};o.css({display:"block",left:a.left,top:a.top,width:s.w,height:s.h}).data("target",n.image);var l=s.w+"x"+s.h;o.find(".note-control-selection-info").text(l)}else o.hide()},this.hide=function(e){e.children().hide()}},ge=function(t){var n=e(window),i=e("html, body");this.toggle=function(e){var o=e.editor(),r=e.toolbar(),a=e.editable(),s=e.codable(),l=function(e){a.css("height",e.h),s.css("height",e.h),s.data("cmeditor")&&s.data("cmeditor").setsize(null,e.h)};o.toggleClass("fullscreen");var d=o.hasClass("fullscreen");d?(a.data("orgheight",a.css("height")),n.on("resize",function(){l({h:n.height()-r.outerHeight()})}).trigger("resize"),i.css("overflow","hidden"),r.css("top",0)):(n.off("resize"),l({h:a.data("orgheight")}),i.css("overflow","visible")),t.invoke("toolbar.updateFullscreen",r,d)}};G.hasCodeMirror&&(G.isSupportAmd?require(["CodeMirror"],function(e){Z=e}):Z=window.CodeMirror);var me=function(t){this.sync=function(e){t.invoke("codeview.isActivated",e)&&G.hasCodeMirror&&e.codable().data("cmEditor").save()},this.isActivated=function(e){return e.editor().hasClass("codeview")},this.toggle=function(e){this.isActivated(e)?this.deactivate(e):this.activate(e)},this.activate=function(n){var i=n.editor(),o=n.toolbar(),r=n.editable(),a=n.codable(),s=n.popover(),l=n.handle(),d=i.data("options"),c=te.html(r,!1);c=function e(t,n,i,o){var r,a=t.indexOf("<"),s=t.indexOf(">");if(a<0)return t;if(0===a)if(r=t.substring(0,s+1),t=t.substring(s+1),0===r.indexOf("</"))n--,nsideLastBlock=!1;else{i&&n++;for(var l=!1,d=0;d<o.length;d++)if(0===r.indexOf(o[d])){l=!0;break}i=!l}else r=t.substring(0,a),t=t.substring(a),i&&n++,i=!1;try{r=new Array(n+1).join("    ")+r.trim()}catch(e){return r}return 0===t.length?r:r+"\n"+e(t.trim(),n,i,o)}(c,0,!1,["<img","<br","<hr"]),a.val(c);var u=o.find(".btn[data-event=codeview]").height(),f=e(window).height()-u;if(a.height(r.height()),t.invoke("toolbar.updateCodeview",o,!0),t.invoke("popover.hide",s),t.invoke("handle.hide",l),i.addClass("codeview"),a.focus(),G.hasCodeMirror){var h=Z.fromTextArea(a[0],d.codemirror);if(d.codemirror.tern){var p=new Z.TernServer(d.codemirror.tern);h.ternServer=p,h.on("cursorActivity",function(e){p.updateArgHints(e)})}i.hasClass("fullscreen")?h.setSize(null,f):h.setSize(null,r.outerHeight()),a.data("cmEditor",h)}},this.deactivate=function(e){var n=e.holder(),i=e.editor(),o=e.toolbar(),r=e.editable(),a=e.codable(),s=i.data("options");if(G.hasCodeMirror){var l=a.data("cmEditor");a.val(l.getValue()),l.toTextArea()}var d=te.value(a,s.prettifyHtml)||te.emptyPara,c=r.html()!==d;r.html(d),r.height(s.height?a.height():"auto"),i.removeClass("codeview"),c&&t.bindCustomEvent(n,r.data("callbacks"),"change")(r.html(),r),r.focus(),t.invoke("toolbar.updateCodeview",o,!1)}},be=function(t){var n=e(document);this.attach=function(e,t){t.airMode||t.disableDragAndDrop?n.on("drop",function(e){e.preventDefault()}):this.attachDragAndDropEvent(e,t)},this.attachDragAndDropEvent=function(i,o){var r=e(),a=i.editor(),s=i.dropzone(),l=s.find(".note-dropzone-message");n.on("dragenter",function(e){var n=t.invoke("codeview.isActivated",i),d=a.width()>0&&a.height()>0;n||r.length||!d||(a.addClass("dragover"),s.width(a.width()),s.height(a.height()),l.text(o.langInfo.image.dragImageHere)),r=r.add(e.target)}).on("dragleave",function(e){(r=r.not(e.target)).length||a.removeClass("dragover")}).on("drop",function(){r=e(),a.removeClass("dragover")}),s.on("dragenter",function(){s.addClass("hover"),l.text(o.langInfo.image.dropImage)}).on("dragleave",function(){s.removeClass("hover"),l.text(o.langInfo.image.dragImageHere)}),s.on("drop",function(n){var i=n.originalEvent.dataTransfer,o=te.makeLayoutInfo(n.currentTarget||n.target);if(i&&i.files&&i.files.length)n.preventDefault(),o.editable().focus(),t.insertImages(o,i.files);else for(var r=function(){o.holder().materialnote("insertNode",this)},a=0,s=i.types.length;a<s;a++){var l=i.types[a],d=i.getData(l);l.toLowerCase().indexOf("text")>-1?o.holder().materialnote("pasteHTML",d):e(d).each(r)}}).on("dragover",!1)}},ke=function(t){var n;this.attach=function(o){window.clipboardData&&(n=e("<div />").attr("contenteditable",!0).css({position:"absolute",left:-1e5,opacity:0}),o.editable().after(n),n.one("paste",i),o.editable().on("keydown",function(e){e.ctrlKey&&86===e.keyCode&&(t.invoke("saveRange",o.editable()),n&&n.focus())})),o.editable().on("paste",i)};var i=function(e){var i=e.originalEvent.clipboardData,o=te.makeLayoutInfo(e.currentTarget||e.target),r=o.editable();if(i&&i.items&&i.items.length){var a=$.head(i.items);"file"===a.kind&&-1!==a.type.indexOf("image/")&&t.insertImages(o,[a.getAsFile()]),t.invoke("editor.afterCommand",r)}else{if(!r.data("callbacks").onImageUpload)return;setTimeout(function(){if(n){var e=n[0].firstChild;if(e){if(t.invoke("restoreRange",r),te.isImg(e)){for(var i=e.src,a=atob(i.split(",")[1]),s=new Uint8Array(a.length),l=0;l<a.length;l++)s[l]=a.charCodeAt(l);var d=new Blob([s],{type:"image/png"});d.name="clipboard.png",t.invoke("focus",r),t.insertImages(o,[d])}else t.invoke("pasteHTML",r,n.html());n.remove()}}},0)}}},ye=function(t){var n=function(e,t){e.toggleClass("disabled",!t),e.attr("disabled",!t)},i=function(e,t){e.on("keypress",function(e){e.keyCode===oe.code.ENTER&&t.trigger("click")})};this.showLinkDialog=function(t,o,r){return e.Deferred(function(t){var a=o.find(".note-link-dialog"),s=a.find(".note-link-text"),l=s.next("label"),d=a.find(".note-link-url"),c=a.find(".note-link-btn"),u=a.find(".btnClose"),f=a.find("input[type=checkbox]");a.openModal(),s.val(r.text),r.text.length>0&&l.addClass("active"),s.on("keyup",function(){n(c,s.val()&&d.val()),r.text=s.val()}),u.click(function(e){e.preventDefault(),a.closeModal()}),r.url||(r.url=r.text||"http://",n(c,r.text)),d.on("keyup",function(){n(c,s.val()&&d.val()),r.text||(l.addClass("active"),s.val(d.val()))}).val(r.url).trigger("focus").trigger("select"),i(d,c),i(s,c),f.prop("checked",r.newWindow),c.one("click",function(n){n.preventDefault(),t.resolve({range:r.range,url:d.val(),text:s.val(),newWindow:f.is(":checked")}),e(".note-link-text").val(""),e(".note-link-text").next("label").removeClass("active"),e(".note-link-url").val(""),a.closeModal()})}).promise()},this.show=function(e){var n=e.editor(),i=e.dialog(),o=e.editable(),r=e.popover(),a=t.invoke("editor.getLinkInfo",o),s=n.data("options");t.invoke("editor.saveRange",o),this.showLinkDialog(o,i,a).then(function(e){t.invoke("editor.restoreRange",o),t.invoke("editor.createLink",o,e,s),t.invoke("popover.hide",r)}).fail(function(){t.invoke("editor.restoreRange",o)})}},Ce=function(t){this.show=function(e){var n=e.dialog(),i=e.editable();t.invoke("editor.saveRange",i),this.showImageDialog(i,n).then(function(n){t.invoke("editor.restoreRange",i),"string"==typeof n?t.invoke("editor.insertImage",i,n):t.insertImages(e,n)}).fail(function(){t.invoke("editor.restoreRange",i)})},this.showImageDialog=function(t,n){return e.Deferred(function(e){var t,i=n.find(".note-image-dialog"),o=n.find(".note-image-input"),r=n.find(".note-image-url"),a=n.find(".note-image-btn"),s=i.find(".btnClose");i.openModal(),o.replaceWith(o.clone().on("change",function(){e.resolve(this.files||this.value),r.val(""),i.closeModal(),e.resolve()}).val("")),a.off("click").click(function(t){t.preventDefault(),e.resolve(r.val()),r.val(""),i.closeModal(),e.resolve()}),s.click(function(e){e.preventDefault(),i.closeModal()}),r.on("keyup paste",function(e){var t,n,i;t="paste"===e.type?e.originalEvent.clipboardData.getData("text"):r.val(),i=t,(n=a).toggleClass("disabled",!i),n.attr("disabled",!i)}),t=a,r.on("keypress",function(e){e.keyCode===oe.code.ENTER&&t.trigger("click")})})}},xe=function(t){this.showHelpDialog=function(t,n){return e.Deferred(function(e){n.find(".note-help-dialog").openModal(),e.resolve()}).promise()},this.show=function(e){var n=e.dialog(),i=e.editable();t.invoke("editor.saveRange",i,!0),this.showHelpDialog(i,n).then(function(){t.invoke("editor.restoreRange",i)})}};e.materialnote=e.materialnote||{},e.extend(e.materialnote,{version:"0.6.9",options:{defaultTextColor:"#212121",defaultBackColor:"#ddd",followingToolbar:!0,otherStaticBarClass:"staticTop",width:null,height:null,minHeight:null,maxHeight:null,focus:!1,tabsize:4,styleWithSpan:!0,disableLinkTarget:!1,disableDragAndDrop:!1,disableResizeEditor:!1,shortcuts:!0,placeholder:!1,prettifyHtml:!0,iconPrefix:"",icons:{font:{bold:"format_bold",italic:"format_italic",underline:"format_underlined",clear:"clear",height:"format_size",strikethrough:"strikethrough_s",superscript:"vertical_align_top",subscript:"vertical_align_bottom"},image:{image:"image",floatLeft:"format_align_left",floatRight:"format_align_right",floatNone:"format_align_justify",shapeRounded:"crop_3_2",shapeCircle:"panorama_fish_eye",shapeThumbnail:"collections",bordered:"border_outer",shapeNone:"image",remove:"delete"},link:{link:"insert_link",unlink:"clear",edit:"create"},table:{table:"border_all"},hr:{insert:"add"},style:{style:"border_color"},lists:{unordered:"format_list_bulleted",ordered:"format_list_numbered"},options:{help:"help",fullscreen:"settings_overscan",codeview:"code"},paragraph:{paragraph:"format_textdirection_l_to_r",outdent:"format_indent_decrease",indent:"format_indent_increase",left:"format_align_left",center:"format_align_center",right:"format_align_right",justify:"format_align_justify"},color:{recent:"format_color_text"},history:{undo:"undo",redo:"redo"},misc:{check:"check"}},codemirror:{mode:"text/html",htmlMode:!0,indentWithTabs:!0,tabSize:4,lineNumbers:!0,theme:"monokai",maxHighlightLength:"Infinity"},lang:"en-US",direction:null,toolbar:[["style",["style"]],["font",["bold","italic","underline","clear"]],["fontname",["fontname"]],["fontsize",["fontsize"]],["color",["color"]],["para",["ul","ol","paragraph"]],["height",["height"]],["table",["table"]],["insert",["link","picture","hr"]],["view",["fullscreen","codeview"]],["help",["help"]]],plugin:{},airMode:!1,airPopover:[["color",["color"]],["font",["bold","underline","clear"]],["para",["ul","paragraph"]],["table",["table"]],["insert",["link","picture"]]],styleTags:["p","blockquote","pre","h1","h2","h3","h4","h5","h6"],defaultFontName:"Roboto",fontNames:["Roboto","Arial","Arial Black","Comic Sans MS","Courier New","Helvetica Neue","Helvetica","Impact","Times New Roman","Verdana"],fontNamesIgnoreCheck:[],fontSizes:["12","13","14","15","16","17","18","25","37"],colors:[["#fafafa","#efebe9","#7e57c2","#ab47bc","#5c6bc0","#42a5f5","#26c6da","#66bb6a","#9ccc65","#ffee58","#ffca28","#ffa726","#ff7043","#ef5350","#ec407a"],["#f5f5f5","#d7ccc8","#673ab7","#9c27b0","#3f51b5","#2196f3","#00bcd4","#4caf50","#8bc34a","#ffeb3b","#ffc107","#ff9800","#ff5722","#f44336","#e91e63"],["#eeeeee","#bcaaa4","#5e35b1","#8e24aa","#3949ab","#1e88e5","#00acc1","#43a047","#7cb342","#fdd835","#ffb300","#fb8c00","#f4511e","#e53935","#d81b60"],["#e0e0e0","#a1887f","#512da8","#7b1fa2","#303f9f","#1976d2","#0097a7","#388e3c","#689f38","#fbc02d","#ffa000","#f57c00","#e64a19","#d32f2f","#c2185b"],["#bdbdbd","#8d6e63","#4527a0","#6a1b9a","#283593","#1565c0","#00838f","#2e7d32","#558b2f","#f9a825","#ff8f00","#ef6c00","#d84315","#c62828","#ad1457"],["#9e9e9e","#795548","#311b92","#4a148c","#1a237e","#0d47a1","#006064","#1b5e20","#33691e","#f57f17","#ff6f00","#e65100","#bf360c","#b71c1c","#880e4f"],["#757575","#6d4c41","#b388ff","#ea80fc","#8c9eff","#82b1ff","#84ffff","#b9f6ca","#ccff90","#ffff8d","#ffe57f","#ffd180","#ff9e80","#ff8a80","#ff80ab"],["#616161","#5d4037","#7c4dff","#e040fb","#536dfe","#448aff","#18ffff","#69f0ae","#b2ff59","#ffff00","#ffd740","#ffab40","#ff6e40","#ff5252","#ff4081"],["#424242","#4e342e","#651fff","#d500f9","#3d5afe","#2979ff","#00e5ff","#00e676","#76ff03","#ffea00","#ffc400","#ff9100","#ff3d00","#ff1744","#f50057"],["#212121","#3e2723","#6200ea","#aa00ff","#304ffe","#2962ff","#00b8d4","#00c853","#64dd17","#ffd600","#ffab00","#ff6d00","#dd2c00","#d50000","#c51162"]],colorTitles:[["grey lighten5","brown lighten5","deep-purple lighten1","purple lighten1","indigo lighten1","blue lighten1","cyan lighten1","green lighten1","light-green lighten1","yellow lighten1","amber lighten1","orange lighten1","deep-orange lighten1","red lighten1","pink lighten1"],["grey lighten4","brown lighten4","deep-purple","purple","indigo","blue","cyan","green","light-green","yellow","amber","orange","deep-orange","red","pink"],["grey lighten3","brown lighten3","deep-purple darken1","purple darken1","indigo darken1","blue darken1","cyan darken1","green darken1","light-green darken1","yellow darken1","amber darken1","orange darken1","deep-orange darken1","red darken1","pink darken1"],["grey lighten2","brown lighten2","deep-purple darken2","purple darken2","indigo darken2","blue darken2","cyan darken2","green darken2","light-green darken2","yellow darken2","amber darken2","orange darken2","deep-orange darken2","red darken2","pink darken2"],["grey lighten1","brown lighten1","deep-purple darken3","purple darken3","indigo darken3","blue darken3","cyan darken3","green darken3","light-green darken3","yellow darken3","amber darken3","orange darken3","deep-orange darken3","red darken3","pink darken3"],["grey","brown","deep-purple darken4","purple darken4","indigo darken4","blue darken4","cyan darken4","green darken4","light-green darken4","yellow darken4","amber darken4","orange darken4","deep-orange darken4","red darken4","pink darken4"],["grey darken1","brown darken1","deep-purple accent1","purple accent1","indigo accent1","blue accent1","cyan accent1","green accent1","light-green accent1","yellow accent1","amber accent1","orange accent1","deep-orange accent1","red accent1","pink accent1"],["grey darken2","brown darken2","deep-purple accent2","purple accent2","indigo accent2","blue accent2","cyan accent2","green accent2","light-green accent2","yellow accent2","amber accent2","orange accent2","deep-orange accent2","red accent2","pink accent2"],["grey darken3","brown darken3","deep-purple accent3","purple accent3","indigo accent3","blue accent3","cyan accent3","green accent3","light-green accent3","yellow accent3","amber accent3","orange accent3","deep-orange accent3","red accent3","pink accent3"],["grey darken4","brown darken4","deep-purple accent4","purple accent4","indigo accent4","blue accent4","cyan accent4","green accent4","light-green accent4","yellow accent4","amber accent4","orange accent4","deep-orange accent4","red accent4","pink accent4"]],lineHeights:["1.0","1.2","1.4","1.5","1.6","1.8","2.0","3.0"],insertTableMaxSize:{col:12,row:10},maximumImageFileSize:null,oninit:null,onfocus:null,onblur:null,onenter:null,onkeyup:null,onkeydown:null,onImageUpload:null,onImageUploadError:null,onMediaDelete:null,onToolbarClick:null,onsubmit:null,onCreateLink:function(e){return-1!==e.indexOf("@")&&-1===e.indexOf(":")&&(e="mailto:"+e),e},keyMap:{pc:{ENTER:"insertParagraph","CTRL+Z":"undo","CTRL+Y":"redo",TAB:"tab","SHIFT+TAB":"untab","CTRL+B":"bold","CTRL+I":"italic","CTRL+U":"underline","CTRL+SHIFT+S":"strikethrough","CTRL+BACKSLASH":"removeFormat","CTRL+SHIFT+L":"justifyLeft","CTRL+SHIFT+E":"justifyCenter","CTRL+SHIFT+R":"justifyRight","CTRL+SHIFT+J":"justifyFull","CTRL+SHIFT+NUM7":"insertUnorderedList","CTRL+SHIFT+NUM8":"insertOrderedList","CTRL+LEFTBRACKET":"outdent","CTRL+RIGHTBRACKET":"indent","CTRL+NUM0":"formatPara","CTRL+NUM1":"formatH1","CTRL+NUM2":"formatH2","CTRL+NUM3":"formatH3","CTRL+NUM4":"formatH4","CTRL+NUM5":"formatH5","CTRL+NUM6":"formatH6","CTRL+ENTER":"insertHorizontalRule","CTRL+K":"showLinkDialog"},mac:{ENTER:"insertParagraph","CMD+Z":"undo","CMD+SHIFT+Z":"redo",TAB:"tab","SHIFT+TAB":"untab","CMD+B":"bold","CMD+I":"italic","CMD+U":"underline","CMD+SHIFT+S":"strikethrough","CMD+BACKSLASH":"removeFormat","CMD+SHIFT+L":"justifyLeft","CMD+SHIFT+E":"justifyCenter","CMD+SHIFT+R":"justifyRight","CMD+SHIFT+J":"justifyFull","CMD+SHIFT+NUM7":"insertUnorderedList","CMD+SHIFT+NUM8":"insertOrderedList","CMD+LEFTBRACKET":"outdent","CMD+RIGHTBRACKET":"indent","CMD+NUM0":"formatPara","CMD+NUM1":"formatH1","CMD+NUM2":"formatH2","CMD+NUM3":"formatH3","CMD+NUM4":"formatH4","CMD+NUM5":"formatH5","CMD+NUM6":"formatH6","CMD+ENTER":"insertHorizontalRule","CMD+K":"showLinkDialog"}}},lang:{"en-US":{font:{bold:"Bold",italic:"Italic",underline:"Underline",clear:"Remove Font Style",height:"Line Height",name:"Font Family",strikethrough:"Strikethrough",subscript:"Subscript",superscript:"Superscript",size:"Font Size"},image:{image:"Picture",insert:"Insert Image",resizeFull:"Resize Full",resizeHalf:"Resize Half",resizeQuarter:"Resize Quarter",floatLeft:"Float Left",floatRight:"Float Right",floatNone:"Float None",shapeRounded:"Shape: Rounded",shapeCircle:"Shape: Circle",bordered:"Bordered",shapeThumbnail:"Shape: Thumbnail",shapeNone:"Shape: None",dragImageHere:"Drag image or text here",dropImage:"Drop image or Text",selectFromFiles:"Select from files",maximumFileSize:"Maximum file size",maximumFileSizeError:"Maximum file size exceeded.",url:"Image URL",remove:"Remove Image"},link:{link:"Link",insert:"Insert Link",unlink:"Unlink",edit:"Edit",textToDisplay:"Text to display",url:"To what URL should this link go?",openInNewWindow:"Open in new window"},table:{table:"Table",striped:"Striped",hoverable:"Hoverable",responsive:"Responsive",bordered:"Bordered"},hr:{insert:"Insert Horizontal Rule"},style:{style:"Style",normal:"Normal",blockquote:"Quote",pre:"Code",h1:"Header 1",h2:"Header 2",h3:"Header 3",h4:"Header 4",h5:"Header 5",h6:"Header 6"},lists:{unordered:"Unordered list",ordered:"Ordered list"},options:{help:"Help",fullscreen:"Full Screen",codeview:"Code View"},paragraph:{paragraph:"Paragraph",outdent:"Outdent",indent:"Indent",left:"Align left",center:"Align center",right:"Align right",justify:"Justify full"},color:{recent:"Recent Color",more:"More Color",background:"Back",foreground:"Text",transparent:"Transparent",setTransparent:"Transparent",reset:"Reset",resetToDefault:"Default"},shortcut:{shortcuts:"Keyboard shortcuts",close:"Close",textFormatting:"Text formatting",action:"Action",paragraphFormatting:"Paragraph formatting",documentStyle:"Document Style",extraKeys:"Extra keys"},history:{undo:"Undo",redo:"Redo"}}}});var we=new function(){var t=function(e,t){var n=t.event,i=t.value,o=t.title,r=t.style,a=t.btnClassName,s=t.className,l=t.dropdown,d=t.hide;return l?['<div class="btn-group',(s?" "+s:"")+'">','<button class="waves-effect waves-light btn dropdown '+(a||"")+'"',o?' title="'+o+'"':"",n?' data-event="'+n+'"':"",i?" data-value='"+i+"'":"",d?" data-hide='"+d+"'":"",'><i class="material-icons left">arrow_drop_down</i>'+e+"</button>",l,"</div>"].join(""):['<div class="waves-effect waves-light btn',(s?" "+s:"")+'"',o?' title="'+o+'"':"",r?' style="'+r+'"':"",n?' data-event="'+n+'"':"",i?" data-value='"+i+"'":"",d?" data-hide='"+d+"'":"",' tabindex="-1">'+e+"</div>"].join("")},n=function(e,n){return t('<i class="material-icons">'+e+"</i>",n)},i=function(t,n){var i=e('<div class="'+t+' popover bottom in" style="display: none;"><div class="arrow"></div><div class="popover-content"></div></div>');return i.find(".popover-content").append(n),i},o=function(e,t,n,i){return['<div class="'+e+' modal modal-fixed-footer">','<div class="modal-content">',t?"<h4>"+t+"</h4>":"","<p>"+n+"</p>","</div>",i?'<div class="modal-footer">'+i+"</div>":"","</div>"].join("")},r={picture:function(e,t){return n(t.iconPrefix+t.icons.image.image,{event:"showImageDialog",title:e.image.image,hide:!0})},link:function(e,t){return n(t.iconPrefix+t.icons.link.link,{event:"showLinkDialog",title:e.link.link,hide:!0})},table:function(e,t){var i='<ul class="note-table dropdown-menu"><div class="row"><div class="col s6 preventDropClose"><input type="checkbox" id="'+materialUniqueId+'-bordered" checked="checked" /><label for="'+materialUniqueId+'-bordered">'+e.table.bordered+'</label></div><div class="col s6 preventDropClose"><input type="checkbox" id="'+materialUniqueId+'-striped" checked="checked" /><label for="'+materialUniqueId+'-striped">'+e.table.striped+'</label></div></div><div class="row"><div class="col s6 preventDropClose"><input type="checkbox" id="'+materialUniqueId+'-hoverable" checked="checked" /><label for="'+materialUniqueId+'-hoverable">'+e.table.hoverable+'</label></div><div class="col s6 preventDropClose"><input type="checkbox" id="'+materialUniqueId+'-responsive" checked="checked" /><label for="'+materialUniqueId+'-responsive">'+e.table.responsive+'</label></div></div><div class="note-dimension-picker"><div class="note-dimension-picker-mousecatcher" data-event="insertTable" data-value="1x1"></div><div class="note-dimension-picker-highlighted"></div><div class="note-dimension-picker-unhighlighted"></div></div><div class="note-dimension-display"> 1 x 1 </div></ul>';return n(t.iconPrefix+t.icons.table.table,{title:e.table.table,dropdown:i})},style:function(e,t){var i=t.styleTags.reduce(function(t,n){var i=e.style["p"===n?"normal":n];return t+'<li><div data-event="formatBlock" data-value="'+n+'">'+("p"===n||"pre"===n?i:"<"+n+">"+i+"</"+n+">")+"</div></li>"},"");return n(t.iconPrefix+t.icons.style.style,{title:e.style.style,dropdown:'<ul class="dropdown-menu largeDropdown">'+i+"</ul>"})},fontname:function(e,n){var i=[],o=n.fontNames.reduce(function(e,t){return G.isFontInstalled(t)||-1!==n.fontNamesIgnoreCheck.indexOf(t)?(i.push(t),e+'<li><div data-event="fontName" href="#" data-value="'+t+'" style="font-family:\''+t+'\'"><i class="material-icons tiny transparent">'+n.iconPrefix+n.icons.misc.check+"</i> "+t+"</div></li>"):e},""),r=G.isFontInstalled(n.defaultFontName)?n.defaultFontName:i[0];return t('<div class="note-current-fontname">'+r+"</div>",{title:e.font.name,className:"note-fontname",dropdown:'<ul class="dropdown-menu note-check">'+o+"</ul>"})},fontsize:function(e,n){var i=n.fontSizes.reduce(function(e,t){return e+'<li><div data-event="fontSize" href="#" data-value="'+t+'"><i class="material-icons tiny transparent">'+n.iconPrefix+n.icons.misc.check+"</i> "+t+"</div></li>"},"");return t('<span class="note-current-fontsize">15</span>',{title:e.font.size,className:"note-fontsize",dropdown:'<ul class="dropdown-menu note-check">'+i+"</ul>"})},color:function(e,n){var i='<i class="material-icons">'+n.icons.color.recent+"</i>",o=t(i,{className:"note-recent-color",title:e.color.recent,style:"color: "+n.defaultTextColor+"; background-color: "+n.defaultBackColor+";",event:"color",value:'{"backColor": "'+n.defaultBackColor+'"}'}),r='<ul id="colors" class="dropdown-menu"><li><div class="col s12"><ul class="tabs"><li class="tab"><a href="#'+materialUniqueId+'-foreColor" class="active">'+e.color.foreground+'</a></li><li class="tab"><a href="#'+materialUniqueId+'-backColor">'+e.color.background+'</a></li></ul></div><div class="col s12 colorTable"><div id="'+materialUniqueId+'-foreColor"><div class="note-color-reset waves-effect waves-light btn" data-event="foreColor" data-value="'+n.defaultTextColor+'" title="'+e.color.reset+'">'+e.color.resetToDefault+'</div><div class="colorName"></div><div class="note-color-palette" data-target-event="foreColor"></div></div><div id="'+materialUniqueId+'-backColor"><div class="note-color-reset waves-effect waves-light btn" data-event="backColor" data-value="'+n.defaultBackColor+'" title="'+e.color.transparent+'">'+e.color.setTransparent+'</div><div class="colorName"></div><div class="note-color-palette" data-target-event="backColor"></div></div></div></li></ul>';return t("",{title:e.color.more,className:"closeLeft",dropdown:r})+o},bold:function(e,t){return n(t.iconPrefix+t.icons.font.bold,{event:"bold",title:e.font.bold})},italic:function(e,t){return n(t.iconPrefix+t.icons.font.italic,{event:"italic",title:e.font.italic})},underline:function(e,t){return n(t.iconPrefix+t.icons.font.underline,{event:"underline",title:e.font.underline})},strikethrough:function(e,t){return n(t.iconPrefix+t.icons.font.strikethrough,{event:"strikethrough",title:e.font.strikethrough})},superscript:function(e,t){return n(t.iconPrefix+t.icons.font.superscript,{event:"superscript",title:e.font.superscript})},subscript:function(e,t){return n(t.iconPrefix+t.icons.font.subscript,{event:"subscript",title:e.font.subscript})},clear:function(e,t){return n(t.iconPrefix+t.icons.font.clear,{event:"removeFormat",title:e.font.clear})},ul:function(e,t){return n(t.iconPrefix+t.icons.lists.unordered,{event:"insertUnorderedList",title:e.lists.unordered})},ol:function(e,t){return n(t.iconPrefix+t.icons.lists.ordered,{event:"insertOrderedList",title:e.lists.ordered})},leftButton:function(e,t){return n(t.iconPrefix+t.icons.paragraph.left,{title:e.paragraph.left,event:"justifyLeft"})},centerButton:function(e,t){return n(t.iconPrefix+t.icons.paragraph.center,{title:e.paragraph.center,event:"justifyCenter"})},rightButton:function(e,t){return n(t.iconPrefix+t.icons.paragraph.right,{title:e.paragraph.right,event:"justifyRight"})},justifyButton:function(e,t){return n(t.iconPrefix+t.icons.paragraph.justify,{title:e.paragraph.justify,event:"justifyFull"})},outdentButton:function(e,t){return n(t.iconPrefix+t.icons.paragraph.outdent,{title:e.paragraph.outdent,event:"outdent"})},indentButton:function(e,t){return n(t.iconPrefix+t.icons.paragraph.indent,{title:e.paragraph.indent,event:"indent"})},paragraph:function(e,t){var i=n(t.iconPrefix+t.icons.paragraph.left,{title:e.paragraph.left,event:"justifyLeft"}),o=n(t.iconPrefix+t.icons.paragraph.center,{title:e.paragraph.center,event:"justifyCenter"}),r=n(t.iconPrefix+t.icons.paragraph.right,{title:e.paragraph.right,event:"justifyRight"}),a=n(t.iconPrefix+t.icons.paragraph.justify,{title:e.paragraph.justify,event:"justifyFull"}),s=n(t.iconPrefix+t.icons.paragraph.outdent,{title:e.paragraph.outdent,event:"outdent"}),l='<ul class="dropdown-menu"><div class="note-align btn-group">'+i+o+r+a+'</div><div class="note-list btn-group">'+n(t.iconPrefix+t.icons.paragraph.indent,{title:e.paragraph.indent,event:"indent"})+s+"</div></ul>";return n(t.iconPrefix+t.icons.paragraph.paragraph,{title:e.paragraph.paragraph,dropdown:l})},lineheight:function(e,t){var i=t.lineHeights.reduce(function(e,n){return e+'<li><div data-event="lineHeight" href="#" data-value="'+parseFloat(n)+'"><i class="material-icons tiny transparent">'+t.iconPrefix+t.icons.misc.check+"</i> "+n+"</div></li>"},"");return n(t.iconPrefix+t.icons.font.height,{title:e.font.height,className:"note-height",dropdown:'<ul class="dropdown-menu note-check">'+i+"</ul>"})},help:function(e,t){return n(t.iconPrefix+t.icons.options.help,{event:"showHelpDialog",title:e.options.help,hide:!0})},fullscreen:function(e,t){return n(t.iconPrefix+t.icons.options.fullscreen,{event:"fullscreen",title:e.options.fullscreen})},codeview:function(e,t){return n(t.iconPrefix+t.icons.options.codeview,{event:"codeview",title:e.options.codeview})},undo:function(e,t){return n(t.iconPrefix+t.icons.history.undo,{event:"undo",title:e.history.undo})},redo:function(e,t){return n(t.iconPrefix+t.icons.history.redo,{event:"redo",title:e.history.redo})},hr:function(e,t){return n(t.iconPrefix+t.icons.hr.insert,{event:"insertHorizontalRule",title:e.hr.insert})}},a=function(o,a){var s,l,d=e('<div class="note-popover" />');return d.append((s=n(a.iconPrefix+a.icons.link.edit,{title:o.link.edit,event:"showLinkDialog",hide:!0}),l=n(a.iconPrefix+a.icons.link.unlink,{title:o.link.unlink,event:"unlink"}),i("note-link-popover",'<a href="http://www.google.com" target="_blank">www.google.com</a>&nbsp;&nbsp;<div class="note-insert btn-group">'+s+l+"</div>"))),d.append(function(){t('<span class="note-fontsize-10">100%</span>',{title:o.image.resizeFull,event:"resize",value:"1"}),t('<span class="note-fontsize-10">50%</span>',{title:o.image.resizeHalf,event:"resize",value:"0.5"}),t('<span class="note-fontsize-10">25%</span>',{title:o.image.resizeQuarter,event:"resize",value:"0.25"});var e=n(a.iconPrefix+a.icons.image.floatLeft,{title:o.image.floatLeft,event:"floatMe",value:"left"}),r=n(a.iconPrefix+a.icons.image.floatRight,{title:o.image.floatRight,event:"floatMe",value:"right"}),s=n(a.iconPrefix+a.icons.image.floatNone,{title:o.image.floatNone,event:"floatMe",value:"none"}),l=n(a.iconPrefix+a.icons.image.shapeRounded,{title:o.image.shapeRounded,event:"imageClass",value:"img-rounded"}),d=n(a.iconPrefix+a.icons.image.shapeCircle,{title:o.image.shapeCircle,event:"imageClass",value:"img-circle"}),c=n(a.iconPrefix+a.icons.image.shapeThumbnail,{title:o.image.shapeThumbnail,event:"imageClass",value:"img-thumbnail"}),u=n(a.iconPrefix+a.icons.image.bordered,{title:o.image.bordered,event:"imageClass",value:"img-bordered"}),f=n(a.iconPrefix+a.icons.image.shapeNone,{title:o.image.shapeNone,event:"imageShape",value:""}),h=n(a.iconPrefix+a.icons.image.remove,{title:o.image.remove,event:"removeMedia",value:"none"});return i("note-image-popover",'<div class="btn-group">'+e+r+s+'</div><div class="btn-group">'+l+d+c+u+f+'</div><div class="btn-group">'+h+"</div>")}()),a.airMode&&d.append(function(){for(var t=e("<div />"),n=0,s=a.airPopover.length;n<s;n++){for(var l=a.airPopover[n],d=e('<div class="note-'+l[0]+' btn-group">'),c=0,u=l[1].length;c<u;c++){var f=e(r[l[1][c]](o,a));f.attr("data-name",l[1][c]),d.append(f)}t.append(d)}return i("note-air-popover",t.children())}()),d},s=function(e,t){var n=[];for(var i in t)t.hasOwnProperty(i)&&n.push("<tr><td>"+t[i].kbd+"</td><td>"+t[i].text+"</td></tr>");return"<thead><tr><th>"+e+"</th><th>(keys)</th></tr></thead><tbody>"+n.join("")+"</tbody>"},l=function(e){var t=[{kbd:"⌘ + B",text:e.font.bold},{kbd:"⌘ + I",text:e.font.italic},{kbd:"⌘ + U",text:e.font.underline},{kbd:"⌘ + \\",text:e.font.clear}];return s(e.shortcut.textFormatting,t)},d=function(e){var t=[{kbd:"⌘ + Z",text:e.history.undo},{kbd:"⌘ + ⇧ + Z",text:e.history.redo},{kbd:"⌘ + ]",text:e.paragraph.indent},{kbd:"⌘ + [",text:e.paragraph.outdent},{kbd:"⌘ + ENTER",text:e.hr.insert}];return s(e.shortcut.action,t)},c=function(e){var t=[{kbd:"⌘ + ⇧ + L",text:e.paragraph.left},{kbd:"⌘ + ⇧ + E",text:e.paragraph.center},{kbd:"⌘ + ⇧ + R",text:e.paragraph.right},{kbd:"⌘ + ⇧ + J",text:e.paragraph.justify},{kbd:"⌘ + ⇧ + NUM7",text:e.lists.ordered},{kbd:"⌘ + ⇧ + NUM8",text:e.lists.unordered}];return s(e.shortcut.paragraphFormatting,t)},u=function(e){var t=[{kbd:"⌘ + NUM0",text:e.style.normal},{kbd:"⌘ + NUM1",text:e.style.h1},{kbd:"⌘ + NUM2",text:e.style.h2},{kbd:"⌘ + NUM3",text:e.style.h3},{kbd:"⌘ + NUM4",text:e.style.h4},{kbd:"⌘ + NUM5",text:e.style.h5},{kbd:"⌘ + NUM6",text:e.style.h6}];return s(e.shortcut.documentStyle,t)},f=function(e,t){var n=['<table class="striped hoverable">'+d(e)+"</table>",'<table class="striped hoverable">'+u(e)+"</table>",'<table class="striped hoverable">'+l(e)+"</table>",'<table class="striped hoverable">'+c(e)+"</table>"].join("<br>");return t.extraKeys,n},h={image:function(e,t){if(t.maximumImageFileSize){var n=Math.floor(Math.log(t.maximumImageFileSize)/Math.log(1024));(t.maximumImageFileSize/Math.pow(1024,n)).toFixed(2);e.image.maximumFileSize}var i='<div class="row"><div class="col s12"><div class="file-field input-field"><div class="btn"><span>'+e.image.image+'</span><input class="note-image-input" name="files" type="file" /></div><div class="file-path-wrapper"><input class="file-path" type="text" /></div></div></div></div><div class="row"><div class="input-field col s12"><input class="note-image-url" type="text" /><label>'+e.image.url+"</label></div></div>",r='<button href="#" class="waves-effect waves-light btn note-image-btn disabled" disabled>'+e.image.insert+'</button><button class="waves-effect waves-light btn btnClose">'+e.shortcut.close+"</button>";return o("note-image-dialog",e.image.insert,i,r)},link:function(e,t){var n='<div class="row"><div class="input-field col s12"><input class="note-link-text" type="text" /><label>'+e.link.textToDisplay+'</label></div></div><div class="row"><div class="input-field col s12"><input class="note-link-url" type="text" value="http://" /><label class="active">'+e.link.url+"</label></div></div>"+(t.disableLinkTarget?"":'<div class="row"><div class="col s12"><input type="checkbox" id="'+materialUniqueId+'-noteInsertLinkNewWindow" checked="checked" /><label for="'+materialUniqueId+'-noteInsertLinkNewWindow">'+e.link.openInNewWindow+"</label></div></div>"),i='<button href="#" class="waves-effect waves-light btn note-link-btn disabled" disabled>'+e.link.insert+'</button><button class="waves-effect waves-light btn btnClose">'+e.shortcut.close+"</button>";return o("note-link-dialog",e.link.insert,n,i)},help:function(e,t){var n=G.isMac?f(e,t):f(e,t).replace(/⌘/g,"Ctrl").replace(/⇧/g,"Shift"),i='<button href="#" class="waves-effect waves-light btn modal-close">'+e.shortcut.close+"</button>";return o("note-help-dialog",e.shortcut.shortcuts,n,i)}},p=function(t,n){var i="";return e.each(h,function(e,o){i+=o(t,n)}),'<div class="note-dialog">'+i+"</div>"},v=function(t,n,i){e(document).ready(function(){var i=X.invertObject(n);t.find(".btn").each(function(t,n){var o=e(n),r=i[o.data("event")],a=o.attr("title");r&&o.attr("data-tooltip",function(t,n){var i;return a=a+" ("+(i=r,G.isMac&&(i=i.replace("CMD","⌘").replace("SHIFT","⇧")),i.replace("BACKSLASH","\\").replace("SLASH","/").replace("LEFTBRACKET","[").replace("RIGHTBRACKET","]"))+")",e(this).removeAttr("title"),a}),o.attr("data-position","bottom"),o.attr("data-tooltip",a),o.removeAttr("title")}).ckTooltip({container:t,position:"top",delay:30})})},g=function(t,n){var i=n.colors,o=n.colorTitles;t.find(".note-color-palette").each(function(){for(var t=e(this),n=t.attr("data-target-event"),r=[],a=0,s=i.length;a<s;a++){for(var l=i[a],d=o[a],c=[],u=0,f=l.length;u<f;u++){var h=l[u],p=d[u];c.push(['<button type="button" class="note-color-btn" style="background-color:',h,';" data-event="',n,'" data-value="',h,'" data-description="',p,'" data-toggle="button" tabindex="-1"></button>'].join(""))}r.push('<div class="note-color-row">'+c.join("")+"</div>")}t.html(r.join("")),t.find("button").mouseenter(function(){t.siblings(".colorName").html(e(this).data("description"))}),t.mouseleave(function(){e(this).siblings(".colorName").html("")})})};this.createLayoutByAirMode=function(t,n){var i=n.langInfo,o=n.keyMap[G.isMac?"mac":"pc"],r=X.uniqueId();t.addClass("note-air-editor note-editable"),t.attr({id:"note-editor-"+r,contentEditable:!0});var s=document.body,l=e(a(i,n));l.addClass("note-air-layout"),l.attr("id","note-popover-"+r),l.appendTo(s),v(l,o),g(l,n);var d=e('<div class="note-handle"><div class="note-control-selection"><div class="note-control-selection-bg"></div><div class="note-control-sizing note-control-se"></div><div class="note-control-selection-info"></div></div></div>');d.addClass("note-air-layout"),d.attr("id","note-handle-"+r),d.appendTo(s);var c=e(p(i,n));c.addClass("note-air-layout"),c.attr("id","note-dialog-"+r),c.find("button.close, a.modal-close").click(function(){e(this).closest(".modal").closeModal()}),c.appendTo(s)},this.createLayoutByFrame=function(t,n){var i=n.langInfo,o=e('<div class="note-editor"></div>');n.width&&o.width(n.width),n.height>0&&e('<div class="note-statusbar">'+(n.disableResizeEditor?"":'<div class="note-resizebar"><div class="note-icon-bar"></div><div class="note-icon-bar"></div><div class="note-icon-bar"></div></div>')+"</div>").prependTo(o);var s=!t.is(":disabled"),l=e('<div class="note-editable" contentEditable="'+s+'"></div>').prependTo(o);n.height&&l.height(n.height),n.direction&&l.attr("dir",n.direction);var d=t.attr("placeholder")||n.placeholder;d&&l.attr("data-placeholder",d),l.html(te.html(t)),e('<textarea class="note-codable"></textarea>').prependTo(o);for(var c=e('<div class="note-toolbar btn-toolbar" />'),u=0,f=n.toolbar.length;u<f;u++){for(var h=n.toolbar[u][0],m=n.toolbar[u][1],b=e('<div class="note-'+h+' btn-group" />'),k=0,y=m.length;k<y;k++){var C=r[m[k]];if(e.isFunction(C)){var x=e(C(i,n));x.attr("data-name",m[k]),b.append(x)}}c.append(b)}c.prependTo(o);var w=n.keyMap[G.isMac?"mac":"pc"];g(c,n),v(c,w),n.followingToolbar&&e(window).scroll(function(){if(o.hasClass("fullscreen"))return!1;var t,i,r,a,s,l,d,c=o.children(".note-toolbar"),u=(c.outerHeight(),o.children(".note-editable").outerHeight());o.width,(d=e("."+n.otherStaticBarClass).outerHeight())||(d=0),s=e(document).scrollTop(),t=c.offset().top,a=(i=o.offset().top)+u-d,r=i-d,s>t-d&&s<a?(l=s-o.offset().top+d,c.css({top:l+"px","z-index":2e3})):s<t&&s<a&&(c.css({top:0,"z-index":1052}),s>r&&(l=s-o.offset().top+d,c.css({top:l+"px","z-index":2e3})))});var T=e(a(i,n)).prependTo(o);g(T,n),v(T,w),e('<div class="note-handle"><div class="note-control-selection"><div class="note-control-selection-bg"></div><div class="note-control-sizing note-control-se"></div><div class="note-control-selection-info"></div></div></div>').prependTo(o),e(p(i,n)).prependTo(o).find("button.close, a.modal-close").click(function(){e(this).closest(".modal").closeModal()}),e('<div class="note-dropzone"><div class="note-dropzone-message"></div></div>').prependTo(o),o.insertAfter(t),t.hide()},this.hasNoteEditor=function(e){return this.noteEditorFromHolder(e).length>0},this.noteEditorFromHolder=function(t){return t.hasClass("note-air-editor")?t:t.next().hasClass("note-editor")?t.next():e()},this.createLayout=function(e,t){t.airMode?this.createLayoutByAirMode(e,t):this.createLayoutByFrame(e,t)},this.layoutInfoFromHolder=function(e){var t=this.noteEditorFromHolder(e);if(t.length)return t.data("holder",e),te.buildLayoutInfo(t)},this.removeLayout=function(e,t,n){n.airMode?(e.removeClass("note-air-editor note-editable").removeAttr("id contentEditable"),t.popover().remove(),t.handle().remove(),t.dialog().remove()):(e.html(t.editable().html()),t.editor().remove(),e.show())},this.getTemplate=function(){return{button:t,iconButton:n,dialog:o}},this.addButtonInfo=function(e,t){r[e]=t},this.addDialogInfo=function(e,t){h[e]=t}},Te=new function(){var t=this.modules={editor:new ce(this),toolbar:new fe(this),statusbar:new he(this),popover:new pe(this),handle:new ve(this),fullscreen:new ge(this),codeview:new me(this),dragAndDrop:new be(this),clipboard:new ke(this),linkDialog:new ye(this),imageDialog:new Ce(this),helpDialog:new xe(this)};this.invoke=function(){var e=$.head($.from(arguments)),t=$.tail($.from(arguments)),n=e.split("."),i=n.length>1,o=i&&$.head(n),r=i?$.last(n):$.head(n),a=this.getModule(o),s=a[r];return s&&s.apply(a,t)},this.getModule=function(e){return this.modules[e]||this.modules.editor};var n=this.bindCustomEvent=function(e,t,n){return function(){var i=t[X.namespaceToCamel(n,"on")];return i&&i.apply(e[0],arguments),e.trigger("materialnote."+n,arguments)}};this.insertImages=function(i,o){var r=i.editor(),a=i.editable(),s=i.holder(),l=a.data("callbacks"),d=r.data("options");l.onImageUpload?n(s,l,"image.upload")(o):e.each(o,function(e,i){var o=i.name;d.maximumImageFileSize&&d.maximumImageFileSize<i.size?n(s,l,"image.upload.error")(d.langInfo.image.maximumFileSizeError):ie.readFileAsDataURL(i).then(function(e){t.editor.insertImage(a,e,o)}).fail(function(){n(s,l,"image.upload.error")(d.langInfo.image.maximumFileSizeError)})})};var i={showLinkDialog:function(e){t.linkDialog.show(e)},showImageDialog:function(e){t.imageDialog.show(e)},showHelpDialog:function(e){t.helpDialog.show(e)},fullscreen:function(e){t.fullscreen.toggle(e)},codeview:function(e){t.codeview.toggle(e)}},o=function(e){te.isImg(e.target)&&e.preventDefault()},r=function(e){var n=te.makeLayoutInfo(e.currentTarget||e.target);t.editor.removeBogus(n.editable()),a(e)},a=function(e){setTimeout(function(){var n=te.makeLayoutInfo(e.currentTarget||e.target),i=t.editor.currentStyle(e.target);if(i){var o=n.editor().data("options").airMode;o||t.toolbar.update(n.toolbar(),i),t.popover.update(n.popover(),i,o),t.handle.update(n.handle(),i,o)}},0)},s=function(e){var n=te.makeLayoutInfo(e.currentTarget||e.target);t.popover.hide(n.popover()),t.handle.hide(n.handle())},l=function(t){e(t.target).closest("[data-event]").length&&t.preventDefault()},d=function(n){var o=e(n.target).closest("[data-event]");if(o.length){var r,s=o.attr("data-event"),l=o.attr("data-value"),d=o.attr("data-hide"),c=te.makeLayoutInfo(n.target);if(-1!==e.inArray(s,["resize","floatMe","removeMedia","imageShape","imageClass"])){var u=c.handle().find(".note-control-selection");r=e(u.data("target"))}if(d&&o.parents(".popover").hide(),e.isFunction(e.materialnote.pluginEvents[s]))e.materialnote.pluginEvents[s](n,t.editor,c,l);else if(t.editor[s]){var f=c.editable();f.focus(),t.editor[s](f,l,r),n.preventDefault()}else i[s]&&(i[s].call(this,c),n.preventDefault());if(-1!==e.inArray(s,["backColor","foreColor"])){var h=c.editor().data("options",h);(h.airMode?t.popover:t.toolbar).updateRecentColor($.head(o),s,l)}a(n)}};this.bindKeyMap=function(n,o){var r=n.editor(),a=n.editable();a.on("keydown",function(s){var l=[];s.metaKey&&l.push("CMD"),s.ctrlKey&&!s.altKey&&l.push("CTRL"),s.shiftKey&&l.push("SHIFT");var d,c=oe.nameFromCode[s.keyCode];c&&l.push(c);var u=l.join("+"),f=o[u];if(f){if(d=e.materialnote.pluginEvents[u],e.isFunction(d)&&d(s,t.editor,n))return!1;d=e.materialnote.pluginEvents[f],e.isFunction(d)?d(s,t.editor,n):t.editor[f]?(t.editor[f](a,r.data("options")),s.preventDefault()):i[f]&&(i[f].call(this,n),s.preventDefault())}else oe.isEdit(s.keyCode)&&t.editor.afterCommand(a)})},this.attach=function(n,i){i.shortcuts&&this.bindKeyMap(n,i.keyMap[G.isMac?"mac":"pc"]),n.editable().on("mousedown",o),n.editable().on("keyup mouseup",r),n.editable().on("scroll",s),t.clipboard.attach(n,i),t.handle.attach(n,i),n.popover().on("click",d),n.popover().on("mousedown",l),t.dragAndDrop.attach(n,i),i.airMode||(n.toolbar().on("click",d),n.toolbar().on("mousedown",l),t.statusbar.attach(n,i)),(i.airMode?n.popover():n.toolbar()).find(".note-dimension-picker-mousecatcher").css({width:26*i.insertTableMaxSize.col+"px",height:26*i.insertTableMaxSize.row+"px"}).on("mousemove",function(t){!function(t,n){var i,o=e(t.target.parentNode),r=o.parent(),a=o.next(),s=o.find(".note-dimension-picker-mousecatcher"),l=o.find(".note-dimension-picker-highlighted"),d=o.find(".note-dimension-picker-unhighlighted"),c=r.find("[id$='-hoverable']"),u=r.find("[id$='-bordered']"),f=r.find("[id$='-striped']"),h=r.find("[id$='-responsive']");if(void 0===t.offsetX){var p=e(t.target).offset();i={x:t.pageX-p.left,y:t.pageY-p.top}}else i={x:t.offsetX,y:t.offsetY};var v=Math.ceil(i.x/26)||1,g=Math.ceil(i.y/26)||1,m=[];c.is(":checked")&&m.push("hoverable"),u.is(":checked")&&m.push("bordered"),f.is(":checked")&&m.push("striped"),h.is(":checked")&&m.push("responsive-table"),l.css({width:26*v+"px",height:26*g+"px"}),s.attr("data-value",v+"x"+g+"x"+m.join("x")),d.css({width:26*n.insertTableMaxSize+"px"}),3<g&&g<n.insertTableMaxSize.row&&d.css({height:26*(g+1)+"px"}),a.html(v+" x "+g)}(t,i)}),n.editor().data("options",i),G.isMSIE||setTimeout(function(){document.execCommand("styleWithCSS",0,i.styleWithSpan)},0);var a=new re(n.editable());n.editable().data("NoteHistory",a),n.editable().data("callbacks",{onInit:i.onInit,onFocus:i.onFocus,onBlur:i.onBlur,onKeydown:i.onKeydown,onKeyup:i.onKeyup,onMousedown:i.onMousedown,onEnter:i.onEnter,onPaste:i.onPaste,onBeforeCommand:i.onBeforeCommand,onChange:i.onChange,onImageUpload:i.onImageUpload,onImageUploadError:i.onImageUploadError,onMediaDelete:i.onMediaDelete,onToolbarClick:i.onToolbarClick}),te.isTextarea($.head(n.holder()))&&n.holder().closest("form").submit(function(){n.holder().val(n.holder().code())})},this.attachCustomEvent=function(t,i){var o=t.holder(),r=t.editable(),a=r.data("callbacks");r.focus(n(o,a,"focus")),r.blur(n(o,a,"blur")),r.keydown(function(e){e.keyCode===oe.code.ENTER&&n(o,a,"enter").call(this,e),n(o,a,"keydown").call(this,e)}),r.keyup(n(o,a,"keyup")),r.on("mousedown",n(o,a,"mousedown")),r.on("mouseup",n(o,a,"mouseup")),r.on("scroll",n(o,a,"scroll")),r.on("paste",n(o,a,"paste"));var s=G.isMSIE?"DOMCharacterDataModified DOMSubtreeModified DOMNodeInserted":"input";r.on(s,function(){n(o,a,"change")(r.html(),r)}),i.airMode||(t.toolbar().click(n(o,a,"toolbar.click")),t.popover().click(n(o,a,"popover.click"))),te.isTextarea($.head(o))&&o.closest("form").submit(function(e){n(o,a,"submit").call(this,e,o.code())}),n(o,a,"init")(t);for(var l=0,d=e.materialnote.plugins.length;l<d;l++)e.isFunction(e.materialnote.plugins[l].init)&&e.materialnote.plugins[l].init(t)},this.detach=function(e,t){e.holder().off(),e.editable().off(),e.popover().off(),e.handle().off(),e.dialog().off(),t.airMode||(e.dropzone().off(),e.toolbar().off(),e.statusbar().off())}};e.extend(e.materialnote,{renderer:we,eventHandler:Te,core:{agent:G,list:$,dom:te,range:ne},pluginEvents:{},plugins:[]}),e.materialnote.addPlugin=function(t){e.materialnote.plugins.push(t),t.buttons&&e.each(t.buttons,function(e,t){we.addButtonInfo(e,t)}),t.dialogs&&e.each(t.dialogs,function(e,t){we.addDialogInfo(e,t)}),t.events&&e.each(t.events,function(t,n){e.materialnote.pluginEvents[t]=n}),t.langs&&e.each(t.langs,function(t,n){e.materialnote.lang[t]&&e.extend(e.materialnote.lang[t],n)}),t.options&&e.extend(e.materialnote.options,t.options)},e.fn.extend({materialnote:function(){var t=e.type($.head(arguments)),n="string"===t,i="object"===t,o=i?$.head(arguments):{};if((o=e.extend({},e.materialnote.options,o)).icons=e.extend({},e.materialnote.options.icons,o.icons),o.langInfo=e.extend(!0,{},e.materialnote.lang["en-US"],e.materialnote.lang[o.lang]),!n&&i)for(var r=0,a=e.materialnote.plugins.length;r<a;r++){var s=e.materialnote.plugins[r];o.plugin[s.name]&&(e.materialnote.plugins[r]=e.extend(!0,s,o.plugin[s.name]))}this.each(function(t,n){materialUniqueId="note-editor-"+X.uniqueId();var i=e(n);if(!we.hasNoteEditor(i)){we.createLayout(i,o);var r=we.layoutInfoFromHolder(i);i.data("layoutInfo",r),Te.attach(r,o),Te.attachCustomEvent(r,o)}});var l=this.first();if(l.length){var d=we.layoutInfoFromHolder(l);if(n){var c=$.head($.from(arguments)),u=$.tail($.from(arguments)),f=[c,d.editable()].concat(u);return Te.invoke.apply(Te,f)}o.focus&&d.editable().focus()}return e(this).each(function(t,n){var i,o,r,a=!1;if(e(n).hasClass("note-air-editor")){var s=e(this).attr("id");s&&(s=s.substring(s.lastIndexOf("-")+1,s.length)),o=(n=e("#note-popover-"+s).find(".note-air-popover")).find("ul.tabs"),i=n.find("li.tab a"),r=e(n).find(".popover-content button.dropdown"),a=!0}else o=(n=e(n).next(".note-editor")).find("ul.tabs"),i=n.find("li.tab a"),r=e(n).find(".note-toolbar button.dropdown");var l=!0;e(window).click(function(e){l&&n.find("ul.dropdown-menu").slideUp(200),l=!0,e.stopPropagation()}),r.each(function(t,o){!function(t,o){var s=e(t).next("ul.dropdown-menu");e(t).parent(".btn-group"),s.slideUp(0),e(".preventDropClose").click(function(e){e.stopPropagation()}),e(t).click(function(i){var l=Math.round(e(t).parent(".btn-group").offset().left-r.offset().left),d=parseInt(s.css("border-left-width")),c=n.outerWidth(),u=d;s.css({"max-width":c+"px"});var f=s.outerWidth()+l;f>=c&&(u=f-c,a||(u+=d)),s.css({left:"-"+u+"px"});var h=!0;s.is(":visible")&&(h=!1),o.find("ul.dropdown-menu").slideUp(200),h&&s.slideToggle(200),i.stopPropagation()}),i.unbind().click(function(e){l=!1})}(o,n)}),o.tabs()}),this},code:function(t){if(void 0===t){var n=this.first();if(!n.length)return;var i=we.layoutInfoFromHolder(n),o=i&&i.editable();if(o&&o.length){var r=Te.invoke("codeview.isActivated",i);return Te.invoke("codeview.sync",i),r?i.codable().val():i.editable().html()}return te.value(n)}return this.each(function(n,i){var o=we.layoutInfoFromHolder(e(i)),r=o&&o.editable();r&&r.html(t)}),this},destroy:function(){return this.each(function(t,n){var i=e(n);if(we.hasNoteEditor(i)){var o=we.layoutInfoFromHolder(i),r=o.editor().data("options");Te.detach(o,r),we.removeLayout(i,o,r)}}),this}})}),function(e){e.fn.ckTooltip=function(t){var n=null,i=!1,o=null;return t=e.extend({delay:350},t),this.each(function(){var r=e(this),a=e("<span></span>").text(r.attr("data-tooltip")),s=e("<div></div>");s.addClass("material-tooltip").append(a),s.appendTo(e("body"));var l=e("<div></div>").addClass("backdrop");l.appendTo(s),l.css({top:0,left:0}),e.event.special.destroyed={remove:function(e){e.handler&&e.handler()}},e(this).bind("destroyed",function(){s.remove()}),e(this).on({mouseenter:function(e){var a=r.data("delay");a=void 0===a||""===a?t.delay:a,n=0,o=setInterval(function(){if((n+=10)>=a&&!1===i){i=!0,s.css({display:"block",left:"0px",top:"0px"}),s.children("span").text(r.attr("data-tooltip"));var e=r.outerWidth(),t=r.outerHeight(),o=r.attr("data-position"),d=s.outerHeight(),c=s.outerWidth(),u="0px",f="0px",h=8;"top"===o?(s.css({top:r.offset().top-d-5,left:r.offset().left+e/2-c/2}),u="-10px",l.css({borderRadius:"14px 14px 0 0",transformOrigin:"50% 90%",marginTop:d,marginLeft:c/2-l.width()/2})):"left"===o?(s.css({top:r.offset().top+t/2-d/2,left:r.offset().left-c-5}),f="-10px",l.css({width:"14px",height:"14px",borderRadius:"14px 0 0 14px",transformOrigin:"95% 50%",marginTop:d/2,marginLeft:c})):"right"===o?(s.css({top:r.offset().top+t/2-d/2,left:r.offset().left+e+5}),f="+10px",l.css({width:"14px",height:"14px",borderRadius:"0 14px 14px 0",transformOrigin:"5% 50%",marginTop:d/2,marginLeft:"0px"})):(s.css({top:r.offset().top+r.outerHeight()+5,left:r.offset().left+e/2-c/2}),u="+10px",l.css({marginLeft:c/2-l.width()/2})),(h=c/8)<8&&(h=8),"right"!==o&&"left"!==o||(h=c/10)<6&&(h=6),s.velocity({opacity:1,marginTop:u,marginLeft:f},{duration:150,queue:!1}),l.css({display:"block"}).velocity({opacity:1},{duration:50,delay:0,queue:!1}).velocity({scale:h},{duration:150,delay:0,queue:!1,easing:"easeInOutQuad"})}},10)},mouseleave:function(){clearInterval(o),n=0,s.velocity({opacity:0,marginTop:0,marginLeft:0},{duration:150,queue:!1,delay:50}),l.velocity({opacity:0,scale:1},{duration:150,delay:50,queue:!1,complete:function(){l.css("display","none"),s.css("display","none"),i=!1}})}})})}}(jQuery);
\ No newline at end of file
+!function(e){"function"==typeof define&&define.amd?define(["jquery"],e):e(window.jQuery)}(function(e){var hasChangeListener=function(e,t){if(t&&t.onChange)return!0;var n=e[0]&&window.jQuery._data(e[0],"events"),i=n&&n.materialnote;if(i)for(var o=0;o<i.length;o++)if(-1!==("."+i[o].namespace+".").indexOf(".change."))return!0;return!1};Array.prototype.reduce||(Array.prototype.reduce=function(e){var t,n=Object(this),i=n.length>>>0,o=0;if(2===arguments.length)t=arguments[1];else{for(;o<i&&!(o in n);)o++;if(o>=i)throw new TypeError("Reduce of empty array with no initial value");t=n[o++]}for(;o<i;o++)o in n&&(t=e(t,n[o],o,n));return t}),"function"!=typeof Array.prototype.filter&&(Array.prototype.filter=function(e){for(var t=Object(this),n=t.length>>>0,i=[],o=arguments.length>=2?arguments[1]:void 0,r=0;r<n;r++)if(r in t){var a=t[r];e.call(o,a,r,t)&&i.push(a)}return i});var t,n,i,o,r,a,s,l,d,c,u,f,h,p,v,g,m,b,k,y,C,x,w,T,N,L,P,S,I,M,R,E,H,A,D,F,B,U,z,O,j,_,q,W,K,V,Q,Z,J="function"==typeof define&&define.amd,Y=navigator.userAgent,G={isMac:navigator.appVersion.indexOf("Mac")>-1,isMSIE:/MSIE|Trident/i.test(Y),isFF:/firefox/i.test(Y),isWebkit:/webkit/i.test(Y),isSafari:/safari/i.test(Y),jqueryVersion:parseFloat(e.fn.jquery),isSupportAmd:J,hasCodeMirror:J?require.specified("CodeMirror"):!!window.CodeMirror,isFontInstalled:function(t){if("Roboto"===t)return!0;var n="Comic Sans MS"===t?"Courier New":"Comic Sans MS",i=e("<div>").css({position:"absolute",left:"-9999px",top:"-9999px",fontSize:"200px"}).text("mmmmmmmmmwwwwwww").appendTo(document.body),o=i.css("fontFamily",n).width(),r=i.css("fontFamily",t+","+n).width();return i.remove(),o!==r},isW3CRangeSupport:!!document.createRange},X=(t=0,{eq:function(e){return function(t){return e===t}},eq2:function(e,t){return e===t},peq2:function(e){return function(t,n){return t[e]===n[e]}},ok:function(){return!0},fail:function(){return!1},self:function(e){return e},not:function(e){return function(){return!e.apply(e,arguments)}},and:function(e,t){return function(n){return e(n)&&t(n)}},uniqueId:function(e){var n=++t+"";return e?e+n:n},rect2bnd:function(t){var n=e(document);return{top:t.top+n.scrollTop(),left:t.left+n.scrollLeft(),width:t.right-t.left,height:t.bottom-t.top}},invertObject:function(e){var t={};for(var n in e)e.hasOwnProperty(n)&&(t[e[n]]=n);return t},namespaceToCamel:function(e,t){return(t=t||"")+e.split(".").map(function(e){return e.substring(0,1).toUpperCase()+e.substring(1)}).join("")}}),$={head:n=function(e){return e[0]},last:i=function(e){return e[e.length-1]},initial:function(e){return e.slice(0,e.length-1)},tail:o=function(e){return e.slice(1)},prev:function(e,t){var n=e.indexOf(t);return-1===n?null:e[n-1]},next:function(e,t){var n=e.indexOf(t);return-1===n?null:e[n+1]},find:function(e,t){for(var n=0,i=e.length;n<i;n++){var o=e[n];if(t(o))return o}},contains:r=function(t,n){return-1!==e.inArray(n,t)},all:function(e,t){for(var n=0,i=e.length;n<i;n++)if(!t(e[n]))return!1;return!0},sum:function(e,t){return t=t||X.self,e.reduce(function(e,n){return e+t(n)},0)},from:function(e){for(var t=[],n=-1,i=e.length;++n<i;)t[n]=e[n];return t},clusterBy:function(e,t){return e.length?o(e).reduce(function(e,n){var o=i(e);return t(i(o),n)?o[o.length]=n:e[e.length]=[n],e},[[n(e)]]):[]},compact:function(e){for(var t=[],n=0,i=e.length;n<i;n++)e[n]&&t.push(e[n]);return t},unique:function(e){for(var t=[],n=0,i=e.length;n<i;n++)r(t,e[n])||t.push(e[n]);return t}},ee=String.fromCharCode(160),te=(a=function(t){return t&&e(t).hasClass("note-editable")},s=function(t){var n;if(t.hasClass("note-air-editor")){var i=$.last(t.attr("id").split("-"));return{editor:function(){return t},holder:function(){return t.data("holder")},editable:function(){return t},popover:(n=function(t){return function(){return e(t+i)}})("#note-popover-"),handle:n("#note-handle-"),dialog:n("#note-dialog-")}}return{editor:function(){return t},holder:function(){return t.data("holder")},dropzone:(n=function(e){return function(){return t.find(e)}})(".note-dropzone"),toolbar:n(".note-toolbar"),editable:n(".note-editable"),codable:n(".note-codable"),statusbar:n(".note-statusbar"),popover:n(".note-popover"),handle:n(".note-handle"),dialog:n(".note-dialog")}},d=function(e){return e&&3===e.nodeType},c=function(e){return e&&/^BR|^IMG|^HR/.test(e.nodeName.toUpperCase())},u=function(e){return!a(e)&&(e&&/^DIV|^P|^LI|^H[1-7]/.test(e.nodeName.toUpperCase()))},f=(l=function(e){return e=e.toUpperCase(),function(t){return t&&t.nodeName.toUpperCase()===e}})("LI"),h=l("TABLE"),p=function(e){return!(b(e)||v(e)||u(e)||h(e)||m(e))},v=function(e){return e&&/^UL|^OL/.test(e.nodeName.toUpperCase())},g=function(e){return e&&/^TD|^TH/.test(e.nodeName.toUpperCase())},m=l("BLOCKQUOTE"),b=function(e){return g(e)||m(e)||a(e)},k=l("A"),y=l("BODY"),C=G.isMSIE?"&nbsp;":"<br>",x=function(e){return d(e)?e.nodeValue.length:e.childNodes.length},w=function(e){var t=x(e);return 0===t||(!d(e)&&1===t&&e.innerHTML===C||!(!$.all(e.childNodes,d)||""!==e.innerHTML))},T=function(e){c(e)||x(e)||(e.innerHTML=C)},N=function(e,t){for(;e;){if(t(e))return e;if(a(e))break;e=e.parentNode}return null},L=function(e,t){t=t||X.fail;var n=[];return N(e,function(e){return a(e)||n.push(e),t(e)}),n},P=function(e,t){t=t||X.fail;for(var n=[];e&&!t(e);)n.push(e),e=e.nextSibling;return n},S=function(e,t){var n=t.nextSibling,i=t.parentNode;return n?i.insertBefore(e,n):i.appendChild(e),e},I=function(t,n){return e.each(n,function(e,n){t.appendChild(n)}),t},M=function(e){return 0===e.offset},R=function(e){return e.offset===x(e.node)},E=function(e){return M(e)||R(e)},H=function(e){for(var t=0;e=e.previousSibling;)t+=1;return t},A=function(e){return!!(e&&e.childNodes&&e.childNodes.length)},D=function(e,t){var n,i;if(0===e.offset){if(a(e.node))return null;n=e.node.parentNode,i=H(e.node)}else A(e.node)?(n=e.node.childNodes[e.offset-1],i=x(n)):(n=e.node,i=t?0:e.offset-1);return{node:n,offset:i}},F=function(e,t){var n,i;if(x(e.node)===e.offset){if(a(e.node))return null;n=e.node.parentNode,i=H(e.node)+1}else A(e.node)?(n=e.node.childNodes[e.offset],i=0):(n=e.node,i=t?x(e.node):e.offset+1);return{node:n,offset:i}},B=function(e,t){return e.node===t.node&&e.offset===t.offset},U=function(e,t){var n=t&&t.isSkipPaddingBlankHTML,i=t&&t.isNotSplitEdgePoint;if(E(e)&&(d(e.node)||i)){if(M(e))return e.node;if(R(e))return e.node.nextSibling}if(d(e.node))return e.node.splitText(e.offset);var o=e.node.childNodes[e.offset],r=S(e.node.cloneNode(!1),e.node);return I(r,P(o)),n||(T(e.node),T(r)),r},z=function(e,t,n){var i=L(t.node,X.eq(e));return i.length?1===i.length?U(t,n):i.reduce(function(e,i){return e===t.node&&(e=U(t,n)),U({node:i,offset:e?te.position(e):x(i)},n)}):null},O=function(e){return document.createElement(e)},j=function(e,t){if(e&&e.parentNode){if(e.removeNode)return e.removeNode(t);var n=e.parentNode;if(!t){var i,o,r=[];for(i=0,o=e.childNodes.length;i<o;i++)r.push(e.childNodes[i]);for(i=0,o=r.length;i<o;i++)n.insertBefore(r[i],e)}n.removeChild(e)}},_=l("TEXTAREA"),q=function(e,t){var n=_(e[0])?e.val():e.html();return t?n.replace(/[\n\r]/g,""):n},{NBSP_CHAR:ee,ZERO_WIDTH_NBSP_CHAR:"\ufeff",blank:C,emptyPara:"<p>"+C+"</p>",makePredByNodeName:l,isEditable:a,isControlSizing:function(t){return t&&e(t).hasClass("note-control-sizing")},buildLayoutInfo:s,makeLayoutInfo:function(t){var n,i=e(t).closest(".note-editor, .note-air-editor, .note-air-layout");return i.length?(n=i.is(".note-editor, .note-air-editor")?i:e("#note-editor-"+$.last(i.attr("id").split("-"))),s(n)):null},isText:d,isVoid:c,isPara:u,isPurePara:function(e){return u(e)&&!f(e)},isInline:p,isBlock:X.not(p),isBodyInline:function(e){return p(e)&&!N(e,u)},isBody:y,isParaInline:function(e){return p(e)&&!!N(e,u)},isList:v,isTable:h,isCell:g,isBlockquote:m,isBodyContainer:b,isAnchor:k,isDiv:l("DIV"),isLi:f,isBR:l("BR"),isSpan:l("SPAN"),isB:l("B"),isU:l("U"),isS:l("S"),isI:l("I"),isImg:l("IMG"),isTextarea:_,isEmpty:w,isEmptyAnchor:X.and(k,w),isClosestSibling:function(e,t){return e.nextSibling===t||e.previousSibling===t},withClosestSiblings:function(e,t){t=t||X.ok;var n=[];return e.previousSibling&&t(e.previousSibling)&&n.push(e.previousSibling),n.push(e),e.nextSibling&&t(e.nextSibling)&&n.push(e.nextSibling),n},nodeLength:x,isLeftEdgePoint:M,isRightEdgePoint:R,isEdgePoint:E,isLeftEdgeOf:function(e,t){for(;e&&e!==t;){if(0!==H(e))return!1;e=e.parentNode}return!0},isRightEdgeOf:function(e,t){for(;e&&e!==t;){if(H(e)!==x(e.parentNode)-1)return!1;e=e.parentNode}return!0},prevPoint:D,nextPoint:F,isSamePoint:B,isVisiblePoint:function(e){if(d(e.node)||!A(e.node)||w(e.node))return!0;var t=e.node.childNodes[e.offset-1],n=e.node.childNodes[e.offset];return!(t&&!c(t)||n&&!c(n))},prevPointUntil:function(e,t){for(;e;){if(t(e))return e;e=D(e)}return null},nextPointUntil:function(e,t){for(;e;){if(t(e))return e;e=F(e)}return null},isCharPoint:function(e){if(!d(e.node))return!1;var t=e.node.nodeValue.charAt(e.offset-1);return t&&" "!==t&&t!==ee},walkPoint:function(e,t,n,i){for(var o=e;o&&(n(o),!B(o,t));){var r=i&&e.node!==o.node&&t.node!==o.node;o=F(o,r)}},ancestor:N,singleChildAncestor:function(e,t){for(e=e.parentNode;e&&1===x(e);){if(t(e))return e;if(a(e))break;e=e.parentNode}return null},listAncestor:L,lastAncestor:function(e,t){var n=L(e);return $.last(n.filter(t))},listNext:P,listPrev:function(e,t){t=t||X.fail;for(var n=[];e&&!t(e);)n.push(e),e=e.previousSibling;return n},listDescendant:function(e,t){var n=[];return t=t||X.ok,function i(o){e!==o&&t(o)&&n.push(o);for(var r=0,a=o.childNodes.length;r<a;r++)i(o.childNodes[r])}(e),n},commonAncestor:function(t,n){for(var i=L(t),o=n;o;o=o.parentNode)if(e.inArray(o,i)>-1)return o;return null},wrap:function(t,n){var i=t.parentNode,o=e("<"+n+">")[0];return i.insertBefore(o,t),o.appendChild(t),o},insertAfter:S,appendChildNodes:I,position:H,hasChildren:A,makeOffsetPath:function(t,n){var i=L(n,X.eq(t));return e.map(i,H).reverse()},fromOffsetPath:function(e,t){for(var n=e,i=0,o=t.length;i<o;i++)n=n.childNodes.length<=t[i]?n.childNodes[n.childNodes.length-1]:n.childNodes[t[i]];return n},splitTree:z,splitPoint:function(e,t){var n,i,o=t?u:b,r=L(e.node,o),a=$.last(r)||e.node;o(a)?(n=r[r.length-2],i=a):i=(n=a).parentNode;var s=n&&z(n,e,{isSkipPaddingBlankHTML:t,isNotSplitEdgePoint:t});return s||i!==e.node||(s=e.node.childNodes[e.offset]),{rightNode:s,container:i}},create:O,createText:function(e){return document.createTextNode(e)},remove:j,removeWhile:function(e,t){for(;e&&!a(e)&&t(e);){var n=e.parentNode;j(e),e=n}},replace:function(e,t){if(e.nodeName.toUpperCase()===t.toUpperCase())return e;var n=O(t);return e.style.cssText&&(n.style.cssText=e.style.cssText),I(n,$.from(e.childNodes)),S(n,e),j(e),n},html:function(t,n){var i=q(t);return n&&(i=i.replace(/<(\/?)(\b(?!!)[^>\s]*)(.*?)(\s*\/?>)/g,function(e,t,n){n=n.toUpperCase();var i=/^DIV|^TD|^TH|^P|^LI|^H[1-7]/.test(n)&&!!t,o=/^BLOCKQUOTE|^TABLE|^TBODY|^TR|^HR|^UL|^OL/.test(n);return e+(i||o?"\n":"")}),i=e.trim(i)),i},value:q}),ne=(W=function(e,t){var n,i,o=e.parentElement(),r=document.body.createTextRange(),a=$.from(o.childNodes);for(n=0;n<a.length;n++)if(!te.isText(a[n])){if(r.moveToElementText(a[n]),r.compareEndPoints("StartToStart",e)>=0)break;i=a[n]}if(0!==n&&te.isText(a[n-1])){var s=document.body.createTextRange(),l=null;s.moveToElementText(i||o),s.collapse(!i),l=i?i.nextSibling:o.firstChild;var d=e.duplicate();d.setEndPoint("StartToStart",s);for(var c=d.text.replace(/[\r\n]/g,"").length;c>l.nodeValue.length&&l.nextSibling;)c-=l.nodeValue.length,l=l.nextSibling;l.nodeValue;t&&l.nextSibling&&te.isText(l.nextSibling)&&c===l.nodeValue.length&&(c-=l.nodeValue.length,l=l.nextSibling),o=l,n=c}return{cont:o,offset:n}},K=function(e){var t=function(e,n){var i,o;if(te.isText(e)){var r=te.listPrev(e,X.not(te.isText)),a=$.last(r).previousSibling;i=a||e.parentNode,n+=$.sum($.tail(r),te.nodeLength),o=!a}else{if(i=e.childNodes[n]||e,te.isText(i))return t(i,0);n=0,o=!1}return{node:i,collapseToStart:o,offset:n}},n=document.body.createTextRange(),i=t(e.node,e.offset);return n.moveToElementText(i.node),n.collapse(i.collapseToStart),n.moveStart("character",i.offset),n},V=function(t,n,i,o){this.sc=t,this.so=n,this.ec=i,this.eo=o;var r=function(){if(G.isW3CRangeSupport){var e=document.createRange();return e.setStart(t,n),e.setEnd(i,o),e}var r=K({node:t,offset:n});return r.setEndPoint("EndToEnd",K({node:i,offset:o})),r};this.getPoints=function(){return{sc:t,so:n,ec:i,eo:o}},this.getStartPoint=function(){return{node:t,offset:n}},this.getEndPoint=function(){return{node:i,offset:o}},this.select=function(){var e=r();if(G.isW3CRangeSupport){var t=document.getSelection();t.rangeCount>0&&t.removeAllRanges(),t.addRange(e)}else e.select();return this},this.normalize=function(){var e=function(e){return te.isVisiblePoint(e)||(e=te.isLeftEdgePoint(e)?te.nextPointUntil(e,te.isVisiblePoint):te.prevPointUntil(e,te.isVisiblePoint)),e},t=e(this.getStartPoint()),n=e(this.getEndPoint());return new V(t.node,t.offset,n.node,n.offset)},this.nodes=function(e,t){e=e||X.ok;var n=t&&t.includeAncestor,i=t&&t.fullyContains,o=this.getStartPoint(),r=this.getEndPoint(),a=[],s=[];return te.walkPoint(o,r,function(t){var o;te.isEditable(t.node)||(i?(te.isLeftEdgePoint(t)&&s.push(t.node),te.isRightEdgePoint(t)&&$.contains(s,t.node)&&(o=t.node)):o=n?te.ancestor(t.node,e):t.node,o&&e(o)&&a.push(o))},!0),$.unique(a)},this.commonAncestor=function(){return te.commonAncestor(t,i)},this.expand=function(e){var r=te.ancestor(t,e),a=te.ancestor(i,e);if(!r&&!a)return new V(t,n,i,o);var s=this.getPoints();return r&&(s.sc=r,s.so=0),a&&(s.ec=a,s.eo=te.nodeLength(a)),new V(s.sc,s.so,s.ec,s.eo)},this.collapse=function(e){return e?new V(t,n,t,n):new V(i,o,i,o)},this.splitText=function(){var e=t===i,r=this.getPoints();return te.isText(i)&&!te.isEdgePoint(this.getEndPoint())&&i.splitText(o),te.isText(t)&&!te.isEdgePoint(this.getStartPoint())&&(r.sc=t.splitText(n),r.so=0,e&&(r.ec=r.sc,r.eo=o-n)),new V(r.sc,r.so,r.ec,r.eo)},this.deleteContents=function(){if(this.isCollapsed())return this;var t=this.splitText(),n=t.nodes(null,{fullyContains:!0}),i=te.prevPointUntil(t.getStartPoint(),function(e){return!$.contains(n,e.node)}),o=[];return e.each(n,function(e,t){var n=t.parentNode;i.node!==n&&1===te.nodeLength(n)&&o.push(n),te.remove(t,!1)}),e.each(o,function(e,t){te.remove(t,!1)}),new V(i.node,i.offset,i.node,i.offset).normalize()};var a=function(e){return function(){var n=te.ancestor(t,e);return!!n&&n===te.ancestor(i,e)}};this.isOnEditable=a(te.isEditable),this.isOnList=a(te.isList),this.isOnAnchor=a(te.isAnchor),this.isOnCell=a(te.isCell),this.isLeftEdgeOf=function(e){if(!te.isLeftEdgePoint(this.getStartPoint()))return!1;var t=te.ancestor(this.sc,e);return t&&te.isLeftEdgeOf(this.sc,t)},this.isCollapsed=function(){return t===i&&n===o},this.wrapBodyInlineWithPara=function(){if(te.isBodyContainer(t)&&te.isEmpty(t))return t.innerHTML=te.emptyPara,new V(t.firstChild,0,t.firstChild,0);if(te.isParaInline(t)||te.isPara(t))return this.normalize();var e;if(te.isInline(t)){var i=te.listAncestor(t,X.not(te.isInline));e=$.last(i),te.isInline(e)||(e=i[i.length-2]||t.childNodes[n])}else e=t.childNodes[n>0?n-1:0];var o=te.listPrev(e,te.isParaInline).reverse();if((o=o.concat(te.listNext(e.nextSibling,te.isParaInline))).length){var r=te.wrap($.head(o),"p");te.appendChildNodes(r,$.tail(o))}return this.normalize()},this.insertNode=function(e){var t=this.wrapBodyInlineWithPara().deleteContents(),n=te.splitPoint(t.getStartPoint(),te.isInline(e));return n.rightNode?n.rightNode.parentNode.insertBefore(e,n.rightNode):n.container.appendChild(e),e},this.pasteHTML=function(t){var n=this,i=e("<div></div>").html(t)[0],o=$.from(i.childNodes);return this.wrapBodyInlineWithPara().deleteContents(),e.map(o.reverse(),function(e){return n.insertNode(e)}).reverse()},this.toString=function(){var e=r();return G.isW3CRangeSupport?e.toString():e.text},this.getWordRange=function(e){var t=this.getEndPoint();if(!te.isCharPoint(t))return this;var n=te.prevPointUntil(t,function(e){return!te.isCharPoint(e)});return e&&(t=te.nextPointUntil(t,function(e){return!te.isCharPoint(e)})),new V(n.node,n.offset,t.node,t.offset)},this.bookmark=function(e){return{s:{path:te.makeOffsetPath(e,t),offset:n},e:{path:te.makeOffsetPath(e,i),offset:o}}},this.paraBookmark=function(e){return{s:{path:$.tail(te.makeOffsetPath($.head(e),t)),offset:n},e:{path:$.tail(te.makeOffsetPath($.last(e),i)),offset:o}}},this.getClientRects=function(){return r().getClientRects()}},{create:function(e,t,n,i){if(arguments.length)2===arguments.length&&(n=e,i=t);else if(G.isW3CRangeSupport){var o=document.getSelection();if(!o||0===o.rangeCount)return null;if(te.isBody(o.anchorNode))return null;var r=o.getRangeAt(0);e=r.startContainer,t=r.startOffset,n=r.endContainer,i=r.endOffset}else{var a=document.selection.createRange(),s=a.duplicate();s.collapse(!1);var l=a;l.collapse(!0);var d=W(l,!0),c=W(s,!1);te.isText(d.node)&&te.isLeftEdgePoint(d)&&te.isTextNode(c.node)&&te.isRightEdgePoint(c)&&c.node.nextSibling===d.node&&(d=c),e=d.cont,t=d.offset,n=c.cont,i=c.offset}return new V(e,t,n,i)},createFromNode:function(e){var t=e,n=0,i=e,o=te.nodeLength(i);return te.isVoid(t)&&(n=te.listPrev(t).length-1,t=t.parentNode),te.isBR(i)?(o=te.listPrev(i).length-1,i=i.parentNode):te.isVoid(i)&&(o=te.listPrev(i).length,i=i.parentNode),this.create(t,n,i,o)},createFromNodeBefore:function(e){return this.createFromNode(e).collapse(!0)},createFromNodeAfter:function(e){return this.createFromNode(e).collapse()},createFromBookmark:function(e,t){var n=te.fromOffsetPath(e,t.s.path),i=t.s.offset,o=te.fromOffsetPath(e,t.e.path),r=t.e.offset;return new V(n,i,o,r)},createFromParaBookmark:function(e,t){var n=e.s.offset,i=e.e.offset,o=te.fromOffsetPath($.head(t),e.s.path),r=te.fromOffsetPath($.last(t),e.e.path);return new V(o,n,r,i)}}),ie={readFileAsDataURL:function(t){return e.Deferred(function(n){e.extend(new FileReader,{onload:function(e){var t=e.target.result;n.resolve(t)},onerror:function(){n.reject(this)}}).readAsDataURL(t)}).promise()},createImage:function(t,n){return e.Deferred(function(i){var o=e("<img>");o.one("load",function(){o.off("error abort"),i.resolve(o)}).one("error abort",function(){o.off("load").detach(),i.reject(o)}).css({display:"none"}).appendTo(document.body).attr({src:t,"data-filename":n})}).promise()}},oe=(Q={BACKSPACE:8,TAB:9,ENTER:13,SPACE:32,NUM0:48,NUM1:49,NUM2:50,NUM3:51,NUM4:52,NUM5:53,NUM6:54,NUM7:55,NUM8:56,B:66,E:69,I:73,J:74,K:75,L:76,R:82,S:83,U:85,Y:89,Z:90,SLASH:191,LEFTBRACKET:219,BACKSLASH:220,RIGHTBRACKET:221},{isEdit:function(e){return $.contains([8,9,13,32],e)},isMove:function(e){return $.contains([37,38,39,40],e)},nameFromCode:X.invertObject(Q),code:Q}),re=function(e){var t=[],n=-1,i=e[0],o=function(t){null!==t.contents&&e.html(t.contents),null!==t.bookmark&&ne.createFromBookmark(i,t.bookmark).select()};this.undo=function(){0<n&&o(t[--n])},this.redo=function(){t.length-1>n&&o(t[++n])},this.recordUndo=function(){var o;n++,t.length>n&&(t=t.slice(0,n)),t.push((o=ne.create(),{contents:e.html(),bookmark:o?o.bookmark(i):{s:{path:[],offset:0},e:{path:[],offset:0}}}))},this.recordUndo()},ae=function(){this.stylePara=function(t,n){e.each(t.nodes(te.isPara,{includeAncestor:!0}),function(t,i){e(i).css(n)})},this.styleNodes=function(t,n){t=t.splitText();var i=n&&n.nodeName||"SPAN",o=!(!n||!n.expandClosestSibling),r=!(!n||!n.onlyPartialContains);if(t.isCollapsed())return[t.insertNode(te.create(i))];var a=te.makePredByNodeName(i),s=e.map(t.nodes(te.isText,{fullyContains:!0}),function(e){return te.singleChildAncestor(e,a)||te.wrap(e,i)});if(o){if(r){var l=t.nodes();a=X.and(a,function(e){return $.contains(l,e)})}return e.map(s,function(t){var n=te.withClosestSiblings(t,a),i=$.head(n),o=$.tail(n);return e.each(o,function(e,t){te.appendChildNodes(i,t.childNodes),te.remove(t)}),$.head(n)})}return s},this.current=function(t,n){var i=function(t,n){if(G.jqueryVersion<1.9){var i={};return e.each(n,function(e,n){i[n]=t.css(n)}),i}return t.css.call(t,n)}(e(te.isText(t.sc)?t.sc.parentNode:t.sc),["font-family","font-size","text-align","list-style-type","line-height"])||{};if(i["font-size"]=parseInt(i["font-size"],10),i["font-bold"]=document.queryCommandState("bold")?"bold":"normal",i["font-italic"]=document.queryCommandState("italic")?"italic":"normal",i["font-underline"]=document.queryCommandState("underline")?"underline":"normal",i["font-strikethrough"]=document.queryCommandState("strikeThrough")?"strikethrough":"normal",i["font-superscript"]=document.queryCommandState("superscript")?"superscript":"normal",i["font-subscript"]=document.queryCommandState("subscript")?"subscript":"normal",t.isOnList()){var o=e.inArray(i["list-style-type"],["circle","disc","disc-leading-zero","square"])>-1;i["list-style"]=o?"unordered":"ordered"}else i["list-style"]="none";var r=te.ancestor(t.sc,te.isPara);if(r&&r.style["line-height"])i["line-height"]=r.style.lineHeight;else{var a=parseInt(i["line-height"],10)/parseInt(i["font-size"],10);i["line-height"]=a.toFixed(1)}return i.image=te.isImg(n)&&n,i.anchor=t.isOnAnchor()&&te.ancestor(t.sc,te.isAnchor),i.ancestors=te.listAncestor(t.sc,te.isEditable),i.range=t,i}},se=function(){this.insertOrderedList=function(){this.toggleList("OL")},this.insertUnorderedList=function(){this.toggleList("UL")},this.indent=function(){var t=this,n=ne.create().wrapBodyInlineWithPara(),i=n.nodes(te.isPara,{includeAncestor:!0}),o=$.clusterBy(i,X.peq2("parentNode"));e.each(o,function(n,i){var o=$.head(i);te.isLi(o)?t.wrapList(i,o.parentNode.nodeName):e.each(i,function(t,n){e(n).css("marginLeft",function(e,t){return(parseInt(t,10)||0)+25})})}),n.select()},this.outdent=function(){var t=this,n=ne.create().wrapBodyInlineWithPara(),i=n.nodes(te.isPara,{includeAncestor:!0}),o=$.clusterBy(i,X.peq2("parentNode"));e.each(o,function(n,i){var o=$.head(i);te.isLi(o)?t.releaseList([i]):e.each(i,function(t,n){e(n).css("marginLeft",function(e,t){return(t=parseInt(t,10)||0)>25?t-25:""})})}),n.select()},this.toggleList=function(t){var n=this,i=ne.create().wrapBodyInlineWithPara(),o=i.nodes(te.isPara,{includeAncestor:!0}),r=i.paraBookmark(o),a=$.clusterBy(o,X.peq2("parentNode"));if($.find(o,te.isPurePara)){var s=[];e.each(a,function(e,i){s=s.concat(n.wrapList(i,t))}),o=s}else{var l=i.nodes(te.isList,{includeAncestor:!0}).filter(function(n){return!e.nodeName(n,t)});l.length?e.each(l,function(e,n){te.replace(n,t)}):o=this.releaseList(a,!0)}ne.createFromParaBookmark(r,o).select()},this.wrapList=function(t,n){var i=$.head(t),o=$.last(t),r=te.isList(i.previousSibling)&&i.previousSibling,a=te.isList(o.nextSibling)&&o.nextSibling,s=r||te.insertAfter(te.create(n||"UL"),o);return t=e.map(t,function(e){return te.isPurePara(e)?te.replace(e,"LI"):e}),te.appendChildNodes(s,t),a&&(te.appendChildNodes(s,$.from(a.childNodes)),te.remove(a)),t},this.releaseList=function(t,n){var i=[];return e.each(t,function(t,o){var r=$.head(o),a=$.last(o),s=n?te.lastAncestor(r,te.isList):r.parentNode,l=s.childNodes.length>1?te.splitTree(s,{node:a.parentNode,offset:te.position(a)+1},{isSkipPaddingBlankHTML:!0}):null,d=te.splitTree(s,{node:r.parentNode,offset:te.position(r)},{isSkipPaddingBlankHTML:!0});o=n?te.listDescendant(d,te.isLi):$.from(d.childNodes).filter(te.isLi),!n&&te.isList(s.parentNode)||(o=e.map(o,function(e){return te.replace(e,"P")})),e.each($.from(o).reverse(),function(e,t){te.insertAfter(t,s)});var c=$.compact([s,d,l]);e.each(c,function(t,n){var i=[n].concat(te.listDescendant(n,te.isList));e.each(i.reverse(),function(e,t){te.nodeLength(t)||te.remove(t,!0)})}),i=i.concat(o)}),i}},le=function(){var t=new se;this.insertTab=function(e,t,n){var i=te.createText(new Array(n+1).join(te.NBSP_CHAR));(t=t.deleteContents()).insertNode(i,!0),(t=ne.create(i,n)).select()},this.insertParagraph=function(){var n=ne.create();n=(n=n.deleteContents()).wrapBodyInlineWithPara();var i,o=te.ancestor(n.sc,te.isPara);if(o){if(te.isEmpty(o)&&te.isLi(o))return void t.toggleList(o.parentNode.nodeName);i=te.splitTree(o,n.getStartPoint());var r=te.listDescendant(o,te.isEmptyAnchor);r=r.concat(te.listDescendant(i,te.isEmptyAnchor)),e.each(r,function(e,t){te.remove(t)})}else{var a=n.sc.childNodes[n.so];i=e(te.emptyPara)[0],a?n.sc.insertBefore(i,a):n.sc.appendChild(i)}ne.create(i,0).normalize().select()}},de=function(){this.tab=function(e,t){var n=te.ancestor(e.commonAncestor(),te.isCell),i=te.ancestor(n,te.isTable),o=te.listDescendant(i,te.isCell),r=$[t?"prev":"next"](o,n);r&&ne.create(r,0).select()},this.createTable=function(t){for(var n,i=[],o=[],r=t[0],a=t[1],s=t.slice(2,t.length),l=0;l<r;l++)i.push("<td>(item)</td>"),o.push("<th>header</th>");n=i.join(""),o=o.join("");for(var d,c=[],u=0;u<a;u++)c.push("<tr>"+n+"</tr>");return d=c.join(""),e('<table class="'+s.join(" ")+'"><thead><tr>'+o+"</tr></thead><tbody>"+d+"</tbody></table>")[0]}},ce=function(t){var n=new ae,i=new de,o=new le,r=new se;this.createRange=function(e){return this.focus(e),ne.create()},this.saveRange=function(e,t){this.focus(e),e.data("range",ne.create()),t&&ne.create().collapse().select()},this.saveNode=function(e){for(var t=[],n=0,i=e[0].childNodes.length;n<i;n++)t.push(e[0].childNodes[n]);e.data("childNodes",t)},this.restoreRange=function(e){var t=e.data("range");t&&(t.select(),this.focus(e))},this.restoreNode=function(e){e.html("");for(var t=e.data("childNodes"),n=0,i=t.length;n<i;n++)e[0].appendChild(t[n])},this.reset=function(e){e.html("")},this.html=function(e,t){e.html(t)},this.getHTML=function(e){return e.html()},this.currentStyle=function(e){var t=ne.create();return!!t&&(t.isOnEditable()&&n.current(t,e))};var a=function(e){var n=te.makeLayoutInfo(e).holder();t.bindCustomEvent(n,e.data("callbacks"),"before.command")(e.html(),e)},s=function(e){var n=te.makeLayoutInfo(e).holder();hasChangeListener(n,e.data("callbacks"))&&t.bindCustomEvent(n,e.data("callbacks"),"change")(e.html(),e)};this.undo=function(e){a(e),e.data("NoteHistory").undo(),s(e)},this.redo=function(e){a(e),e.data("NoteHistory").redo(),s(e)};for(var l=this,d=this.beforeCommand=function(e){a(e),l.focus(e)},c=this.afterCommand=function(e,t){e.data("NoteHistory").recordUndo(),t||s(e)},u=["bold","italic","underline","strikethrough","superscript","subscript","justifyLeft","justifyCenter","justifyRight","justifyFull","formatBlock","removeFormat","backColor","foreColor","fontName"],f=0,h=u.length;f<h;f++)this[u[f]]=function(e){return function(t,n){d(t),document.execCommand(e,!1,n),c(t,!0)}}(u[f]);this.insertHorizontalRule=function(){var t=e("<div />");t.addClass("divider"),ne.create().insertNode(t[0])},this.tab=function(e,t){var n=this.createRange(e);n.isCollapsed()&&n.isOnCell()?i.tab(n):(d(e),o.insertTab(e,n,t.tabsize),c(e))},this.untab=function(e){var t=this.createRange(e);t.isCollapsed()&&t.isOnCell()&&i.tab(t,!0)},this.insertParagraph=function(e){d(e),o.insertParagraph(e),c(e)},this.insertOrderedList=function(e){d(e),r.insertOrderedList(e),c(e)},this.insertUnorderedList=function(e){d(e),r.insertUnorderedList(e),c(e)},this.indent=function(e){d(e),r.indent(e),c(e)},this.outdent=function(e){d(e),r.outdent(e),c(e)},this.insertImage=function(e,n,i){ie.createImage(n,i).then(function(t){d(e),t.css({display:"",width:Math.min(e.width(),t.width())}),ne.create().insertNode(t[0]),ne.createFromNodeAfter(t[0]).select(),c(e)}).fail(function(){var n=te.makeLayoutInfo(e).holder();t.bindCustomEvent(n,e.data("callbacks"),"image.upload.error")()})},this.insertNode=function(e,t){d(e),ne.create().insertNode(t),ne.createFromNodeAfter(t).select(),c(e)},this.insertText=function(e,t){d(e);var n=ne.create().insertNode(te.createText(t));ne.create(n,te.nodeLength(n)).select(),c(e)},this.pasteHTML=function(e,t){d(e);var n=ne.create().pasteHTML(t);ne.createFromNodeAfter($.last(n)).select(),c(e)},this.formatBlock=function(e,t){d(e),t=G.isMSIE?"<"+t+">":t,document.execCommand("FormatBlock",!1,t),c(e)},this.formatPara=function(e){d(e),this.formatBlock(e,"P"),c(e)};for(f=1;f<=6;f++)this["formatH"+f]=function(e){return function(t){this.formatBlock(t,"H"+e)}}(f);this.fontSize=function(t,i){var o=ne.create();if(o.isCollapsed()){var r=n.styleNodes(o),a=$.head(r);e(r).css({"font-size":i+"px"}),a&&!te.nodeLength(a)&&(a.innerHTML=te.ZERO_WIDTH_NBSP_CHAR,ne.createFromNodeAfter(a.firstChild).select(),t.data("bogus",a))}else d(t),e(n.styleNodes(o)).css({"font-size":i+"px"}),c(t)},this.removeBogus=function(e){var t=e.data("bogus");if(t){var n=$.find($.from(t.childNodes),te.isText),i=n.nodeValue.indexOf(te.ZERO_WIDTH_NBSP_CHAR);-1!==i&&n.deleteData(i,1),te.isEmpty(t)&&te.remove(t),e.removeData("bogus")}},this.lineHeight=function(e,t){d(e),n.stylePara(ne.create(),{lineHeight:t}),c(e)},this.unlink=function(e){var t=this.createRange(e);if(t.isOnAnchor()){var n=te.ancestor(t.sc,te.isAnchor);(t=ne.createFromNode(n)).select(),d(e),document.execCommand("unlink"),c(e)}},this.createLink=function(t,i,o){var r=i.url,a=i.text,s=i.newWindow,l=i.range,u=l.toString()!==a;d(t),o.onCreateLink&&(r=o.onCreateLink(r));var f=[];if(u){var h=l.insertNode(e("<A>"+a+"</A>")[0]);f.push(h)}else f=n.styleNodes(l,{nodeName:"A",expandClosestSibling:!0,onlyPartialContains:!0});e.each(f,function(t,n){e(n).attr("href",r),s?e(n).attr("target","_blank"):e(n).removeAttr("target")});var p=ne.createFromNodeBefore($.head(f)).getStartPoint(),v=ne.createFromNodeAfter($.last(f)).getEndPoint();ne.create(p.node,p.offset,v.node,v.offset).select(),c(t)},this.getLinkInfo=function(t){this.focus(t);var n=ne.create().expand(te.isAnchor),i=e($.head(n.nodes(te.isAnchor)));return{range:n,text:n.toString(),isNewWindow:!!i.length&&"_blank"===i.attr("target"),url:i.length?i.attr("href"):""}},this.color=function(e,t){var n=JSON.parse(t),i=n.foreColor,o=n.backColor;d(e),i&&document.execCommand("foreColor",!1,i),o&&document.execCommand("backColor",!1,o),c(e)},this.insertTable=function(e,t){var n=t.split("x");d(e),ne.create().deleteContents().insertNode(i.createTable(n)),c(e)},this.floatMe=function(e,t,n){d(e),n.css("float",t),c(e)},this.imageShape=function(e,t,n){d(e),n.removeClass("img-rounded img-circle img-thumbnail img-bordered"),t&&n.addClass(t),c(e)},this.imageClass=function(e,t,n){d(e),t&&(n.hasClass(t)?n.removeClass(t):n.addClass(t)),c(e)},this.resize=function(e,t,n){d(e),n.css({width:100*t+"%",height:""}),c(e)},this.resizeTo=function(e,t,n){var i;if(n){var o=e.y/e.x,r=t.data("ratio");i={width:r>o?e.x:e.y/r,height:r>o?e.x*r:e.y}}else i={width:e.x,height:e.y};t.css(i)},this.removeMedia=function(n,i,o){d(n),o.detach(),t.bindCustomEvent(e(),n.data("callbacks"),"media.delete")(o,n),c(n)},this.focus=function(e){e.focus(),G.isFF&&!ne.create().isOnEditable()&&ne.createFromNode(e[0]).normalize().collapse().select()},this.isEmpty=function(e){return te.isEmpty(e[0])||te.emptyPara===e.html()}},ue=function(){this.update=function(t,n){var i=function(t,n){t.find(".dropdown-menu li").each(function(){var t=e(this).children("div");t.data("value")+""==n+""?t.children("i").removeClass("transparent"):t.children("i").addClass("transparent")})},o=function(e,n){t.find(e).toggleClass("active",n())};if(n.image){var r=e(n.image);o('.btn[data-event="imageClass"][data-value="img-rounded"]',function(){return r.hasClass("img-rounded")}),o('.btn[data-event="imageClass"][data-value="img-circle"]',function(){return r.hasClass("img-circle")}),o('.btn[data-event="imageClass"][data-value="img-thumbnail"]',function(){return r.hasClass("img-thumbnail")}),o('.btn[data-event="imageClass"][data-value="img-bordered"]',function(){return r.hasClass("img-bordered")}),o('.btn[data-event="imageShape"]:not([data-value])',function(){return!r.is(".img-rounded, .img-circle, .img-thumbnail, .img-bordered")});var a=r.css("float");o('.btn[data-event="floatMe"][data-value="left"]',function(){return"left"===a}),o('.btn[data-event="floatMe"][data-value="right"]',function(){return"right"===a}),o('.btn[data-event="floatMe"][data-value="none"]',function(){return"left"!==a&&"right"!==a});var s=r.attr("style");return o('.btn[data-event="resize"][data-value="1"]',function(){return!!/(^|\s)(max-)?width\s*:\s*100%/.test(s)}),o('.btn[data-event="resize"][data-value="0.5"]',function(){return!!/(^|\s)(max-)?width\s*:\s*50%/.test(s)}),void o('.btn[data-event="resize"][data-value="0.25"]',function(){return!!/(^|\s)(max-)?width\s*:\s*25%/.test(s)})}var l=t.find(".note-fontname[data-name=fontname]");if(l.length){var d=n["font-family"];if(d){for(var c=d.split(","),u=0,f=c.length;u<f&&(d=c[u].replace(/[\'\"]/g,"").replace(/\s+$/,"").replace(/^\s+/,""),!G.isFontInstalled(d));u++);l.find(".note-current-fontname").text(d),i(l,d)}}var h=t.find(".note-fontsize[data-name=fontsize]");h.find(".note-current-fontsize").text(n["font-size"]),i(h,parseFloat(n["font-size"])),i(t.find(".note-height[data-name=lineheight]"),parseFloat(n["line-height"])),o('.btn[data-event="bold"]',function(){return"bold"===n["font-bold"]}),o('.btn[data-event="italic"]',function(){return"italic"===n["font-italic"]}),o('.btn[data-event="underline"]',function(){return"underline"===n["font-underline"]}),o('.btn[data-event="strikethrough"]',function(){return"strikethrough"===n["font-strikethrough"]}),o('.btn[data-event="superscript"]',function(){return"superscript"===n["font-superscript"]}),o('.btn[data-event="subscript"]',function(){return"subscript"===n["font-subscript"]}),o('.btn[data-event="justifyLeft"]',function(){return"left"===n["text-align"]||"start"===n["text-align"]}),o('.btn[data-event="justifyCenter"]',function(){return"center"===n["text-align"]}),o('.btn[data-event="justifyRight"]',function(){return"right"===n["text-align"]}),o('.btn[data-event="justifyFull"]',function(){return"justify"===n["text-align"]}),o('.btn[data-event="insertUnorderedList"]',function(){return"unordered"===n["list-style"]}),o('.btn[data-event="insertOrderedList"]',function(){return"ordered"===n["list-style"]})},this.updateRecentColor=function(t,n,i){var o=e(t).closest(".note-color").find(".note-recent-color"),r=JSON.parse(o.attr("data-value")),a="backColor"===n?"background-color":"color";r[n]=i,o.attr("data-value",JSON.stringify(r)),o.css(a,i)}},fe=function(){var e=new ue;this.update=function(t,n){e.update(t,n)},this.updateRecentColor=function(t,n,i){e.updateRecentColor(t,n,i)},this.activate=function(e){e.find("button, .btn").not('.btn[data-event="codeview"]').removeClass("disabled")},this.deactivate=function(e){e.find("button, .btn").not('.btn[data-event="codeview"]').addClass("disabled")},this.updateFullscreen=function(e,t){e.find('.btn[data-event="fullscreen"]').toggleClass("active",t)},this.updateCodeview=function(e,t){e.find('.btn[data-event="codeview"]').toggleClass("active",t),t?this.deactivate(e):this.activate(e)},this.get=function(e,t){return te.makeLayoutInfo(e).toolbar().find("[data-name="+t+"]")},this.setButtonState=function(e,t,n){n=!1!==n,this.get(e,t).toggleClass("active",n)}},he=function(){var t=e(document);this.attach=function(e,t){t.disableResizeEditor||e.statusbar().on("mousedown",n)};var n=function(e){e.preventDefault(),e.stopPropagation();var n=te.makeLayoutInfo(e.target).editable(),i=n.offset().top-t.scrollTop(),o=te.makeLayoutInfo(e.currentTarget||e.target).editor().data("options");t.on("mousemove",function(e){var t=e.clientY-(i+24);t=o.minHeight>0?Math.max(t,o.minHeight):t,t=o.maxHeight>0?Math.min(t,o.maxHeight):t,n.height(t)}).one("mouseup",function(){t.off("mousemove")})}},pe=function(){var t=new ue,n=function(t,n){var i=e(t),o=n?i.offset():i.position(),r=i.outerHeight(!0);return{left:o.left,top:o.top+r}},i=function(e,t){e.css({display:"block",left:t.left,top:t.top})};this.update=function(o,r,a){t.update(o,r);var s=o.find(".note-link-popover");if(r.anchor){var l=s.find("a"),d=e(r.anchor).attr("href"),c=e(r.anchor).attr("target");l.attr("href",d).html(d),c?l.attr("target","_blank"):l.removeAttr("target"),i(s,n(r.anchor,a))}else s.hide();var u=o.find(".note-image-popover");r.image?i(u,n(r.image,a)):u.hide();var f=o.find(".note-air-popover");if(a&&!r.range.isCollapsed()){var h=$.last(r.range.getClientRects());if(h){var p=X.rect2bnd(h);i(f,{left:Math.max(p.left+p.width/2-20,0),top:p.top+p.height})}}else f.hide()},this.updateRecentColor=function(e,t,n){e.updateRecentColor(e,t,n)},this.hide=function(e){e.children().hide()}},ve=function(t){var n=e(document),i=function(i){if(te.isControlSizing(i.target)){i.preventDefault(),i.stopPropagation();var o=te.makeLayoutInfo(i.target),r=o.handle(),a=o.popover(),s=o.editable(),l=o.editor(),d=r.find(".note-control-selection").data("target"),c=e(d),u=c.offset(),f=n.scrollTop(),h=l.data("options").airMode;n.on("mousemove",function(e){t.invoke("editor.resizeTo",{x:e.clientX-u.left,y:e.clientY-(u.top-f)},c,!e.shiftKey),t.invoke("handle.update",r,{image:d},h),t.invoke("popover.update",a,{image:d},h)}).one("mouseup",function(){n.off("mousemove"),t.invoke("editor.afterCommand",s)}),c.data("ratio")||c.data("ratio",c.height()/c.width())}};this.attach=function(e){e.handle().on("mousedown",i)},this.update=function(t,n,i){var o=t.find(".note-control-selection");if(n.image){var r=e(n.image),a=i?r.offset():r.position(),s={w:r.outerWidth(!0),h:r.outerHeight(!0)};o.css({display:"block",left:a.left,top:a.top,width:s.w,height:s.h}).data("target",n.image);var l=s.w+"x"+s.h;o.find(".note-control-selection-info").text(l)}else o.hide()},this.hide=function(e){e.children().hide()}},ge=function(t){var n=e(window),i=e("html, body");this.toggle=function(e){var o=e.editor(),r=e.toolbar(),a=e.editable(),s=e.codable(),l=function(e){a.css("height",e.h),s.css("height",e.h),s.data("cmeditor")&&s.data("cmeditor").setsize(null,e.h)};o.toggleClass("fullscreen");var d=o.hasClass("fullscreen");d?(a.data("orgheight",a.css("height")),n.on("resize",function(){l({h:n.height()-r.outerHeight()})}).trigger("resize"),i.css("overflow","hidden"),r.css("top",0)):(n.off("resize"),l({h:a.data("orgheight")}),i.css("overflow","visible")),t.invoke("toolbar.updateFullscreen",r,d)}};G.hasCodeMirror&&(G.isSupportAmd?require(["CodeMirror"],function(e){Z=e}):Z=window.CodeMirror);var me=function(t){this.sync=function(e){t.invoke("codeview.isActivated",e)&&G.hasCodeMirror&&e.codable().data("cmEditor").save()},this.isActivated=function(e){return e.editor().hasClass("codeview")},this.toggle=function(e){this.isActivated(e)?this.deactivate(e):this.activate(e)},this.activate=function(n){var i=n.editor(),o=n.toolbar(),r=n.editable(),a=n.codable(),s=n.popover(),l=n.handle(),d=i.data("options"),c=te.html(r,!1);c=function e(t,n,i,o){var r,a=t.indexOf("<"),s=t.indexOf(">");if(a<0)return t;if(0===a)if(r=t.substring(0,s+1),t=t.substring(s+1),0===r.indexOf("</"))n--,nsideLastBlock=!1;else{i&&n++;for(var l=!1,d=0;d<o.length;d++)if(0===r.indexOf(o[d])){l=!0;break}i=!l}else r=t.substring(0,a),t=t.substring(a),i&&n++,i=!1;try{r=new Array(n+1).join("    ")+r.trim()}catch(e){return r}return 0===t.length?r:r+"\n"+e(t.trim(),n,i,o)}(c,0,!1,["<img","<br","<hr"]),a.val(c);var u=o.find(".btn[data-event=codeview]").height(),f=e(window).height()-u;if(a.height(r.height()),t.invoke("toolbar.updateCodeview",o,!0),t.invoke("popover.hide",s),t.invoke("handle.hide",l),i.addClass("codeview"),a.focus(),G.hasCodeMirror){var h=Z.fromTextArea(a[0],d.codemirror);if(d.codemirror.tern){var p=new Z.TernServer(d.codemirror.tern);h.ternServer=p,h.on("cursorActivity",function(e){p.updateArgHints(e)})}i.hasClass("fullscreen")?h.setSize(null,f):h.setSize(null,r.outerHeight()),a.data("cmEditor",h)}},this.deactivate=function(e){var n=e.holder(),i=e.editor(),o=e.toolbar(),r=e.editable(),a=e.codable(),s=i.data("options");if(G.hasCodeMirror){var l=a.data("cmEditor");a.val(l.getValue()),l.toTextArea()}var d=te.value(a,s.prettifyHtml)||te.emptyPara,c=r.html()!==d;r.html(d),r.height(s.height?a.height():"auto"),i.removeClass("codeview"),c&&hasChangeListener(n,r.data("callbacks"))&&t.bindCustomEvent(n,r.data("callbacks"),"change")(r.html(),r),r.focus(),t.invoke("toolbar.updateCodeview",o,!1)}},be=function(t){var n=e(document);this.attach=function(e,t){t.airMode||t.disableDragAndDrop?n.on("drop",function(e){e.preventDefault()}):this.attachDragAndDropEvent(e,t)},this.attachDragAndDropEvent=function(i,o){var r=e(),a=i.editor(),s=i.dropzone(),l=s.find(".note-dropzone-message");n.on("dragenter",function(e){var n=t.invoke("codeview.isActivated",i),d=a.width()>0&&a.height()>0;n||r.length||!d||(a.addClass("dragover"),s.width(a.width()),s.height(a.height()),l.text(o.langInfo.image.dragImageHere)),r=r.add(e.target)}).on("dragleave",function(e){(r=r.not(e.target)).length||a.removeClass("dragover")}).on("drop",function(){r=e(),a.removeClass("dragover")}),s.on("dragenter",function(){s.addClass("hover"),l.text(o.langInfo.image.dropImage)}).on("dragleave",function(){s.removeClass("hover"),l.text(o.langInfo.image.dragImageHere)}),s.on("drop",function(n){var i=n.originalEvent.dataTransfer,o=te.makeLayoutInfo(n.currentTarget||n.target);if(i&&i.files&&i.files.length)n.preventDefault(),o.editable().focus(),t.insertImages(o,i.files);else for(var r=function(){o.holder().materialnote("insertNode",this)},a=0,s=i.types.length;a<s;a++){var l=i.types[a],d=i.getData(l);l.toLowerCase().indexOf("text")>-1?o.holder().materialnote("pasteHTML",d):e(d).each(r)}}).on("dragover",!1)}},ke=function(t){var n;this.attach=function(o){window.clipboardData&&(n=e("<div />").attr("contenteditable",!0).css({position:"absolute",left:-1e5,opacity:0}),o.editable().after(n),n.one("paste",i),o.editable().on("keydown",function(e){e.ctrlKey&&86===e.keyCode&&(t.invoke("saveRange",o.editable()),n&&n.focus())})),o.editable().on("paste",i)};var i=function(e){var i=e.originalEvent.clipboardData,o=te.makeLayoutInfo(e.currentTarget||e.target),r=o.editable();if(i&&i.items&&i.items.length){var a=$.head(i.items);"file"===a.kind&&-1!==a.type.indexOf("image/")&&t.insertImages(o,[a.getAsFile()]),t.invoke("editor.afterCommand",r)}else{if(!r.data("callbacks").onImageUpload)return;setTimeout(function(){if(n){var e=n[0].firstChild;if(e){if(t.invoke("restoreRange",r),te.isImg(e)){for(var i=e.src,a=atob(i.split(",")[1]),s=new Uint8Array(a.length),l=0;l<a.length;l++)s[l]=a.charCodeAt(l);var d=new Blob([s],{type:"image/png"});d.name="clipboard.png",t.invoke("focus",r),t.insertImages(o,[d])}else t.invoke("pasteHTML",r,n.html());n.remove()}}},0)}}},ye=function(t){var n=function(e,t){e.toggleClass("disabled",!t),e.attr("disabled",!t)},i=function(e,t){e.on("keypress",function(e){e.keyCode===oe.code.ENTER&&t.trigger("click")})};this.showLinkDialog=function(t,o,r){return e.Deferred(function(t){var a=o.find(".note-link-dialog"),s=a.find(".note-link-text"),l=s.next("label"),d=a.find(".note-link-url"),c=a.find(".note-link-btn"),u=a.find(".btnClose"),f=a.find("input[type=checkbox]");a.openModal(),s.val(r.text),r.text.length>0&&l.addClass("active"),s.on("keyup",function(){n(c,s.val()&&d.val()),r.text=s.val()}),u.click(function(e){e.preventDefault(),a.closeModal()}),r.url||(r.url=r.text||"http://",n(c,r.text)),d.on("keyup",function(){n(c,s.val()&&d.val()),r.text||(l.addClass("active"),s.val(d.val()))}).val(r.url).trigger("focus").trigger("select"),i(d,c),i(s,c),f.prop("checked",r.newWindow),c.one("click",function(n){n.preventDefault(),t.resolve({range:r.range,url:d.val(),text:s.val(),newWindow:f.is(":checked")}),e(".note-link-text").val(""),e(".note-link-text").next("label").removeClass("active"),e(".note-link-url").val(""),a.closeModal()})}).promise()},this.show=function(e){var n=e.editor(),i=e.dialog(),o=e.editable(),r=e.popover(),a=t.invoke("editor.getLinkInfo",o),s=n.data("options");t.invoke("editor.saveRange",o),this.showLinkDialog(o,i,a).then(function(e){t.invoke("editor.restoreRange",o),t.invoke("editor.createLink",o,e,s),t.invoke("popover.hide",r)}).fail(function(){t.invoke("editor.restoreRange",o)})}},Ce=function(t){this.show=function(e){var n=e.dialog(),i=e.editable();t.invoke("editor.saveRange",i),this.showImageDialog(i,n).then(function(n){t.invoke("editor.restoreRange",i),"string"==typeof n?t.invoke("editor.insertImage",i,n):t.insertImages(e,n)}).fail(function(){t.invoke("editor.restoreRange",i)})},this.showImageDialog=function(t,n){return e.Deferred(function(e){var t,i=n.find(".note-image-dialog"),o=n.find(".note-image-input"),r=n.find(".note-image-url"),a=n.find(".note-image-btn"),s=i.find(".btnClose");i.openModal(),o.replaceWith(o.clone().on("change",function(){e.resolve(this.files||this.value),r.val(""),i.closeModal(),e.resolve()}).val("")),a.off("click").click(function(t){t.preventDefault(),e.resolve(r.val()),r.val(""),i.closeModal(),e.resolve()}),s.click(function(e){e.preventDefault(),i.closeModal()}),r.on("keyup paste",function(e){var t,n,i;t="paste"===e.type?e.originalEvent.clipboardData.getData("text"):r.val(),i=t,(n=a).toggleClass("disabled",!i),n.attr("disabled",!i)}),t=a,r.on("keypress",function(e){e.keyCode===oe.code.ENTER&&t.trigger("click")})})}},xe=function(t){this.showHelpDialog=function(t,n){return e.Deferred(function(e){n.find(".note-help-dialog").openModal(),e.resolve()}).promise()},this.show=function(e){var n=e.dialog(),i=e.editable();t.invoke("editor.saveRange",i,!0),this.showHelpDialog(i,n).then(function(){t.invoke("editor.restoreRange",i)})}};e.materialnote=e.materialnote||{},e.extend(e.materialnote,{version:"0.6.9",options:{defaultTextColor:"#212121",defaultBackColor:"#ddd",followingToolbar:!0,otherStaticBarClass:"staticTop",width:null,height:null,minHeight:null,maxHeight:null,focus:!1,tabsize:4,styleWithSpan:!0,disableLinkTarget:!1,disableDragAndDrop:!1,disableResizeEditor:!1,shortcuts:!0,placeholder:!1,prettifyHtml:!0,iconPrefix:"",icons:{font:{bold:"format_bold",italic:"format_italic",underline:"format_underlined",clear:"clear",height:"format_size",strikethrough:"strikethrough_s",superscript:"vertical_align_top",subscript:"vertical_align_bottom"},image:{image:"image",floatLeft:"format_align_left",floatRight:"format_align_right",floatNone:"format_align_justify",shapeRounded:"crop_3_2",shapeCircle:"panorama_fish_eye",shapeThumbnail:"collections",bordered:"border_outer",shapeNone:"image",remove:"delete"},link:{link:"insert_link",unlink:"clear",edit:"create"},table:{table:"border_all"},hr:{insert:"add"},style:{style:"border_color"},lists:{unordered:"format_list_bulleted",ordered:"format_list_numbered"},options:{help:"help",fullscreen:"settings_overscan",codeview:"code"},paragraph:{paragraph:"format_textdirection_l_to_r",outdent:"format_indent_decrease",indent:"format_indent_increase",left:"format_align_left",center:"format_align_center",right:"format_align_right",justify:"format_align_justify"},color:{recent:"format_color_text"},history:{undo:"undo",redo:"redo"},misc:{check:"check"}},codemirror:{mode:"text/html",htmlMode:!0,indentWithTabs:!0,tabSize:4,lineNumbers:!0,theme:"monokai",maxHighlightLength:"Infinity"},lang:"en-US",direction:null,toolbar:[["style",["style"]],["font",["bold","italic","underline","clear"]],["fontname",["fontname"]],["fontsize",["fontsize"]],["color",["color"]],["para",["ul","ol","paragraph"]],["height",["height"]],["table",["table"]],["insert",["link","picture","hr"]],["view",["fullscreen","codeview"]],["help",["help"]]],plugin:{},airMode:!1,airPopover:[["color",["color"]],["font",["bold","underline","clear"]],["para",["ul","paragraph"]],["table",["table"]],["insert",["link","picture"]]],styleTags:["p","blockquote","pre","h1","h2","h3","h4","h5","h6"],defaultFontName:"Roboto",fontNames:["Roboto","Arial","Arial Black","Comic Sans MS","Courier New","Helvetica Neue","Helvetica","Impact","Times New Roman","Verdana"],fontNamesIgnoreCheck:[],fontSizes:["12","13","14","15","16","17","18","25","37"],colors:[["#fafafa","#efebe9","#7e57c2","#ab47bc","#5c6bc0","#42a5f5","#26c6da","#66bb6a","#9ccc65","#ffee58","#ffca28","#ffa726","#ff7043","#ef5350","#ec407a"],["#f5f5f5","#d7ccc8","#673ab7","#9c27b0","#3f51b5","#2196f3","#00bcd4","#4caf50","#8bc34a","#ffeb3b","#ffc107","#ff9800","#ff5722","#f44336","#e91e63"],["#eeeeee","#bcaaa4","#5e35b1","#8e24aa","#3949ab","#1e88e5","#00acc1","#43a047","#7cb342","#fdd835","#ffb300","#fb8c00","#f4511e","#e53935","#d81b60"],["#e0e0e0","#a1887f","#512da8","#7b1fa2","#303f9f","#1976d2","#0097a7","#388e3c","#689f38","#fbc02d","#ffa000","#f57c00","#e64a19","#d32f2f","#c2185b"],["#bdbdbd","#8d6e63","#4527a0","#6a1b9a","#283593","#1565c0","#00838f","#2e7d32","#558b2f","#f9a825","#ff8f00","#ef6c00","#d84315","#c62828","#ad1457"],["#9e9e9e","#795548","#311b92","#4a148c","#1a237e","#0d47a1","#006064","#1b5e20","#33691e","#f57f17","#ff6f00","#e65100","#bf360c","#b71c1c","#880e4f"],["#757575","#6d4c41","#b388ff","#ea80fc","#8c9eff","#82b1ff","#84ffff","#b9f6ca","#ccff90","#ffff8d","#ffe57f","#ffd180","#ff9e80","#ff8a80","#ff80ab"],["#616161","#5d4037","#7c4dff","#e040fb","#536dfe","#448aff","#18ffff","#69f0ae","#b2ff59","#ffff00","#ffd740","#ffab40","#ff6e40","#ff5252","#ff4081"],["#424242","#4e342e","#651fff","#d500f9","#3d5afe","#2979ff","#00e5ff","#00e676","#76ff03","#ffea00","#ffc400","#ff9100","#ff3d00","#ff1744","#f50057"],["#212121","#3e2723","#6200ea","#aa00ff","#304ffe","#2962ff","#00b8d4","#00c853","#64dd17","#ffd600","#ffab00","#ff6d00","#dd2c00","#d50000","#c51162"]],colorTitles:[["grey lighten5","brown lighten5","deep-purple lighten1","purple lighten1","indigo lighten1","blue lighten1","cyan lighten1","green lighten1","light-green lighten1","yellow lighten1","amber lighten1","orange lighten1","deep-orange lighten1","red lighten1","pink lighten1"],["grey lighten4","brown lighten4","deep-purple","purple","indigo","blue","cyan","green","light-green","yellow","amber","orange","deep-orange","red","pink"],["grey lighten3","brown lighten3","deep-purple darken1","purple darken1","indigo darken1","blue darken1","cyan darken1","green darken1","light-green darken1","yellow darken1","amber darken1","orange darken1","deep-orange darken1","red darken1","pink darken1"],["grey lighten2","brown lighten2","deep-purple darken2","purple darken2","indigo darken2","blue darken2","cyan darken2","green darken2","light-green darken2","yellow darken2","amber darken2","orange darken2","deep-orange darken2","red darken2","pink darken2"],["grey lighten1","brown lighten1","deep-purple darken3","purple darken3","indigo darken3","blue darken3","cyan darken3","green darken3","light-green darken3","yellow darken3","amber darken3","orange darken3","deep-orange darken3","red darken3","pink darken3"],["grey","brown","deep-purple darken4","purple darken4","indigo darken4","blue darken4","cyan darken4","green darken4","light-green darken4","yellow darken4","amber darken4","orange darken4","deep-orange darken4","red darken4","pink darken4"],["grey darken1","brown darken1","deep-purple accent1","purple accent1","indigo accent1","blue accent1","cyan accent1","green accent1","light-green accent1","yellow accent1","amber accent1","orange accent1","deep-orange accent1","red accent1","pink accent1"],["grey darken2","brown darken2","deep-purple accent2","purple accent2","indigo accent2","blue accent2","cyan accent2","green accent2","light-green accent2","yellow accent2","amber accent2","orange accent2","deep-orange accent2","red accent2","pink accent2"],["grey darken3","brown darken3","deep-purple accent3","purple accent3","indigo accent3","blue accent3","cyan accent3","green accent3","light-green accent3","yellow accent3","amber accent3","orange accent3","deep-orange accent3","red accent3","pink accent3"],["grey darken4","brown darken4","deep-purple accent4","purple accent4","indigo accent4","blue accent4","cyan accent4","green accent4","light-green accent4","yellow accent4","amber accent4","orange accent4","deep-orange accent4","red accent4","pink accent4"]],lineHeights:["1.0","1.2","1.4","1.5","1.6","1.8","2.0","3.0"],insertTableMaxSize:{col:12,row:10},maximumImageFileSize:null,oninit:null,onfocus:null,onblur:null,onenter:null,onkeyup:null,onkeydown:null,onImageUpload:null,onImageUploadError:null,onMediaDelete:null,onToolbarClick:null,onsubmit:null,onCreateLink:function(e){return-1!==e.indexOf("@")&&-1===e.indexOf(":")&&(e="mailto:"+e),e},keyMap:{pc:{ENTER:"insertParagraph","CTRL+Z":"undo","CTRL+Y":"redo",TAB:"tab","SHIFT+TAB":"untab","CTRL+B":"bold","CTRL+I":"italic","CTRL+U":"underline","CTRL+SHIFT+S":"strikethrough","CTRL+BACKSLASH":"removeFormat","CTRL+SHIFT+L":"justifyLeft","CTRL+SHIFT+E":"justifyCenter","CTRL+SHIFT+R":"justifyRight","CTRL+SHIFT+J":"justifyFull","CTRL+SHIFT+NUM7":"insertUnorderedList","CTRL+SHIFT+NUM8":"insertOrderedList","CTRL+LEFTBRACKET":"outdent","CTRL+RIGHTBRACKET":"indent","CTRL+NUM0":"formatPara","CTRL+NUM1":"formatH1","CTRL+NUM2":"formatH2","CTRL+NUM3":"formatH3","CTRL+NUM4":"formatH4","CTRL+NUM5":"formatH5","CTRL+NUM6":"formatH6","CTRL+ENTER":"insertHorizontalRule","CTRL+K":"showLinkDialog"},mac:{ENTER:"insertParagraph","CMD+Z":"undo","CMD+SHIFT+Z":"redo",TAB:"tab","SHIFT+TAB":"untab","CMD+B":"bold","CMD+I":"italic","CMD+U":"underline","CMD+SHIFT+S":"strikethrough","CMD+BACKSLASH":"removeFormat","CMD+SHIFT+L":"justifyLeft","CMD+SHIFT+E":"justifyCenter","CMD+SHIFT+R":"justifyRight","CMD+SHIFT+J":"justifyFull","CMD+SHIFT+NUM7":"insertUnorderedList","CMD+SHIFT+NUM8":"insertOrderedList","CMD+LEFTBRACKET":"outdent","CMD+RIGHTBRACKET":"indent","CMD+NUM0":"formatPara","CMD+NUM1":"formatH1","CMD+NUM2":"formatH2","CMD+NUM3":"formatH3","CMD+NUM4":"formatH4","CMD+NUM5":"formatH5","CMD+NUM6":"formatH6","CMD+ENTER":"insertHorizontalRule","CMD+K":"showLinkDialog"}}},lang:{"en-US":{font:{bold:"Bold",italic:"Italic",underline:"Underline",clear:"Remove Font Style",height:"Line Height",name:"Font Family",strikethrough:"Strikethrough",subscript:"Subscript",superscript:"Superscript",size:"Font Size"},image:{image:"Picture",insert:"Insert Image",resizeFull:"Resize Full",resizeHalf:"Resize Half",resizeQuarter:"Resize Quarter",floatLeft:"Float Left",floatRight:"Float Right",floatNone:"Float None",shapeRounded:"Shape: Rounded",shapeCircle:"Shape: Circle",bordered:"Bordered",shapeThumbnail:"Shape: Thumbnail",shapeNone:"Shape: None",dragImageHere:"Drag image or text here",dropImage:"Drop image or Text",selectFromFiles:"Select from files",maximumFileSize:"Maximum file size",maximumFileSizeError:"Maximum file size exceeded.",url:"Image URL",remove:"Remove Image"},link:{link:"Link",insert:"Insert Link",unlink:"Unlink",edit:"Edit",textToDisplay:"Text to display",url:"To what URL should this link go?",openInNewWindow:"Open in new window"},table:{table:"Table",striped:"Striped",hoverable:"Hoverable",responsive:"Responsive",bordered:"Bordered"},hr:{insert:"Insert Horizontal Rule"},style:{style:"Style",normal:"Normal",blockquote:"Quote",pre:"Code",h1:"Header 1",h2:"Header 2",h3:"Header 3",h4:"Header 4",h5:"Header 5",h6:"Header 6"},lists:{unordered:"Unordered list",ordered:"Ordered list"},options:{help:"Help",fullscreen:"Full Screen",codeview:"Code View"},paragraph:{paragraph:"Paragraph",outdent:"Outdent",indent:"Indent",left:"Align left",center:"Align center",right:"Align right",justify:"Justify full"},color:{recent:"Recent Color",more:"More Color",background:"Back",foreground:"Text",transparent:"Transparent",setTransparent:"Transparent",reset:"Reset",resetToDefault:"Default"},shortcut:{shortcuts:"Keyboard shortcuts",close:"Close",textFormatting:"Text formatting",action:"Action",paragraphFormatting:"Paragraph formatting",documentStyle:"Document Style",extraKeys:"Extra keys"},history:{undo:"Undo",redo:"Redo"}}}});var we=new function(){var t=function(e,t){var n=t.event,i=t.value,o=t.title,r=t.style,a=t.btnClassName,s=t.className,l=t.dropdown,d=t.hide;return l?['<div class="btn-group',(s?" "+s:"")+'">','<button class="waves-effect waves-light btn dropdown '+(a||"")+'"',o?' title="'+o+'"':"",n?' data-event="'+n+'"':"",i?" data-value='"+i+"'":"",d?" data-hide='"+d+"'":"",'><i class="material-icons left">arrow_drop_down</i>'+e+"</button>",l,"</div>"].join(""):['<div class="waves-effect waves-light btn',(s?" "+s:"")+'"',o?' title="'+o+'"':"",r?' style="'+r+'"':"",n?' data-event="'+n+'"':"",i?" data-value='"+i+"'":"",d?" data-hide='"+d+"'":"",' tabindex="-1">'+e+"</div>"].join("")},n=function(e,n){return t('<i class="material-icons">'+e+"</i>",n)},i=function(t,n){var i=e('<div class="'+t+' popover bottom in" style="display: none;"><div class="arrow"></div><div class="popover-content"></div></div>');return i.find(".popover-content").append(n),i},o=function(e,t,n,i){return['<div class="'+e+' modal modal-fixed-footer">','<div class="modal-content">',t?"<h4>"+t+"</h4>":"","<p>"+n+"</p>","</div>",i?'<div class="modal-footer">'+i+"</div>":"","</div>"].join("")},r={picture:function(e,t){return n(t.iconPrefix+t.icons.image.image,{event:"showImageDialog",title:e.image.image,hide:!0})},link:function(e,t){return n(t.iconPrefix+t.icons.link.link,{event:"showLinkDialog",title:e.link.link,hide:!0})},table:function(e,t){var i='<ul class="note-table dropdown-menu"><div class="row"><div class="col s6 preventDropClose"><input type="checkbox" id="'+materialUniqueId+'-bordered" checked="checked" /><label for="'+materialUniqueId+'-bordered">'+e.table.bordered+'</label></div><div class="col s6 preventDropClose"><input type="checkbox" id="'+materialUniqueId+'-striped" checked="checked" /><label for="'+materialUniqueId+'-striped">'+e.table.striped+'</label></div></div><div class="row"><div class="col s6 preventDropClose"><input type="checkbox" id="'+materialUniqueId+'-hoverable" checked="checked" /><label for="'+materialUniqueId+'-hoverable">'+e.table.hoverable+'</label></div><div class="col s6 preventDropClose"><input type="checkbox" id="'+materialUniqueId+'-responsive" checked="checked" /><label for="'+materialUniqueId+'-responsive">'+e.table.responsive+'</label></div></div><div class="note-dimension-picker"><div class="note-dimension-picker-mousecatcher" data-event="insertTable" data-value="1x1"></div><div class="note-dimension-picker-highlighted"></div><div class="note-dimension-picker-unhighlighted"></div></div><div class="note-dimension-display"> 1 x 1 </div></ul>';return n(t.iconPrefix+t.icons.table.table,{title:e.table.table,dropdown:i})},style:function(e,t){var i=t.styleTags.reduce(function(t,n){var i=e.style["p"===n?"normal":n];return t+'<li><div data-event="formatBlock" data-value="'+n+'">'+("p"===n||"pre"===n?i:"<"+n+">"+i+"</"+n+">")+"</div></li>"},"");return n(t.iconPrefix+t.icons.style.style,{title:e.style.style,dropdown:'<ul class="dropdown-menu largeDropdown">'+i+"</ul>"})},fontname:function(e,n){var i=[],o=n.fontNames.reduce(function(e,t){return G.isFontInstalled(t)||-1!==n.fontNamesIgnoreCheck.indexOf(t)?(i.push(t),e+'<li><div data-event="fontName" href="#" data-value="'+t+'" style="font-family:\''+t+'\'"><i class="material-icons tiny transparent">'+n.iconPrefix+n.icons.misc.check+"</i> "+t+"</div></li>"):e},""),r=G.isFontInstalled(n.defaultFontName)?n.defaultFontName:i[0];return t('<div class="note-current-fontname">'+r+"</div>",{title:e.font.name,className:"note-fontname",dropdown:'<ul class="dropdown-menu note-check">'+o+"</ul>"})},fontsize:function(e,n){var i=n.fontSizes.reduce(function(e,t){return e+'<li><div data-event="fontSize" href="#" data-value="'+t+'"><i class="material-icons tiny transparent">'+n.iconPrefix+n.icons.misc.check+"</i> "+t+"</div></li>"},"");return t('<span class="note-current-fontsize">15</span>',{title:e.font.size,className:"note-fontsize",dropdown:'<ul class="dropdown-menu note-check">'+i+"</ul>"})},color:function(e,n){var i='<i class="material-icons">'+n.icons.color.recent+"</i>",o=t(i,{className:"note-recent-color",title:e.color.recent,style:"color: "+n.defaultTextColor+"; background-color: "+n.defaultBackColor+";",event:"color",value:'{"backColor": "'+n.defaultBackColor+'"}'}),r='<ul id="colors" class="dropdown-menu"><li><div class="col s12"><ul class="tabs"><li class="tab"><a href="#'+materialUniqueId+'-foreColor" class="active">'+e.color.foreground+'</a></li><li class="tab"><a href="#'+materialUniqueId+'-backColor">'+e.color.background+'</a></li></ul></div><div class="col s12 colorTable"><div id="'+materialUniqueId+'-foreColor"><div class="note-color-reset waves-effect waves-light btn" data-event="foreColor" data-value="'+n.defaultTextColor+'" title="'+e.color.reset+'">'+e.color.resetToDefault+'</div><div class="colorName"></div><div class="note-color-palette" data-target-event="foreColor"></div></div><div id="'+materialUniqueId+'-backColor"><div class="note-color-reset waves-effect waves-light btn" data-event="backColor" data-value="'+n.defaultBackColor+'" title="'+e.color.transparent+'">'+e.color.setTransparent+'</div><div class="colorName"></div><div class="note-color-palette" data-target-event="backColor"></div></div></div></li></ul>';return t("",{title:e.color.more,className:"closeLeft",dropdown:r})+o},bold:function(e,t){return n(t.iconPrefix+t.icons.font.bold,{event:"bold",title:e.font.bold})},italic:function(e,t){return n(t.iconPrefix+t.icons.font.italic,{event:"italic",title:e.font.italic})},underline:function(e,t){return n(t.iconPrefix+t.icons.font.underline,{event:"underline",title:e.font.underline})},strikethrough:function(e,t){return n(t.iconPrefix+t.icons.font.strikethrough,{event:"strikethrough",title:e.font.strikethrough})},superscript:function(e,t){return n(t.iconPrefix+t.icons.font.superscript,{event:"superscript",title:e.font.superscript})},subscript:function(e,t){return n(t.iconPrefix+t.icons.font.subscript,{event:"subscript",title:e.font.subscript})},clear:function(e,t){return n(t.iconPrefix+t.icons.font.clear,{event:"removeFormat",title:e.font.clear})},ul:function(e,t){return n(t.iconPrefix+t.icons.lists.unordered,{event:"insertUnorderedList",title:e.lists.unordered})},ol:function(e,t){return n(t.iconPrefix+t.icons.lists.ordered,{event:"insertOrderedList",title:e.lists.ordered})},leftButton:function(e,t){return n(t.iconPrefix+t.icons.paragraph.left,{title:e.paragraph.left,event:"justifyLeft"})},centerButton:function(e,t){return n(t.iconPrefix+t.icons.paragraph.center,{title:e.paragraph.center,event:"justifyCenter"})},rightButton:function(e,t){return n(t.iconPrefix+t.icons.paragraph.right,{title:e.paragraph.right,event:"justifyRight"})},justifyButton:function(e,t){return n(t.iconPrefix+t.icons.paragraph.justify,{title:e.paragraph.justify,event:"justifyFull"})},outdentButton:function(e,t){return n(t.iconPrefix+t.icons.paragraph.outdent,{title:e.paragraph.outdent,event:"outdent"})},indentButton:function(e,t){return n(t.iconPrefix+t.icons.paragraph.indent,{title:e.paragraph.indent,event:"indent"})},paragraph:function(e,t){var i=n(t.iconPrefix+t.icons.paragraph.left,{title:e.paragraph.left,event:"justifyLeft"}),o=n(t.iconPrefix+t.icons.paragraph.center,{title:e.paragraph.center,event:"justifyCenter"}),r=n(t.iconPrefix+t.icons.paragraph.right,{title:e.paragraph.right,event:"justifyRight"}),a=n(t.iconPrefix+t.icons.paragraph.justify,{title:e.paragraph.justify,event:"justifyFull"}),s=n(t.iconPrefix+t.icons.paragraph.outdent,{title:e.paragraph.outdent,event:"outdent"}),l='<ul class="dropdown-menu"><div class="note-align btn-group">'+i+o+r+a+'</div><div class="note-list btn-group">'+n(t.iconPrefix+t.icons.paragraph.indent,{title:e.paragraph.indent,event:"indent"})+s+"</div></ul>";return n(t.iconPrefix+t.icons.paragraph.paragraph,{title:e.paragraph.paragraph,dropdown:l})},lineheight:function(e,t){var i=t.lineHeights.reduce(function(e,n){return e+'<li><div data-event="lineHeight" href="#" data-value="'+parseFloat(n)+'"><i class="material-icons tiny transparent">'+t.iconPrefix+t.icons.misc.check+"</i> "+n+"</div></li>"},"");return n(t.iconPrefix+t.icons.font.height,{title:e.font.height,className:"note-height",dropdown:'<ul class="dropdown-menu note-check">'+i+"</ul>"})},help:function(e,t){return n(t.iconPrefix+t.icons.options.help,{event:"showHelpDialog",title:e.options.help,hide:!0})},fullscreen:function(e,t){return n(t.iconPrefix+t.icons.options.fullscreen,{event:"fullscreen",title:e.options.fullscreen})},codeview:function(e,t){return n(t.iconPrefix+t.icons.options.codeview,{event:"codeview",title:e.options.codeview})},undo:function(e,t){return n(t.iconPrefix+t.icons.history.undo,{event:"undo",title:e.history.undo})},redo:function(e,t){return n(t.iconPrefix+t.icons.history.redo,{event:"redo",title:e.history.redo})},hr:function(e,t){return n(t.iconPrefix+t.icons.hr.insert,{event:"insertHorizontalRule",title:e.hr.insert})}},a=function(o,a){var s,l,d=e('<div class="note-popover" />');return d.append((s=n(a.iconPrefix+a.icons.link.edit,{title:o.link.edit,event:"showLinkDialog",hide:!0}),l=n(a.iconPrefix+a.icons.link.unlink,{title:o.link.unlink,event:"unlink"}),i("note-link-popover",'<a href="http://www.google.com" target="_blank">www.google.com</a>&nbsp;&nbsp;<div class="note-insert btn-group">'+s+l+"</div>"))),d.append(function(){t('<span class="note-fontsize-10">100%</span>',{title:o.image.resizeFull,event:"resize",value:"1"}),t('<span class="note-fontsize-10">50%</span>',{title:o.image.resizeHalf,event:"resize",value:"0.5"}),t('<span class="note-fontsize-10">25%</span>',{title:o.image.resizeQuarter,event:"resize",value:"0.25"});var e=n(a.iconPrefix+a.icons.image.floatLeft,{title:o.image.floatLeft,event:"floatMe",value:"left"}),r=n(a.iconPrefix+a.icons.image.floatRight,{title:o.image.floatRight,event:"floatMe",value:"right"}),s=n(a.iconPrefix+a.icons.image.floatNone,{title:o.image.floatNone,event:"floatMe",value:"none"}),l=n(a.iconPrefix+a.icons.image.shapeRounded,{title:o.image.shapeRounded,event:"imageClass",value:"img-rounded"}),d=n(a.iconPrefix+a.icons.image.shapeCircle,{title:o.image.shapeCircle,event:"imageClass",value:"img-circle"}),c=n(a.iconPrefix+a.icons.image.shapeThumbnail,{title:o.image.shapeThumbnail,event:"imageClass",value:"img-thumbnail"}),u=n(a.iconPrefix+a.icons.image.bordered,{title:o.image.bordered,event:"imageClass",value:"img-bordered"}),f=n(a.iconPrefix+a.icons.image.shapeNone,{title:o.image.shapeNone,event:"imageShape",value:""}),h=n(a.iconPrefix+a.icons.image.remove,{title:o.image.remove,event:"removeMedia",value:"none"});return i("note-image-popover",'<div class="btn-group">'+e+r+s+'</div><div class="btn-group">'+l+d+c+u+f+'</div><div class="btn-group">'+h+"</div>")}()),a.airMode&&d.append(function(){for(var t=e("<div />"),n=0,s=a.airPopover.length;n<s;n++){for(var l=a.airPopover[n],d=e('<div class="note-'+l[0]+' btn-group">'),c=0,u=l[1].length;c<u;c++){var f=e(r[l[1][c]](o,a));f.attr("data-name",l[1][c]),d.append(f)}t.append(d)}return i("note-air-popover",t.children())}()),d},s=function(e,t){var n=[];for(var i in t)t.hasOwnProperty(i)&&n.push("<tr><td>"+t[i].kbd+"</td><td>"+t[i].text+"</td></tr>");return"<thead><tr><th>"+e+"</th><th>(keys)</th></tr></thead><tbody>"+n.join("")+"</tbody>"},l=function(e){var t=[{kbd:"⌘ + B",text:e.font.bold},{kbd:"⌘ + I",text:e.font.italic},{kbd:"⌘ + U",text:e.font.underline},{kbd:"⌘ + \\",text:e.font.clear}];return s(e.shortcut.textFormatting,t)},d=function(e){var t=[{kbd:"⌘ + Z",text:e.history.undo},{kbd:"⌘ + ⇧ + Z",text:e.history.redo},{kbd:"⌘ + ]",text:e.paragraph.indent},{kbd:"⌘ + [",text:e.paragraph.outdent},{kbd:"⌘ + ENTER",text:e.hr.insert}];return s(e.shortcut.action,t)},c=function(e){var t=[{kbd:"⌘ + ⇧ + L",text:e.paragraph.left},{kbd:"⌘ + ⇧ + E",text:e.paragraph.center},{kbd:"⌘ + ⇧ + R",text:e.paragraph.right},{kbd:"⌘ + ⇧ + J",text:e.paragraph.justify},{kbd:"⌘ + ⇧ + NUM7",text:e.lists.ordered},{kbd:"⌘ + ⇧ + NUM8",text:e.lists.unordered}];return s(e.shortcut.paragraphFormatting,t)},u=function(e){var t=[{kbd:"⌘ + NUM0",text:e.style.normal},{kbd:"⌘ + NUM1",text:e.style.h1},{kbd:"⌘ + NUM2",text:e.style.h2},{kbd:"⌘ + NUM3",text:e.style.h3},{kbd:"⌘ + NUM4",text:e.style.h4},{kbd:"⌘ + NUM5",text:e.style.h5},{kbd:"⌘ + NUM6",text:e.style.h6}];return s(e.shortcut.documentStyle,t)},f=function(e,t){var n=['<table class="striped hoverable">'+d(e)+"</table>",'<table class="striped hoverable">'+u(e)+"</table>",'<table class="striped hoverable">'+l(e)+"</table>",'<table class="striped hoverable">'+c(e)+"</table>"].join("<br>");return t.extraKeys,n},h={image:function(e,t){if(t.maximumImageFileSize){var n=Math.floor(Math.log(t.maximumImageFileSize)/Math.log(1024));(t.maximumImageFileSize/Math.pow(1024,n)).toFixed(2);e.image.maximumFileSize}var i='<div class="row"><div class="col s12"><div class="file-field input-field"><div class="btn"><span>'+e.image.image+'</span><input class="note-image-input" name="files" type="file" /></div><div class="file-path-wrapper"><input class="file-path" type="text" /></div></div></div></div><div class="row"><div class="input-field col s12"><input class="note-image-url" type="text" /><label>'+e.image.url+"</label></div></div>",r='<button href="#" class="waves-effect waves-light btn note-image-btn disabled" disabled>'+e.image.insert+'</button><button class="waves-effect waves-light btn btnClose">'+e.shortcut.close+"</button>";return o("note-image-dialog",e.image.insert,i,r)},link:function(e,t){var n='<div class="row"><div class="input-field col s12"><input class="note-link-text" type="text" /><label>'+e.link.textToDisplay+'</label></div></div><div class="row"><div class="input-field col s12"><input class="note-link-url" type="text" value="http://" /><label class="active">'+e.link.url+"</label></div></div>"+(t.disableLinkTarget?"":'<div class="row"><div class="col s12"><input type="checkbox" id="'+materialUniqueId+'-noteInsertLinkNewWindow" checked="checked" /><label for="'+materialUniqueId+'-noteInsertLinkNewWindow">'+e.link.openInNewWindow+"</label></div></div>"),i='<button href="#" class="waves-effect waves-light btn note-link-btn disabled" disabled>'+e.link.insert+'</button><button class="waves-effect waves-light btn btnClose">'+e.shortcut.close+"</button>";return o("note-link-dialog",e.link.insert,n,i)},help:function(e,t){var n=G.isMac?f(e,t):f(e,t).replace(/⌘/g,"Ctrl").replace(/⇧/g,"Shift"),i='<button href="#" class="waves-effect waves-light btn modal-close">'+e.shortcut.close+"</button>";return o("note-help-dialog",e.shortcut.shortcuts,n,i)}},p=function(t,n){var i="";return e.each(h,function(e,o){i+=o(t,n)}),'<div class="note-dialog">'+i+"</div>"},v=function(t,n,i){e(document).ready(function(){var i=X.invertObject(n);t.find(".btn").each(function(t,n){var o=e(n),r=i[o.data("event")],a=o.attr("title");r&&o.attr("data-tooltip",function(t,n){var i;return a=a+" ("+(i=r,G.isMac&&(i=i.replace("CMD","⌘").replace("SHIFT","⇧")),i.replace("BACKSLASH","\\").replace("SLASH","/").replace("LEFTBRACKET","[").replace("RIGHTBRACKET","]"))+")",e(this).removeAttr("title"),a}),o.attr("data-position","bottom"),o.attr("data-tooltip",a),o.removeAttr("title")}).ckTooltip({container:t,position:"top",delay:30})})},g=function(t,n){var i=n.colors,o=n.colorTitles;t.find(".note-color-palette").each(function(){for(var t=e(this),n=t.attr("data-target-event"),r=[],a=0,s=i.length;a<s;a++){for(var l=i[a],d=o[a],c=[],u=0,f=l.length;u<f;u++){var h=l[u],p=d[u];c.push(['<button type="button" class="note-color-btn" style="background-color:',h,';" data-event="',n,'" data-value="',h,'" data-description="',p,'" data-toggle="button" tabindex="-1"></button>'].join(""))}r.push('<div class="note-color-row">'+c.join("")+"</div>")}t.html(r.join("")),t.find("button").mouseenter(function(){t.siblings(".colorName").html(e(this).data("description"))}),t.mouseleave(function(){e(this).siblings(".colorName").html("")})})};this.createLayoutByAirMode=function(t,n){var i=n.langInfo,o=n.keyMap[G.isMac?"mac":"pc"],r=X.uniqueId();t.addClass("note-air-editor note-editable"),t.attr({id:"note-editor-"+r,contentEditable:!0});var s=document.body,l=e(a(i,n));l.addClass("note-air-layout"),l.attr("id","note-popover-"+r),l.appendTo(s),v(l,o),g(l,n);var d=e('<div class="note-handle"><div class="note-control-selection"><div class="note-control-selection-bg"></div><div class="note-control-sizing note-control-se"></div><div class="note-control-selection-info"></div></div></div>');d.addClass("note-air-layout"),d.attr("id","note-handle-"+r),d.appendTo(s);var c=e(p(i,n));c.addClass("note-air-layout"),c.attr("id","note-dialog-"+r),c.find("button.close, a.modal-close").click(function(){e(this).closest(".modal").closeModal()}),c.appendTo(s)},this.createLayoutByFrame=function(t,n){var i=n.langInfo,o=e('<div class="note-editor"></div>');n.width&&o.width(n.width),n.height>0&&e('<div class="note-statusbar">'+(n.disableResizeEditor?"":'<div class="note-resizebar"><div class="note-icon-bar"></div><div class="note-icon-bar"></div><div class="note-icon-bar"></div></div>')+"</div>").prependTo(o);var s=!t.is(":disabled"),l=e('<div class="note-editable" contentEditable="'+s+'"></div>').prependTo(o);n.height&&l.height(n.height),n.direction&&l.attr("dir",n.direction);var d=t.attr("placeholder")||n.placeholder;d&&l.attr("data-placeholder",d),l.html(te.html(t)),e('<textarea class="note-codable"></textarea>').prependTo(o);for(var c=e('<div class="note-toolbar btn-toolbar" />'),u=0,f=n.toolbar.length;u<f;u++){for(var h=n.toolbar[u][0],m=n.toolbar[u][1],b=e('<div class="note-'+h+' btn-group" />'),k=0,y=m.length;k<y;k++){var C=r[m[k]];if(e.isFunction(C)){var x=e(C(i,n));x.attr("data-name",m[k]),b.append(x)}}c.append(b)}c.prependTo(o);var w=n.keyMap[G.isMac?"mac":"pc"];g(c,n),v(c,w),n.followingToolbar&&e(window).scroll(function(){if(o.hasClass("fullscreen"))return!1;var t,i,r,a,s,l,d,c=o.children(".note-toolbar"),u=(c.outerHeight(),o.children(".note-editable").outerHeight());o.width,(d=e("."+n.otherStaticBarClass).outerHeight())||(d=0),s=e(document).scrollTop(),t=c.offset().top,a=(i=o.offset().top)+u-d,r=i-d,s>t-d&&s<a?(l=s-o.offset().top+d,c.css({top:l+"px","z-index":2e3})):s<t&&s<a&&(c.css({top:0,"z-index":1052}),s>r&&(l=s-o.offset().top+d,c.css({top:l+"px","z-index":2e3})))});var T=e(a(i,n)).prependTo(o);g(T,n),v(T,w),e('<div class="note-handle"><div class="note-control-selection"><div class="note-control-selection-bg"></div><div class="note-control-sizing note-control-se"></div><div class="note-control-selection-info"></div></div></div>').prependTo(o),e(p(i,n)).prependTo(o).find("button.close, a.modal-close").click(function(){e(this).closest(".modal").closeModal()}),e('<div class="note-dropzone"><div class="note-dropzone-message"></div></div>').prependTo(o),o.insertAfter(t),t.hide()},this.hasNoteEditor=function(e){return this.noteEditorFromHolder(e).length>0},this.noteEditorFromHolder=function(t){return t.hasClass("note-air-editor")?t:t.next().hasClass("note-editor")?t.next():e()},this.createLayout=function(e,t){t.airMode?this.createLayoutByAirMode(e,t):this.createLayoutByFrame(e,t)},this.layoutInfoFromHolder=function(e){var t=this.noteEditorFromHolder(e);if(t.length)return t.data("holder",e),te.buildLayoutInfo(t)},this.removeLayout=function(e,t,n){n.airMode?(e.removeClass("note-air-editor note-editable").removeAttr("id contentEditable"),t.popover().remove(),t.handle().remove(),t.dialog().remove()):(e.html(t.editable().html()),t.editor().remove(),e.show())},this.getTemplate=function(){return{button:t,iconButton:n,dialog:o}},this.addButtonInfo=function(e,t){r[e]=t},this.addDialogInfo=function(e,t){h[e]=t}},Te=new function(){var t=this.modules={editor:new ce(this),toolbar:new fe(this),statusbar:new he(this),popover:new pe(this),handle:new ve(this),fullscreen:new ge(this),codeview:new me(this),dragAndDrop:new be(this),clipboard:new ke(this),linkDialog:new ye(this),imageDialog:new Ce(this),helpDialog:new xe(this)};this.invoke=function(){var e=$.head($.from(arguments)),t=$.tail($.from(arguments)),n=e.split("."),i=n.length>1,o=i&&$.head(n),r=i?$.last(n):$.head(n),a=this.getModule(o),s=a[r];return s&&s.apply(a,t)},this.getModule=function(e){return this.modules[e]||this.modules.editor};var n=this.bindCustomEvent=function(e,t,n){return function(){var i=t[X.namespaceToCamel(n,"on")];return i&&i.apply(e[0],arguments),e.trigger("materialnote."+n,arguments)}};this.insertImages=function(i,o){var r=i.editor(),a=i.editable(),s=i.holder(),l=a.data("callbacks"),d=r.data("options");l.onImageUpload?n(s,l,"image.upload")(o):e.each(o,function(e,i){var o=i.name;d.maximumImageFileSize&&d.maximumImageFileSize<i.size?n(s,l,"image.upload.error")(d.langInfo.image.maximumFileSizeError):ie.readFileAsDataURL(i).then(function(e){t.editor.insertImage(a,e,o)}).fail(function(){n(s,l,"image.upload.error")(d.langInfo.image.maximumFileSizeError)})})};var i={showLinkDialog:function(e){t.linkDialog.show(e)},showImageDialog:function(e){t.imageDialog.show(e)},showHelpDialog:function(e){t.helpDialog.show(e)},fullscreen:function(e){t.fullscreen.toggle(e)},codeview:function(e){t.codeview.toggle(e)}},o=function(e){te.isImg(e.target)&&e.preventDefault()},r=function(e){var n=te.makeLayoutInfo(e.currentTarget||e.target);t.editor.removeBogus(n.editable()),a(e)},a=function(e){setTimeout(function(){var n=te.makeLayoutInfo(e.currentTarget||e.target),i=t.editor.currentStyle(e.target);if(i){var o=n.editor().data("options").airMode;o||t.toolbar.update(n.toolbar(),i),t.popover.update(n.popover(),i,o),t.handle.update(n.handle(),i,o)}},0)},s=function(e){var n=te.makeLayoutInfo(e.currentTarget||e.target);t.popover.hide(n.popover()),t.handle.hide(n.handle())},l=function(t){e(t.target).closest("[data-event]").length&&t.preventDefault()},d=function(n){var o=e(n.target).closest("[data-event]");if(o.length){var r,s=o.attr("data-event"),l=o.attr("data-value"),d=o.attr("data-hide"),c=te.makeLayoutInfo(n.target);if(-1!==e.inArray(s,["resize","floatMe","removeMedia","imageShape","imageClass"])){var u=c.handle().find(".note-control-selection");r=e(u.data("target"))}if(d&&o.parents(".popover").hide(),e.isFunction(e.materialnote.pluginEvents[s]))e.materialnote.pluginEvents[s](n,t.editor,c,l);else if(t.editor[s]){var f=c.editable();f.focus(),t.editor[s](f,l,r),n.preventDefault()}else i[s]&&(i[s].call(this,c),n.preventDefault());if(-1!==e.inArray(s,["backColor","foreColor"])){var h=c.editor().data("options",h);(h.airMode?t.popover:t.toolbar).updateRecentColor($.head(o),s,l)}a(n)}};this.bindKeyMap=function(n,o){var r=n.editor(),a=n.editable();a.on("keydown",function(s){var l=[];s.metaKey&&l.push("CMD"),s.ctrlKey&&!s.altKey&&l.push("CTRL"),s.shiftKey&&l.push("SHIFT");var d,c=oe.nameFromCode[s.keyCode];c&&l.push(c);var u=l.join("+"),f=o[u];if(f){if(d=e.materialnote.pluginEvents[u],e.isFunction(d)&&d(s,t.editor,n))return!1;d=e.materialnote.pluginEvents[f],e.isFunction(d)?d(s,t.editor,n):t.editor[f]?(t.editor[f](a,r.data("options")),s.preventDefault()):i[f]&&(i[f].call(this,n),s.preventDefault())}else oe.isEdit(s.keyCode)&&t.editor.afterCommand(a)})},this.attach=function(n,i){i.shortcuts&&this.bindKeyMap(n,i.keyMap[G.isMac?"mac":"pc"]),n.editable().on("mousedown",o),n.editable().on("keyup mouseup",r),n.editable().on("scroll",s),t.clipboard.attach(n,i),t.handle.attach(n,i),n.popover().on("click",d),n.popover().on("mousedown",l),t.dragAndDrop.attach(n,i),i.airMode||(n.toolbar().on("click",d),n.toolbar().on("mousedown",l),t.statusbar.attach(n,i)),(i.airMode?n.popover():n.toolbar()).find(".note-dimension-picker-mousecatcher").css({width:26*i.insertTableMaxSize.col+"px",height:26*i.insertTableMaxSize.row+"px"}).on("mousemove",function(t){!function(t,n){var i,o=e(t.target.parentNode),r=o.parent(),a=o.next(),s=o.find(".note-dimension-picker-mousecatcher"),l=o.find(".note-dimension-picker-highlighted"),d=o.find(".note-dimension-picker-unhighlighted"),c=r.find("[id$='-hoverable']"),u=r.find("[id$='-bordered']"),f=r.find("[id$='-striped']"),h=r.find("[id$='-responsive']");if(void 0===t.offsetX){var p=e(t.target).offset();i={x:t.pageX-p.left,y:t.pageY-p.top}}else i={x:t.offsetX,y:t.offsetY};var v=Math.ceil(i.x/26)||1,g=Math.ceil(i.y/26)||1,m=[];c.is(":checked")&&m.push("hoverable"),u.is(":checked")&&m.push("bordered"),f.is(":checked")&&m.push("striped"),h.is(":checked")&&m.push("responsive-table"),l.css({width:26*v+"px",height:26*g+"px"}),s.attr("data-value",v+"x"+g+"x"+m.join("x")),d.css({width:26*n.insertTableMaxSize+"px"}),3<g&&g<n.insertTableMaxSize.row&&d.css({height:26*(g+1)+"px"}),a.html(v+" x "+g)}(t,i)}),n.editor().data("options",i),G.isMSIE||setTimeout(function(){document.execCommand("styleWithCSS",0,i.styleWithSpan)},0);var a=new re(n.editable());n.editable().data("NoteHistory",a),n.editable().data("callbacks",{onInit:i.onInit,onFocus:i.onFocus,onBlur:i.onBlur,onKeydown:i.onKeydown,onKeyup:i.onKeyup,onMousedown:i.onMousedown,onEnter:i.onEnter,onPaste:i.onPaste,onBeforeCommand:i.onBeforeCommand,onChange:i.onChange,onImageUpload:i.onImageUpload,onImageUploadError:i.onImageUploadError,onMediaDelete:i.onMediaDelete,onToolbarClick:i.onToolbarClick}),te.isTextarea($.head(n.holder()))&&n.holder().closest("form").submit(function(){n.holder().val(n.holder().code())})},this.attachCustomEvent=function(t,i){var o=t.holder(),r=t.editable(),a=r.data("callbacks");r.focus(n(o,a,"focus")),r.blur(n(o,a,"blur")),r.keydown(function(e){e.keyCode===oe.code.ENTER&&n(o,a,"enter").call(this,e),n(o,a,"keydown").call(this,e)}),r.keyup(n(o,a,"keyup")),r.on("mousedown",n(o,a,"mousedown")),r.on("mouseup",n(o,a,"mouseup")),r.on("scroll",n(o,a,"scroll")),r.on("paste",n(o,a,"paste"));var s=G.isMSIE?"DOMCharacterDataModified DOMSubtreeModified DOMNodeInserted":"input";r.on(s,function(){hasChangeListener(o,a)&&n(o,a,"change")(r.html(),r)}),i.airMode||(t.toolbar().click(n(o,a,"toolbar.click")),t.popover().click(n(o,a,"popover.click"))),te.isTextarea($.head(o))&&o.closest("form").submit(function(e){n(o,a,"submit").call(this,e,o.code())}),n(o,a,"init")(t);for(var l=0,d=e.materialnote.plugins.length;l<d;l++)e.isFunction(e.materialnote.plugins[l].init)&&e.materialnote.plugins[l].init(t)},this.detach=function(e,t){e.holder().off(),e.editable().off(),e.popover().off(),e.handle().off(),e.dialog().off(),t.airMode||(e.dropzone().off(),e.toolbar().off(),e.statusbar().off())}};e.extend(e.materialnote,{renderer:we,eventHandler:Te,core:{agent:G,list:$,dom:te,range:ne},pluginEvents:{},plugins:[]}),e.materialnote.addPlugin=function(t){e.materialnote.plugins.push(t),t.buttons&&e.each(t.buttons,function(e,t){we.addButtonInfo(e,t)}),t.dialogs&&e.each(t.dialogs,function(e,t){we.addDialogInfo(e,t)}),t.events&&e.each(t.events,function(t,n){e.materialnote.pluginEvents[t]=n}),t.langs&&e.each(t.langs,function(t,n){e.materialnote.lang[t]&&e.extend(e.materialnote.lang[t],n)}),t.options&&e.extend(e.materialnote.options,t.options)},e.fn.extend({materialnote:function(){var t=e.type($.head(arguments)),n="string"===t,i="object"===t,o=i?$.head(arguments):{};if((o=e.extend({},e.materialnote.options,o)).icons=e.extend({},e.materialnote.options.icons,o.icons),o.langInfo=e.extend(!0,{},e.materialnote.lang["en-US"],e.materialnote.lang[o.lang]),!n&&i)for(var r=0,a=e.materialnote.plugins.length;r<a;r++){var s=e.materialnote.plugins[r];o.plugin[s.name]&&(e.materialnote.plugins[r]=e.extend(!0,s,o.plugin[s.name]))}this.each(function(t,n){materialUniqueId="note-editor-"+X.uniqueId();var i=e(n);if(!we.hasNoteEditor(i)){we.createLayout(i,o);var r=we.layoutInfoFromHolder(i);i.data("layoutInfo",r),Te.attach(r,o),Te.attachCustomEvent(r,o)}});var l=this.first();if(l.length){var d=we.layoutInfoFromHolder(l);if(n){var c=$.head($.from(arguments)),u=$.tail($.from(arguments)),f=[c,d.editable()].concat(u);return Te.invoke.apply(Te,f)}o.focus&&d.editable().focus()}return e(this).each(function(t,n){var i,o,r,a=!1;if(e(n).hasClass("note-air-editor")){var s=e(this).attr("id");s&&(s=s.substring(s.lastIndexOf("-")+1,s.length)),o=(n=e("#note-popover-"+s).find(".note-air-popover")).find("ul.tabs"),i=n.find("li.tab a"),r=e(n).find(".popover-content button.dropdown"),a=!0}else o=(n=e(n).next(".note-editor")).find("ul.tabs"),i=n.find("li.tab a"),r=e(n).find(".note-toolbar button.dropdown");var l=!0;e(window).click(function(e){l&&n.find("ul.dropdown-menu").slideUp(200),l=!0,e.stopPropagation()}),r.each(function(t,o){!function(t,o){var s=e(t).next("ul.dropdown-menu");e(t).parent(".btn-group"),s.slideUp(0),e(".preventDropClose").click(function(e){e.stopPropagation()}),e(t).click(function(i){var l=Math.round(e(t).parent(".btn-group").offset().left-r.offset().left),d=parseInt(s.css("border-left-width")),c=n.outerWidth(),u=d;s.css({"max-width":c+"px"});var f=s.outerWidth()+l;f>=c&&(u=f-c,a||(u+=d)),s.css({left:"-"+u+"px"});var h=!0;s.is(":visible")&&(h=!1),o.find("ul.dropdown-menu").slideUp(200),h&&s.slideToggle(200),i.stopPropagation()}),i.unbind().click(function(e){l=!1})}(o,n)}),o.tabs()}),this},code:function(t){if(void 0===t){var n=this.first();if(!n.length)return;var i=we.layoutInfoFromHolder(n),o=i&&i.editable();if(o&&o.length){var r=Te.invoke("codeview.isActivated",i);return Te.invoke("codeview.sync",i),r?i.codable().val():i.editable().html()}return te.value(n)}return this.each(function(n,i){var o=we.layoutInfoFromHolder(e(i)),r=o&&o.editable();r&&r.html(t)}),this},destroy:function(){return this.each(function(t,n){var i=e(n);if(we.hasNoteEditor(i)){var o=we.layoutInfoFromHolder(i),r=o.editor().data("options");Te.detach(o,r),we.removeLayout(i,o,r)}}),this}})}),function(e){e.fn.ckTooltip=function(t){var n=null,i=!1,o=null;return t=e.extend({delay:350},t),this.each(function(){var r=e(this),a=e("<span></span>").text(r.attr("data-tooltip")),s=e("<div></div>");s.addClass("material-tooltip").append(a),s.appendTo(e("body"));var l=e("<div></div>").addClass("backdrop");l.appendTo(s),l.css({top:0,left:0}),e.event.special.destroyed={remove:function(e){e.handler&&e.handler()}},e(this).bind("destroyed",function(){s.remove()}),e(this).on({mouseenter:function(e){var a=r.data("delay");a=void 0===a||""===a?t.delay:a,n=0,o=setInterval(function(){if((n+=10)>=a&&!1===i){i=!0,s.css({display:"block",left:"0px",top:"0px"}),s.children("span").text(r.attr("data-tooltip"));var e=r.outerWidth(),t=r.outerHeight(),o=r.attr("data-position"),d=s.outerHeight(),c=s.outerWidth(),u="0px",f="0px",h=8;"top"===o?(s.css({top:r.offset().top-d-5,left:r.offset().left+e/2-c/2}),u="-10px",l.css({borderRadius:"14px 14px 0 0",transformOrigin:"50% 90%",marginTop:d,marginLeft:c/2-l.width()/2})):"left"===o?(s.css({top:r.offset().top+t/2-d/2,left:r.offset().left-c-5}),f="-10px",l.css({width:"14px",height:"14px",borderRadius:"14px 0 0 14px",transformOrigin:"95% 50%",marginTop:d/2,marginLeft:c})):"right"===o?(s.css({top:r.offset().top+t/2-d/2,left:r.offset().left+e+5}),f="+10px",l.css({width:"14px",height:"14px",borderRadius:"0 14px 14px 0",transformOrigin:"5% 50%",marginTop:d/2,marginLeft:"0px"})):(s.css({top:r.offset().top+r.outerHeight()+5,left:r.offset().left+e/2-c/2}),u="+10px",l.css({marginLeft:c/2-l.width()/2})),(h=c/8)<8&&(h=8),"right"!==o&&"left"!==o||(h=c/10)<6&&(h=6),s.velocity({opacity:1,marginTop:u,marginLeft:f},{duration:150,queue:!1}),l.css({display:"block"}).velocity({opacity:1},{duration:50,delay:0,queue:!1}).velocity({scale:h},{duration:150,delay:0,queue:!1,easing:"easeInOutQuad"})}},10)},mouseleave:function(){clearInterval(o),n=0,s.velocity({opacity:0,marginTop:0,marginLeft:0},{duration:150,queue:!1,delay:50}),l.velocity({opacity:0,scale:1},{duration:150,delay:50,queue:!1,complete:function(){l.css("display","none"),s.css("display","none"),i=!1}})}})})}}(jQuery);
\ No newline at end of file
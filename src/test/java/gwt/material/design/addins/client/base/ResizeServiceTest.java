@@ -0,0 +1,171 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.base;
+
+import com.google.gwt.dom.client.Style;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.ui.RootPanel;
+import gwt.material.design.addins.client.MaterialTestCase;
+import gwt.material.design.client.ui.MaterialPanel;
+
+/**
+ * Test case for the shared {@link ResizeService}, the observer notifications are simulated
+ * with {@link ResizeService#onObserved} and flushed synchronously.
+ */
+public class ResizeServiceTest extends MaterialTestCase {
+
+    public void testSizeDedup() {
+        // given
+        MaterialPanel panel = createPanel();
+        final int[] resized = {0, 0, 0};
+        HandlerRegistration registration = ResizeService.subscribe(panel, (width, height) -> {
+            resized[0]++;
+            resized[1] = width;
+            resized[2] = height;
+        });
+
+        // when
+        ResizeService.onObserved(panel.getElement());
+        ResizeService.flush();
+
+        // then
+        assertEquals(0, resized[0]);
+
+        // when
+        panel.getElement().getStyle().setWidth(200, Style.Unit.PX);
+        ResizeService.onObserved(panel.getElement());
+        ResizeService.onObserved(panel.getElement());
+        ResizeService.flush();
+        ResizeService.flush();
+
+        // then
+        assertEquals(1, resized[0]);
+        assertEquals(200, resized[1]);
+        assertEquals(50, resized[2]);
+
+        registration.removeHandler();
+        panel.removeFromParent();
+    }
+
+    public void testUnsubscribeOnDetach() {
+        // given
+        MaterialPanel panel = createPanel();
+        final int[] resized = {0};
+        HandlerRegistration registration = ResizeService.subscribe(panel, (width, height) -> resized[0]++);
+
+        // when
+        panel.removeFromParent();
+        panel.getElement().getStyle().setWidth(200, Style.Unit.PX);
+        ResizeService.onObserved(panel.getElement());
+        ResizeService.flush();
+
+        // then
+        assertEquals(0, resized[0]);
+
+        // when
+        RootPanel.get().add(panel);
+        panel.getElement().getStyle().setWidth(300, Style.Unit.PX);
+        ResizeService.onObserved(panel.getElement());
+        ResizeService.flush();
+
+        // then
+        assertEquals(1, resized[0]);
+
+        // when
+        registration.removeHandler();
+        panel.getElement().getStyle().setWidth(400, Style.Unit.PX);
+        ResizeService.onObserved(panel.getElement());
+        ResizeService.flush();
+
+        // then
+        assertEquals(1, resized[0]);
+        panel.removeFromParent();
+    }
+
+    public void testSeveralSubscriptions() {
+        // given
+        MaterialPanel panel = createPanel();
+        final int[] resized = {0, 0};
+        HandlerRegistration first = ResizeService.subscribe(panel, (width, height) -> resized[0]++);
+        HandlerRegistration second = ResizeService.subscribe(panel, (width, height) -> resized[1]++);
+
+        // when
+        panel.getElement().getStyle().setWidth(200, Style.Unit.PX);
+        ResizeService.onObserved(panel.getElement());
+        ResizeService.flush();
+
+        // then both handlers are called
+        assertEquals(2, ResizeService.getSubscriptionCount(panel.getElement()));
+        assertEquals(1, resized[0]);
+        assertEquals(1, resized[1]);
+
+        // when
+        first.removeHandler();
+        panel.getElement().getStyle().setWidth(300, Style.Unit.PX);
+        ResizeService.onObserved(panel.getElement());
+        ResizeService.flush();
+
+        // then the other subscription is kept
+        assertEquals(1, ResizeService.getSubscriptionCount(panel.getElement()));
+        assertEquals(1, resized[0]);
+        assertEquals(2, resized[1]);
+
+        // when
+        second.removeHandler();
+
+        // then
+        assertEquals(0, ResizeService.getSubscriptionCount(panel.getElement()));
+        panel.removeFromParent();
+    }
+
+    public void testElementSubscription() {
+        // given
+        MaterialPanel panel = createPanel();
+        final int[] resized = {0};
+        HandlerRegistration registration = ResizeService.subscribe(panel.getElement(), (width, height) -> resized[0]++);
+
+        // when
+        panel.getElement().getStyle().setHeight(80, Style.Unit.PX);
+        ResizeService.onObserved(panel.getElement());
+        ResizeService.flush();
+
+        // then
+        assertEquals(1, resized[0]);
+
+        // when
+        registration.removeHandler();
+        panel.getElement().getStyle().setHeight(120, Style.Unit.PX);
+        ResizeService.onObserved(panel.getElement());
+        ResizeService.flush();
+
+        // then
+        assertEquals(1, resized[0]);
+        assertEquals(0, ResizeService.getSubscriptionCount(panel.getElement()));
+        panel.removeFromParent();
+    }
+
+    protected MaterialPanel createPanel() {
+        MaterialPanel panel = new MaterialPanel();
+        panel.getElement().getStyle().setWidth(100, Style.Unit.PX);
+        panel.getElement().getStyle().setHeight(50, Style.Unit.PX);
+        RootPanel.get().add(panel);
+        return panel;
+    }
+}
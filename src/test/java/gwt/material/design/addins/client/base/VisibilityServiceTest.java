@@ -0,0 +1,101 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.base;
+
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import gwt.material.design.addins.client.MaterialTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test case for the shared {@link VisibilityService}, the observer notifications are simulated
+ * with {@link VisibilityService#onObserved}.
+ */
+public class VisibilityServiceTest extends MaterialTestCase {
+
+    public void testNotifications() {
+        // given
+        Element element = Document.get().createDivElement();
+        List<Boolean> first = new ArrayList<>();
+        List<Boolean> second = new ArrayList<>();
+        int observed = VisibilityService.getObservedCount();
+        VisibilityService.Registration registration = VisibilityService.observe(element, first::add);
+        VisibilityService.Registration other = VisibilityService.observe(element, "200px", second::add);
+        first.clear();
+        second.clear();
+
+        // when
+        VisibilityService.onObserved(VisibilityService.DEFAULT_ROOT_MARGIN, element, false);
+
+        // then
+        assertEquals(observed + 1, VisibilityService.getObservedCount());
+        assertFalse(registration.isVisible());
+        assertTrue(other.isVisible());
+        assertEquals(1, first.size());
+        assertFalse(first.get(0));
+        assertTrue(second.isEmpty());
+
+        // when
+        VisibilityService.onObserved("200px", element, true);
+
+        // then
+        assertEquals(1, second.size());
+        assertTrue(second.get(0));
+
+        // when
+        registration.removeHandler();
+        VisibilityService.onObserved(VisibilityService.DEFAULT_ROOT_MARGIN, element, true);
+
+        // then
+        assertEquals(1, first.size());
+        assertEquals(observed + 1, VisibilityService.getObservedCount());
+
+        // when
+        other.removeHandler();
+        other.removeHandler();
+
+        // then
+        assertEquals(observed, VisibilityService.getObservedCount());
+    }
+
+    public void testRemoveWhileNotified() {
+        // given
+        Element element = Document.get().createDivElement();
+        int[] calls = {0};
+        VisibilityService.Registration[] registrations = new VisibilityService.Registration[2];
+        registrations[0] = VisibilityService.observe(element, visible -> {
+            calls[0]++;
+            if (registrations[1] != null) {
+                registrations[1].removeHandler();
+            }
+        });
+        registrations[1] = VisibilityService.observe(element, visible -> calls[0]++);
+        calls[0] = 0;
+
+        // when
+        VisibilityService.onObserved(VisibilityService.DEFAULT_ROOT_MARGIN, element, true);
+
+        // then the handler removed during the notification is not called
+        assertEquals(1, calls[0]);
+        registrations[0].removeHandler();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.ui;
+
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.core.client.GWT;
+import gwt.material.design.addins.client.MaterialTestCase;
+import gwt.material.design.addins.client.avatar.MaterialAvatar;
+import gwt.material.design.addins.client.avatar.identicon.Identicon;
+import gwt.material.design.addins.client.avatar.identicon.Md5;
+import gwt.material.design.addins.client.avatar.js.JsAvatar;
+
+/**
+ * Benchmark of the Java identicons against the jdenticon JS path. It is kept out of the unit suite,
+ * run it with <code>mvn test -Dtest=MaterialAvatarBenchmark</code>.
+ */
+public class MaterialAvatarBenchmark extends MaterialTestCase {
+
+    static final int COUNT = 500;
+    static final int SIZE = 64;
+
+    public void testIdenticonsPerSecond() {
+        // given
+        MaterialAvatar.loadResources();
+        // Warm up both paths
+        run(true, 50);
+        run(false, 50);
+
+        // when
+        double jsTime = run(true, COUNT);
+        double javaTime = run(false, COUNT);
+
+        // then
+        GWT.log("Identicons per second at " + SIZE + "px, js: " + (int) (COUNT * 1000 / jsTime)
+                + ", java: " + (int) (COUNT * 1000 / javaTime));
+    }
+
+    protected double run(boolean js, int count) {
+        double start = Duration.currentTimeMillis();
+        for (int i = 0; i < count; i++) {
+            if (js) {
+                JsAvatar.toSvg(JsAvatar.md5("user" + i), SIZE);
+            } else {
+                Identicon.toSvg(Md5.hex("user" + i), SIZE);
+            }
+        }
+        return Math.max(1, Duration.currentTimeMillis() - start);
+    }
+}
@@ -19,8 +19,12 @@
  */
 package gwt.material.design.addins.client.ui;
 
+import com.google.gwt.canvas.client.Canvas;
 import gwt.material.design.addins.client.MaterialWidgetTest;
 import gwt.material.design.addins.client.avatar.MaterialAvatar;
+import gwt.material.design.addins.client.avatar.identicon.CanvasIdenticonRenderer;
+import gwt.material.design.addins.client.avatar.identicon.Identicon;
+import gwt.material.design.addins.client.avatar.identicon.Md5;
 import gwt.material.design.addins.client.avatar.js.JsAvatar;
 
 /**
@@ -54,7 +58,7 @@ public class MaterialAvatarTest extends MaterialWidgetTest<MaterialAvatar> {
     protected void checkValue(MaterialAvatar avatar) {
         // when / then
         final String NAME = "test1";
-        final String HASH_CODE = JsAvatar.md5(NAME);
+        final String HASH_CODE = Md5.hex(NAME);
         avatar.setValue(NAME);
         assertEquals(NAME, avatar.getValue());
         assertTrue(avatar.getElement().hasAttribute("data-jdenticon-hash"));
@@ -121,4 +125,55 @@ public class MaterialAvatarTest extends MaterialWidgetTest<MaterialAvatar> {
         assertTrue(avatar.getElement().hasAttribute("height"));
         assertEquals(HEIGHT, avatar.getElement().getAttribute("height"));
     }
+
+    public void testJavaIdenticon() {
+        // given
+        MaterialAvatar.loadResources();
+
+        // when / then
+        for (String name : new String[]{"test1", "kevzlou7979", "h\u00e9llo w\u00f6rld", ""}) {
+            String hash = Md5.hex(name);
+            assertEquals(JsAvatar.md5(name), hash);
+            assertEquals(JsAvatar.toSvg(hash, 64), Identicon.toSvg(hash, 64));
+        }
+    }
+
+    public void testIdenticonMatchesJdenticon() {
+        // given
+        MaterialAvatar.loadResources();
+
+        // when / then
+        for (int size : new int[]{40, 50, 64, 100}) {
+            for (int i = 0; i < 100; i++) {
+                String hash = Md5.hex("user" + i);
+                assertEquals("user" + i + " at " + size, JsAvatar.toSvg(hash, size), Identicon.toSvg(hash, size));
+            }
+        }
+    }
+
+    public void testCanvasIdenticonCentered() {
+        Canvas canvas = Canvas.createIfSupported();
+        if (canvas == null) {
+            return;
+        }
+        // given
+        canvas.setCoordinateSpaceWidth(100);
+        canvas.setCoordinateSpaceHeight(61);
+
+        // when
+        CanvasIdenticonRenderer wide = new CanvasIdenticonRenderer(canvas.getContext2d(), 100, 61);
+        CanvasIdenticonRenderer tall = new CanvasIdenticonRenderer(canvas.getContext2d(), 61, 100);
+        CanvasIdenticonRenderer square = new CanvasIdenticonRenderer(canvas.getContext2d(), 64, 64);
+
+        // then
+        assertEquals(61, wide.getSize());
+        assertEquals(19, wide.getOffsetX());
+        assertEquals(0, wide.getOffsetY());
+        assertEquals(61, tall.getSize());
+        assertEquals(0, tall.getOffsetX());
+        assertEquals(19, tall.getOffsetY());
+        assertEquals(64, square.getSize());
+        assertEquals(0, square.getOffsetX());
+        assertEquals(0, square.getOffsetY());
+    }
 }
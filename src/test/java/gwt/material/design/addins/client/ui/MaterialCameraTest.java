@@ -19,8 +19,16 @@
  */
 package gwt.material.design.addins.client.ui;
 
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.user.client.ui.RootPanel;
 import gwt.material.design.addins.client.MaterialWidgetTest;
+import gwt.material.design.addins.client.base.js.Blob;
+import gwt.material.design.addins.client.camera.Html5Camera;
 import gwt.material.design.addins.client.camera.MaterialCameraCapture;
+import gwt.material.design.addins.client.camera.constants.CameraCaptureMode;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Test case for camera component
@@ -87,4 +95,125 @@ public class MaterialCameraTest extends MaterialWidgetTest<MaterialCameraCapture
         assertFalse(cameraCapture.isPauseOnUnload());
         cameraCapture.reload();
     }
+
+    public void testContinuousCapture() {
+        // given
+        MaterialCameraCapture cameraCapture = getWidget();
+
+        // when
+        cameraCapture.setCaptureSize(640, 480);
+        cameraCapture.startContinuousCapture(10, "image/jpeg", 0.8, (frame, done) -> done.call());
+
+        // then
+        assertEquals(640, cameraCapture.getCaptureMaxWidth());
+        assertEquals(480, cameraCapture.getCaptureMaxHeight());
+        assertTrue(cameraCapture.isContinuousCapture());
+        assertEquals(0, cameraCapture.getDroppedFrames());
+
+        // when
+        cameraCapture.removeFromParent();
+
+        // then
+        assertFalse(cameraCapture.isContinuousCapture());
+    }
+
+    public void testHtml5CameraObjectUrl() {
+        // given
+        ObjectUrlTestCamera camera = new ObjectUrlTestCamera();
+        camera.setCaptureMode(CameraCaptureMode.OBJECT_URL);
+        RootPanel.get().add(camera);
+        List<String> values = new ArrayList<>();
+        camera.addValueChangeHandler(event -> values.add(event.getValue()));
+        Blob first = createBlob("first");
+        Blob second = createBlob("second");
+
+        // when
+        camera.capture(first);
+
+        // then
+        assertSame(first, camera.getBlob());
+        assertEquals("blob:1", camera.getValue());
+        assertEquals(1, values.size());
+        assertTrue(camera.revoked.isEmpty());
+
+        // when
+        camera.capture(second);
+
+        // then the previous object url is released
+        assertSame(second, camera.getBlob());
+        assertEquals("blob:2", camera.getValue());
+        assertEquals(1, camera.revoked.size());
+        assertEquals("blob:1", camera.revoked.get(0));
+
+        // when
+        camera.removeFromParent();
+
+        // then
+        assertNull(camera.getBlob());
+        assertEquals(2, camera.revoked.size());
+        assertEquals("blob:2", camera.revoked.get(1));
+    }
+
+    public void testHtml5CameraDownscaleFallback() {
+        if (!hasBlob()) {
+            return;
+        }
+        // given
+        ObjectUrlTestCamera camera = new ObjectUrlTestCamera();
+        camera.setCaptureMode(CameraCaptureMode.OBJECT_URL);
+        camera.setMaxSize(100, 100);
+        RootPanel.get().add(camera);
+        // Not an image, the downscale can not decode it and keeps the original
+        camera.file = createBlob("not an image");
+
+        // when
+        delayTestFinish(5000);
+        camera.addValueChangeHandler(event -> {
+            // then
+            assertSame(camera.file, camera.getBlob());
+            assertEquals("blob:1", event.getValue());
+            camera.removeFromParent();
+            assertEquals(1, camera.revoked.size());
+            finishTest();
+        });
+        camera.captureFile();
+    }
+
+    protected native boolean hasBlob() /*-{
+        return !!($wnd.Blob && $wnd.URL && $wnd.URL.createObjectURL);
+    }-*/;
+
+    protected native Blob createBlob(String content) /*-{
+        return $wnd.Blob ? new $wnd.Blob([content], {type: 'image/png'}) : {size: content.length, type: 'image/png'};
+    }-*/;
+
+    static class ObjectUrlTestCamera extends Html5Camera {
+
+        final List<String> revoked = new ArrayList<>();
+        Blob file;
+        int urls;
+
+        void capture(Blob blob) {
+            setBlob(blob);
+        }
+
+        void captureFile() {
+            captureToObjectURL();
+        }
+
+        @Override
+        protected Blob toBlob(Element inputElement) {
+            return file;
+        }
+
+        @Override
+        protected String createObjectURL(Blob blob) {
+            return "blob:" + (++urls);
+        }
+
+        @Override
+        protected void revokeObjectURL(String url) {
+            revoked.add(url);
+        }
+    }
 }
@@ -19,15 +19,22 @@
  */
 package gwt.material.design.addins.client.ui;
 
+import com.google.gwt.user.client.ui.Widget;
 import gwt.material.design.addins.client.MaterialWidgetTest;
 import gwt.material.design.addins.client.base.constants.AddinsCssName;
 import gwt.material.design.addins.client.carousel.MaterialCarousel;
 import gwt.material.design.addins.client.carousel.constants.CarouselType;
 import gwt.material.design.addins.client.carousel.events.*;
 import gwt.material.design.addins.client.carousel.js.JsCarouselOptions;
+import gwt.material.design.client.ui.MaterialImage;
+import gwt.material.design.client.ui.MaterialLabel;
 import gwt.material.design.client.ui.MaterialPanel;
 import gwt.material.design.client.ui.MaterialTab;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 public class MaterialCarouselTest extends MaterialWidgetTest<MaterialCarousel> {
 
     @Override
@@ -126,6 +133,100 @@ public class MaterialCarouselTest extends MaterialWidgetTest<MaterialCarousel> {
         assertEquals(100, carousel.getAutoplaySpeed());
         carousel.setEdgeFriction(10);
         assertEquals(10.0, carousel.getEdgeFriction());
+        carousel.setLazyImages(true);
+        assertTrue(carousel.isLazyImages());
+        carousel.setLazyImageRange(2);
+        assertEquals(2, carousel.getLazyImageRange());
+    }
+
+    public void testVirtualSlides() {
+        // given
+        MaterialCarousel carousel = getWidget(false);
+        int[] rendered = {0};
+
+        // when
+        carousel.setVirtualSlides(100, index -> {
+            rendered[0]++;
+            return new MaterialPanel();
+        });
+
+        // then
+        assertTrue(carousel.isVirtual());
+        assertEquals(100, carousel.getVirtualCount());
+        assertEquals(0, carousel.getWindowStart());
+        assertEquals(5, carousel.getContainer().getWidgetCount());
+        assertEquals(5, rendered[0]);
+
+        // when
+        carousel.setVirtualWindow(3);
+        carousel.setVirtualSlides(5, index -> new MaterialPanel());
+
+        // then
+        assertEquals(3, carousel.getVirtualWindow());
+        assertEquals(5, carousel.getContainer().getWidgetCount());
+    }
+
+    public void testVirtualNavigation() {
+        // given
+        MaterialCarousel carousel = getWidget();
+        carousel.setVirtualSlides(100, index -> new MaterialLabel(String.valueOf(index)));
+        List<Integer> changes = new ArrayList<>();
+        int[] lifecycle = {0};
+        carousel.addAfterChangeHandler(event -> changes.add(event.getCurrentSlide()));
+        carousel.addInitHandler(event -> lifecycle[0]++);
+        carousel.addDestroyHandler(event -> lifecycle[0]++);
+
+        // when inside the window
+        carousel.goToSlide(3, true);
+
+        // then
+        assertEquals(0, carousel.getWindowStart());
+        assertEquals(3, carousel.getCurrentSlideIndex());
+        assertEquals(Arrays.asList(3), changes);
+
+        // when outside the window
+        carousel.goToSlide(50, true);
+
+        // then
+        assertEquals(48, carousel.getWindowStart());
+        assertEquals(50, carousel.getCurrentSlideIndex());
+        assertEquals(Arrays.asList(3, 50), changes);
+        assertEquals("50", ((MaterialLabel) carousel.getContainer().getWidget(2)).getText());
+        assertEquals(0, lifecycle[0]);
+
+        // when a slide before the window is removed
+        assertTrue(carousel.remove(10));
+
+        // then
+        assertEquals(99, carousel.getVirtualCount());
+        assertEquals(49, carousel.getCurrentSlideIndex());
+        assertEquals(47, carousel.getWindowStart());
+        assertFalse(carousel.remove(99));
+
+        // when / then
+        try {
+            carousel.add(new MaterialPanel());
+            fail("Slides can not be added to a virtual carousel");
+        } catch (IllegalStateException e) {
+            assertEquals(5, carousel.getContainer().getWidgetCount());
+        }
+    }
+
+    public void testLazyValue() {
+        // given
+        MaterialCarousel carousel = getWidget(false);
+        carousel.setLazyImages(true);
+
+        // when
+        carousel.setValue(Arrays.asList("image1.png", "image2.png", "image3.png"));
+
+        // then
+        assertEquals(3, carousel.getContainer().getWidgetCount());
+        for (Widget widget : carousel.getContainer()) {
+            assertTrue(widget instanceof MaterialImage);
+            assertFalse(widget.getElement().hasAttribute("src"));
+            assertTrue(widget.getElement().hasAttribute(MaterialCarousel.LAZY_IMAGE_ATTRIBUTE));
+        }
     }
 
     public void testStructure() {
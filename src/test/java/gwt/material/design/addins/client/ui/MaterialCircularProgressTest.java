@@ -165,6 +165,11 @@ public class MaterialCircularProgressTest extends MaterialWidgetTest<MaterialCir
         // Reverse
         circularProgress.setReverse(true);
         assertTrue(circularProgress.isReverse());
+        // Animation
+        circularProgress.setAnimationDuration(600);
+        assertEquals(600, circularProgress.getAnimationDuration());
+        circularProgress.setProgressEventInterval(100);
+        assertEquals(100, circularProgress.getProgressEventInterval());
     }
 
     public void testValue() {
@@ -180,8 +185,7 @@ public class MaterialCircularProgressTest extends MaterialWidgetTest<MaterialCir
         attachWidget();
 
         // when / then
-        //TODO Check value
-        //checkValue(circularProgress);
+        checkValue(circularProgress);
     }
 
     protected void checkValue(MaterialCircularProgress circularProgress) {
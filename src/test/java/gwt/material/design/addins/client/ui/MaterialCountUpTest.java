@@ -20,6 +20,7 @@
 package gwt.material.design.addins.client.ui;
 
 import gwt.material.design.addins.client.MaterialWidgetTest;
+import gwt.material.design.addins.client.base.FrameScheduler;
 import gwt.material.design.addins.client.countup.MaterialCountUp;
 
 public class MaterialCountUpTest extends MaterialWidgetTest<MaterialCountUp> {
@@ -131,4 +132,44 @@ public class MaterialCountUpTest extends MaterialWidgetTest<MaterialCountUp> {
         countUp.reset();
         assertEquals("0", countUp.getElement().getInnerHTML());
     }
+
+    public void testFormatNumber() {
+        // given
+        MaterialCountUp countUp = getWidget();
+
+        // when
+        countUp.setDecimals(DECIMALS);
+        countUp.setPrefix("$");
+        countUp.setSuffix(" US");
+
+        // then
+        assertEquals("$1,234,567.89 US", countUp.formatNumber(1234567.891));
+        assertEquals("$-1,234.50 US", countUp.formatNumber(-1234.5));
+        assertEquals("$100.00 US", countUp.formatNumber(100));
+
+        // when
+        countUp.setSeparator("");
+        countUp.setDecimal(",");
+
+        // then
+        assertEquals("$1234567,89 US", countUp.formatNumber(1234567.891));
+    }
+
+    public void testReducedMotion() {
+        // given
+        MaterialCountUp countUp = getWidget();
+        boolean[] completed = {false};
+        countUp.setCallback(() -> completed[0] = true);
+
+        // when
+        FrameScheduler.setReducedMotion(true);
+        countUp.start();
+        FrameScheduler.setReducedMotion(false);
+
+        // then
+        assertTrue(completed[0]);
+        assertFalse(countUp.isCounting());
+        assertEquals(END_VALUE, countUp.getFrameValue());
+        assertEquals("100", countUp.getElement().getInnerText());
+    }
 }
@@ -19,15 +19,30 @@
  */
 package gwt.material.design.addins.client.ui;
 
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
 import com.google.gwt.event.shared.GwtEvent;
+import com.google.gwt.user.client.Timer;
+import com.google.gwt.user.client.ui.RootPanel;
 import gwt.material.design.addins.client.MaterialWidgetTest;
 import gwt.material.design.addins.client.base.constants.AddinsCssName;
+import gwt.material.design.addins.client.base.js.Blob;
+import gwt.material.design.addins.client.fileuploader.FileHasher;
 import gwt.material.design.addins.client.fileuploader.MaterialFileUploader;
 import gwt.material.design.addins.client.fileuploader.MaterialUploadCollection;
 import gwt.material.design.addins.client.fileuploader.MaterialUploadHeader;
 import gwt.material.design.addins.client.fileuploader.MaterialUploadPreview;
+import gwt.material.design.addins.client.fileuploader.UploadProgressPipeline;
+import gwt.material.design.addins.client.fileuploader.UploadQueue;
+import gwt.material.design.addins.client.fileuploader.VirtualPreviewList;
+import gwt.material.design.addins.client.fileuploader.base.ImagePreprocessor;
+import gwt.material.design.addins.client.fileuploader.base.PreSendHandler;
+import gwt.material.design.addins.client.fileuploader.base.UploadFile;
 import gwt.material.design.addins.client.fileuploader.constants.FileMethod;
+import gwt.material.design.addins.client.fileuploader.constants.UploadPriority;
 import gwt.material.design.addins.client.fileuploader.events.*;
+import gwt.material.design.addins.client.fileuploader.js.Dropzone;
+import gwt.material.design.addins.client.fileuploader.js.File;
 import gwt.material.design.client.base.MaterialWidget;
 import gwt.material.design.client.constants.CssName;
 import gwt.material.design.client.constants.IconType;
@@ -35,6 +50,10 @@ import gwt.material.design.client.constants.ProgressType;
 import gwt.material.design.client.events.*;
 import gwt.material.design.client.ui.*;
 import gwt.material.design.client.ui.html.Span;
+import gwt.material.design.jquery.client.api.Functions;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Test case for file uploader component
@@ -100,6 +119,533 @@ public class MaterialFileUploaderTest extends MaterialWidgetTest<MaterialFileUpl
         assertTrue(fileUploader.isWithCredentials());
         fileUploader.setWithCredentials(false);
         assertFalse(fileUploader.isWithCredentials());
+        ImagePreprocessor preprocessor = new ImagePreprocessor(800, 600, "image/webp", 0.7);
+        fileUploader.setImagePreprocessor(preprocessor);
+        assertEquals(preprocessor, fileUploader.getImagePreprocessor());
+        assertEquals(800, preprocessor.getMaxWidth());
+        assertEquals(600, preprocessor.getMaxHeight());
+        assertEquals("image/webp", preprocessor.getMimeType());
+        assertEquals(0.7, preprocessor.getQuality());
+        fileUploader.setImagePreprocessor(null);
+        assertNull(fileUploader.getImagePreprocessor());
+        fileUploader.setProgressEventInterval(250);
+        assertEquals(250, fileUploader.getProgressEventInterval());
+        UploadQueue queue = new UploadQueue(4, UploadPriority.SMALLEST_FIRST);
+        fileUploader.setUploadQueue(queue);
+        assertEquals(queue, fileUploader.getUploadQueue());
+        assertEquals(4, queue.getMaxInFlight());
+        assertEquals(UploadPriority.SMALLEST_FIRST, queue.getPriority());
+        queue.pause();
+        assertTrue(queue.isPaused());
+        assertTrue(queue.getMetrics().isPaused());
+        queue.resume();
+        assertFalse(queue.isPaused());
+        assertEquals(0, queue.getMetrics().getPending());
+        assertEquals(0, queue.getMetrics().getInFlight());
+        fileUploader.setUploadQueue(null);
+        assertNull(fileUploader.getUploadQueue());
+        FileHasher hasher = new FileHasher();
+        hasher.setChunkSize(1024);
+        assertEquals(1024, hasher.getChunkSize());
+        fileUploader.setFileHasher(hasher);
+        assertEquals(hasher, fileUploader.getFileHasher());
+        PreSendHandler preSendHandler = (file, callback) -> callback.send();
+        fileUploader.setPreSendHandler(preSendHandler);
+        assertEquals(preSendHandler, fileUploader.getPreSendHandler());
+        fileUploader.setFileHasher(null);
+        fileUploader.setPreSendHandler(null);
+        fileUploader.setVirtualPreview(true);
+        assertTrue(fileUploader.isVirtualPreview());
+        fileUploader.setVirtualPreview(false);
+        assertFalse(fileUploader.isVirtualPreview());
+    }
+
+    public void testUploadQueueRetry() {
+        // given
+        MaterialFileUploader fileUploader = getWidget(false);
+        RetryTestQueue queue = new RetryTestQueue();
+        queue.setRetryDelay(10);
+        queue.setMaxRetryDelay(40);
+        queue.setMaxRetries(2);
+        queue.start(fileUploader);
+        File file = createFile("photo.png", "1024");
+
+        // when
+        queue.offer(file);
+
+        // then
+        assertEquals(1, queue.sent.size());
+        assertEquals(1, queue.getMetrics().getInFlight());
+        assertEquals(10, queue.getBackoffDelay(1));
+        assertEquals(20, queue.getBackoffDelay(2));
+        assertEquals(40, queue.getBackoffDelay(3));
+        assertEquals(40, queue.getBackoffDelay(4));
+
+        // when / then client errors are not retried
+        assertFalse(queue.retry(file, 404));
+        assertFalse(queue.isRetrying(file));
+
+        // when
+        assertTrue(queue.retry(file, 503));
+
+        // then
+        assertTrue(queue.isRetrying(file));
+        assertEquals(1, queue.getMetrics().getRetrying());
+        assertEquals(0, queue.getMetrics().getInFlight());
+        assertFalse(queue.retry(file, 503));
+
+        delayTestFinish(5000);
+        new Timer() {
+            @Override
+            public void run() {
+                // then the file is sent again once the backoff elapsed
+                assertFalse(queue.isRetrying(file));
+                assertEquals(2, queue.sent.size());
+                assertEquals(1, queue.getMetrics().getInFlight());
+
+                // when
+                assertTrue(queue.retry(file, 500));
+
+                new Timer() {
+                    @Override
+                    public void run() {
+                        // then the retries are exhausted
+                        assertEquals(3, queue.sent.size());
+                        assertFalse(queue.retry(file, 500));
+                        queue.complete(file);
+                        assertEquals(1, queue.getMetrics().getFailed());
+                        assertEquals(0, queue.getMetrics().getInFlight());
+                        finishTest();
+                    }
+                }.schedule(200);
+            }
+        }.schedule(200);
+    }
+
+    protected native File createFile(String name, String size) /*-{
+        return {name: name, size: size, type: 'image/png'};
+    }-*/;
+
+    public void testImagePreprocessor() {
+        // given
+        ImagePreprocessor preprocessor = new ImagePreprocessor(100, 100);
+
+        // when / then transparent formats keep their type unless one is set
+        assertNull(preprocessor.getMimeType());
+        assertEquals("image/png", preprocessor.getTargetType("image/png"));
+        assertEquals("image/webp", preprocessor.getTargetType("image/webp"));
+        assertEquals("image/jpeg", preprocessor.getTargetType("image/bmp"));
+        assertEquals("image/jpeg", preprocessor.getTargetType("image/jpeg"));
+        preprocessor.setMimeType("image/webp");
+        assertEquals("image/webp", preprocessor.getTargetType("image/png"));
+        preprocessor.setMimeType(null);
+
+        // when / then the sent file name matches the new type
+        assertEquals("photo.jpg", ImagePreprocessor.renameFile("photo.bmp", "image/bmp", "image/jpeg"));
+        assertEquals("photo.png", ImagePreprocessor.renameFile("photo.png", "image/png", "image/png"));
+        assertEquals("my.photo.webp", ImagePreprocessor.renameFile("my.photo.png", "image/png", "image/webp"));
+        assertEquals("photo.jpg", ImagePreprocessor.renameFile("photo", "image/bmp", "image/jpeg"));
+
+        if (!canEncodeImages()) {
+            return;
+        }
+        // given a 400x200 png
+        delayTestFinish(10000);
+        createImageFile(400, 200, file -> {
+            // when
+            preprocessor.process(file, error -> {
+                // then
+                assertNull(error);
+                assertNotNull(file.processedBlob);
+                assertEquals("image/png", file.processedBlob.type);
+                UploadFile uploadFile = new PreSendTestUploader().convert(file);
+                assertEquals(file.processedBlob.size, uploadFile.getSentSize());
+                assertTrue(uploadFile.getSentSize() < uploadFile.getOriginalSize());
+                getImageSize(file.processedBlob, size -> {
+                    assertEquals("100x50", size);
+                    finishTest();
+                });
+            });
+        });
+    }
+
+    protected native boolean canEncodeImages() /*-{
+        return !!($wnd.Blob && $wnd.URL && $wnd.HTMLCanvasElement && $wnd.HTMLCanvasElement.prototype.toBlob);
+    }-*/;
+
+    /**
+     * Creates a png of random pixels, so it does not compress below its downscaled size.
+     */
+    protected native void createImageFile(int width, int height, Functions.Func1<File> callback) /*-{
+        var canvas = $doc.createElement("canvas");
+        canvas.width = width;
+        canvas.height = height;
+        var context = canvas.getContext("2d");
+        var image = context.createImageData(width, height);
+        for (var i = 0; i < image.data.length; i++) {
+            image.data[i] = (i % 4 === 3) ? 255 : Math.floor(Math.random() * 256);
+        }
+        context.putImageData(image, 0, 0);
+        canvas.toBlob($entry(function (blob) {
+            callback(blob);
+        }), "image/png");
+    }-*/;
+
+    protected native void getImageSize(Blob blob, Functions.Func1<String> callback) /*-{
+        var url = $wnd.URL.createObjectURL(blob);
+        var image = new $wnd.Image();
+        image.onload = $entry(function () {
+            $wnd.URL.revokeObjectURL(url);
+            callback(image.naturalWidth + "x" + image.naturalHeight);
+        });
+        image.onerror = $entry(function () {
+            $wnd.URL.revokeObjectURL(url);
+            callback(null);
+        });
+        image.src = url;
+    }-*/;
+
+    public void testFileHasherDigest() {
+        if (!hasWorker()) {
+            return;
+        }
+        // given
+        FileHasher hasher = new FileHasher();
+        List<String> digests = new ArrayList<>();
+
+        // when
+        delayTestFinish(20000);
+        hasher.hash(createBlobFile("abc"), digest -> {
+            digests.add(digest);
+            // Spans two slices of the default 4MB chunk size
+            hasher.hash(createLargeFile(4 * 1024 * 1024 + 1024 * 1024 + 3), largeDigest -> {
+                // then
+                assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", digests.get(0));
+                assertEquals("8c777ac1fb03e07e1bb1f050cbf6dc4d752063e272c95e76fca894c76a671b9a", largeDigest);
+                finishTest();
+            });
+        });
+    }
+
+    protected native boolean hasWorker() /*-{
+        return !!($wnd.Worker && $wnd.Blob && $wnd.URL);
+    }-*/;
+
+    protected native File createBlobFile(String content) /*-{
+        return new $wnd.Blob([content]);
+    }-*/;
+
+    /**
+     * Creates a blob of the given size filled with the byte sequence 0, 1, ... 250, 0, 1 ...
+     */
+    protected native File createLargeFile(int size) /*-{
+        var bytes = new $wnd.Uint8Array(size);
+        for (var i = 0; i < size; i++) {
+            bytes[i] = i % 251;
+        }
+        return new $wnd.Blob([bytes]);
+    }-*/;
+
+    public void testPreSendHandler() {
+        // given
+        PreSendTestUploader fileUploader = new PreSendTestUploader();
+        RetryTestQueue queue = new RetryTestQueue();
+        queue.start(fileUploader);
+        fileUploader.setUploadQueue(queue);
+        fileUploader.setFileHasher(new FileHasher() {
+            @Override
+            public void hash(File file, Functions.Func1<String> callback) {
+                callback.call("digest-" + file.name);
+            }
+        });
+        List<String> digests = new ArrayList<>();
+        fileUploader.setPreSendHandler((file, callback) -> {
+            digests.add(file.getDigest());
+            if (file.getName().startsWith("known")) {
+                callback.skip();
+            } else if (file.getName().startsWith("bad")) {
+                callback.reject("Rejected " + file.getName());
+            } else {
+                callback.send();
+            }
+        });
+        List<String> results = new ArrayList<>();
+        File sent = createFile("new.png", "1024");
+        File known = createFile("known.png", "1024");
+        File bad = createFile("bad.png", "1024");
+
+        // when
+        fileUploader.accept(sent, results::add);
+
+        // then
+        assertEquals("digest-new.png", digests.get(0));
+        assertEquals(1, results.size());
+        assertNull(results.get(0));
+        assertEquals(1, queue.sent.size());
+        assertSame(sent, queue.sent.get(0));
+        assertEquals(1, queue.getMetrics().getInFlight());
+        assertEquals(0, queue.getMetrics().getSkipped());
+
+        // when
+        fileUploader.accept(known, results::add);
+
+        // then the file is accepted and finished without being sent
+        assertEquals("digest-known.png", digests.get(1));
+        assertEquals(2, results.size());
+        assertNull(results.get(1));
+        assertEquals(1, queue.sent.size());
+        assertEquals(1, fileUploader.finished.size());
+        assertSame(known, fileUploader.finished.get(0));
+        assertEquals(1, queue.getMetrics().getSkipped());
+        assertEquals(1, queue.getMetrics().getInFlight());
+        assertEquals(0, queue.getMetrics().getPending());
+
+        // when
+        fileUploader.accept(bad, results::add);
+
+        // then the file is rejected with the message
+        assertEquals(3, results.size());
+        assertEquals("Rejected bad.png", results.get(2));
+        assertEquals(1, queue.sent.size());
+        assertEquals(1, fileUploader.finished.size());
+        assertEquals(1, queue.getMetrics().getSkipped());
+        assertEquals(0, queue.getMetrics().getPending());
+    }
+
+    static class PreSendTestUploader extends MaterialFileUploader {
+
+        final List<File> finished = new ArrayList<>();
+
+        void accept(File file, Functions.Func1<String> done) {
+            acceptFile(file, done);
+        }
+
+        UploadFile convert(File file) {
+            return convertUploadFile(file);
+        }
+
+        @Override
+        protected void finishFile(File file) {
+            finished.add(file);
+        }
+    }
+
+    public void testProgressPipeline() {
+        // given
+        MaterialFileUploader fileUploader = new MaterialFileUploader();
+        FrameTestPipeline pipeline = new FrameTestPipeline(fileUploader);
+        pipeline.setEventInterval(100);
+        List<Double> fileEvents = new ArrayList<>();
+        List<Double> totalEvents = new ArrayList<>();
+        fileUploader.addCurrentUploadProgressHandler(event -> fileEvents.add(event.getProgress()));
+        fileUploader.addTotalUploadProgressHandler(event -> totalEvents.add(event.getProgress()));
+        File file = createFile("photo.png", "1024");
+        file.previewElement = Document.get().createDivElement();
+        file.previewElement.setInnerHTML("<div data-dz-uploadprogress></div>");
+
+        // when several callbacks arrive within one frame
+        pipeline.updateFile(file, 10);
+        pipeline.updateFile(file, 20);
+        pipeline.updateFile(file, 30);
+        pipeline.updateTotal(10);
+        pipeline.updateTotal(30);
+        pipeline.frame();
+
+        // then the progress bar is written once and one event of the latest values is fired
+        assertEquals(1, pipeline.writes.size());
+        assertEquals(30.0, pipeline.writes.get(0));
+        assertEquals(1, fileEvents.size());
+        assertEquals(30.0, fileEvents.get(0));
+        assertEquals(1, totalEvents.size());
+        assertEquals(30.0, totalEvents.get(0));
+
+        // when the next frame is within the event interval
+        pipeline.updateFile(file, 60);
+        pipeline.updateFile(file, 100);
+        pipeline.updateTotal(100);
+        pipeline.frame();
+
+        // then the progress bar is written but the events wait for the interval
+        assertEquals(2, pipeline.writes.size());
+        assertEquals(100.0, pipeline.writes.get(1));
+        assertEquals(1, fileEvents.size());
+        assertEquals(1, totalEvents.size());
+
+        delayTestFinish(5000);
+        new Timer() {
+            @Override
+            public void run() {
+                // then the trailing 100% events are fired by the hidden tab flush timer
+                assertEquals(2, pipeline.writes.size());
+                assertEquals(2, fileEvents.size());
+                assertEquals(100.0, fileEvents.get(1));
+                assertEquals(2, totalEvents.size());
+                assertEquals(100.0, totalEvents.get(1));
+                pipeline.clear();
+                finishTest();
+            }
+        }.schedule(UploadProgressPipeline.HIDDEN_FLUSH_DELAY * 2);
+    }
+
+    static class FrameTestPipeline extends UploadProgressPipeline {
+
+        final List<Double> writes = new ArrayList<>();
+
+        FrameTestPipeline(MaterialFileUploader uploader) {
+            super(uploader);
+        }
+
+        void frame() {
+            flush();
+        }
+
+        @Override
+        protected boolean isDocumentHidden() {
+            // Flush on the timer, animation frames are not reliable in the test browser
+            return true;
+        }
+
+        @Override
+        protected void writeProgress(Element element, double progress) {
+            writes.add(progress);
+            super.writeProgress(element, progress);
+        }
+    }
+
+    public void testVirtualPreviewWindow() {
+        // given
+        Element container = Document.get().createULElement();
+        RootPanel.getBodyElement().appendChild(container);
+        WindowTestPreviewList list = new WindowTestPreviewList(container);
+        list.setRowHeight(40);
+        list.setThumbnailPoolSize(2);
+        list.start(createDropzone());
+        List<File> files = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            File file = createFile("photo" + i + ".png", "1024");
+            files.add(file);
+            list.add(file);
+        }
+
+        // when
+        list.update();
+
+        // then only the 400px viewport plus the overscan is rendered
+        assertEquals(300, list.getFileCount());
+        assertEquals(15, list.getRenderedCount());
+        List<Element> rows = getRows(container);
+        assertEquals(15, rows.size());
+        assertEquals("0px", container.getFirstChildElement().getStyle().getHeight());
+        assertEquals("photo0.png", rows.get(0).getFirstChildElement().getInnerText());
+
+        // then at most the pool size of thumbnails are created at once
+        assertEquals(2, list.thumbnailFiles.size());
+        assertEquals(2, list.getThumbnailsInFlight());
+
+        // when one thumbnail is created and the other fails, calling back twice
+        list.thumbnailCallbacks.get(0).call();
+        list.thumbnailCallbacks.get(1).call();
+        list.thumbnailCallbacks.get(1).call();
+
+        // then both slots are released once
+        assertEquals(4, list.thumbnailFiles.size());
+        assertEquals(2, list.getThumbnailsInFlight());
+
+        // when
+        list.scrollTop = 4000;
+        list.update();
+
+        // then the rows are recycled for the new window
+        assertEquals(19, list.getRenderedCount());
+        List<Element> scrolledRows = getRows(container);
+        assertEquals(19, scrolledRows.size());
+        assertTrue(scrolledRows.containsAll(rows));
+        assertEquals("photo96.png", scrolledRows.get(0).getFirstChildElement().getInnerText());
+        assertEquals("3840px", container.getFirstChildElement().getStyle().getHeight());
+        assertEquals("7400px", container.getLastChild().<Element>cast().getStyle().getHeight());
+
+        // when
+        list.thumbnailCallbacks.get(2).call();
+        list.thumbnailCallbacks.get(3).call();
+
+        // then the thumbnails of the rows scrolled away are skipped
+        assertEquals(6, list.thumbnailFiles.size());
+        assertSame(files.get(96), list.thumbnailFiles.get(4));
+        assertSame(files.get(97), list.thumbnailFiles.get(5));
+
+        // when
+        list.stop();
+
+        // then
+        assertEquals(0, list.getRenderedCount());
+        assertEquals(0, container.getChildCount());
+        container.removeFromParent();
+    }
+
+    protected List<Element> getRows(Element container) {
+        List<Element> rows = new ArrayList<>();
+        // Skip the top and bottom spacers
+        for (int i = 1; i < container.getChildCount() - 1; i++) {
+            rows.add(container.getChild(i).cast());
+        }
+        return rows;
+    }
+
+    protected native Dropzone createDropzone() /*-{
+        return {};
+    }-*/;
+
+    static class WindowTestPreviewList extends VirtualPreviewList {
+
+        final List<File> thumbnailFiles = new ArrayList<>();
+        final List<Functions.Func> thumbnailCallbacks = new ArrayList<>();
+        int scrollTop;
+
+        WindowTestPreviewList(Element container) {
+            super(container, "<li class=\"dz-preview\"><span data-dz-name></span><img data-dz-thumbnail/></li>");
+        }
+
+        void start(Dropzone dropzone) {
+            attach(dropzone);
+        }
+
+        void update() {
+            render();
+        }
+
+        void stop() {
+            detach();
+        }
+
+        @Override
+        protected int getScrollTop() {
+            return scrollTop;
+        }
+
+        @Override
+        protected int getViewportHeight() {
+            return 400;
+        }
+
+        @Override
+        protected void createThumbnail(Dropzone dropzone, File file, Functions.Func callback) {
+            thumbnailFiles.add(file);
+            thumbnailCallbacks.add(callback);
+        }
+    }
+
+    static class RetryTestQueue extends UploadQueue {
+
+        final List<File> sent = new ArrayList<>();
+
+        void start(MaterialFileUploader uploader) {
+            attach(uploader, null);
+        }
+
+        @Override
+        protected void send(File file) {
+            sent.add(file);
+        }
     }
 
     @Override
@@ -21,7 +21,9 @@ package gwt.material.design.addins.client.ui;
 
 import gwt.material.design.addins.client.MaterialWidgetTest;
 import gwt.material.design.addins.client.cropper.MaterialImageCropper;
+import gwt.material.design.addins.client.cropper.constants.Format;
 import gwt.material.design.addins.client.cropper.constants.Shape;
+import gwt.material.design.addins.client.cropper.constants.Size;
 import gwt.material.design.addins.client.cropper.events.CropEvent;
 import gwt.material.design.addins.client.cropper.js.JsCropperDimension;
 
@@ -116,6 +118,54 @@ public class MaterialImageCropperTest extends MaterialWidgetTest<MaterialImageCr
 
         cropper.setCustomClass(CUSTOM_CLASS);
         assertEquals(CUSTOM_CLASS, cropper.getCustomClass());
+
+        assertEquals(Size.VIEWPORT, cropper.getResultSize());
+        cropper.setResultSize(Size.ORIGINAL);
+        assertEquals(Size.ORIGINAL, cropper.getResultSize());
+
+        assertEquals(Format.PNG, cropper.getResultFormat());
+        cropper.setResultFormat(Format.JPEG);
+        assertEquals(Format.JPEG, cropper.getResultFormat());
+        cropper.setResultQuality(0.8);
+        assertEquals(0.8, cropper.getResultQuality());
+
+        cropper.setMaxResultSize(VIEWPORT_WIDTH, VIEWPORT_HEIGHT);
+        assertEquals(VIEWPORT_WIDTH, cropper.getMaxResultWidth());
+        assertEquals(VIEWPORT_HEIGHT, cropper.getMaxResultHeight());
+
+        assertTrue(cropper.isUseWorker());
+        cropper.setUseWorker(false);
+        assertFalse(cropper.isUseWorker());
+        cropper.setUseWorker(true);
+    }
+
+    public void testResultScale() {
+        // given
+        ScaleTestCropper cropper = new ScaleTestCropper();
+
+        // then no limit by default
+        assertEquals(1.0, cropper.getResultScale(4000, 3000));
+
+        // when
+        cropper.setMaxResultSize(1000, 0);
+
+        // then
+        assertEquals(0.25, cropper.getResultScale(4000, 3000));
+        assertEquals(1.0, cropper.getResultScale(800, 3000));
+
+        // when
+        cropper.setMaxResultSize(0, 600);
+
+        // then
+        assertEquals(0.2, cropper.getResultScale(4000, 3000), 1e-9);
+        assertEquals(1.0, cropper.getResultScale(4000, 500));
+
+        // when both limits apply, the most restrictive wins
+        cropper.setMaxResultSize(2000, 500);
+
+        // then
+        assertEquals(500 / 3000.0, cropper.getResultScale(4000, 3000), 1e-9);
+        assertEquals(0.5, cropper.getResultScale(4000, 100));
     }
 
     public void testCropEvent() {
@@ -131,4 +181,12 @@ public class MaterialImageCropperTest extends MaterialWidgetTest<MaterialImageCr
         CropEvent.fire(cropper, CROP_RESULT);
         assertTrue(firedCropHandler[0]);
     }
+
+    static class ScaleTestCropper extends MaterialImageCropper {
+
+        @Override
+        protected double getResultScale(double width, double height) {
+            return super.getResultScale(width, height);
+        }
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.ui;
+
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.user.client.ui.RootPanel;
+import gwt.material.design.addins.client.MaterialTestCase;
+import gwt.material.design.addins.client.inputmask.MaterialInputMask;
+import gwt.material.design.addins.client.inputmask.base.MaskPattern;
+
+/**
+ * Benchmark of the mask formatting throughput and the per field init cost. It is kept out of the
+ * unit suite, run it with <code>mvn test -Dtest=MaterialInputMaskBenchmark</code>.
+ */
+public class MaterialInputMaskBenchmark extends MaterialTestCase {
+
+    static final String MASK_REGEX = MaterialInputMaskTest.MASK_REGEX;
+    static final String VALUE = MaterialInputMaskTest.VALUE;
+    static final int COUNT = 20000;
+    static final int FIELDS = 200;
+
+    public void testMaskedValuesPerSecond() {
+        // given
+        MaskPattern pattern = MaskPattern.compile(MASK_REGEX);
+        StringBuilder buffer = new StringBuilder();
+
+        // when
+        double start = Duration.currentTimeMillis();
+        for (int i = 0; i < COUNT; i++) {
+            buffer.setLength(0);
+            pattern.apply(VALUE, false, false, buffer);
+        }
+        double formatTime = Math.max(1, Duration.currentTimeMillis() - start);
+
+        // then
+        GWT.log("Masked values per second: " + (int) (COUNT * 1000 / formatTime));
+    }
+
+    public void testFieldInit() {
+        // given
+        MaterialInputMask[] inputMasks = new MaterialInputMask[FIELDS];
+        for (int i = 0; i < FIELDS; i++) {
+            inputMasks[i] = new MaterialInputMask();
+            inputMasks[i].setMask(MASK_REGEX);
+            inputMasks[i].setValue(VALUE);
+        }
+
+        // when
+        double start = Duration.currentTimeMillis();
+        for (MaterialInputMask inputMask : inputMasks) {
+            RootPanel.get().add(inputMask);
+        }
+        double initTime = Math.max(1, Duration.currentTimeMillis() - start);
+
+        // then
+        GWT.log("Mask field init: " + (initTime / FIELDS) + "ms");
+        for (MaterialInputMask inputMask : inputMasks) {
+            inputMask.removeFromParent();
+        }
+    }
+}
@@ -20,6 +20,7 @@
 package gwt.material.design.addins.client.ui;
 
 import gwt.material.design.addins.client.inputmask.MaterialInputMask;
+import gwt.material.design.addins.client.inputmask.base.MaskPattern;
 import gwt.material.design.addins.client.ui.base.MaterialValueBoxTest;
 
 /**
@@ -95,7 +96,7 @@ public class MaterialInputMaskTest extends MaterialValueBoxTest<MaterialInputMas
         assertEquals(VALUE, inputMask.getValue());
 
         if (checkCleanValue) {
-            //assertEquals(VALUE, inputMask.getCleanValue());
+            assertEquals(VALUE, inputMask.getCleanValue());
         }
     }
 
@@ -108,4 +109,27 @@ public class MaterialInputMaskTest extends MaterialValueBoxTest<MaterialInputMas
         inputMask.clear();
         assertEquals("", inputMask.getValue());
     }
+
+    public void testMaskPattern() {
+        // given
+        MaskPattern ip = MaskPattern.compile(MASK_REGEX);
+        MaskPattern money = MaskPattern.compile("#.##0,00");
+
+        // when / then
+        assertSame(ip, MaskPattern.compile(MASK_REGEX));
+        assertFalse(ip.isRecursive());
+        assertTrue(money.isRecursive());
+        assertEquals("123.456.789.098", ip.format(VALUE, false, false));
+        assertEquals(VALUE, ip.format("123.456.789.098", false, true));
+        assertEquals("12.345,67", money.format("1234567", true, false));
+        assertEquals("1.234.567,89", money.format("123456789", true, false));
+        assertTrue(ip.matches("123.456.789.098"));
+        assertFalse(ip.matches("123.456"));
+        assertTrue(money.matches("0,50"));
+        assertFalse(money.matches("50"));
+
+        StringBuilder buffer = new StringBuilder();
+        assertEquals(3, ip.apply("123a", false, false, buffer));
+        assertEquals("123.", buffer.toString());
+    }
 }
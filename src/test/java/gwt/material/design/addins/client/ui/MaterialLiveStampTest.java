@@ -20,6 +20,7 @@
 package gwt.material.design.addins.client.ui;
 
 import gwt.material.design.addins.client.livestamp.MaterialLiveStamp;
+import gwt.material.design.addins.client.livestamp.RelativeTimeFormat;
 import gwt.material.design.addins.client.ui.base.AbstractValueWidgetTest;
 import gwt.material.design.client.base.AbstractValueWidget;
 
@@ -55,4 +56,37 @@ public class MaterialLiveStampTest extends AbstractValueWidgetTest<MaterialLiveS
         liveStamp.setValue(VALUE);
         assertSame(VALUE.toString(), liveStamp.getValue().toString());
     }
+
+    public void testRelativeTime() {
+        // given
+        RelativeTimeFormat format = RelativeTimeFormat.get();
+        double now = new Date().getTime();
+
+        // when / then
+        assertEquals("a few seconds ago", format.format(now - 10 * RelativeTimeFormat.SECOND, now));
+        assertEquals("a minute ago", format.format(now - 60 * RelativeTimeFormat.SECOND, now));
+        assertEquals("5 minutes ago", format.format(now - 5 * RelativeTimeFormat.MINUTE, now));
+        assertEquals("an hour ago", format.format(now - 50 * RelativeTimeFormat.MINUTE, now));
+        assertEquals("3 hours ago", format.format(now - 3 * RelativeTimeFormat.HOUR, now));
+        assertEquals("a day ago", format.format(now - 30 * RelativeTimeFormat.HOUR, now));
+        assertEquals("4 days ago", format.format(now - 4 * RelativeTimeFormat.DAY, now));
+        assertEquals("in 2 hours", format.format(now + 2 * RelativeTimeFormat.HOUR, now));
+        assertEquals("2 years ago", format.format(now - 730 * RelativeTimeFormat.DAY, now));
+
+        assertEquals(RelativeTimeFormat.SECOND, format.getUpdateInterval(now - 10 * RelativeTimeFormat.SECOND, now));
+        assertEquals(RelativeTimeFormat.MINUTE, format.getUpdateInterval(now - 3 * RelativeTimeFormat.HOUR, now));
+        assertEquals(RelativeTimeFormat.HOUR, format.getUpdateInterval(now - 4 * RelativeTimeFormat.DAY, now));
+    }
+
+    public void testText() {
+        // given
+        MaterialLiveStamp liveStamp = getWidget();
+
+        // when
+        liveStamp.setValue(new Date(new Date().getTime() - 5 * RelativeTimeFormat.MINUTE));
+
+        // then
+        assertEquals("5 minutes ago", liveStamp.getText());
+        assertEquals("5 minutes ago", liveStamp.getElement().getInnerText());
+    }
 }
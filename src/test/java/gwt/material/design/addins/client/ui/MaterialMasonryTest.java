@@ -0,0 +1,226 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.ui;
+
+import com.google.gwt.user.client.ui.RootPanel;
+import com.google.gwt.user.client.ui.Widget;
+import gwt.material.design.addins.client.MaterialWidgetTest;
+import gwt.material.design.addins.client.masonry.MasonryColumnLayout;
+import gwt.material.design.addins.client.masonry.MaterialMasonry;
+import gwt.material.design.addins.client.masonry.constants.MasonryEngine;
+import gwt.material.design.client.ui.MaterialColumn;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test case for Masonry component
+ */
+public class MaterialMasonryTest extends MaterialWidgetTest<MaterialMasonry> {
+
+    @Override
+    protected MaterialMasonry createWidget() {
+        return new MaterialMasonry();
+    }
+
+    public void testBatchLayout() {
+        // given
+        MaterialMasonry masonry = getWidget(false);
+        masonry.setEngine(MasonryEngine.COLUMN);
+        attachWidget();
+        final int[] layouts = {0};
+        masonry.addLayoutCompleteHandler(event -> layouts[0]++);
+
+        // when
+        masonry.addAll(createItems(5));
+
+        // then
+        assertEquals(1, layouts[0]);
+        assertEquals(5, masonry.getItems().size());
+
+        // when
+        masonry.batch(() -> {
+            masonry.add(new MaterialColumn());
+            masonry.batch(() -> masonry.remove(masonry.getItems().get(0)));
+            masonry.add(new MaterialColumn());
+        });
+
+        // then
+        assertEquals(2, layouts[0]);
+        assertEquals(6, masonry.getItems().size());
+
+        // when
+        masonry.removeAll(masonry.getItems().subList(0, 3));
+
+        // then
+        assertEquals(3, layouts[0]);
+        assertEquals(3, masonry.getItems().size());
+    }
+
+    public void testPluginBatchReload() {
+        // given
+        PluginTestMasonry masonry = new PluginTestMasonry();
+        RootPanel.get().add(masonry);
+
+        // when
+        masonry.addAll(createItems(5));
+
+        // then the plugin reloads its items and lays out once
+        assertEquals(1, masonry.reloads);
+        assertEquals(1, masonry.layouts);
+
+        // when
+        masonry.batch(() -> {
+            masonry.add(new MaterialColumn());
+            masonry.batch(() -> masonry.remove(masonry.getItems().get(0)));
+            masonry.add(new MaterialColumn());
+        });
+
+        // then
+        assertEquals(2, masonry.reloads);
+        assertEquals(2, masonry.layouts);
+        assertEquals(6, masonry.getItems().size());
+
+        // when
+        masonry.replaceAll(createItems(3));
+
+        // then
+        assertEquals(3, masonry.reloads);
+        assertEquals(3, masonry.layouts);
+        masonry.removeFromParent();
+    }
+
+    /**
+     * Counts the plugin calls instead of waiting for the plugin scripts and the images to load.
+     */
+    static class PluginTestMasonry extends MaterialMasonry {
+
+        int reloads;
+        int layouts;
+
+        @Override
+        protected void reloadItems() {
+            reloads++;
+        }
+
+        @Override
+        protected void layout() {
+            layouts++;
+        }
+    }
+
+    public void testReplaceAll() {
+        // given
+        MaterialMasonry masonry = getWidget(false);
+        masonry.setEngine(MasonryEngine.COLUMN);
+        attachWidget();
+        masonry.addAll(createItems(4));
+        final int[] layouts = {0};
+        masonry.addLayoutCompleteHandler(event -> layouts[0]++);
+        List<Widget> items = createItems(3);
+
+        // when
+        masonry.replaceAll(items);
+
+        // then
+        assertEquals(1, layouts[0]);
+        assertEquals(items, masonry.getItems());
+        assertTrue(masonry.getChildrenList().contains(masonry.getSizerDiv()));
+    }
+
+    public void testColumnLayout() {
+        // given
+        MasonryColumnLayout layout = new MasonryColumnLayout();
+        layout.setColumnWidth(100);
+        layout.setGutter(10);
+
+        // when
+        layout.reset(340);
+
+        // then
+        assertEquals(3, layout.getColumns());
+        assertEquals(106.66, layout.getItemWidth(), 0.01);
+        assertEquals(53.33, layout.getHeightFor(2), 0.01);
+        assertEquals(0.0, layout.getHeightFor(0));
+        assertEquals(0.0, layout.getHeight());
+
+        // when
+        MasonryColumnLayout.Slot first = layout.place(100);
+        MasonryColumnLayout.Slot second = layout.place(50);
+        MasonryColumnLayout.Slot third = layout.place(70);
+        MasonryColumnLayout.Slot fourth = layout.place(30);
+
+        // then
+        assertEquals(0, first.getColumn());
+        assertEquals(1, second.getColumn());
+        assertEquals(2, third.getColumn());
+        assertEquals(0.0, first.getLeft(), 0.01);
+        assertEquals(116.66, second.getLeft(), 0.01);
+        assertEquals(233.33, third.getLeft(), 0.01);
+        // The shortest column is the second one
+        assertEquals(1, fourth.getColumn());
+        assertEquals(60.0, fourth.getTop());
+        assertEquals(100.0, layout.getHeight());
+
+        // when
+        MasonryColumnLayout.Slot fifth = layout.place(40);
+
+        // then
+        assertEquals(2, fifth.getColumn());
+        assertEquals(80.0, fifth.getTop());
+        assertEquals(120.0, layout.getHeight());
+        assertEquals(5, layout.size());
+    }
+
+    public void testColumnLayoutRightToLeft() {
+        // given
+        MasonryColumnLayout layout = new MasonryColumnLayout();
+        layout.setColumnWidth(100);
+        layout.setOriginLeft(false);
+
+        // when
+        layout.reset(250);
+        MasonryColumnLayout.Slot first = layout.place(10);
+        MasonryColumnLayout.Slot second = layout.place(10);
+
+        // then
+        assertEquals(2, layout.getColumns());
+        assertEquals(125.0, first.getLeft());
+        assertEquals(0.0, second.getLeft());
+
+        // when
+        layout.reset(50);
+
+        // then
+        assertEquals(1, layout.getColumns());
+        assertEquals(50.0, layout.getItemWidth());
+        assertEquals(0, layout.size());
+    }
+
+    protected List<Widget> createItems(int count) {
+        List<Widget> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            MaterialColumn column = new MaterialColumn();
+            column.setHeight((50 + i * 10) + "px");
+            items.add(column);
+        }
+        return items;
+    }
+}
@@ -19,6 +19,8 @@
  */
 package gwt.material.design.addins.client.ui;
 
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.NativeEvent;
 import com.google.gwt.event.logical.shared.SelectionEvent;
 import com.google.gwt.event.logical.shared.SelectionHandler;
 import com.google.gwt.event.shared.GwtEvent;
@@ -139,4 +141,26 @@ public class MaterialPopupMenuTest extends MaterialWidgetTest<MaterialPopupMenu>
         });
         assertTrue(isSelectionFired[0]);
     }
+
+    public void testCloseOnScroll() {
+        // given
+        MaterialPopupMenu popupMenu = getWidget();
+        final int[] closeCount = {0};
+        popupMenu.addCloseHandler(closeEvent -> closeCount[0]++);
+
+        // when
+        popupMenu.open();
+        NativeEvent scroll = Document.get().createHtmlEvent("scroll", false, false);
+        Document.get().getBody().dispatchEvent(scroll);
+
+        // then
+        assertFalse(popupMenu.isVisible());
+        assertEquals(1, closeCount[0]);
+
+        // when
+        Document.get().getBody().dispatchEvent(Document.get().createHtmlEvent("scroll", false, false));
+
+        // then
+        assertEquals(1, closeCount[0]);
+    }
 }
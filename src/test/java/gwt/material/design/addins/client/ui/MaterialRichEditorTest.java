@@ -19,14 +19,21 @@
  */
 package gwt.material.design.addins.client.ui;
 
+import com.google.gwt.dom.client.DivElement;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
 import com.google.gwt.event.dom.client.FocusEvent;
 import com.google.gwt.event.logical.shared.ValueChangeEvent;
 import com.google.gwt.event.logical.shared.ValueChangeHandler;
 import com.google.gwt.event.shared.GwtEvent;
+import com.google.gwt.user.client.ui.RootPanel;
 import gwt.material.design.addins.client.base.constants.AddinsCssName;
 import gwt.material.design.addins.client.richeditor.MaterialRichEditor;
+import gwt.material.design.addins.client.richeditor.base.DeltaTracker;
+import gwt.material.design.addins.client.richeditor.base.constants.ChangeEventMode;
 import gwt.material.design.addins.client.richeditor.base.constants.ToolbarButton;
 import gwt.material.design.addins.client.richeditor.events.PasteEvent;
+import gwt.material.design.addins.client.richeditor.js.JsRichEditorDelta;
 import gwt.material.design.addins.client.ui.base.AbstractValueWidgetTest;
 
 /**
@@ -123,6 +130,83 @@ public class MaterialRichEditorTest extends AbstractValueWidgetTest<MaterialRich
         assertEquals(VALUE, editor.getText());
     }
 
+    public void testChangeEventMode() {
+        // given
+        ChangeTestEditor editor = new ChangeTestEditor();
+        RootPanel.get().add(editor);
+        final int[] dirtyEvents = {0};
+        final int[] valueChangeEvents = {0};
+        editor.addDirtyHandler(event -> dirtyEvents[0]++);
+
+        // when / then
+        assertEquals(ChangeEventMode.IMMEDIATE, editor.getChangeEventMode());
+        editor.setValue("<p>value</p>");
+        assertFalse(editor.isDirty());
+
+        // Without value change handler the editor stays dirty and DirtyEvent fires once
+        editor.change();
+        editor.change();
+        assertTrue(editor.isDirty());
+        assertEquals(1, dirtyEvents[0]);
+
+        editor.markClean();
+        assertFalse(editor.isDirty());
+        editor.change();
+        assertEquals(2, dirtyEvents[0]);
+
+        // Immediate value change events clean the editor
+        editor.addValueChangeHandler(event -> valueChangeEvents[0]++);
+        editor.change();
+        assertEquals(1, valueChangeEvents[0]);
+        assertFalse(editor.isDirty());
+
+        // Debounced value change events are fired once, when flushed
+        editor.setChangeEventMode(ChangeEventMode.DEBOUNCED);
+        editor.setChangeDelay(500);
+        assertEquals(ChangeEventMode.DEBOUNCED, editor.getChangeEventMode());
+        assertEquals(500, editor.getChangeDelay());
+        editor.change();
+        editor.change();
+        editor.change();
+        assertEquals(1, valueChangeEvents[0]);
+        assertTrue(editor.isDirty());
+        assertEquals(3, dirtyEvents[0]);
+        editor.flushValueChange();
+        assertEquals(2, valueChangeEvents[0]);
+        assertFalse(editor.isDirty());
+
+        // The cached HTML is invalidated by the edits
+        editor.setChangeEventMode(ChangeEventMode.ON_DEMAND);
+        String value = editor.getHTML();
+        editor.getEditable().setInnerHTML("<p>edited</p>");
+        assertEquals(value, editor.getHTML());
+        editor.change();
+        assertEquals("<p>edited</p>", editor.getHTML());
+        assertEquals(2, valueChangeEvents[0]);
+
+        editor.removeFromParent();
+    }
+
+    public void testDeltaTracking() {
+        // given
+        MaterialRichEditor editor = getWidget();
+
+        // when
+        editor.setDeltaTracking(true);
+        editor.setHTML("<p>first</p><p>second</p>");
+
+        // then
+        assertTrue(editor.isDeltaTracking());
+        assertNull(editor.getDelta());
+
+        // when
+        editor.setDeltaTracking(false);
+
+        // then
+        assertFalse(editor.isDeltaTracking());
+        assertNull(editor.takeDelta());
+    }
+
     public void testPlaceHolder() {
         // UiBinder
         // given
@@ -205,4 +289,93 @@ public class MaterialRichEditorTest extends AbstractValueWidgetTest<MaterialRich
         });
         assertTrue(isValueChangeEventFired[0]);
     }
+
+    public void testDeltaRoundTrip() {
+        // given
+        final String HTML = "<p>a</p><p>b</p><p>c</p><p>d</p>";
+        DivElement source = createBlocks(HTML);
+        DivElement target = createBlocks(HTML);
+        DivElement local = createBlocks(HTML);
+        DeltaTracker sourceTracker = new DeltaTracker();
+        DeltaTracker targetTracker = new DeltaTracker();
+        DeltaTracker localTracker = new DeltaTracker();
+        sourceTracker.start(source);
+        targetTracker.start(target);
+        localTracker.start(local);
+
+        // when
+        source.getChild(1).getFirstChild().setNodeValue("B");
+        source.insertAfter(createBlocks("<p>x</p>").getFirstChild(), source.getChild(0));
+        source.insertFirst(source.getLastChild());
+        JsRichEditorDelta delta = sourceTracker.getDelta();
+
+        // then
+        assertNotNull(delta);
+        assertEquals(4, delta.baseLength);
+        assertEquals(5, delta.length);
+        targetTracker.apply(delta);
+        assertEquals(source.getInnerHTML(), target.getInnerHTML());
+        assertNull(targetTracker.getDelta());
+
+        // when
+        local.insertFirst(createBlocks("<h1>local</h1>").getFirstChild());
+        localTracker.apply(delta);
+
+        // then
+        assertEquals("<h1>local</h1>" + source.getInnerHTML(), local.getInnerHTML());
+        assertNotNull(localTracker.getDelta());
+
+        // when / then
+        sourceTracker.checkpoint();
+        assertNull(sourceTracker.getDelta());
+        try {
+            DeltaTracker other = new DeltaTracker();
+            other.start(createBlocks("<p>a</p>"));
+            other.apply(delta);
+            fail("A delta from another checkpoint must be rejected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    public void testDeltaTextBlocks() {
+        // given
+        final String HTML = "<p>a</p><p>b</p>";
+        DivElement source = createBlocks(HTML);
+        DivElement target = createBlocks(HTML);
+        DeltaTracker sourceTracker = new DeltaTracker();
+        DeltaTracker targetTracker = new DeltaTracker();
+        sourceTracker.start(source);
+        targetTracker.start(target);
+
+        // when
+        source.insertAfter(Document.get().createTextNode("x < y"), source.getChild(0));
+        source.insertAfter(Document.get().createTextNode("z"), source.getChild(1));
+        targetTracker.apply(sourceTracker.getDelta());
+
+        // then
+        assertEquals(4, target.getChildCount());
+        assertEquals("x < y", target.getChild(1).getNodeValue());
+        assertEquals("z", target.getChild(2).getNodeValue());
+        assertEquals(source.getInnerHTML(), target.getInnerHTML());
+        assertNull(targetTracker.getDelta());
+    }
+
+    protected DivElement createBlocks(String html) {
+        DivElement div = Document.get().createDivElement();
+        div.setInnerHTML(html);
+        return div;
+    }
+
+    static class ChangeTestEditor extends MaterialRichEditor {
+
+        void change() {
+            onChange();
+        }
+
+        @Override
+        protected Element getEditable() {
+            return super.getEditable();
+        }
+    }
 }
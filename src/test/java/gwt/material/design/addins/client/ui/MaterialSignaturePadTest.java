@@ -21,10 +21,16 @@ package gwt.material.design.addins.client.ui;
 
 import gwt.material.design.addins.client.MaterialWidgetTest;
 import gwt.material.design.addins.client.signature.MaterialSignaturePad;
+import gwt.material.design.addins.client.signature.base.SignatureCodec;
+import gwt.material.design.addins.client.signature.base.SignatureStroke;
+import gwt.material.design.addins.client.signature.events.SignatureChangeEvent;
 import gwt.material.design.addins.client.signature.events.SignatureClearEvent;
 import gwt.material.design.addins.client.signature.events.SignatureEndEvent;
 import gwt.material.design.addins.client.signature.events.SignatureStartEvent;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Test case for Signature Pad component
  *
@@ -51,6 +57,22 @@ public class MaterialSignaturePadTest extends MaterialWidgetTest<MaterialSignatu
         assertEquals("CANVAS", signaturePad.getElement().getTagName());
     }
 
+    public void testResizeKeepsBox() {
+        // given
+        MaterialSignaturePad signaturePad = getWidget();
+        int width = signaturePad.getOffsetWidth();
+        int height = signaturePad.getOffsetHeight();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            signaturePad.reset();
+        }
+
+        // then
+        assertEquals(width, signaturePad.getOffsetWidth());
+        assertEquals(height, signaturePad.getOffsetHeight());
+    }
+
     public void testProperties() {
         // UiBinder
         // given
@@ -104,6 +126,11 @@ public class MaterialSignaturePadTest extends MaterialWidgetTest<MaterialSignatu
         signaturePad.addSignatureEndHandler(event -> endFired[0] = true);
         SignatureEndEvent.fire(signaturePad);
         assertTrue(endFired[0]);
+
+        boolean[] changeFired = {false};
+        signaturePad.addSignatureChangeHandler(event -> changeFired[0] = true);
+        SignatureChangeEvent.fire(signaturePad);
+        assertTrue(changeFired[0]);
     }
 
     public void testClear() {
@@ -114,4 +141,43 @@ public class MaterialSignaturePadTest extends MaterialWidgetTest<MaterialSignatu
         signaturePad.clear();
         assertTrue(signaturePad.isEmpty());
     }
+
+    public void testSvg() {
+        // given
+        MaterialSignaturePad signaturePad = getWidget();
+        List<SignatureStroke> strokes = new ArrayList<>();
+        strokes.add(new SignatureStroke(PEN_COLOR).addPoint(10, 20, 1000).addPoint(20, 25, 1016)
+            .addPoint(30, 35, 1032).addPoint(45, 40, 1048));
+        strokes.add(new SignatureStroke("red").addPoint(40, 8, 1500));
+
+        // when
+        signaturePad.setStrokes(strokes);
+
+        // then
+        assertTrue(signaturePad.toSvgDataUrl().startsWith("data:image/svg+xml;base64,"));
+        String svg = signaturePad.toSvg();
+        assertTrue(svg.startsWith("<svg"));
+        assertTrue(svg.contains("circle"));
+        assertTrue(svg.endsWith("</svg>"));
+    }
+
+    public void testStrokeEncoding() {
+        // given
+        List<SignatureStroke> strokes = new ArrayList<>();
+        strokes.add(new SignatureStroke(PEN_COLOR).addPoint(10.5, 20, 1000).addPoint(12.3, 25.1, 1016));
+        strokes.add(new SignatureStroke("red").addPoint(40, 8.2, 1500));
+
+        // when
+        List<SignatureStroke> decoded = SignatureCodec.decode(SignatureCodec.encode(strokes));
+
+        // then
+        assertEquals(2, decoded.size());
+        assertEquals(PEN_COLOR, decoded.get(0).getColor());
+        assertEquals(2, decoded.get(0).getPoints().size());
+        assertEquals(12.3, decoded.get(0).getPoints().get(1).getX(), 0.01);
+        assertEquals(25.1, decoded.get(0).getPoints().get(1).getY(), 0.01);
+        assertEquals(1016.0, decoded.get(0).getPoints().get(1).getTime());
+        assertEquals("red", decoded.get(1).getColor());
+        assertEquals(8.2, decoded.get(1).getPoints().get(0).getY(), 0.01);
+    }
 }
@@ -0,0 +1,181 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.addins.client.ui;
+
+import com.google.gwt.dom.client.Style;
+import com.google.gwt.user.client.ui.RootPanel;
+import com.google.gwt.user.client.ui.Widget;
+import gwt.material.design.addins.client.MaterialWidgetTest;
+import gwt.material.design.addins.client.masonry.MasonryTileRenderer;
+import gwt.material.design.addins.client.masonry.MaterialVirtualMasonry;
+import gwt.material.design.client.ui.MaterialLabel;
+import gwt.material.design.client.ui.MaterialPanel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test case for the virtual masonry board
+ */
+public class MaterialVirtualMasonryTest extends MaterialWidgetTest<MaterialVirtualMasonry<Integer>> {
+
+    private TileRenderer renderer;
+
+    @Override
+    protected MaterialVirtualMasonry<Integer> createWidget() {
+        renderer = new TileRenderer();
+        return new TestBoard(renderer);
+    }
+
+    public void testWindow() {
+        // given
+        TestBoard board = (TestBoard) getWidget();
+        // A single column of tiles 100px high
+        board.setColumnWidth(100000);
+        board.setGutter(0);
+        board.setItems(createItems(20));
+
+        // when
+        board.render(0, 250);
+
+        // then
+        assertEquals(1, board.getColumnLayout().getColumns());
+        assertEquals(3, board.getRenderedCount());
+        assertEquals(3, renderer.created);
+        assertEquals(2000.0, board.getColumnLayout().getHeight());
+
+        // when
+        board.render(1010, 1250);
+
+        // then
+        assertEquals(3, board.getRenderedCount());
+        assertEquals(3, renderer.created);
+        assertEquals(3, renderer.released);
+        assertTrue(renderer.rendered.containsAll(Arrays.asList(10, 11, 12)));
+        assertFalse(renderer.rendered.contains(9));
+
+        // when
+        board.render(1010, 1450);
+
+        // then
+        assertEquals(5, board.getRenderedCount());
+        assertEquals(5, renderer.created);
+    }
+
+    public void testRecycling() {
+        // given
+        TestBoard board = (TestBoard) getWidget();
+        board.setColumnWidth(100000);
+        board.setGutter(0);
+        board.setMaxFreeTiles(1);
+        board.setItems(createItems(20));
+        board.render(0, 450);
+        assertEquals(5, board.getWidgetCount());
+
+        // when
+        board.render(1500, 1550);
+
+        // then
+        assertEquals(1, board.getRenderedCount());
+        assertEquals(5, renderer.released);
+        assertEquals(5, renderer.created);
+        // Only one free tile was kept and it is bound to the new item, the others were removed
+        assertEquals(1, board.getWidgetCount());
+    }
+
+    public void testScrollParent() {
+        // given
+        MaterialPanel container = new MaterialPanel();
+        container.setHeight("300px");
+        container.getElement().getStyle().setOverflowY(Style.Overflow.AUTO);
+        RootPanel.get().add(container);
+        TestBoard board = new TestBoard(new TileRenderer());
+
+        // when
+        container.add(board);
+
+        // then
+        assertEquals(container.getElement(), board.getScrollParent());
+
+        // when
+        board.removeFromParent();
+
+        // then
+        assertNull(board.getScrollParent());
+
+        // when
+        RootPanel.get().add(board);
+
+        // then
+        assertNull(board.getScrollParent());
+        board.removeFromParent();
+        container.removeFromParent();
+    }
+
+    protected List<Integer> createItems(int count) {
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(i);
+        }
+        return items;
+    }
+
+    static class TestBoard extends MaterialVirtualMasonry<Integer> {
+
+        TestBoard(MasonryTileRenderer<Integer> renderer) {
+            super(renderer);
+        }
+
+        @Override
+        protected void render(double top, double bottom) {
+            super.render(top, bottom);
+        }
+    }
+
+    static class TileRenderer implements MasonryTileRenderer<Integer> {
+
+        int created;
+        int released;
+        List<Integer> rendered = new ArrayList<>();
+
+        @Override
+        public Widget createTile() {
+            created++;
+            return new MaterialLabel();
+        }
+
+        @Override
+        public void renderTile(Widget tile, Integer item) {
+            rendered.add(item);
+            ((MaterialLabel) tile).setText(String.valueOf(item));
+        }
+
+        @Override
+        public void releaseTile(Widget tile) {
+            released++;
+        }
+
+        @Override
+        public double getHeight(Integer item, double width) {
+            return 100;
+        }
+    }
+}
@@ -19,8 +19,14 @@
  */
 package gwt.material.design.addins.client.ui;
 
+import com.google.gwt.user.client.ui.RootPanel;
 import gwt.material.design.addins.client.MaterialWidgetTest;
 import gwt.material.design.addins.client.webp.MaterialWebpImage;
+import gwt.material.design.addins.client.webp.WebpSupport;
+import gwt.material.design.jquery.client.api.Functions;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Test case for avatar component
@@ -38,6 +44,13 @@ public class MaterialWebpImageTest extends MaterialWidgetTest<MaterialWebpImage>
         return new MaterialWebpImage();
     }
 
+    @Override
+    protected void gwtTearDown() throws Exception {
+        super.gwtTearDown();
+
+        TestWebpSupport.restore();
+    }
+
     public void testFallbackUrl() {
         // given
         MaterialWebpImage materialWebpImage = getWidget(false);
@@ -75,4 +88,204 @@ public class MaterialWebpImageTest extends MaterialWidgetTest<MaterialWebpImage>
         materialWebpImage.setFallbackExtension(FALLBACK_EXTENSION);
         assertEquals(FALLBACK_EXTENSION, materialWebpImage.getFallbackExtension());
     }
+
+    public void testLazySources() {
+        // given
+        MaterialWebpImage materialWebpImage = getWidget(false);
+
+        // when / then
+        materialWebpImage.setLazy(true);
+        materialWebpImage.setRootMargin("300px");
+        materialWebpImage.setPlaceholderUrl("sample-placeholder.png");
+        materialWebpImage.setSourceWidths("320, 640");
+        materialWebpImage.setSizes("50vw");
+        assertTrue(materialWebpImage.isLazy());
+        assertEquals("300px", materialWebpImage.getRootMargin());
+        assertEquals("sample-placeholder.png", materialWebpImage.getPlaceholderUrl());
+        assertEquals("320,640", materialWebpImage.getSourceWidths());
+        assertEquals("50vw", materialWebpImage.getSizes());
+        assertEquals("sample-320.webp 320w, sample-640.webp 640w", materialWebpImage.generateSrcset("sample-{width}.webp"));
+    }
+
+    public void testWebpSupportSingleProbe() {
+        // given
+        List<Functions.Func1<Boolean>> probes = TestWebpSupport.intercept();
+        List<Boolean> results = new ArrayList<>();
+
+        // when
+        WebpSupport.check(results::add);
+        WebpSupport.check(results::add);
+
+        // then the second check waits for the pending probe
+        assertEquals(1, probes.size());
+        assertTrue(TestWebpSupport.probing());
+        assertNull(WebpSupport.isSupported());
+        assertTrue(results.isEmpty());
+
+        // when
+        probes.get(0).call(true);
+
+        // then
+        assertFalse(TestWebpSupport.probing());
+        assertEquals(Boolean.TRUE, WebpSupport.isSupported());
+        assertEquals(2, results.size());
+        assertEquals(Boolean.TRUE, results.get(0));
+        assertEquals(Boolean.TRUE, results.get(1));
+
+        // when
+        WebpSupport.check(results::add);
+
+        // then the known support is returned without probing again
+        assertEquals(1, probes.size());
+        assertEquals(3, results.size());
+    }
+
+    public void testWebpSupportStorage() {
+        if (!hasLocalStorage()) {
+            return;
+        }
+        // given
+        List<Functions.Func1<Boolean>> probes = TestWebpSupport.intercept();
+        WebpSupport.check(supported -> {});
+        probes.get(0).call(false);
+
+        // when a next page load on the same browser
+        TestWebpSupport.reload();
+
+        // then
+        assertEquals(Boolean.FALSE, WebpSupport.isSupported());
+        assertEquals(getUserAgent() + "|false", getStorageItem(TestWebpSupport.storageKey()));
+
+        // when the browser was updated since
+        setStorageItem(TestWebpSupport.storageKey(), "Outdated Agent|false");
+        TestWebpSupport.reload();
+
+        // then the support is probed again
+        assertNull(WebpSupport.isSupported());
+        WebpSupport.check(supported -> {});
+        assertEquals(2, probes.size());
+    }
+
+    public void testCachedFallback() {
+        // given the support is already known to be missing
+        List<Functions.Func1<Boolean>> probes = TestWebpSupport.intercept();
+        WebpSupport.check(supported -> {});
+        probes.get(0).call(false);
+
+        // when
+        SourceTestImage image = new SourceTestImage();
+        image.setUrl(URL);
+        image.setFallbackExtension(FALLBACK_EXTENSION);
+        RootPanel.get().add(image);
+
+        // then the WebP url is never loaded
+        assertEquals(FALLBACK_URL, image.getFallbackUrl());
+        assertEquals(1, image.sources.size());
+        assertEquals(FALLBACK_URL, image.sources.get(0));
+
+        // when the extension is set before the url
+        SourceTestImage reversed = new SourceTestImage();
+        reversed.setFallbackExtension(FALLBACK_EXTENSION);
+        reversed.setUrl(URL);
+        RootPanel.get().add(reversed);
+
+        // then
+        assertEquals(1, reversed.sources.size());
+        assertEquals(FALLBACK_URL, reversed.sources.get(0));
+        image.removeFromParent();
+        reversed.removeFromParent();
+    }
+
+    public void testPendingFallback() {
+        // given
+        List<Functions.Func1<Boolean>> probes = TestWebpSupport.intercept();
+        SourceTestImage image = new SourceTestImage();
+        image.setUrl(URL);
+        image.setFallbackExtension(FALLBACK_EXTENSION);
+
+        // when
+        RootPanel.get().add(image);
+
+        // then nothing is loaded until the probe resolves
+        assertEquals(1, probes.size());
+        assertTrue(image.sources.isEmpty());
+
+        // when
+        probes.get(0).call(false);
+
+        // then
+        assertEquals(1, image.sources.size());
+        assertEquals(FALLBACK_URL, image.sources.get(0));
+        image.removeFromParent();
+    }
+
+    protected native boolean hasLocalStorage() /*-{
+        try {
+            return !!$wnd.localStorage;
+        } catch (e) {
+            return false;
+        }
+    }-*/;
+
+    protected native String getUserAgent() /*-{
+        return $wnd.navigator.userAgent;
+    }-*/;
+
+    protected native String getStorageItem(String key) /*-{
+        return $wnd.localStorage.getItem(key);
+    }-*/;
+
+    protected native void setStorageItem(String key, String value) /*-{
+        $wnd.localStorage.setItem(key, value);
+    }-*/;
+
+    static class SourceTestImage extends MaterialWebpImage {
+
+        final List<String> sources = new ArrayList<>();
+
+        @Override
+        protected void applySource(String source) {
+            sources.add(source);
+            super.applySource(source);
+        }
+    }
+
+    static class TestWebpSupport extends WebpSupport {
+
+        /**
+         * Forget the detected support and record the probes instead of loading the probe image.
+         */
+        static List<Functions.Func1<Boolean>> intercept() {
+            List<Functions.Func1<Boolean>> probes = new ArrayList<>();
+            reset();
+            clearStorage(STORAGE_KEY);
+            setProber(probes::add);
+            return probes;
+        }
+
+        static void reload() {
+            reset();
+        }
+
+        static boolean probing() {
+            return isProbing();
+        }
+
+        static String storageKey() {
+            return STORAGE_KEY;
+        }
+
+        static void restore() {
+            reset();
+            clearStorage(STORAGE_KEY);
+            setProber(null);
+        }
+
+        static native void clearStorage(String key) /*-{
+            try {
+                $wnd.localStorage.removeItem(key);
+            } catch (e) {
+            }
+        }-*/;
+    }
 }